@@ -11,14 +11,21 @@ import io.vlingo.xoom.terminal.CommandOutputConsumer;
 import io.vlingo.xoom.terminal.Terminal;
 
 import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.net.ServerSocket;
+import java.net.Socket;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static java.lang.Runtime.getRuntime;
 
 public abstract class PortDriver {
 
+  private static final int CONNECTION_TIMEOUT = 200;
+  private static final Set<Integer> reservedPorts = ConcurrentHashMap.newKeySet();
+
   protected final Terminal terminal = Terminal.supported();
 
   public static PortDriver init() {
@@ -28,7 +35,15 @@ public abstract class PortDriver {
     return new UnixPortDriver();
   }
 
-  public abstract boolean release(final int port);
+  public boolean release(final int port) {
+    final boolean released = terminateProcessOn(port);
+    if (released) {
+      reservedPorts.remove(port);
+    }
+    return released;
+  }
+
+  protected abstract boolean terminateProcessOn(final int port);
 
   public int findAvailable() {
     return findAvailable(19099, 20100);
@@ -37,7 +52,7 @@ public abstract class PortDriver {
   public int findAvailable(final int from, final int to) {
     int port = from;
     while (port < to) {
-      if (isPortAvailable(port)) {
+      if (!reservedPorts.contains(port) && isPortAvailable(port) && reservedPorts.add(port)) {
         return port;
       } else {
         port++;
@@ -69,6 +84,15 @@ public abstract class PortDriver {
     }
   }
 
+  public boolean isAcceptingConnections(final int port) {
+    try (final Socket socket = new Socket()) {
+      socket.connect(new InetSocketAddress("localhost", port), CONNECTION_TIMEOUT);
+      return true;
+    } catch (final IOException e) {
+      return false;
+    }
+  }
+
   private void wait(final int milliseconds) {
     try {
       Thread.sleep(milliseconds);
@@ -80,7 +104,7 @@ public abstract class PortDriver {
   private static class UnixPortDriver extends PortDriver {
 
     @Override
-    public boolean release(int port) {
+    protected boolean terminateProcessOn(final int port) {
       try {
         final String command = String.format("fuser -n tcp -k %s", port);
         getRuntime().exec(terminal.prepareCommand(command)).waitFor();
@@ -96,7 +120,7 @@ public abstract class PortDriver {
     private final Map<Integer, Integer> processIds = new HashMap<>();
 
     @Override
-    public boolean release(int port) {
+    protected boolean terminateProcessOn(final int port) {
       try {
         registerPID(port);
         killProcessOn(port);
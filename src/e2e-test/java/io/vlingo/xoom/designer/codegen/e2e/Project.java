@@ -18,8 +18,8 @@ import org.junit.jupiter.api.Assertions;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class Project {
 
@@ -28,9 +28,9 @@ public class Project {
   public final String modelFilename;
   public final GenerationPath generationPath;
   public final DesignerModel generationSettings;
-  private boolean stopped;
+  private volatile boolean stopped;
 
-  private static List<Project> all =  new ArrayList<>();
+  private static final List<Project> all = new CopyOnWriteArrayList<>();
 
   public static Project from(final String directory,
                              final String modelFilename) {
@@ -64,7 +64,7 @@ public class Project {
   }
 
   private String resolveGenerationPath() {
-    return Paths.get(System.getProperty("user.dir"), "target", "e2e-tests", modelFilename)
+    return Paths.get(System.getProperty("user.dir"), "target", "e2e-tests", modelFilename + "-" + appPort)
             .toString().replace("\\", "\\\\");
   }
 
@@ -76,7 +76,7 @@ public class Project {
     all.forEach(project -> project.stop(logger, portDriver));
   }
 
-  private void stop(final Logger logger, final PortDriver portDriver) {
+  public void stop(final Logger logger, final PortDriver portDriver) {
     if(!stopped) {
       if (!portDriver.release(appPort)) {
         logger.warn("Unable to release port " + appPort);
@@ -16,6 +16,13 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static io.restassured.RestAssured.given;
 import static io.restassured.http.ContentType.JSON;
@@ -28,11 +35,15 @@ public abstract class ProjectGenerationTest {
   private static final Logger logger = Logger.basicLogger();
   private static final PortDriver portDriver = PortDriver.init();
   private static final String apiRootPath = "/api/model-processing";
+  private static final Duration appReadinessTimeout =
+          Duration.ofSeconds(Long.parseLong(System.getProperty("app-readiness-timeout", "120")));
   public static final Path e2eResourcesPath = Paths.get(System.getProperty("user.dir"), "src", "e2e-test", "resources");
 
-  public static void init() {
-    onShutdown();
+  private final List<Project> projects = new CopyOnWriteArrayList<>();
+
+  public static synchronized void init() {
     if(!isDesignerRunning()) {
+      onShutdown();
       designerPort = portDriver.findAvailable();
       CommandLineInterfaceInitializer.main(new String[]{"designer", "--port", designerPort.toString(), "--profile", "test"});
     }
@@ -48,7 +59,8 @@ public abstract class ProjectGenerationTest {
     return given().port(project.appPort).accept(JSON).contentType(JSON);
   }
 
-  private void generate(final Project project){
+  protected void generate(final Project project){
+    projects.add(project);
     removeTargetFolder(project.generationPath.path);
 
     final int pathCreationStatusCode = given().port(designerPort).accept(JSON)
@@ -70,8 +82,15 @@ public abstract class ProjectGenerationTest {
     Assertions.assertEquals(ExecutionStatus.SUCCEEDED, status, "Error compiling " + project);
   }
 
-  protected void assertInitialization(final Project project) {
-    Assertions.assertFalse(portDriver.isPortAvailable(project.appPort, 300, 30, false), "Error initializing app " + project);
+  protected void assertInitialization(final CompletableFuture<Void> readiness, final Project project) {
+    try {
+      readiness.get(appReadinessTimeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (final ExecutionException | TimeoutException exception) {
+      Assertions.fail("Error initializing app " + project, exception);
+    } catch (final InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      Assertions.fail("Interrupted while initializing app " + project, exception);
+    }
   }
 
   protected void assertServiceIsAvailable(final int port, final String failureMessage) {
@@ -98,6 +117,11 @@ public abstract class ProjectGenerationTest {
     Project.stopAll(logger, portDriver);
   }
 
+  protected void stopProjects() {
+    projects.forEach(project -> project.stop(logger, portDriver));
+    projects.clear();
+  }
+
   private static boolean isDesignerRunning() {
     return designerPort != null;
   }
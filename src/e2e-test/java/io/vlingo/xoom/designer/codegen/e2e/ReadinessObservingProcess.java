@@ -0,0 +1,65 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.codegen.e2e;
+
+import io.vlingo.xoom.actors.Logger;
+import io.vlingo.xoom.terminal.CommandOutputConsumer;
+import io.vlingo.xoom.terminal.ObservableCommandExecutionProcess;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+public class ReadinessObservingProcess extends ObservableCommandExecutionProcess {
+
+  private static final long PROBE_INTERVAL = 250;
+  private static final ScheduledExecutorService probes = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    final Thread thread = new Thread(runnable, "e2e-readiness-probe");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private final int port;
+  private final PortDriver portDriver;
+  private final CompletableFuture<Void> readiness = new CompletableFuture<>();
+
+  public ReadinessObservingProcess(final int port, final CommandExecutionObserver... observers) {
+    super(observers);
+    this.port = port;
+    this.portDriver = PortDriver.init();
+  }
+
+  public CompletableFuture<Void> readiness() {
+    return readiness;
+  }
+
+  @Override
+  protected void log(final Process process) {
+    final ScheduledFuture<?> probing = probes.scheduleWithFixedDelay(this::probe, 0, PROBE_INTERVAL, TimeUnit.MILLISECONDS);
+    readiness.whenComplete((ready, failure) -> probing.cancel(false));
+    final Logger logger = Logger.basicLogger();
+    CommandOutputConsumer.of(logger, process).consumeWith(logger::info);
+  }
+
+  @Override
+  protected void handleCommandExecutionStatus(final Process process) {
+    try {
+      super.handleCommandExecutionStatus(process);
+    } finally {
+      readiness.completeExceptionally(new IllegalStateException("Process exited before listening on port " + port));
+    }
+  }
+
+  private void probe() {
+    if (!readiness.isDone() && portDriver.isAcceptingConnections(port)) {
+      readiness.complete(null);
+    }
+  }
+
+}
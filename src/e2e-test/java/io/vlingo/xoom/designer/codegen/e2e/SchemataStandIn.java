@@ -0,0 +1,166 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.codegen.e2e;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.vlingo.xoom.actors.Logger;
+import org.apache.commons.io.IOUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class SchemataStandIn {
+
+  private static final String VERSIONS_PATH = "/versions/";
+  private static final String CODE_PATH = "/code/";
+  private static final Pattern SPECIFICATION_HEADER = Pattern.compile("\\s*(\\w+)\\s+(\\w+)\\s*\\{");
+  private static final Pattern SPECIFICATION_ATTRIBUTE = Pattern.compile("\\s*([\\w.]+(?:\\[\\])?)\\s+(\\w+)\\s*(?:=.*)?");
+
+  private final int port;
+  private final HttpServer server;
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+  private final Map<String, String> specifications = new ConcurrentHashMap<>();
+
+  public static SchemataStandIn start(final int port) {
+    try {
+      final SchemataStandIn standIn = new SchemataStandIn(port);
+      standIn.server.start();
+      Logger.basicLogger().info("Schemata stand-in listening on port " + port);
+      return standIn;
+    } catch (final IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  private SchemataStandIn(final int port) throws IOException {
+    this.port = port;
+    this.server = HttpServer.create(new InetSocketAddress(port), 0);
+    this.server.setExecutor(executor);
+    this.server.createContext("/", this::handle);
+  }
+
+  public int port() {
+    return port;
+  }
+
+  public Optional<String> specificationOf(final String reference) {
+    return Optional.ofNullable(specifications.get(reference));
+  }
+
+  public void register(final String reference, final String specification) {
+    specifications.put(reference, specification);
+  }
+
+  public void stop() {
+    server.stop(0);
+    executor.shutdown();
+  }
+
+  private void handle(final HttpExchange exchange) throws IOException {
+    final String path = exchange.getRequestURI().getPath();
+    final String method = exchange.getRequestMethod();
+    final String body = IOUtils.toString(exchange.getRequestBody(), StandardCharsets.UTF_8);
+
+    if (path.startsWith(VERSIONS_PATH) && !method.equals("GET")) {
+      final String reference = path.substring(VERSIONS_PATH.length());
+      register(reference, JsonParser.parseString(body).getAsJsonObject().get("specification").getAsString());
+      respond(exchange, 201, body);
+    } else if (path.startsWith(VERSIONS_PATH)) {
+      final String reference = path.substring(VERSIONS_PATH.length());
+      final Optional<String> specification = specificationOf(reference);
+      if (specification.isPresent()) {
+        final JsonObject version = new JsonObject();
+        version.addProperty("specification", specification.get());
+        respond(exchange, 200, version.toString());
+      } else {
+        respond(exchange, 404, "");
+      }
+    } else if (path.startsWith(CODE_PATH)) {
+      final String reference = path.substring(CODE_PATH.length(), path.lastIndexOf('/'));
+      final Optional<String> specification = specificationOf(reference);
+      if (specification.isPresent()) {
+        final JsonObject code = new JsonObject();
+        code.addProperty("reference", reference);
+        code.addProperty("code", render(reference, specification.get()));
+        respond(exchange, 200, code.toString());
+      } else {
+        respond(exchange, 404, "");
+      }
+    } else {
+      respond(exchange, method.equals("GET") ? 200 : 201, method.equals("GET") ? "[]" : body);
+    }
+  }
+
+  private void respond(final HttpExchange exchange, final int status, final String body) throws IOException {
+    final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+    try (final OutputStream output = exchange.getResponseBody()) {
+      output.write(bytes);
+    }
+  }
+
+  static String render(final String reference, final String specification) {
+    final String[] referenceParts = reference.split(":");
+    final String packageName = referenceParts[2] + ".event";
+    final StringBuilder fields = new StringBuilder();
+    final StringBuilder parameters = new StringBuilder();
+    final StringBuilder assignments = new StringBuilder();
+    String className = referenceParts[3];
+
+    for (final String line : specification.split("\\R")) {
+      final Matcher header = SPECIFICATION_HEADER.matcher(line);
+      final Matcher attribute = SPECIFICATION_ATTRIBUTE.matcher(line);
+      if (header.matches()) {
+        className = header.group(2);
+      } else if (attribute.matches()) {
+        final String type = javaTypeOf(attribute.group(1));
+        final String name = attribute.group(2);
+        fields.append(String.format("  public final %s %s;%n", type, name));
+        parameters.append(parameters.length() == 0 ? "" : ", ").append(String.format("final %s %s", type, name));
+        assignments.append(String.format("    this.%s = %s;%n", name, name));
+      }
+    }
+
+    return String.format("package %s;%n%npublic final class %s extends io.vlingo.xoom.lattice.model.DomainEvent {%n%s%n" +
+            "  public %s(%s) {%n%s  }%n}%n", packageName, className, fields, className, parameters, assignments);
+  }
+
+  private static String javaTypeOf(final String specificationType) {
+    final boolean array = specificationType.endsWith("[]");
+    final String type = array ? specificationType.substring(0, specificationType.length() - 2) : specificationType;
+    final String javaType;
+    switch (type) {
+      case "boolean": case "byte": case "char": case "double": case "float": case "int": case "long": case "short":
+        javaType = type;
+        break;
+      case "timestamp":
+        javaType = "long";
+        break;
+      case "version":
+        javaType = "int";
+        break;
+      default:
+        javaType = "String";
+    }
+    return array ? javaType + "[]" : javaType;
+  }
+
+}
@@ -17,8 +17,12 @@ public class SupportingServicesManager {
   public static final String SCHEMATA = "schemata";
   public static final String RABBIT_MQ = "rabbitmq";
   private static final Logger logger = Logger.basicLogger();
+  private static SchemataStandIn schemataStandIn;
 
-  public static void run() {
+  public static synchronized void run() {
+    if(shouldStandInForSchemata() && schemataStandIn == null) {
+      schemataStandIn = SchemataStandIn.start(findPortOf(SCHEMATA));
+    }
     if(shouldManage()) {
       if(SupportingServicesStart.run()) {
         logger.info("Supporting services running...");
@@ -28,7 +32,11 @@ public class SupportingServicesManager {
     }
   }
 
-  public static void shutdown() {
+  public static synchronized void shutdown() {
+    if(schemataStandIn != null) {
+      schemataStandIn.stop();
+      schemataStandIn = null;
+    }
     if(shouldManage()) {
       logger.info("Stopping Supporting services...");
       SupportingServicesShutdown.handle();
@@ -39,6 +47,10 @@ public class SupportingServicesManager {
     return Boolean.parseBoolean(System.getProperty("enable-supporting-services", "false"));
   }
 
+  private static boolean shouldStandInForSchemata() {
+    return Boolean.parseBoolean(System.getProperty("schemata-stand-in", "true"));
+  }
+
   public static int findPortOf(final String serviceName) {
     final String port = System.getProperty(serviceName + "-port");
     if(port == null) {
@@ -70,7 +82,9 @@ public class SupportingServicesManager {
       final String directoryChangeCommand =
               Terminal.supported().resolveDirectoryChangeCommand(ProjectGenerationTest.e2eResourcesPath);
 
-      return String.format("%s && docker-compose up -d", directoryChangeCommand);
+      final String services = shouldStandInForSchemata() ? " rabbit" : "";
+
+      return String.format("%s && docker-compose up -d%s", directoryChangeCommand, services);
     }
 
     private boolean isRunning() {
@@ -8,13 +8,15 @@ package io.vlingo.xoom.designer.codegen.e2e.java;
 
 import io.vlingo.xoom.designer.codegen.e2e.CommandObserver;
 import io.vlingo.xoom.designer.codegen.e2e.ExecutionStatus;
+import io.vlingo.xoom.designer.codegen.e2e.ReadinessObservingProcess;
 import io.vlingo.xoom.designer.infrastructure.restapi.data.DesignerModel;
 import io.vlingo.xoom.terminal.CommandExecutor;
-import io.vlingo.xoom.terminal.ObservableCommandExecutionProcess;
 import io.vlingo.xoom.terminal.Terminal;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 public class JavaAppInitialization extends CommandExecutor {
@@ -22,11 +24,18 @@ public class JavaAppInitialization extends CommandExecutor {
   private final int availablePort;
   private final DesignerModel generationSettings;
   private final CommandObserver observer;
+  private final ReadinessObservingProcess process;
+  private static final ExecutorService initializations = Executors.newCachedThreadPool(runnable -> {
+    final Thread thread = new Thread(runnable, "e2e-app-initialization");
+    thread.setDaemon(true);
+    return thread;
+  });
 
   public static JavaAppInitialization run(final DesignerModel generationSettings,
                                           final int availablePort) {
+    final CommandObserver observer = new CommandObserver();
     final JavaAppInitialization appInitialization =
-            new JavaAppInitialization(generationSettings, new CommandObserver(), availablePort);
+            new JavaAppInitialization(generationSettings, observer, new ReadinessObservingProcess(availablePort, observer), availablePort);
 
     appInitialization.processTask();
 
@@ -35,15 +44,17 @@ public class JavaAppInitialization extends CommandExecutor {
 
   private JavaAppInitialization(final DesignerModel generationSettings,
                                 final CommandObserver observer,
+                                final ReadinessObservingProcess process,
                                 final int availablePort) {
-    super(new ObservableCommandExecutionProcess(observer));
+    super(process);
     this.generationSettings = generationSettings;
     this.observer = observer;
+    this.process = process;
     this.availablePort = availablePort;
   }
 
   public void processTask() {
-    Executors.newSingleThreadExecutor().submit(() -> execute());
+    initializations.submit(() -> execute());
   }
 
   @Override
@@ -53,6 +64,10 @@ public class JavaAppInitialization extends CommandExecutor {
     return String.format("%s && java -jar %s-%s.jar", directoryChangeCommand, generationSettings.context.artifactId, generationSettings.context.artifactVersion, availablePort);
   }
 
+  public CompletableFuture<Void> readiness() {
+    return process.readiness();
+  }
+
   public ExecutionStatus status() {
     return observer.status;
   }
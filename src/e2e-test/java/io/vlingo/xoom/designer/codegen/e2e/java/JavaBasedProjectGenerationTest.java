@@ -8,6 +8,11 @@ package io.vlingo.xoom.designer.codegen.e2e.java;
 
 import io.vlingo.xoom.designer.codegen.e2e.Project;
 import io.vlingo.xoom.designer.codegen.e2e.ProjectGenerationTest;
+import io.vlingo.xoom.designer.codegen.java.compilation.CompilationReport;
+import io.vlingo.xoom.designer.codegen.java.compilation.InMemoryCompiler;
+import org.junit.jupiter.api.Assertions;
+
+import java.nio.file.Paths;
 
 /**
  * See: https://docs.vlingo.io/xoom-designer/development-guide/e2e-tests
@@ -18,9 +23,14 @@ public abstract class JavaBasedProjectGenerationTest extends ProjectGenerationTe
     assertCompilation(JavaCompilation.run(project.generationPath.path).status(), project);
   }
 
+  protected void verify(final Project project) {
+    final CompilationReport report = InMemoryCompiler.withDesignerClasspath().compile(Paths.get(project.generationPath.path));
+    Assertions.assertTrue(report.succeeded, "Error compiling " + project + System.lineSeparator() + report.summary());
+  }
+
   protected void run(final Project project) {
-    JavaAppInitialization.run(project.generationSettings, project.appPort);
-    assertInitialization(project);
+    final JavaAppInitialization initialization = JavaAppInitialization.run(project.generationSettings, project.appPort);
+    assertInitialization(initialization.readiness(), project);
   }
 
 }
@@ -22,18 +22,34 @@ import java.util.List;
 public class JavaCompilation extends CommandExecutor {
 
   private final String applicationPath;
+  private final String goals;
   private final CommandObserver commandObserver;
   private static final String mavenProfile = "e2e-tests-maven-profile";
+  private static final String mavenRepository = "e2e-maven-repository";
+  private static final String dependencyResolutionGoals = "dependency:go-offline";
+  private static final String packageGoals = "package";
+  private static final Object dependencyResolutionLock = new Object();
 
   public static JavaCompilation run(final String applicationPath) {
-    final JavaCompilation compilation = new JavaCompilation(applicationPath, new CommandObserver());
+    synchronized (dependencyResolutionLock) {
+      final JavaCompilation dependencyResolution = compile(applicationPath, dependencyResolutionGoals);
+      if (dependencyResolution.status() != ExecutionStatus.SUCCEEDED) {
+        return dependencyResolution;
+      }
+    }
+    return compile(applicationPath, packageGoals);
+  }
+
+  private static JavaCompilation compile(final String applicationPath, final String goals) {
+    final JavaCompilation compilation = new JavaCompilation(applicationPath, goals, new CommandObserver());
     compilation.execute();
     return compilation;
   }
 
-  private JavaCompilation(final String applicationPath, final CommandObserver commandObserver) {
+  private JavaCompilation(final String applicationPath, final String goals, final CommandObserver commandObserver) {
     super(new ObservableCommandExecutionProcess(commandObserver));
     this.applicationPath = applicationPath;
+    this.goals = goals;
     this.commandObserver = commandObserver;
   }
 
@@ -44,7 +60,15 @@ public class JavaCompilation extends CommandExecutor {
     final Path pomPath = Paths.get(applicationPath, "pom.xml");
     final Path stagingFolderPath = StagingFolder.path();
     final String directoryChangeCommand = terminal.resolveDirectoryChangeCommand(stagingFolderPath);
-    return String.format("%s && %s -f %s package %s", directoryChangeCommand, terminal.mavenCommand(), pomPath, profileName);
+    return String.format("%s && %s -f %s %s %s %s", directoryChangeCommand, terminal.mavenCommand(), pomPath, goals, profileName, resolveMavenRepository());
+  }
+
+  private String resolveMavenRepository() {
+    final String repositoryPath = System.getProperty(mavenRepository);
+    if(repositoryPath == null) {
+      return "";
+    }
+    return "-Dmaven.repo.local=" + Paths.get(repositoryPath).toAbsolutePath();
   }
 
   private String resolveMavenProfile() {
@@ -0,0 +1,63 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.codegen.e2e.java;
+
+import io.vlingo.xoom.designer.codegen.e2e.Project;
+import io.vlingo.xoom.designer.codegen.e2e.SupportingServicesManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * See: https://docs.vlingo.io/xoom-designer/development-guide/e2e-tests
+ */
+public class SampleModelCompilationTest extends JavaBasedProjectGenerationTest {
+
+  private static final String MODEL_EXTENSION = ".json";
+
+  @BeforeAll
+  public static void setUp() {
+    SupportingServicesManager.run();
+    init();
+  }
+
+  @TestFactory
+  public Stream<DynamicTest> testThatEverySampleModelCompiles() {
+    return sampleModels().map(model -> {
+      final String directory = model.getParent().getFileName().toString();
+      final String modelFilename = model.getFileName().toString().replace(MODEL_EXTENSION, "");
+      return DynamicTest.dynamicTest(directory + "/" + modelFilename, () -> {
+        final Project project = Project.from(directory, modelFilename);
+        generate(project);
+        verify(project);
+      });
+    });
+  }
+
+  @AfterEach
+  public void stopProject() {
+    stopProjects();
+  }
+
+  private Stream<Path> sampleModels() {
+    final List<Path> models = Assertions.assertDoesNotThrow(() -> {
+      try (final Stream<Path> files = Files.walk(e2eResourcesPath.resolve("sample-models"))) {
+        return files.filter(file -> file.getFileName().toString().endsWith(MODEL_EXTENSION)).sorted().collect(Collectors.toList());
+      }
+    }, "Failed to list sample models");
+    return models.stream();
+  }
+
+}
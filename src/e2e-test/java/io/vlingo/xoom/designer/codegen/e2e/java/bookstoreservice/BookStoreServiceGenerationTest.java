@@ -154,7 +154,7 @@ public class BookStoreServiceGenerationTest extends JavaBasedProjectGenerationTe
 
   @AfterEach
   public void stopProject() {
-    stopServices();
+    stopProjects();
   }
 
 }
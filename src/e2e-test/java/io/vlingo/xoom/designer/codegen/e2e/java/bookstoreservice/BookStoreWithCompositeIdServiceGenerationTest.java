@@ -119,7 +119,7 @@ public class BookStoreWithCompositeIdServiceGenerationTest extends JavaBasedProj
 
   @AfterEach
   public void stopProject() {
-    stopServices();
+    stopProjects();
   }
 
 }
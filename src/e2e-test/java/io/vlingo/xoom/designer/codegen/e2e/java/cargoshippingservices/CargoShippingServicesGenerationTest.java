@@ -151,7 +151,7 @@ public class CargoShippingServicesGenerationTest extends JavaBasedProjectGenerat
 
   @AfterEach
   public void stopProject() {
-    stopServices();
+    stopProjects();
   }
 
 
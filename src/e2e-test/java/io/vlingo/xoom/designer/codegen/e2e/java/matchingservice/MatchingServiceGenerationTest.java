@@ -50,7 +50,7 @@ public class MatchingServiceGenerationTest extends JavaBasedProjectGenerationTes
 
   @AfterEach
   public void stopProject() {
-    stopServices();
+    stopProjects();
   }
 
 }
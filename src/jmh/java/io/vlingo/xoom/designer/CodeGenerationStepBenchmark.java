@@ -0,0 +1,103 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer;
+
+import io.vlingo.xoom.codegen.CodeGenerationContext;
+import io.vlingo.xoom.codegen.CodeGenerationStep;
+import io.vlingo.xoom.codegen.content.Content;
+import io.vlingo.xoom.designer.codegen.CodeGenerationContextFactory;
+import io.vlingo.xoom.designer.codegen.CodeGenerationParameterIndex;
+import io.vlingo.xoom.designer.codegen.CodeGenerationStepScheduler;
+import io.vlingo.xoom.designer.codegen.ContentIndex;
+import io.vlingo.xoom.designer.infrastructure.restapi.data.CodeGenerationContextMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CodeGenerationStepBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class PrecedingContents {
+
+    @Param({"ModelGenerationStep", "RestResourceGenerationStep", "EntityUnitTestGenerationStep", "AggregateManagementGenerationStep"})
+    String step;
+
+    @Param({"1", "10", "100", "500"})
+    int aggregates;
+
+    CodeGenerationStep codeGenerationStep;
+    CodeGenerationContext context;
+    Content[] snapshot;
+
+    @Setup
+    public void setUp(final DesignerEnvironment environment) {
+      final int stepIndex = indexOf(environment.steps, step);
+
+      context = CodeGenerationContextMapper.map(SyntheticDesignerModel.with(aggregates), environment.settings, environment.logger);
+      codeGenerationStep = environment.steps.get(stepIndex);
+
+      CodeGenerationStepScheduler.of(environment.steps.subList(0, stepIndex)).run(context, environment.logger);
+
+      snapshot = context.contents().toArray(new Content[0]);
+
+      if (!codeGenerationStep.shouldProcess(fork(environment))) {
+        throw new IllegalStateException(step + " is not applicable to the synthetic model");
+      }
+    }
+
+    @TearDown
+    public void tearDown(final DesignerEnvironment environment) throws IOException {
+      CodeGenerationParameterIndex.unseal(context);
+      environment.reclaim(context.generationId);
+    }
+
+    CodeGenerationContext fork(final DesignerEnvironment environment) {
+      return CodeGenerationContextFactory.build(environment.logger, context.parameters()).contents(snapshot);
+    }
+
+    private static int indexOf(final List<CodeGenerationStep> steps, final String stepName) {
+      for (int index = 0; index < steps.size(); ++index) {
+        if (steps.get(index).getClass().getSimpleName().equals(stepName)) {
+          return index;
+        }
+      }
+      throw new IllegalArgumentException("Unknown code generation step: " + stepName);
+    }
+
+  }
+
+  @Benchmark
+  public List<Content> process(final DesignerEnvironment environment, final PrecedingContents preceding) {
+    final CodeGenerationContext fork = preceding.fork(environment);
+    try {
+      preceding.codeGenerationStep.process(fork);
+    } finally {
+      ContentIndex.release();
+      CodeGenerationParameterIndex.release();
+    }
+    return fork.contents();
+  }
+
+}
@@ -0,0 +1,56 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer;
+
+import io.vlingo.xoom.actors.Logger;
+import io.vlingo.xoom.codegen.CodeGenerationStep;
+import io.vlingo.xoom.designer.codegen.GenerationSettings;
+import io.vlingo.xoom.designer.codegen.GenerationTarget;
+import io.vlingo.xoom.designer.infrastructure.GenerationResultCache;
+import io.vlingo.xoom.designer.infrastructure.HomeDirectory;
+import io.vlingo.xoom.designer.infrastructure.Infrastructure;
+import io.vlingo.xoom.designer.infrastructure.StagingWorkspaceManager;
+import io.vlingo.xoom.turbo.ComponentRegistry;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class DesignerEnvironment {
+
+  final Logger logger = Logger.noOpLogger();
+  List<CodeGenerationStep> steps;
+  GenerationSettings settings;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    Profile.enableTestProfile();
+    Configuration.load();
+    ComponentRegistry.register(GenerationTarget.class, GenerationTarget.ZIP);
+    ComponentRegistry.register(GenerationResultCache.class, GenerationResultCache.disabled());
+    Infrastructure.setupResources(HomeDirectory.fromEnvironment(), 19090);
+    GenerationSettings.resolve(GenerationTarget.ZIP);
+    settings = GenerationSettings.instance();
+    steps = ComponentRegistry.withName("codeGenerationSteps");
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    Infrastructure.clear();
+    ComponentRegistry.clear();
+  }
+
+  void reclaim(final String generationId) throws IOException {
+    StagingWorkspaceManager.instance().reclaim(generationId);
+  }
+
+}
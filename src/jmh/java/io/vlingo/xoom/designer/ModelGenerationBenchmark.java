@@ -0,0 +1,76 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer;
+
+import io.vlingo.xoom.codegen.CodeGenerationContext;
+import io.vlingo.xoom.designer.codegen.CodeGenerationParameterIndex;
+import io.vlingo.xoom.designer.codegen.GenerationTarget;
+import io.vlingo.xoom.designer.infrastructure.restapi.data.CodeGenerationContextMapper;
+import io.vlingo.xoom.designer.infrastructure.restapi.data.DesignerModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ModelGenerationBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class Model {
+
+    @Param({"1", "10", "100", "500"})
+    int aggregates;
+
+    DesignerModel designerModel;
+    ModelProcessingManager manager;
+    ModelProcessingInformation information;
+
+    @Setup
+    public void setUp(final DesignerEnvironment environment) {
+      designerModel = SyntheticDesignerModel.with(aggregates);
+      manager = new ModelProcessingManager(environment.steps, environment.settings);
+      information = ModelProcessingInformation.from(GenerationTarget.ZIP);
+    }
+
+  }
+
+  @Benchmark
+  public CodeGenerationContext mapContext(final DesignerEnvironment environment, final Model model) {
+    final CodeGenerationContext context =
+            CodeGenerationContextMapper.map(model.designerModel, environment.settings, environment.logger);
+    CodeGenerationParameterIndex.unseal(context);
+    return context;
+  }
+
+  @Benchmark
+  public ModelProcessingScene generate(final DesignerEnvironment environment, final Model model) throws IOException {
+    final ModelProcessingScene scene =
+            model.manager.generate(model.designerModel, model.information, environment.logger).await();
+
+    if (scene.isFailed()) {
+      throw new IllegalStateException("Unable to generate a synthetic model of " + model.aggregates + " aggregates");
+    }
+
+    environment.reclaim(scene.codeGenerationContext.generationId);
+    return scene;
+  }
+
+}
@@ -0,0 +1,107 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer;
+
+import io.vlingo.xoom.codegen.dialect.Dialect;
+import io.vlingo.xoom.designer.infrastructure.restapi.data.APIData;
+import io.vlingo.xoom.designer.infrastructure.restapi.data.AggregateData;
+import io.vlingo.xoom.designer.infrastructure.restapi.data.AggregateMethodData;
+import io.vlingo.xoom.designer.infrastructure.restapi.data.ConsumerExchangeData;
+import io.vlingo.xoom.designer.infrastructure.restapi.data.ContextSettingsData;
+import io.vlingo.xoom.designer.infrastructure.restapi.data.DeploymentSettingsData;
+import io.vlingo.xoom.designer.infrastructure.restapi.data.DesignerModel;
+import io.vlingo.xoom.designer.infrastructure.restapi.data.DomainEventData;
+import io.vlingo.xoom.designer.infrastructure.restapi.data.MethodParameterData;
+import io.vlingo.xoom.designer.infrastructure.restapi.data.ModelSettingsData;
+import io.vlingo.xoom.designer.infrastructure.restapi.data.PersistenceData;
+import io.vlingo.xoom.designer.infrastructure.restapi.data.ProducerExchangeData;
+import io.vlingo.xoom.designer.infrastructure.restapi.data.RouteData;
+import io.vlingo.xoom.designer.infrastructure.restapi.data.SchemataSettingsData;
+import io.vlingo.xoom.designer.infrastructure.restapi.data.StateFieldData;
+import io.vlingo.xoom.designer.infrastructure.restapi.data.ValueObjectData;
+import io.vlingo.xoom.designer.infrastructure.restapi.data.ValueObjectFieldData;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class SyntheticDesignerModel {
+
+  public static DesignerModel with(final int aggregates) {
+    final List<AggregateData> aggregateSettings = new ArrayList<>();
+    final List<ValueObjectData> valueObjectSettings = new ArrayList<>();
+
+    for (int index = 1; index <= aggregates; ++index) {
+      valueObjectSettings.addAll(valueObjects(index));
+      aggregateSettings.add(aggregate(index));
+    }
+
+    final PersistenceData persistence =
+            new PersistenceData("STATE_STORE", false, "NONE", "IN_MEMORY", "IN_MEMORY", "IN_MEMORY");
+
+    return new DesignerModel(new ContextSettingsData("io.vlingo", "xoomapp", "1.0", "io.vlingo.xoomapp"),
+            new ModelSettingsData(persistence, aggregateSettings, valueObjectSettings),
+            new DeploymentSettingsData("DOCKER", "xoom-app", "", "", 0, 0, 0, 0, false),
+            new SchemataSettingsData("localhost", 18787), "/home/projects", true, false,
+            true, Dialect.REACTJS.name());
+  }
+
+  private static AggregateData aggregate(final int index) {
+    final String name = "Product" + index;
+    final String rootPath = "/products" + index + "/";
+
+    final List<StateFieldData> stateFields =
+            Arrays.asList(new StateFieldData("id", "String", ""),
+                    new StateFieldData("name", "String", ""),
+                    new StateFieldData("price", "double", ""),
+                    new StateFieldData("address", "Address" + index, ""),
+                    new StateFieldData("tags", "String", "List"));
+
+    final List<AggregateMethodData> methods =
+            Arrays.asList(new AggregateMethodData("defineWith", parameters("name", "price", "address", "tags"), true, name + "Defined"),
+                    new AggregateMethodData("changeName", parameters("name"), false, name + "NameChanged"),
+                    new AggregateMethodData("relocate", parameters("address"), false, name + "Relocated"));
+
+    final List<DomainEventData> events =
+            Arrays.asList(new DomainEventData(name + "Defined", Arrays.asList("id", "name", "price", "address", "tags")),
+                    new DomainEventData(name + "NameChanged", Arrays.asList("id", "name")),
+                    new DomainEventData(name + "Relocated", Arrays.asList("id", "address")));
+
+    final List<RouteData> routes =
+            Arrays.asList(new RouteData(rootPath, "POST", "defineWith", false),
+                    new RouteData(rootPath + "{id}/name", "PATCH", "changeName", true),
+                    new RouteData(rootPath + "{id}/address", "PATCH", "relocate", true));
+
+    return new AggregateData(name, new APIData(rootPath, routes), events, stateFields, methods,
+            new ConsumerExchangeData(), new ProducerExchangeData(""));
+  }
+
+  private static List<ValueObjectData> valueObjects(final int index) {
+    final ValueObjectData location =
+            new ValueObjectData("Location" + index,
+                    Arrays.asList(new ValueObjectFieldData("latitude", "double", ""),
+                            new ValueObjectFieldData("longitude", "double", "")));
+
+    final ValueObjectData address =
+            new ValueObjectData("Address" + index,
+                    Arrays.asList(new ValueObjectFieldData("street", "String", ""),
+                            new ValueObjectFieldData("city", "String", ""),
+                            new ValueObjectFieldData("location", "Location" + index, ""),
+                            new ValueObjectFieldData("landmarks", "Location" + index, "Set")));
+
+    return Arrays.asList(location, address);
+  }
+
+  private static List<MethodParameterData> parameters(final String... stateFields) {
+    final List<MethodParameterData> parameters = new ArrayList<>();
+    for (final String stateField : stateFields) {
+      parameters.add(new MethodParameterData(stateField));
+    }
+    return parameters;
+  }
+
+}
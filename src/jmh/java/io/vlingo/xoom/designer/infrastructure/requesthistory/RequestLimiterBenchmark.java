@@ -0,0 +1,63 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure.requesthistory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Fork(1)
+@Threads(8)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RequestLimiterBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class Limiter {
+
+    final RequestLimiter limiter = RequestLimiter.of(RequestCount.MAX_LIMIT, Duration.ofSeconds(1));
+    final AtomicInteger clients = new AtomicInteger();
+
+  }
+
+  @State(Scope.Thread)
+  public static class Client {
+
+    String ipAddress;
+
+    @Setup
+    public void setUp(final Limiter limiter) {
+      ipAddress = "10.0.0." + limiter.clients.incrementAndGet();
+    }
+
+  }
+
+  @Benchmark
+  public boolean sharedClient(final Limiter limiter) {
+    return limiter.limiter.checkLimit("127.0.0.1");
+  }
+
+  @Benchmark
+  public boolean distinctClients(final Limiter limiter, final Client client) {
+    return limiter.limiter.checkLimit(client.ipAddress);
+  }
+
+}
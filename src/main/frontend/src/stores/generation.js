@@ -3,7 +3,7 @@ import { defaultDeploymentSettings } from './deployment';
 import { defaultPersistenceSettings } from './persistence';
 import { defaultSchemataSettings } from './schemata';
 
-export const TARGET = {ZIP_DOWNLOAD: "zip-download", FILESYSTEM : "filesystem"};
+export const TARGET = {ZIP_DOWNLOAD: "zip-download", IN_MEMORY_ZIP_DOWNLOAD: "in-memory-zip-download", FILESYSTEM : "filesystem"};
 export const defaultGenerationSettings = {useAnnotations: true, useAutoDispatch: true};
 export const defaultPlatformSettings = {
 	platform: "JVM",
@@ -1,6 +1,6 @@
 export default {
-	forZipFile(filename, base64) {
-		open(filename + ".zip", base64, "application/zip");
+	forArchive(filename, archiveUri) {
+		download(filename + ".zip", archiveUri);
 	},
 
 	forJsonFile(filename, base64) {
@@ -9,8 +9,12 @@ export default {
 }
 
 function open(filename, base64, mimeType) {
+	download(filename, "data:" + mimeType + ";base64," + base64);
+}
+
+function download(filename, href) {
 	var link = document.createElement('a');
-	link.href = "data:" + mimeType + ";base64," + base64;
+	link.href = href;
 	link.download = filename;
 	document.body.appendChild(link);
 	link.click();
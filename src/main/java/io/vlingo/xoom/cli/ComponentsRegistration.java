@@ -8,6 +8,7 @@ package io.vlingo.xoom.cli;
 
 import io.vlingo.xoom.actors.Logger;
 import io.vlingo.xoom.cli.task.designer.DesignerTask;
+import io.vlingo.xoom.cli.task.designer.ModelGenerationTask;
 import io.vlingo.xoom.cli.task.docker.DockerPackageTask;
 import io.vlingo.xoom.cli.task.docker.DockerPushTask;
 import io.vlingo.xoom.cli.task.docker.DockerStatusTask;
@@ -35,7 +36,7 @@ public class ComponentsRegistration {
                     new GlooInitTask(commandExecutionProcess), new GlooSuspendTask(commandExecutionProcess),
                     new GlooRouteTask(commandExecutionProcess, properties), new DockerPackageTask(commandExecutionProcess, properties),
                     new DockerPushTask(commandExecutionProcess, properties), new DockerStatusTask(commandExecutionProcess, properties),
-                    new KubernetesPushTask(commandExecutionProcess), new VersionDisplayTask()));
+                    new KubernetesPushTask(commandExecutionProcess), new ModelGenerationTask(logger), new VersionDisplayTask()));
   }
 
 }
@@ -14,7 +14,10 @@ public enum OptionName {
   PORT("port"),
   PROFILE("profile"),
   CURRENT_DIRECTORY("currentDirectory"),
-  PUBLISHER("publisher");
+  PUBLISHER("publisher"),
+  MODEL("model"),
+  OUTPUT("output"),
+  VERIFY("verify");
 
   private final String value;
 
@@ -0,0 +1,63 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.cli.task.designer;
+
+import io.vlingo.xoom.actors.Logger;
+import io.vlingo.xoom.cli.option.Option;
+import io.vlingo.xoom.cli.task.Task;
+import io.vlingo.xoom.cli.task.TaskExecutionException;
+import io.vlingo.xoom.designer.BatchModelGenerator;
+import io.vlingo.xoom.designer.BatchModelGenerator.Outcome;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+
+import static io.vlingo.xoom.cli.option.OptionName.MODEL;
+import static io.vlingo.xoom.cli.option.OptionName.OUTPUT;
+import static io.vlingo.xoom.cli.option.OptionName.VERIFY;
+
+public class ModelGenerationTask extends Task {
+
+  private static final String SUMMARY_LINE = "%-6s %8d ms  %s  %s";
+
+  private final Logger logger;
+
+  public ModelGenerationTask(final Logger logger) {
+    super("generate", Option.required(MODEL), Option.of(OUTPUT), Option.of(VERIFY, "false"));
+    this.logger = logger;
+  }
+
+  @Override
+  public void run(final List<String> args) {
+    final List<Path> modelFiles = BatchModelGenerator.resolveModelFiles(optionValueOf(MODEL, args));
+    if (modelFiles.isEmpty()) {
+      throw new TaskExecutionException("No designer model files found in " + optionValueOf(MODEL, args));
+    }
+
+    final String output = optionValueOf(OUTPUT, args);
+    final Optional<Path> outputFolder = output.trim().isEmpty() ? Optional.empty() : Optional.of(Paths.get(output));
+
+    final boolean verify = Boolean.parseBoolean(optionValueOf(VERIFY, args));
+
+    final long startedOn = System.nanoTime();
+    final List<Outcome> outcomes = new BatchModelGenerator(logger, verify).start(modelFiles, outputFolder);
+    final long elapsedMillis = (System.nanoTime() - startedOn) / 1_000_000;
+
+    outcomes.forEach(outcome -> logger.info(String.format(SUMMARY_LINE, outcome.succeeded ? "OK" : "FAILED",
+            outcome.elapsedMillis(), outcome.modelFile, outcome.details)));
+
+    final long failures = outcomes.stream().filter(outcome -> !outcome.succeeded).count();
+    logger.info(String.format("Generated %d of %d models in %d ms", outcomes.size() - failures, outcomes.size(), elapsedMillis));
+
+    if (failures > 0) {
+      throw new TaskExecutionException(failures + " designer model(s) failed to generate");
+    }
+  }
+
+}
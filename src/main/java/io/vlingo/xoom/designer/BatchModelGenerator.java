@@ -0,0 +1,183 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer;
+
+import io.vlingo.xoom.actors.Logger;
+import io.vlingo.xoom.designer.codegen.CodeGenerationProgress;
+import io.vlingo.xoom.designer.codegen.GenerationSettings;
+import io.vlingo.xoom.designer.codegen.GenerationTarget;
+import io.vlingo.xoom.designer.codegen.java.compilation.CompilationReport;
+import io.vlingo.xoom.designer.codegen.java.compilation.InMemoryCompiler;
+import io.vlingo.xoom.designer.codegen.java.designermodel.DesignerModelFormatter;
+import io.vlingo.xoom.designer.infrastructure.HomeDirectory;
+import io.vlingo.xoom.designer.infrastructure.Infrastructure;
+import io.vlingo.xoom.designer.infrastructure.restapi.data.DesignerModel;
+import io.vlingo.xoom.turbo.ComponentRegistry;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class BatchModelGenerator {
+
+  private static final String MODEL_FILE_SUFFIX = "designer-model.json";
+
+  private final Logger logger;
+  private final int parallelism;
+  private final Optional<InMemoryCompiler> compiler;
+
+  public BatchModelGenerator(final Logger logger) {
+    this(logger, false);
+  }
+
+  public BatchModelGenerator(final Logger logger, final boolean verify) {
+    this(logger, Runtime.getRuntime().availableProcessors(), verify);
+  }
+
+  BatchModelGenerator(final Logger logger, final int parallelism) {
+    this(logger, parallelism, false);
+  }
+
+  BatchModelGenerator(final Logger logger, final int parallelism, final boolean verify) {
+    this.logger = logger;
+    this.parallelism = parallelism;
+    this.compiler = verify ? Optional.of(InMemoryCompiler.withDesignerClasspath()) : Optional.empty();
+  }
+
+  public static List<Path> resolveModelFiles(final String modelOption) {
+    final List<Path> modelFiles = new ArrayList<>();
+    Stream.of(modelOption.split(",")).map(String::trim).filter(path -> !path.isEmpty()).map(Paths::get).forEach(path -> {
+      if (Files.isDirectory(path)) {
+        modelFiles.addAll(listModelFiles(path));
+      } else {
+        modelFiles.add(path);
+      }
+    });
+    return modelFiles;
+  }
+
+  public List<Outcome> start(final List<Path> modelFiles, final Optional<Path> outputFolder) {
+    initializeResources();
+
+    final ModelProcessingManager manager = new ModelProcessingManager(ComponentRegistry.withName("codeGenerationSteps"), GenerationSettings.instance());
+    final ModelProcessingInformation information = ModelProcessingInformation.from(GenerationTarget.FILESYSTEM);
+    final ForkJoinPool pool = new ForkJoinPool(parallelism);
+
+    try {
+      final List<CompletableFuture<Outcome>> outcomes =
+              modelFiles.stream().map(modelFile -> CompletableFuture.supplyAsync(() ->
+                      generate(manager, information, modelFile, outputFolder), pool)).collect(Collectors.toList());
+
+      return outcomes.stream().map(CompletableFuture::join).collect(Collectors.toList());
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  private void initializeResources() {
+    if (!ComponentRegistry.has(GenerationTarget.class)) {
+      Infrastructure.setupResources(HomeDirectory.fromEnvironment(), 0);
+      Configuration.load();
+      ComponentRegistry.register(GenerationTarget.class, GenerationTarget.FILESYSTEM);
+      GenerationSettings.resolve(GenerationTarget.FILESYSTEM);
+    }
+  }
+
+  private Outcome generate(final ModelProcessingManager manager,
+                           final ModelProcessingInformation information,
+                           final Path modelFile,
+                           final Optional<Path> outputFolder) {
+    final long startedOn = System.nanoTime();
+    try {
+      final DesignerModel designerModel = redirect(read(modelFile), outputFolder);
+      final ModelProcessingScene scene = manager.process(designerModel, information, logger, CodeGenerationProgress.NONE);
+      final long elapsedNanos = System.nanoTime() - startedOn;
+      if (scene.isFailed()) {
+        return Outcome.failed(modelFile, elapsedNanos, scene.report.errorType + " " + scene.report.details);
+      }
+      if (compiler.isPresent()) {
+        return verify(modelFile, startedOn, designerModel.projectDirectory);
+      }
+      return Outcome.succeeded(modelFile, elapsedNanos, designerModel.projectDirectory);
+    } catch (final RuntimeException exception) {
+      return Outcome.failed(modelFile, System.nanoTime() - startedOn, exception.getMessage());
+    }
+  }
+
+  private Outcome verify(final Path modelFile, final long startedOn, final String projectDirectory) {
+    final CompilationReport report = compiler.get().compile(Paths.get(projectDirectory));
+    final long elapsedNanos = System.nanoTime() - startedOn;
+    if (!report.succeeded) {
+      return Outcome.failed(modelFile, elapsedNanos, report.summary());
+    }
+    return Outcome.succeeded(modelFile, elapsedNanos, projectDirectory + " (" + report.summary() + ")");
+  }
+
+  private DesignerModel read(final Path modelFile) {
+    try (final Reader reader = Files.newBufferedReader(modelFile, StandardCharsets.UTF_8)) {
+      return DesignerModelFormatter.read(reader);
+    } catch (final IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  private DesignerModel redirect(final DesignerModel designerModel, final Optional<Path> outputFolder) {
+    if (!outputFolder.isPresent() || designerModel.context == null) {
+      return designerModel;
+    }
+    return designerModel.withProjectDirectory(outputFolder.get().resolve(designerModel.context.artifactId).toString());
+  }
+
+  private static List<Path> listModelFiles(final Path folder) {
+    try (final Stream<Path> files = Files.list(folder)) {
+      return files.filter(file -> file.getFileName().toString().endsWith(MODEL_FILE_SUFFIX)).sorted().collect(Collectors.toList());
+    } catch (final IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  public static class Outcome {
+
+    public final Path modelFile;
+    public final boolean succeeded;
+    public final long elapsedNanos;
+    public final String details;
+
+    private static Outcome succeeded(final Path modelFile, final long elapsedNanos, final String projectDirectory) {
+      return new Outcome(modelFile, true, elapsedNanos, projectDirectory);
+    }
+
+    private static Outcome failed(final Path modelFile, final long elapsedNanos, final String details) {
+      return new Outcome(modelFile, false, elapsedNanos, details);
+    }
+
+    private Outcome(final Path modelFile, final boolean succeeded, final long elapsedNanos, final String details) {
+      this.modelFile = modelFile;
+      this.succeeded = succeeded;
+      this.elapsedNanos = elapsedNanos;
+      this.details = details;
+    }
+
+    public long elapsedMillis() {
+      return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+  }
+
+}
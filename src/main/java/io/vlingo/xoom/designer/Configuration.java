@@ -2,11 +2,11 @@ package io.vlingo.xoom.designer;
 
 import io.vlingo.xoom.codegen.CodeGenerationStep;
 import io.vlingo.xoom.codegen.content.CodeElementFormatter;
-import io.vlingo.xoom.codegen.content.ContentCreationStep;
 import io.vlingo.xoom.codegen.dialect.Dialect;
 import io.vlingo.xoom.codegen.dialect.ReservedWordsHandler;
 import io.vlingo.xoom.common.Tuple2;
 import io.vlingo.xoom.designer.codegen.CodeGenerationParameterValidationStep;
+import io.vlingo.xoom.designer.codegen.IncrementalContentCreationStep;
 import io.vlingo.xoom.designer.codegen.StagingFolderCleanUpStep;
 import io.vlingo.xoom.designer.codegen.StagingFolderCleanUpStep.Phase;
 import io.vlingo.xoom.designer.codegen.TemporaryTaskFolderCreationStep;
@@ -38,6 +38,7 @@ import io.vlingo.xoom.designer.codegen.java.unittest.resource.RestResourceUnitTe
 import io.vlingo.xoom.designer.codegen.reactjs.AggregateManagementGenerationStep;
 import io.vlingo.xoom.designer.codegen.reactjs.LayoutGenerationStep;
 import io.vlingo.xoom.designer.codegen.reactjs.StaticFilesGenerationStep;
+import io.vlingo.xoom.designer.infrastructure.ZipArchiveWriter;
 import io.vlingo.xoom.terminal.CommandExecutionProcess;
 import io.vlingo.xoom.turbo.ComponentRegistry;
 import org.apache.commons.lang3.StringUtils;
@@ -47,6 +48,7 @@ import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.zip.Deflater;
 
 import static io.vlingo.xoom.turbo.ComponentRegistry.withType;
 
@@ -62,7 +64,32 @@ public class Configuration {
   public static final String ENVIRONMENT_TYPE_VARIABLE = "VLINGO_XOOM_DESIGNER_ENV";
   public static final String SCHEMATA_SERVICE_NAME = "SCHEMATA_SERVICE_NAME";
   public static final String SCHEMATA_SERVICE_PORT = "SCHEMATA_SERVICE_PORT";
+  public static final String STAGING_WORKSPACE_TTL = "STAGING_WORKSPACE_TTL";
+  public static final String STAGING_WORKSPACE_CAPACITY = "STAGING_WORKSPACE_CAPACITY";
+  public static final String CODE_GENERATION_PARALLELISM = "CODE_GENERATION_PARALLELISM";
+  public static final String REQUEST_HISTORY_CAPACITY = "REQUEST_HISTORY_CAPACITY";
+  public static final String REQUEST_HISTORY_BATCH_SIZE = "REQUEST_HISTORY_BATCH_SIZE";
+  public static final String REQUEST_HISTORY_FLUSH_INTERVAL = "REQUEST_HISTORY_FLUSH_INTERVAL";
+  public static final String REQUEST_STATISTICS_SNAPSHOT_INTERVAL = "REQUEST_STATISTICS_SNAPSHOT_INTERVAL";
+  public static final String MODEL_PROCESSING_WORKERS = "MODEL_PROCESSING_WORKERS";
+  public static final String MODEL_PROCESSING_QUEUE_DEPTH = "MODEL_PROCESSING_QUEUE_DEPTH";
+  public static final String MODEL_PROCESSING_JOB_TTL = "MODEL_PROCESSING_JOB_TTL";
+  public static final String PROJECT_COMPRESSION_LEVEL = "PROJECT_COMPRESSION_LEVEL";
+  public static final String PROJECT_COMPRESSION_PARALLELISM = "PROJECT_COMPRESSION_PARALLELISM";
+  public static final String GENERATION_RESULT_CACHE_CAPACITY = "GENERATION_RESULT_CACHE_CAPACITY";
+  public static final String BATCH_GENERATION_PARALLELISM = "BATCH_GENERATION_PARALLELISM";
   private static final Duration DEFAULT_REQUEST_COUNT_EXPIRATION = Duration.ofSeconds(1);
+  private static final Duration DEFAULT_STAGING_WORKSPACE_TTL = Duration.ofMinutes(10);
+  private static final int DEFAULT_STAGING_WORKSPACE_CAPACITY = 100;
+  private static final int DEFAULT_REQUEST_HISTORY_CAPACITY = 10000;
+  private static final int DEFAULT_REQUEST_HISTORY_BATCH_SIZE = 100;
+  private static final Duration DEFAULT_REQUEST_HISTORY_FLUSH_INTERVAL = Duration.ofMillis(500);
+  private static final Duration DEFAULT_REQUEST_STATISTICS_SNAPSHOT_INTERVAL = Duration.ofSeconds(30);
+  private static final int DEFAULT_MODEL_PROCESSING_WORKERS = 2;
+  private static final int DEFAULT_MODEL_PROCESSING_QUEUE_DEPTH = 20;
+  private static final Duration DEFAULT_MODEL_PROCESSING_JOB_TTL = Duration.ofMinutes(10);
+  private static final int DEFAULT_PROJECT_COMPRESSION_LEVEL = Deflater.DEFAULT_COMPRESSION;
+  private static final long DEFAULT_GENERATION_RESULT_CACHE_CAPACITY = 256L * 1024 * 1024;
 
   public static void load() {
     final CodeElementFormatter codeElementFormatter =
@@ -107,7 +134,7 @@ public class Configuration {
             new LayoutGenerationStep(),
             new AggregateManagementGenerationStep(),
             //Concluding
-            new ContentCreationStep(),
+            new IncrementalContentCreationStep(),
             new MavenWrapperInstallationStep(),
             new SchemaPushStep(withType(CommandExecutionProcess.class)),
             new SchemaPullStep(withType(CommandExecutionProcess.class)),
@@ -150,6 +177,79 @@ public class Configuration {
     return expirationSeconds != null ? Duration.ofSeconds(Long.parseLong(expirationSeconds)) : DEFAULT_REQUEST_COUNT_EXPIRATION;
   }
 
+  public static Duration resolveStagingWorkspaceTimeToLive() {
+    final String timeToLiveSeconds = System.getenv(STAGING_WORKSPACE_TTL);
+    return timeToLiveSeconds != null ? Duration.ofSeconds(Long.parseLong(timeToLiveSeconds)) : DEFAULT_STAGING_WORKSPACE_TTL;
+  }
+
+  public static int resolveStagingWorkspaceCapacity() {
+    final String capacity = System.getenv(STAGING_WORKSPACE_CAPACITY);
+    return capacity != null ? Integer.parseInt(capacity) : DEFAULT_STAGING_WORKSPACE_CAPACITY;
+  }
+
+  public static int resolveCodeGenerationParallelism() {
+    final String parallelism = System.getenv(CODE_GENERATION_PARALLELISM);
+    return parallelism != null ? Integer.parseInt(parallelism) : Runtime.getRuntime().availableProcessors();
+  }
+
+  public static int resolveRequestHistoryCapacity() {
+    final String capacity = System.getenv(REQUEST_HISTORY_CAPACITY);
+    return capacity != null ? Integer.parseInt(capacity) : DEFAULT_REQUEST_HISTORY_CAPACITY;
+  }
+
+  public static int resolveRequestHistoryBatchSize() {
+    final String batchSize = System.getenv(REQUEST_HISTORY_BATCH_SIZE);
+    return batchSize != null ? Integer.parseInt(batchSize) : DEFAULT_REQUEST_HISTORY_BATCH_SIZE;
+  }
+
+  public static Duration resolveRequestHistoryFlushInterval() {
+    final String flushIntervalMillis = System.getenv(REQUEST_HISTORY_FLUSH_INTERVAL);
+    return flushIntervalMillis != null ? Duration.ofMillis(Long.parseLong(flushIntervalMillis)) : DEFAULT_REQUEST_HISTORY_FLUSH_INTERVAL;
+  }
+
+  public static Duration resolveRequestStatisticsSnapshotInterval() {
+    final String snapshotIntervalSeconds = System.getenv(REQUEST_STATISTICS_SNAPSHOT_INTERVAL);
+    return snapshotIntervalSeconds != null ? Duration.ofSeconds(Long.parseLong(snapshotIntervalSeconds)) : DEFAULT_REQUEST_STATISTICS_SNAPSHOT_INTERVAL;
+  }
+
+  public static int resolveModelProcessingWorkers() {
+    final String workers = System.getenv(MODEL_PROCESSING_WORKERS);
+    return workers != null ? Integer.parseInt(workers) : DEFAULT_MODEL_PROCESSING_WORKERS;
+  }
+
+  public static int resolveModelProcessingQueueDepth() {
+    final String queueDepth = System.getenv(MODEL_PROCESSING_QUEUE_DEPTH);
+    return queueDepth != null ? Integer.parseInt(queueDepth) : DEFAULT_MODEL_PROCESSING_QUEUE_DEPTH;
+  }
+
+  public static Duration resolveModelProcessingJobTimeToLive() {
+    final String timeToLiveSeconds = System.getenv(MODEL_PROCESSING_JOB_TTL);
+    return timeToLiveSeconds != null ? Duration.ofSeconds(Long.parseLong(timeToLiveSeconds)) : DEFAULT_MODEL_PROCESSING_JOB_TTL;
+  }
+
+  public static int resolveProjectCompressionLevel() {
+    final String level = System.getenv(PROJECT_COMPRESSION_LEVEL);
+    if (level == null) {
+      return DEFAULT_PROJECT_COMPRESSION_LEVEL;
+    }
+    return level.equalsIgnoreCase("STORED") ? ZipArchiveWriter.STORED : Integer.parseInt(level);
+  }
+
+  public static int resolveProjectCompressionParallelism() {
+    final String parallelism = System.getenv(PROJECT_COMPRESSION_PARALLELISM);
+    return parallelism != null ? Integer.parseInt(parallelism) : Runtime.getRuntime().availableProcessors();
+  }
+
+  public static long resolveGenerationResultCacheCapacity() {
+    final String capacityBytes = System.getenv(GENERATION_RESULT_CACHE_CAPACITY);
+    return capacityBytes != null ? Long.parseLong(capacityBytes) : DEFAULT_GENERATION_RESULT_CACHE_CAPACITY;
+  }
+
+  public static int resolveBatchGenerationParallelism() {
+    final String parallelism = System.getenv(BATCH_GENERATION_PARALLELISM);
+    return parallelism != null ? Integer.parseInt(parallelism) : Runtime.getRuntime().availableProcessors();
+  }
+
   public static Optional<Tuple2<String, Integer>> resolveSchemataServiceDNS() {
     final String schemataServiceName = System.getenv(SCHEMATA_SERVICE_NAME);
     if(schemataServiceName != null) {
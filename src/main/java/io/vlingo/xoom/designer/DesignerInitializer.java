@@ -8,7 +8,10 @@
 package io.vlingo.xoom.designer;
 
 import io.vlingo.xoom.actors.Logger;
+import io.vlingo.xoom.designer.codegen.GenerationSettings;
 import io.vlingo.xoom.designer.codegen.GenerationTarget;
+import io.vlingo.xoom.designer.codegen.TemplateCache;
+import io.vlingo.xoom.designer.codegen.java.structure.MavenWrapperPayload;
 import io.vlingo.xoom.designer.infrastructure.BrowserLauncher;
 import io.vlingo.xoom.designer.infrastructure.HomeDirectory;
 import io.vlingo.xoom.designer.infrastructure.Infrastructure;
@@ -29,6 +32,8 @@ public class DesignerInitializer {
     registerProfile(options);
     initializeResources(options);
     registerGenerationTarget(options);
+    warmUpTemplates();
+    preloadMavenWrapper();
     startServer();
     launchBrowser();
   }
@@ -52,7 +57,19 @@ public class DesignerInitializer {
 
   private void registerGenerationTarget(final Map<String, String> options) {
     final String targetOption = options.get("target");
-    ComponentRegistry.register(GenerationTarget.class, GenerationTarget.from(targetOption));
+    final GenerationTarget generationTarget = GenerationTarget.from(targetOption);
+    ComponentRegistry.register(GenerationTarget.class, generationTarget);
+    GenerationSettings.resolve(generationTarget);
+  }
+
+  private void warmUpTemplates() {
+    final int templates = TemplateCache.instance().warmUp();
+    ComponentRegistry.withType(Logger.class).info("Compiled " + templates + " code generation templates");
+  }
+
+  private void preloadMavenWrapper() {
+    final int files = MavenWrapperPayload.instance().files().size();
+    ComponentRegistry.withType(Logger.class).info("Pre-compressed " + files + " Maven wrapper files");
   }
 
   private void startServer() {
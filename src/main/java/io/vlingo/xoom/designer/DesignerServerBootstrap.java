@@ -8,9 +8,11 @@
 package io.vlingo.xoom.designer;
 
 import io.vlingo.xoom.designer.infrastructure.DesignerServerConfiguration;
+import io.vlingo.xoom.designer.infrastructure.persistence.RequestStatisticsSnapshot;
 import io.vlingo.xoom.designer.infrastructure.requesthistory.RequestLimiter;
 import io.vlingo.xoom.designer.infrastructure.requesthistory.RequestLimiterFilter;
 import io.vlingo.xoom.designer.infrastructure.requesthistory.RequestPreservationFilter;
+import io.vlingo.xoom.designer.infrastructure.requesthistory.RequestStatistics;
 import io.vlingo.xoom.http.Filters;
 import io.vlingo.xoom.http.RequestFilter;
 import io.vlingo.xoom.http.resource.Configuration;
@@ -70,6 +72,8 @@ public class DesignerServerBootstrap implements XoomInitializationAware {
             RequestLimiter.of(resolveProjectGenerationRequestLimit(),
                     resolveProjectGenerationRequestCountExpiration());
 
+    RequestStatisticsSnapshot.resolve(RequestStatistics.instance(), grid.world().stage().scheduler(), resolveRequestStatisticsSnapshotInterval());
+
     return Arrays.asList(RequestLimiterFilter.with(requestLimiter), RequestPreservationFilter.with(grid.world().stage()));
   }
 }
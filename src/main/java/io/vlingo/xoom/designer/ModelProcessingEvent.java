@@ -0,0 +1,45 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer;
+
+public class ModelProcessingEvent {
+
+  public static final String STEP_STARTED = "step-started";
+  public static final String STEP_COMPLETED = "step-completed";
+  public static final String STEP_SKIPPED = "step-skipped";
+
+  public final long id;
+  public final String type;
+  public final String step;
+  public final long elapsedNanos;
+  public final int producedContents;
+
+  public static ModelProcessingEvent stepStarted(final long id, final String step) {
+    return new ModelProcessingEvent(id, STEP_STARTED, step, 0, 0);
+  }
+
+  public static ModelProcessingEvent stepCompleted(final long id, final String step, final long elapsedNanos, final int producedContents) {
+    return new ModelProcessingEvent(id, STEP_COMPLETED, step, elapsedNanos, producedContents);
+  }
+
+  public static ModelProcessingEvent stepSkipped(final long id, final String step, final long elapsedNanos) {
+    return new ModelProcessingEvent(id, STEP_SKIPPED, step, elapsedNanos, 0);
+  }
+
+  private ModelProcessingEvent(final long id,
+                               final String type,
+                               final String step,
+                               final long elapsedNanos,
+                               final int producedContents) {
+    this.id = id;
+    this.type = type;
+    this.step = step;
+    this.elapsedNanos = elapsedNanos;
+    this.producedContents = producedContents;
+  }
+
+}
@@ -0,0 +1,15 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer;
+
+public interface ModelProcessingEventListener {
+
+  void onEvent(final ModelProcessingEvent event);
+
+  void onJobFinished(final ModelProcessingJob job, final long finishedEventId);
+
+}
@@ -0,0 +1,160 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer;
+
+import io.vlingo.xoom.codegen.CodeGenerationStep;
+import io.vlingo.xoom.designer.codegen.CodeGenerationProgress;
+import io.vlingo.xoom.designer.infrastructure.metrics.CodeGenerationStepTimings;
+import io.vlingo.xoom.designer.infrastructure.restapi.report.ModelProcessingReport;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+public class ModelProcessingJob implements CodeGenerationProgress {
+
+  public final String id;
+  private final long submittedOn;
+  private final AtomicInteger completedSteps = new AtomicInteger();
+  private final Set<String> runningSteps = ConcurrentHashMap.newKeySet();
+  private final List<ModelProcessingEvent> events = new ArrayList<>();
+  private final List<ModelProcessingEventListener> listeners = new CopyOnWriteArrayList<>();
+  private volatile ModelProcessingJobStatus status = ModelProcessingJobStatus.QUEUED;
+  private volatile int totalSteps;
+  private volatile ModelProcessingReport report;
+  private volatile String error;
+  private volatile long completedOn;
+
+  ModelProcessingJob(final String id, final long submittedOn) {
+    this.id = id;
+    this.submittedOn = submittedOn;
+  }
+
+  @Override
+  public void generationStarted(final int totalSteps) {
+    this.totalSteps = totalSteps;
+  }
+
+  @Override
+  public void stepStarted(final CodeGenerationStep step) {
+    final String stepName = CodeGenerationStepTimings.nameOf(step);
+    runningSteps.add(stepName);
+    publish(eventId -> ModelProcessingEvent.stepStarted(eventId, stepName));
+  }
+
+  @Override
+  public void stepCompleted(final CodeGenerationStep step, final long elapsedNanos, final int producedContents) {
+    final String stepName = CodeGenerationStepTimings.nameOf(step);
+    finishStep(stepName);
+    publish(eventId -> ModelProcessingEvent.stepCompleted(eventId, stepName, elapsedNanos, producedContents));
+  }
+
+  @Override
+  public void stepSkipped(final CodeGenerationStep step, final long elapsedNanos) {
+    final String stepName = CodeGenerationStepTimings.nameOf(step);
+    finishStep(stepName);
+    publish(eventId -> ModelProcessingEvent.stepSkipped(eventId, stepName, elapsedNanos));
+  }
+
+  public List<ModelProcessingEvent> eventsAfter(final long lastEventId) {
+    synchronized (events) {
+      final int from = (int) Math.max(0, Math.min(lastEventId, events.size()));
+      return new ArrayList<>(events.subList(from, events.size()));
+    }
+  }
+
+  public void subscribe(final long lastEventId, final ModelProcessingEventListener listener) {
+    synchronized (events) {
+      eventsAfter(lastEventId).forEach(listener::onEvent);
+      if (status.isFinished()) {
+        listener.onJobFinished(this, finishedEventId());
+      } else {
+        listeners.add(listener);
+      }
+    }
+  }
+
+  public long finishedEventId() {
+    synchronized (events) {
+      return events.size() + 1;
+    }
+  }
+
+  void start() {
+    status = ModelProcessingJobStatus.RUNNING;
+  }
+
+  void complete(final ModelProcessingReport report, final long completedOn) {
+    this.report = report;
+    finish(ModelProcessingJobStatus.COMPLETED, completedOn);
+  }
+
+  void fail(final Throwable cause, final long completedOn) {
+    this.error = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+    finish(ModelProcessingJobStatus.FAILED, completedOn);
+  }
+
+  boolean isExpired(final long now, final long timeToLive) {
+    return status.isFinished() && now - completedOn > timeToLive;
+  }
+
+  private void finishStep(final String stepName) {
+    runningSteps.remove(stepName);
+    completedSteps.incrementAndGet();
+  }
+
+  private void publish(final LongFunction<ModelProcessingEvent> eventFactory) {
+    synchronized (events) {
+      final ModelProcessingEvent event = eventFactory.apply(events.size() + 1);
+      events.add(event);
+      listeners.forEach(listener -> listener.onEvent(event));
+    }
+  }
+
+  private void finish(final ModelProcessingJobStatus status, final long completedOn) {
+    synchronized (events) {
+      this.completedOn = completedOn;
+      this.runningSteps.clear();
+      this.status = status;
+      listeners.forEach(listener -> listener.onJobFinished(this, finishedEventId()));
+      listeners.clear();
+    }
+  }
+
+  public ModelProcessingJobStatus status() {
+    return status;
+  }
+
+  public int completedSteps() {
+    return completedSteps.get();
+  }
+
+  public int totalSteps() {
+    return totalSteps;
+  }
+
+  public List<String> runningSteps() {
+    return new ArrayList<>(runningSteps);
+  }
+
+  public ModelProcessingReport report() {
+    return report;
+  }
+
+  public String error() {
+    return error;
+  }
+
+  public long submittedOn() {
+    return submittedOn;
+  }
+
+}
@@ -0,0 +1,111 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer;
+
+import io.vlingo.xoom.designer.codegen.CodeGenerationProgress;
+import io.vlingo.xoom.designer.infrastructure.restapi.report.ModelProcessingReport;
+import io.vlingo.xoom.turbo.ComponentRegistry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+public class ModelProcessingJobs {
+
+  private final long timeToLiveNanos;
+  private final ThreadPoolExecutor executor;
+  private final Map<String, ModelProcessingJob> jobs = new ConcurrentHashMap<>();
+
+  public static synchronized ModelProcessingJobs instance() {
+    if (!ComponentRegistry.has(ModelProcessingJobs.class)) {
+      final ModelProcessingJobs jobs =
+              new ModelProcessingJobs(Configuration.resolveModelProcessingWorkers(),
+                      Configuration.resolveModelProcessingQueueDepth(),
+                      Configuration.resolveModelProcessingJobTimeToLive());
+
+      ComponentRegistry.register(ModelProcessingJobs.class, jobs);
+    }
+    return ComponentRegistry.withType(ModelProcessingJobs.class);
+  }
+
+  ModelProcessingJobs(final int workers, final int queueDepth, final Duration timeToLive) {
+    this.timeToLiveNanos = timeToLive.toNanos();
+    this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueDepth), new WorkerFactory());
+  }
+
+  public Optional<ModelProcessingJob> submit(final Function<CodeGenerationProgress, ModelProcessingReport> processing) {
+    removeAllExpired();
+
+    final ModelProcessingJob job = new ModelProcessingJob(UUID.randomUUID().toString(), System.nanoTime());
+
+    jobs.put(job.id, job);
+
+    try {
+      executor.execute(() -> run(job, processing));
+      return Optional.of(job);
+    } catch (final RejectedExecutionException exception) {
+      jobs.remove(job.id);
+      return Optional.empty();
+    }
+  }
+
+  public Optional<ModelProcessingJob> find(final String jobId) {
+    final ModelProcessingJob job = jobs.get(jobId);
+    if (job == null || job.isExpired(System.nanoTime(), timeToLiveNanos)) {
+      return Optional.empty();
+    }
+    return Optional.of(job);
+  }
+
+  public int pendingJobs() {
+    return executor.getQueue().size();
+  }
+
+  public void stop() {
+    executor.shutdownNow();
+  }
+
+  private void run(final ModelProcessingJob job,
+                   final Function<CodeGenerationProgress, ModelProcessingReport> processing) {
+    job.start();
+    try {
+      job.complete(processing.apply(job), System.nanoTime());
+    } catch (final RuntimeException | Error exception) {
+      exception.printStackTrace();
+      job.fail(exception, System.nanoTime());
+    }
+  }
+
+  private void removeAllExpired() {
+    final long now = System.nanoTime();
+    jobs.values().removeIf(job -> job.isExpired(now, timeToLiveNanos));
+  }
+
+  private static class WorkerFactory implements ThreadFactory {
+
+    private final AtomicInteger workers = new AtomicInteger();
+
+    @Override
+    public Thread newThread(final Runnable runnable) {
+      final Thread worker = new Thread(runnable, "xoom-designer-generation-" + workers.incrementAndGet());
+      worker.setDaemon(true);
+      return worker;
+    }
+
+  }
+
+}
@@ -11,62 +11,152 @@ import io.vlingo.xoom.actors.Logger;
 import io.vlingo.xoom.codegen.CodeGenerationContext;
 import io.vlingo.xoom.codegen.CodeGenerationStep;
 import io.vlingo.xoom.common.Completes;
+import io.vlingo.xoom.designer.codegen.CodeGenerationParameterIndex;
+import io.vlingo.xoom.designer.codegen.CodeGenerationProgress;
+import io.vlingo.xoom.designer.codegen.CodeGenerationStepScheduler;
 import io.vlingo.xoom.designer.codegen.GenerationPathAlreadyExistsException;
 import io.vlingo.xoom.designer.codegen.GenerationPathCreationException;
+import io.vlingo.xoom.designer.codegen.GenerationSettings;
+import io.vlingo.xoom.designer.infrastructure.GenerationResultCache;
+import io.vlingo.xoom.designer.infrastructure.ProjectArchive;
+import io.vlingo.xoom.designer.infrastructure.StagingWorkspaceManager;
+import io.vlingo.xoom.designer.infrastructure.metrics.CodeGenerationStepTimings;
+import io.vlingo.xoom.designer.infrastructure.metrics.Measurement;
+import io.vlingo.xoom.designer.infrastructure.metrics.MetricsRegistry;
 import io.vlingo.xoom.designer.infrastructure.restapi.data.CodeGenerationContextMapper;
 import io.vlingo.xoom.designer.infrastructure.restapi.data.DesignerModel;
 
 import java.io.File;
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
 public class ModelProcessingManager {
 
-  private final List<CodeGenerationStep> codeGenerationSteps = new ArrayList<>();
+  private static final ForkJoinPool BATCH_POOL = new ForkJoinPool(Configuration.resolveBatchGenerationParallelism());
 
-  public ModelProcessingManager(final List<CodeGenerationStep> codeGenerationSteps) {
-    this.codeGenerationSteps.addAll(codeGenerationSteps);
+  private final GenerationSettings settings;
+  private final CodeGenerationStepScheduler codeGenerationStepScheduler;
+
+  public ModelProcessingManager(final List<CodeGenerationStep> codeGenerationSteps,
+                                final GenerationSettings settings) {
+    this.settings = settings;
+    this.codeGenerationStepScheduler = CodeGenerationStepScheduler.of(codeGenerationSteps);
   }
 
   public Completes<ModelProcessingScene> generate(final DesignerModel model,
                                                   final ModelProcessingInformation information,
                                                   final Logger logger) {
     return validate(model, information)
-            .andThenTo(scene -> mapContext(scene, logger))
-            .andThen(scene -> processSteps(scene));
+            .andThenTo(scene -> generateValidated(scene, resultKeyOf(model, information), logger));
+  }
+
+  public ModelProcessingScene process(final DesignerModel model,
+                                      final ModelProcessingInformation information,
+                                      final Logger logger,
+                                      final CodeGenerationProgress progress) {
+    final ModelProcessingScene validatedScene = validateModel(model, information);
+    if (validatedScene.isFailed()) {
+      return validatedScene;
+    }
+    final Optional<String> resultKey = resultKeyOf(model, information);
+    final ModelProcessingScene cachedScene = reuseCachedResult(validatedScene, resultKey);
+    if (cachedScene.isFinished()) {
+      return cachedScene;
+    }
+    final ModelProcessingScene mappedScene = mapModel(validatedScene, logger);
+    if (mappedScene.isFailed()) {
+      return mappedScene;
+    }
+    return processSteps(mappedScene, resultKey, logger, progress);
+  }
+
+  public List<ModelProcessingScene> processAll(final List<DesignerModel> models,
+                                              final ModelProcessingInformation information,
+                                              final Logger logger) {
+    final List<CompletableFuture<ModelProcessingScene>> scenes =
+            models.stream().map(model -> CompletableFuture.supplyAsync(() ->
+                    process(model, information, logger, CodeGenerationProgress.NONE), BATCH_POOL))
+                    .collect(Collectors.toList());
+
+    return scenes.stream().map(CompletableFuture::join).collect(Collectors.toList());
   }
 
   private Completes<ModelProcessingScene> validate(final DesignerModel model,
                                                    final ModelProcessingInformation information) {
+    final ModelProcessingScene scene = validateModel(model, information);
+    return scene.isFailed() ? Completes.withFailure(scene) : Completes.withSuccess(scene);
+  }
+
+  private Completes<ModelProcessingScene> generateValidated(final ModelProcessingScene scene,
+                                                            final Optional<String> resultKey,
+                                                            final Logger logger) {
+    final ModelProcessingScene cachedScene = reuseCachedResult(scene, resultKey);
+    if (cachedScene.isFinished()) {
+      return Completes.withSuccess(cachedScene);
+    }
+    final ModelProcessingScene mappedScene = mapModel(scene, logger);
+    if (mappedScene.isFailed()) {
+      return Completes.withFailure(mappedScene);
+    }
+    return Completes.withSuccess(processSteps(mappedScene, resultKey, logger, CodeGenerationProgress.NONE));
+  }
+
+  private ModelProcessingScene validateModel(final DesignerModel model,
+                                             final ModelProcessingInformation information) {
     final ModelProcessingScene scene = ModelProcessingScene.with(model, information);
     final String validationErrors = String.join(", ", model.validate());
     if(validationErrors.isEmpty()) {
-      return Completes.withSuccess(scene);
+      return scene;
     }
-    return Completes.withFailure(scene.onValidationFail(validationErrors));
+    return scene.onValidationFail(validationErrors);
   }
 
-  private Completes<ModelProcessingScene> mapContext(final ModelProcessingScene scene,
-                                                     final Logger logger) {
+  private ModelProcessingScene mapModel(final ModelProcessingScene scene,
+                                        final Logger logger) {
+    final Measurement measurement = MetricsRegistry.instance().measure(MetricsRegistry.CONTEXT_MAPPING);
     try {
       final CodeGenerationContext codeGenerationContext =
               CodeGenerationContextMapper.map(scene.designerModel,
-                      scene.information.generationTarget, logger);
+                      settings.with(scene.information.generationTarget), logger);
 
-      return Completes.withSuccess(scene.addCodeGenerationContext(codeGenerationContext));
+      return scene.addCodeGenerationContext(codeGenerationContext);
     } catch (final Exception exception) {
       exception.printStackTrace();
-      return Completes.withFailure(scene.onContextMappingFail(exception));
+      return scene.onContextMappingFail(exception);
+    } finally {
+      measurement.stop();
+    }
+  }
+
+  private Optional<String> resultKeyOf(final DesignerModel model,
+                                       final ModelProcessingInformation information) {
+    if (!information.generationTarget.supportDownload() || model.hasExchanges()
+            || !GenerationResultCache.instance().isEnabled()) {
+      return Optional.empty();
     }
+    return Optional.of(GenerationResultCache.keyOf(model, information));
   }
 
-  private ModelProcessingScene processSteps(final ModelProcessingScene scene) {
+  private ModelProcessingScene reuseCachedResult(final ModelProcessingScene scene,
+                                                 final Optional<String> resultKey) {
+    return resultKey.filter(key -> GenerationResultCache.instance().lookup(key))
+            .map(scene::onCodeGenerationSucceed).orElse(scene);
+  }
+
+  private ModelProcessingScene processSteps(final ModelProcessingScene scene,
+                                            final Optional<String> resultKey,
+                                            final Logger logger,
+                                            final CodeGenerationProgress progress) {
     try {
-      codeGenerationSteps.stream()
-              .filter(step -> step.shouldProcess(scene.codeGenerationContext))
-              .forEach(step -> step.process(scene.codeGenerationContext));
+      codeGenerationStepScheduler.run(scene.codeGenerationContext, logger, progress.and(CodeGenerationStepTimings.instance()));
 
-      return scene.onCodeGenerationSucceed();
+      final String generationId = scene.codeGenerationContext.generationId;
+      return resultKey.filter(key -> cacheResult(key, generationId))
+              .map(scene::onCodeGenerationSucceed).orElseGet(scene::onCodeGenerationSucceed);
     } catch (final Exception exception) {
       exception.printStackTrace();
       switch(exception.getClass().getSimpleName()) {
@@ -77,6 +167,24 @@ public class ModelProcessingManager {
         default:
           return scene.onCodeGenerationFail(exception);
       }
+    } finally {
+      CodeGenerationParameterIndex.unseal(scene.codeGenerationContext);
+      StagingWorkspaceManager.instance().release(scene.codeGenerationContext.generationId);
+    }
+  }
+
+  private boolean cacheResult(final String resultKey, final String generationId) {
+    try {
+      final Optional<ProjectArchive> archive = ProjectArchive.of(generationId);
+      if (!archive.isPresent()) {
+        return false;
+      }
+      try (final ProjectArchive storedArchive = archive.get()) {
+        return GenerationResultCache.instance().store(resultKey, storedArchive);
+      }
+    } catch (final IOException exception) {
+      exception.printStackTrace();
+      return false;
     }
   }
 
@@ -10,28 +10,36 @@ import io.vlingo.xoom.codegen.CodeGenerationContext;
 import io.vlingo.xoom.designer.infrastructure.restapi.data.DesignerModel;
 import io.vlingo.xoom.designer.infrastructure.restapi.report.ModelProcessingReport;
 
-import java.io.IOException;
-
 public class ModelProcessingScene {
 
   public final DesignerModel designerModel;
   public final ModelProcessingInformation information;
   public final CodeGenerationContext codeGenerationContext;
   public final ModelProcessingReport report;
+  public final String archiveId;
 
   public static ModelProcessingScene with(final DesignerModel designerModel,
                                           final ModelProcessingInformation information) {
-    return new ModelProcessingScene(designerModel, information, null, null);
+    return new ModelProcessingScene(designerModel, information, null, null, null);
   }
 
   private ModelProcessingScene(final DesignerModel model,
                                final ModelProcessingInformation information,
                                final CodeGenerationContext context,
                                final ModelProcessingReport report) {
+    this(model, information, context, report, null);
+  }
+
+  private ModelProcessingScene(final DesignerModel model,
+                               final ModelProcessingInformation information,
+                               final CodeGenerationContext context,
+                               final ModelProcessingReport report,
+                               final String archiveId) {
     this.designerModel = model;
     this.codeGenerationContext = context;
     this.information = information;
     this.report = report;
+    this.archiveId = archiveId;
   }
 
   public ModelProcessingScene onContextMappingFail(final Exception exception) {
@@ -48,9 +56,14 @@ public class ModelProcessingScene {
     return new ModelProcessingScene(this.designerModel, this.information, codeGenerationContext, null);
   }
 
-  public ModelProcessingScene onCodeGenerationSucceed() throws IOException {
+  public ModelProcessingScene onCodeGenerationSucceed() {
     final ModelProcessingReport report = ModelProcessingReport.onCodeGenerationSucceed(codeGenerationContext, this.information);
-    return new ModelProcessingScene(this.designerModel, this.information, this.codeGenerationContext, report);
+    return new ModelProcessingScene(this.designerModel, this.information, this.codeGenerationContext, report, codeGenerationContext.generationId);
+  }
+
+  public ModelProcessingScene onCodeGenerationSucceed(final String archiveId) {
+    final ModelProcessingReport report = ModelProcessingReport.onCodeGenerationSucceed(archiveId, this.information);
+    return new ModelProcessingScene(this.designerModel, this.information, this.codeGenerationContext, report, archiveId);
   }
 
   public ModelProcessingScene onSchemaPullFail() {
@@ -68,6 +81,10 @@ public class ModelProcessingScene {
     return new ModelProcessingScene(this.designerModel, this.information, this.codeGenerationContext, report);
   }
 
+  public boolean isFinished() {
+    return report != null;
+  }
+
   public boolean isFailed() {
     return report == null ? false : report.status.failed();
   }
@@ -0,0 +1,45 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.codegen;
+
+import io.vlingo.xoom.codegen.CodeGenerationContext;
+import io.vlingo.xoom.codegen.content.Content;
+import io.vlingo.xoom.codegen.dialect.Dialect;
+import io.vlingo.xoom.codegen.template.TemplateProcessingStep;
+import io.vlingo.xoom.designer.infrastructure.metrics.MetricsRegistry;
+import io.vlingo.xoom.designer.infrastructure.metrics.Utf8;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+public abstract class CachedTemplateProcessingStep extends TemplateProcessingStep {
+
+  @Override
+  public void process(final CodeGenerationContext context) {
+    final Dialect dialect = resolveDialect(context);
+    final GenerationManifest manifest = GenerationManifest.of(context);
+    final Optional<InMemoryProjectTree> projectTree = InMemoryProjectTree.of(context);
+    final MetricsRegistry metrics = MetricsRegistry.instance();
+    buildTemplatesData(context).forEach(templateData -> {
+      final Path outputPath = CodeGenerationContextFactory.outputPathOf(context, templateData, dialect);
+      final Optional<String> fingerprint = manifest.isEnabled() ? TemplateFingerprint.of(templateData, dialect) : Optional.empty();
+      final String code = manifest.reusableOutput(outputPath, fingerprint)
+              .orElseGet(() -> TemplateCache.instance().process(templateData, dialect));
+
+      metrics.increment(MetricsRegistry.RENDERED_BYTES, Utf8.lengthOf(code));
+
+      context.addContent(templateData.standard(), CodeGenerationContextFactory.outputFileOf(context, templateData, dialect), code);
+
+      final List<Content> contents = context.contents();
+      final Content content = contents.get(contents.size() - 1);
+      manifest.track(content, outputPath, fingerprint, code);
+      projectTree.ifPresent(tree -> tree.track(content, outputPath, code));
+    });
+  }
+
+}
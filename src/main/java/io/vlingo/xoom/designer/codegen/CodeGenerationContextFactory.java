@@ -8,9 +8,14 @@ package io.vlingo.xoom.designer.codegen;
 
 import io.vlingo.xoom.actors.Logger;
 import io.vlingo.xoom.codegen.CodeGenerationContext;
+import io.vlingo.xoom.codegen.dialect.Dialect;
 import io.vlingo.xoom.codegen.parameter.CodeGenerationParameters;
 import io.vlingo.xoom.codegen.template.OutputFile;
 import io.vlingo.xoom.codegen.template.OutputFileInstantiator;
+import io.vlingo.xoom.codegen.template.TemplateData;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 import static io.vlingo.xoom.designer.codegen.java.TemplateParameter.OFFSET;
 
@@ -23,19 +28,29 @@ public class CodeGenerationContextFactory {
                     .outputFileInstantiator(outputFileInstantiator());
   }
 
-  private static OutputFileInstantiator outputFileInstantiator() {
-    return (context, data, dialect) -> {
-      final String absolutePath =
-              context.fileLocationResolver().resolve(context, dialect, data);
+  public static OutputFile outputFileOf(final CodeGenerationContext context,
+                                        final TemplateData data,
+                                        final Dialect dialect) {
+    final String absolutePath =
+            context.fileLocationResolver().resolve(context, dialect, data);
 
-      final String fileName =
-              dialect.formatFilename(data.filename());
+    final String fileName =
+            dialect.formatFilename(data.filename());
 
-      final String offset =
-              data.parameters().find(OFFSET);
+    final String offset =
+            data.parameters().find(OFFSET);
+
+    return new OutputFile(absolutePath, fileName, offset, data.isPlaceholder());
+  }
 
-      return new OutputFile(absolutePath, fileName, offset, data.isPlaceholder());
-    };
+  public static Path outputPathOf(final CodeGenerationContext context,
+                                  final TemplateData data,
+                                  final Dialect dialect) {
+    return Paths.get(context.fileLocationResolver().resolve(context, dialect, data), dialect.formatFilename(data.filename()));
+  }
+
+  private static OutputFileInstantiator outputFileInstantiator() {
+    return CodeGenerationContextFactory::outputFileOf;
   }
 
 }
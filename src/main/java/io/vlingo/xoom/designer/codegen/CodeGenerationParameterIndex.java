@@ -0,0 +1,182 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.codegen;
+
+import io.vlingo.xoom.codegen.CodeGenerationContext;
+import io.vlingo.xoom.codegen.parameter.CodeGenerationParameter;
+import io.vlingo.xoom.codegen.parameter.ParameterLabel;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class CodeGenerationParameterIndex {
+
+  private static final Map<NodeKey, Map<NodeKey, CodeGenerationParameterIndex>> sealedTrees = new ConcurrentHashMap<>();
+  private static final ThreadLocal<ValueIndex> lastUsedValues = new ThreadLocal<>();
+
+  private final CodeGenerationParameter node;
+  private final Map<ParameterLabel, List<CodeGenerationParameter>> related = new ConcurrentHashMap<>();
+  private final Map<ParameterLabel, Map<String, CodeGenerationParameter>> relatedByValue = new ConcurrentHashMap<>();
+
+  public static void seal(final CodeGenerationContext context) {
+    sealableParametersOf(context).forEach(CodeGenerationParameterIndex::seal);
+  }
+
+  public static void seal(final CodeGenerationParameter node) {
+    sealedTrees.computeIfAbsent(new NodeKey(node), key -> new ConcurrentHashMap<>());
+  }
+
+  public static void unseal(final CodeGenerationContext context) {
+    sealableParametersOf(context).forEach(CodeGenerationParameterIndex::unseal);
+  }
+
+  public static void unseal(final CodeGenerationParameter node) {
+    sealedTrees.remove(new NodeKey(node));
+  }
+
+  public static CodeGenerationParameterIndex of(final CodeGenerationParameter node) {
+    final Map<NodeKey, CodeGenerationParameterIndex> sealedTree = sealedTreeOf(node);
+    if (sealedTree == null) {
+      return new CodeGenerationParameterIndex(node);
+    }
+    return sealedTree.computeIfAbsent(new NodeKey(node), key -> new CodeGenerationParameterIndex(node));
+  }
+
+  public static Stream<CodeGenerationParameter> retrieveAllRelated(final CodeGenerationParameter node,
+                                                                   final ParameterLabel label) {
+    return of(node).related(label).stream();
+  }
+
+  public static Optional<CodeGenerationParameter> findRelated(final CodeGenerationParameter node,
+                                                              final ParameterLabel label,
+                                                              final String value) {
+    return of(node).find(label, value);
+  }
+
+  public static CodeGenerationParameter relate(final CodeGenerationParameter node,
+                                               final CodeGenerationParameter... relatedParameters) {
+    node.relate(relatedParameters);
+    final Map<NodeKey, CodeGenerationParameterIndex> sealedTree = sealedTreeOf(node);
+    final CodeGenerationParameterIndex sealed = sealedTree == null ? null : sealedTree.get(new NodeKey(node));
+    if (sealed != null) {
+      Stream.of(relatedParameters).map(parameter -> parameter.label).distinct().forEach(sealed::invalidate);
+    }
+    return node;
+  }
+
+  public static Optional<CodeGenerationParameter> findByValue(final List<CodeGenerationParameter> parameters,
+                                                              final String value) {
+    final ValueIndex current = lastUsedValues.get();
+    if (current != null && current.source.get() == parameters) {
+      return Optional.ofNullable(current.sync(parameters).byValue.get(value));
+    }
+    final ValueIndex index = new ValueIndex(parameters).sync(parameters);
+    lastUsedValues.set(index);
+    return Optional.ofNullable(index.byValue.get(value));
+  }
+
+  public static void release() {
+    lastUsedValues.remove();
+  }
+
+  private CodeGenerationParameterIndex(final CodeGenerationParameter node) {
+    this.node = node;
+  }
+
+  public List<CodeGenerationParameter> related(final ParameterLabel label) {
+    return related.computeIfAbsent(label, key ->
+            Collections.unmodifiableList(node.retrieveAllRelated(key).collect(Collectors.toList())));
+  }
+
+  public Optional<CodeGenerationParameter> find(final ParameterLabel label, final String value) {
+    final Map<String, CodeGenerationParameter> byValue =
+            relatedByValue.computeIfAbsent(label, key -> indexByValue(related(key)));
+
+    return Optional.ofNullable(byValue.get(value));
+  }
+
+  private void invalidate(final ParameterLabel label) {
+    related.remove(label);
+    relatedByValue.remove(label);
+  }
+
+  private static Stream<CodeGenerationParameter> sealableParametersOf(final CodeGenerationContext context) {
+    return Stream.concat(context.parametersOf(Label.AGGREGATE), context.parametersOf(Label.VALUE_OBJECT));
+  }
+
+  private static Map<NodeKey, CodeGenerationParameterIndex> sealedTreeOf(final CodeGenerationParameter node) {
+    for (CodeGenerationParameter current = node; current != null; current = current.parent()) {
+      final Map<NodeKey, CodeGenerationParameterIndex> sealedTree = sealedTrees.get(new NodeKey(current));
+      if (sealedTree != null) {
+        return sealedTree;
+      }
+    }
+    return null;
+  }
+
+  private static Map<String, CodeGenerationParameter> indexByValue(final List<CodeGenerationParameter> parameters) {
+    final Map<String, CodeGenerationParameter> byValue = new HashMap<>();
+    parameters.forEach(parameter -> byValue.putIfAbsent(parameter.value, parameter));
+    return byValue;
+  }
+
+  private static class NodeKey {
+
+    private final CodeGenerationParameter node;
+
+    NodeKey(final CodeGenerationParameter node) {
+      this.node = node;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (this == other) {
+        return true;
+      }
+      return other instanceof NodeKey && node == ((NodeKey) other).node;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(node);
+    }
+
+  }
+
+  private static class ValueIndex {
+
+    private final WeakReference<List<CodeGenerationParameter>> source;
+    private final Map<String, CodeGenerationParameter> byValue = new HashMap<>();
+    private int indexedParameters;
+
+    private ValueIndex(final List<CodeGenerationParameter> parameters) {
+      this.source = new WeakReference<>(parameters);
+    }
+
+    private ValueIndex sync(final List<CodeGenerationParameter> parameters) {
+      if (parameters.size() < indexedParameters) {
+        byValue.clear();
+        indexedParameters = 0;
+      }
+      if (parameters.size() > indexedParameters) {
+        parameters.subList(indexedParameters, parameters.size())
+                .forEach(parameter -> byValue.putIfAbsent(parameter.value, parameter));
+        indexedParameters = parameters.size();
+      }
+      return this;
+    }
+
+  }
+
+}
@@ -0,0 +1,65 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.codegen;
+
+import io.vlingo.xoom.codegen.CodeGenerationStep;
+
+public interface CodeGenerationProgress {
+
+  CodeGenerationProgress NONE = new CodeGenerationProgress() {};
+
+  default void generationStarted(final int totalSteps) {
+  }
+
+  default void stepStarted(final CodeGenerationStep step) {
+  }
+
+  default void stepCompleted(final CodeGenerationStep step, final long elapsedNanos, final int producedContents) {
+  }
+
+  default void stepSkipped(final CodeGenerationStep step, final long elapsedNanos) {
+  }
+
+  default void stepAllocated(final CodeGenerationStep step, final long allocatedBytes) {
+  }
+
+  default CodeGenerationProgress and(final CodeGenerationProgress other) {
+    final CodeGenerationProgress self = this;
+    return new CodeGenerationProgress() {
+      @Override
+      public void generationStarted(final int totalSteps) {
+        self.generationStarted(totalSteps);
+        other.generationStarted(totalSteps);
+      }
+
+      @Override
+      public void stepStarted(final CodeGenerationStep step) {
+        self.stepStarted(step);
+        other.stepStarted(step);
+      }
+
+      @Override
+      public void stepCompleted(final CodeGenerationStep step, final long elapsedNanos, final int producedContents) {
+        self.stepCompleted(step, elapsedNanos, producedContents);
+        other.stepCompleted(step, elapsedNanos, producedContents);
+      }
+
+      @Override
+      public void stepSkipped(final CodeGenerationStep step, final long elapsedNanos) {
+        self.stepSkipped(step, elapsedNanos);
+        other.stepSkipped(step, elapsedNanos);
+      }
+
+      @Override
+      public void stepAllocated(final CodeGenerationStep step, final long allocatedBytes) {
+        self.stepAllocated(step, allocatedBytes);
+        other.stepAllocated(step, allocatedBytes);
+      }
+    };
+  }
+
+}
@@ -0,0 +1,209 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.codegen;
+
+import io.vlingo.xoom.actors.Logger;
+import io.vlingo.xoom.codegen.CodeGenerationContext;
+import io.vlingo.xoom.codegen.CodeGenerationStep;
+import io.vlingo.xoom.codegen.content.Content;
+import io.vlingo.xoom.designer.Configuration;
+import io.vlingo.xoom.designer.infrastructure.metrics.AllocationMeter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+public class CodeGenerationStepScheduler {
+
+  private static final ForkJoinPool POOL = new ForkJoinPool(Configuration.resolveCodeGenerationParallelism());
+
+  private final Executor executor;
+  private final List<CodeGenerationStep> steps = new ArrayList<>();
+  private final List<List<Integer>> dependencies = new ArrayList<>();
+
+  public static CodeGenerationStepScheduler of(final List<CodeGenerationStep> steps) {
+    return new CodeGenerationStepScheduler(steps, POOL);
+  }
+
+  CodeGenerationStepScheduler(final List<CodeGenerationStep> steps, final Executor executor) {
+    this.executor = executor;
+    this.steps.addAll(steps);
+    for (int index = 0; index < steps.size(); ++index) {
+      this.dependencies.add(resolveDependencies(index));
+    }
+  }
+
+  public void run(final CodeGenerationContext context, final Logger logger) {
+    run(context, logger, CodeGenerationProgress.NONE);
+  }
+
+  public void run(final CodeGenerationContext context, final Logger logger, final CodeGenerationProgress progress) {
+    progress.generationStarted(steps.size());
+
+    final List<CompletableFuture<Void>> commits = new ArrayList<>();
+
+    CompletableFuture<Void> lastCommit = CompletableFuture.completedFuture(null);
+
+    for (int index = 0; index < steps.size(); ++index) {
+      final CodeGenerationStep step = steps.get(index);
+      final CompletableFuture<Void> commit;
+
+      if (step instanceof ContentDependentStep) {
+        final CompletableFuture<List<Content>> execution =
+                awaitDependencies(index, commits).thenApplyAsync(ignored -> processFork(step, context, logger, progress), executor);
+
+        commit = execution.thenCombine(lastCommit, (contents, ignored) -> merge((ContentDependentStep) step, context, contents));
+      } else {
+        commit = lastCommit.thenRunAsync(() -> processInPlace(step, context, progress), executor);
+      }
+
+      commits.add(commit);
+      lastCommit = commit;
+    }
+
+    try {
+      lastCommit.join();
+    } catch (final CompletionException exception) {
+      if (exception.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) exception.getCause();
+      }
+      if (exception.getCause() instanceof Error) {
+        throw (Error) exception.getCause();
+      }
+      throw exception;
+    }
+  }
+
+  List<Integer> dependenciesOf(final int stepIndex) {
+    return dependencies.get(stepIndex);
+  }
+
+  private List<Integer> resolveDependencies(final int stepIndex) {
+    final CodeGenerationStep step = steps.get(stepIndex);
+    final List<Integer> indexes = new ArrayList<>();
+
+    for (int index = stepIndex - 1; index >= 0; --index) {
+      final CodeGenerationStep predecessor = steps.get(index);
+      if (!(step instanceof ContentDependentStep) || !(predecessor instanceof ContentDependentStep)) {
+        indexes.add(index);
+        break;
+      }
+      if (!Collections.disjoint(((ContentDependentStep) predecessor).produces(), ((ContentDependentStep) step).consumes())) {
+        indexes.add(index);
+      }
+    }
+
+    Collections.reverse(indexes);
+    return Collections.unmodifiableList(indexes);
+  }
+
+  private CompletableFuture<Void> awaitDependencies(final int stepIndex,
+                                                    final List<CompletableFuture<Void>> commits) {
+    return CompletableFuture.allOf(dependencies.get(stepIndex).stream()
+            .map(commits::get).toArray(CompletableFuture[]::new));
+  }
+
+  private List<Content> processFork(final CodeGenerationStep step,
+                                    final CodeGenerationContext context,
+                                    final Logger logger,
+                                    final CodeGenerationProgress progress) {
+    final Content[] snapshot;
+    synchronized (context) {
+      snapshot = context.contents().toArray(new Content[0]);
+    }
+
+    final CodeGenerationContext fork =
+            CodeGenerationContextFactory.build(logger, context.parameters()).contents(snapshot);
+
+    progress.stepStarted(step);
+
+    final long allocatedBytes = AllocationMeter.currentThreadAllocatedBytes();
+    final long startedOn = System.nanoTime();
+
+    final boolean processed;
+    try {
+      processed = step.shouldProcess(fork);
+      if (processed) {
+        step.process(fork);
+      }
+    } finally {
+      ContentIndex.release();
+      CodeGenerationParameterIndex.release();
+    }
+
+    final long elapsedNanos = System.nanoTime() - startedOn;
+
+    notifyOutcome(progress, step, processed, elapsedNanos, AllocationMeter.allocatedSince(allocatedBytes),
+            fork.contents().size() - snapshot.length);
+
+    final List<Content> contents = fork.contents();
+    return new ArrayList<>(contents.subList(snapshot.length, contents.size()));
+  }
+
+  private Void merge(final ContentDependentStep step,
+                     final CodeGenerationContext context,
+                     final List<Content> contents) {
+    contents.stream().filter(content -> !step.produces().contains(content.standard)).findFirst().ifPresent(content -> {
+      throw new IllegalStateException(step.getClass().getSimpleName() + " produced undeclared content: " + content.standard);
+    });
+
+    synchronized (context) {
+      context.contents(contents.toArray(new Content[0]));
+    }
+    return null;
+  }
+
+  private void processInPlace(final CodeGenerationStep step,
+                              final CodeGenerationContext context,
+                              final CodeGenerationProgress progress) {
+    progress.stepStarted(step);
+
+    final long allocatedBytes = AllocationMeter.currentThreadAllocatedBytes();
+    final long startedOn = System.nanoTime();
+
+    final boolean processed;
+    final int producedContents;
+    synchronized (context) {
+      final int existingContents = context.contents().size();
+      try {
+        processed = step.shouldProcess(context);
+        if (processed) {
+          step.process(context);
+        }
+      } finally {
+        ContentIndex.release();
+        CodeGenerationParameterIndex.release();
+      }
+      producedContents = context.contents().size() - existingContents;
+    }
+
+    final long elapsedNanos = System.nanoTime() - startedOn;
+
+    notifyOutcome(progress, step, processed, elapsedNanos, AllocationMeter.allocatedSince(allocatedBytes), producedContents);
+  }
+
+  private void notifyOutcome(final CodeGenerationProgress progress,
+                             final CodeGenerationStep step,
+                             final boolean processed,
+                             final long elapsedNanos,
+                             final long allocatedBytes,
+                             final int producedContents) {
+    if (allocatedBytes != AllocationMeter.UNSUPPORTED) {
+      progress.stepAllocated(step, allocatedBytes);
+    }
+    if (processed) {
+      progress.stepCompleted(step, elapsedNanos, producedContents);
+    } else {
+      progress.stepSkipped(step, elapsedNanos);
+    }
+  }
+
+}
@@ -0,0 +1,35 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.codegen;
+
+import io.vlingo.xoom.codegen.CodeGenerationStep;
+import io.vlingo.xoom.codegen.template.TemplateStandard;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public interface ContentDependentStep extends CodeGenerationStep {
+
+  Set<TemplateStandard> consumes();
+
+  Set<TemplateStandard> produces();
+
+  static Set<TemplateStandard> standards(final TemplateStandard... standards) {
+    return Collections.unmodifiableSet(new HashSet<>(Arrays.asList(standards)));
+  }
+
+  @SafeVarargs
+  static Set<TemplateStandard> union(final Set<TemplateStandard>... groups) {
+    final Set<TemplateStandard> standards = new HashSet<>();
+    Stream.of(groups).forEach(standards::addAll);
+    return Collections.unmodifiableSet(standards);
+  }
+
+}
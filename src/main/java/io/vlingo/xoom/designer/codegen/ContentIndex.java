@@ -0,0 +1,130 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.codegen;
+
+import io.vlingo.xoom.codegen.content.Content;
+import io.vlingo.xoom.codegen.content.ContentQuery;
+import io.vlingo.xoom.codegen.template.TemplateStandard;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class ContentIndex {
+
+  private static final ThreadLocal<ContentIndex> lastUsed = new ThreadLocal<>();
+
+  private final WeakReference<List<Content>> source;
+  private final Map<TemplateStandard, List<Content>> byStandard = new HashMap<>();
+  private final Map<TemplateStandard, Map<String, Content>> byClassName = new HashMap<>();
+  private final Map<Content, Integer> positions = new IdentityHashMap<>();
+  private int indexedContents;
+
+  public static ContentIndex of(final List<Content> contents) {
+    final ContentIndex current = lastUsed.get();
+    if (current != null && current.source.get() == contents) {
+      return current.sync(contents);
+    }
+    final ContentIndex index = new ContentIndex(contents).sync(contents);
+    lastUsed.set(index);
+    return index;
+  }
+
+  public static void release() {
+    lastUsed.remove();
+  }
+
+  public static boolean exists(final TemplateStandard standard, final List<Content> contents) {
+    return !of(contents).contentsOf(standard).isEmpty();
+  }
+
+  public static Stream<Content> filterByStandard(final TemplateStandard standard, final List<Content> contents) {
+    return of(contents).contentsOf(standard).stream();
+  }
+
+  public static String findPackage(final TemplateStandard standard, final List<Content> contents) {
+    return ContentQuery.findPackage(standard, of(contents).contentsOf(standard));
+  }
+
+  public static String findPackage(final TemplateStandard standard, final String className, final List<Content> contents) {
+    return ContentQuery.findPackage(standard, className, of(contents).contentsOf(standard, className));
+  }
+
+  public static Set<String> findClassNames(final TemplateStandard standard, final List<Content> contents) {
+    return ContentQuery.findClassNames(standard, of(contents).contentsOf(standard));
+  }
+
+  public static Set<String> findClassNames(final TemplateStandard standard, final String packageName, final List<Content> contents) {
+    return ContentQuery.findClassNames(standard, packageName, of(contents).contentsOf(standard));
+  }
+
+  public static Set<String> findClassNames(final List<Content> contents, final TemplateStandard... standards) {
+    return ContentQuery.findClassNames(of(contents).contentsOf(standards), standards);
+  }
+
+  public static String findFullyQualifiedClassName(final TemplateStandard standard, final String className, final List<Content> contents) {
+    return ContentQuery.findFullyQualifiedClassName(standard, className, of(contents).contentsOf(standard, className));
+  }
+
+  public static Set<String> findFullyQualifiedClassNames(final TemplateStandard standard, final List<Content> contents) {
+    return ContentQuery.findFullyQualifiedClassNames(standard, of(contents).contentsOf(standard));
+  }
+
+  public static Set<String> findFullyQualifiedClassNames(final List<Content> contents, final TemplateStandard... standards) {
+    return ContentQuery.findFullyQualifiedClassNames(of(contents).contentsOf(standards), standards);
+  }
+
+  private ContentIndex(final List<Content> contents) {
+    this.source = new WeakReference<>(contents);
+  }
+
+  List<Content> contentsOf(final TemplateStandard standard) {
+    return byStandard.getOrDefault(standard, Collections.emptyList());
+  }
+
+  List<Content> contentsOf(final TemplateStandard standard, final String className) {
+    final Content content = byClassName.getOrDefault(standard, Collections.emptyMap()).get(className);
+    return content == null ? contentsOf(standard) : Collections.singletonList(content);
+  }
+
+  List<Content> contentsOf(final TemplateStandard... standards) {
+    if (standards.length == 1) {
+      return contentsOf(standards[0]);
+    }
+    return Stream.of(standards).distinct().flatMap(standard -> contentsOf(standard).stream())
+            .sorted(Comparator.comparing(positions::get)).collect(Collectors.toList());
+  }
+
+  private ContentIndex sync(final List<Content> contents) {
+    if (contents.size() < indexedContents) {
+      byStandard.clear();
+      byClassName.clear();
+      positions.clear();
+      indexedContents = 0;
+    }
+    if (contents.size() > indexedContents) {
+      contents.subList(indexedContents, contents.size()).forEach(this::add);
+      indexedContents = contents.size();
+    }
+    return this;
+  }
+
+  private void add(final Content content) {
+    positions.put(content, positions.size());
+    byStandard.computeIfAbsent(content.standard, standard -> new ArrayList<>()).add(content);
+    byClassName.computeIfAbsent(content.standard, standard -> new HashMap<>()).putIfAbsent(content.retrieveName(), content);
+  }
+
+}
@@ -0,0 +1,164 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.codegen;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import io.vlingo.xoom.codegen.CodeGenerationContext;
+import io.vlingo.xoom.codegen.content.Content;
+import io.vlingo.xoom.designer.ModelProcessingException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class GenerationManifest {
+
+  private static final String FILENAME_SUFFIX = "-designer-manifest.json";
+  private static final Type ENTRIES_TYPE = new TypeToken<Map<String, Entry>>() {}.getType();
+  private static final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+
+  private final Path targetFolder;
+  private final Path file;
+  private final Map<String, Entry> previousEntries;
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private final Set<Content> unchangedContents = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
+  public static GenerationManifest resolve(final GenerationTarget generationTarget,
+                                           final Path targetFolder,
+                                           final String applicationName) {
+    if (generationTarget.supportDownload()) {
+      return disabled();
+    }
+    return load(targetFolder, applicationName);
+  }
+
+  public static GenerationManifest load(final Path targetFolder, final String applicationName) {
+    final Path folder = targetFolder.toAbsolutePath().normalize();
+    final Path file = folder.resolve(applicationName + FILENAME_SUFFIX);
+    return new GenerationManifest(folder, file, readEntries(file));
+  }
+
+  public static GenerationManifest disabled() {
+    return new GenerationManifest(null, null, Collections.emptyMap());
+  }
+
+  public static GenerationManifest of(final CodeGenerationContext context) {
+    final GenerationManifest manifest = context.parameterObjectOf(Label.GENERATION_MANIFEST);
+    return manifest == null ? disabled() : manifest;
+  }
+
+  private GenerationManifest(final Path targetFolder,
+                             final Path file,
+                             final Map<String, Entry> previousEntries) {
+    this.targetFolder = targetFolder;
+    this.file = file;
+    this.previousEntries = previousEntries;
+  }
+
+  public Optional<String> reusableOutput(final Path outputPath, final Optional<String> fingerprint) {
+    if (!isEnabled() || !fingerprint.isPresent()) {
+      return Optional.empty();
+    }
+    final Entry previous = previousEntries.get(keyOf(outputPath));
+    if (previous == null || !fingerprint.get().equals(previous.fingerprint)) {
+      return Optional.empty();
+    }
+    return readUnchanged(outputPath, previous);
+  }
+
+  public void track(final Content content,
+                    final Path outputPath,
+                    final Optional<String> fingerprint,
+                    final String text) {
+    if (!isEnabled()) {
+      return;
+    }
+    final String key = keyOf(outputPath);
+    final Entry entry = new Entry(fingerprint.orElse(null), TemplateFingerprint.digestOf(text));
+    final Entry previous = previousEntries.get(key);
+    if (previous != null && entry.contentHash.equals(previous.contentHash) && readUnchanged(outputPath, previous).isPresent()) {
+      unchangedContents.add(content);
+    }
+    entries.put(key, entry);
+  }
+
+  public boolean isUnchanged(final Content content) {
+    return unchangedContents.contains(content);
+  }
+
+  public int unchangedFiles() {
+    return unchangedContents.size();
+  }
+
+  public void save() {
+    if (!isEnabled()) {
+      return;
+    }
+    try {
+      Files.createDirectories(file.getParent());
+      Files.write(file, gson.toJson(new TreeMap<>(entries), ENTRIES_TYPE).getBytes(StandardCharsets.UTF_8));
+    } catch (final IOException e) {
+      throw new ModelProcessingException(e);
+    }
+  }
+
+  public boolean isEnabled() {
+    return file != null;
+  }
+
+  private Optional<String> readUnchanged(final Path outputPath, final Entry previous) {
+    try {
+      if (!Files.isRegularFile(outputPath)) {
+        return Optional.empty();
+      }
+      final String text = new String(Files.readAllBytes(outputPath), StandardCharsets.UTF_8);
+      return TemplateFingerprint.digestOf(text).equals(previous.contentHash) ? Optional.of(text) : Optional.empty();
+    } catch (final IOException e) {
+      return Optional.empty();
+    }
+  }
+
+  private String keyOf(final Path outputPath) {
+    return targetFolder.relativize(outputPath.toAbsolutePath().normalize()).toString().replace('\\', '/');
+  }
+
+  private static Map<String, Entry> readEntries(final Path file) {
+    if (!Files.isRegularFile(file)) {
+      return Collections.emptyMap();
+    }
+    try {
+      final Map<String, Entry> entries = gson.fromJson(new String(Files.readAllBytes(file), StandardCharsets.UTF_8), ENTRIES_TYPE);
+      return entries == null ? Collections.emptyMap() : entries;
+    } catch (final IOException | RuntimeException e) {
+      return Collections.emptyMap();
+    }
+  }
+
+  static class Entry {
+
+    final String fingerprint;
+    final String contentHash;
+
+    Entry(final String fingerprint, final String contentHash) {
+      this.fingerprint = fingerprint;
+      this.contentHash = contentHash;
+    }
+
+  }
+
+}
@@ -0,0 +1,74 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.codegen;
+
+import io.vlingo.xoom.codegen.CodeGenerationContext;
+import io.vlingo.xoom.codegen.content.CodeElementFormatter;
+import io.vlingo.xoom.common.Tuple2;
+import io.vlingo.xoom.designer.Configuration;
+import io.vlingo.xoom.designer.infrastructure.StagingFolder;
+import io.vlingo.xoom.turbo.ComponentRegistry;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+public class GenerationSettings {
+
+  public final GenerationTarget target;
+  public final Path stagingFolder;
+  public final CodeElementFormatter codeFormatter;
+  public final Optional<Tuple2<String, Integer>> schemataServiceDNS;
+
+  public static void resolve(final GenerationTarget target) {
+    if (!ComponentRegistry.has(GenerationSettings.class)) {
+      ComponentRegistry.register(GenerationSettings.class,
+              with(target, StagingFolder.path(), ComponentRegistry.withName("defaultCodeFormatter"),
+                      Configuration.resolveSchemataServiceDNS()));
+    }
+  }
+
+  public static GenerationSettings instance() {
+    if (!ComponentRegistry.has(GenerationSettings.class)) {
+      throw new IllegalStateException("Unresolved Generation Settings");
+    }
+    return ComponentRegistry.withType(GenerationSettings.class);
+  }
+
+  public static GenerationSettings of(final CodeGenerationContext context) {
+    final GenerationSettings settings = context.parameterObjectOf(Label.GENERATION_SETTINGS);
+    if (settings == null) {
+      throw new IllegalStateException("Unresolved Generation Settings");
+    }
+    return settings;
+  }
+
+  public static GenerationSettings with(final GenerationTarget target,
+                                        final Path stagingFolder,
+                                        final CodeElementFormatter codeFormatter,
+                                        final Optional<Tuple2<String, Integer>> schemataServiceDNS) {
+    return new GenerationSettings(target, stagingFolder, codeFormatter, schemataServiceDNS);
+  }
+
+  private GenerationSettings(final GenerationTarget target,
+                             final Path stagingFolder,
+                             final CodeElementFormatter codeFormatter,
+                             final Optional<Tuple2<String, Integer>> schemataServiceDNS) {
+    this.target = target;
+    this.stagingFolder = stagingFolder;
+    this.codeFormatter = codeFormatter;
+    this.schemataServiceDNS = schemataServiceDNS;
+  }
+
+  public GenerationSettings with(final GenerationTarget target) {
+    return target.equals(this.target) ? this : new GenerationSettings(target, stagingFolder, codeFormatter, schemataServiceDNS);
+  }
+
+  public Path definitiveFolderFor(final String executionId, final String artifactName, final String suggestedFolder) {
+    return target.definitiveFolderFor(stagingFolder, executionId, artifactName, suggestedFolder);
+  }
+
+}
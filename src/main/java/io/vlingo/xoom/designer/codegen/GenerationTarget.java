@@ -14,15 +14,18 @@ import java.nio.file.Paths;
 import java.util.stream.Stream;
 
 public enum GenerationTarget {
-  FILESYSTEM("filesystem", false),
-  ZIP("zip-download", true);
+  FILESYSTEM("filesystem", false, false),
+  ZIP("zip-download", true, false),
+  IN_MEMORY_ZIP("in-memory-zip-download", true, true);
 
   private final String value;
   private final boolean supportDownload;
+  private final boolean inMemory;
 
-  GenerationTarget(final String value, final boolean supportDownload) {
+  GenerationTarget(final String value, final boolean supportDownload, final boolean inMemory) {
     this.value = value;
     this.supportDownload = supportDownload;
+    this.inMemory = inMemory;
   }
 
   public static GenerationTarget from(final String targetOption) {
@@ -41,19 +44,34 @@ public enum GenerationTarget {
     return supportDownload;
   }
 
+  public boolean inMemory() {
+    return inMemory;
+  }
+
   public boolean requiresLocalInstallation() {
     return !supportDownload;
   }
 
   public Path definitiveFolderFor(final String executionId, final String artifactName, final String suggestedFolder) {
+    return definitiveFolderFor(StagingFolder.path(), executionId, artifactName, suggestedFolder);
+  }
+
+  public Path definitiveFolderFor(final Path stagingFolder,
+                                  final String executionId,
+                                  final String artifactName,
+                                  final String suggestedFolder) {
     if(supportDownload) {
-      return temporaryFolderFor(executionId, artifactName);
+      return temporaryFolderFor(stagingFolder, executionId, artifactName);
     }
     return Paths.get(suggestedFolder);
   }
 
   public Path temporaryFolderFor(final String executionId, final String artifactName) {
-    return StagingFolder.path().resolve(executionId).resolve(artifactName);
+    return temporaryFolderFor(StagingFolder.path(), executionId, artifactName);
+  }
+
+  public Path temporaryFolderFor(final Path stagingFolder, final String executionId, final String artifactName) {
+    return stagingFolder.resolve(executionId).resolve(artifactName);
   }
 
 }
@@ -0,0 +1,136 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.codegen;
+
+import io.vlingo.xoom.codegen.CodeGenerationContext;
+import io.vlingo.xoom.codegen.content.Content;
+import io.vlingo.xoom.designer.ModelProcessingException;
+import io.vlingo.xoom.designer.infrastructure.ProjectCompressor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+public class InMemoryProjectTree {
+
+  private final Path root;
+  private final Map<String, byte[]> files = new ConcurrentSkipListMap<>();
+  private final Map<Content, TrackedFile> trackedFiles = Collections.synchronizedMap(new IdentityHashMap<>());
+  private boolean materialized;
+  private byte[] archive;
+
+  public static InMemoryProjectTree rootedAt(final Path projectFolder) {
+    return new InMemoryProjectTree(projectFolder.toAbsolutePath().normalize());
+  }
+
+  public static Optional<InMemoryProjectTree> of(final CodeGenerationContext context) {
+    return Optional.ofNullable(context.parameterObjectOf(Label.PROJECT_TREE));
+  }
+
+  private InMemoryProjectTree(final Path root) {
+    this.root = root;
+  }
+
+  public void track(final Content content, final Path outputPath, final String text) {
+    trackedFiles.put(content, new TrackedFile(outputPath, text.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  public void create(final Content content) {
+    final TrackedFile trackedFile = trackedFiles.remove(content);
+    if (trackedFile == null) {
+      throw new IllegalArgumentException("Untracked content: " + content.retrieveName());
+    }
+    write(trackedFile.path, trackedFile.bytes);
+  }
+
+  public synchronized void write(final Path path, final byte[] bytes) {
+    final String key = keyOf(path);
+    if (materialized) {
+      writeToDisk(root.resolve(key), bytes);
+      return;
+    }
+    files.put(key, bytes);
+    archive = null;
+  }
+
+  public synchronized void materialize() {
+    if (materialized) {
+      return;
+    }
+    files.forEach((key, bytes) -> writeToDisk(root.resolve(key), bytes));
+    files.clear();
+    archive = null;
+    materialized = true;
+  }
+
+  public synchronized byte[] archive() throws IOException {
+    if (archive == null) {
+      archive = ProjectCompressor.compress(this);
+    }
+    return archive;
+  }
+
+  public Optional<byte[]> read(final String relativePath) {
+    return Optional.ofNullable(files.get(relativePath));
+  }
+
+  public Map<String, byte[]> files() {
+    return Collections.unmodifiableMap(files);
+  }
+
+  public String projectName() {
+    return root.getFileName().toString();
+  }
+
+  public int size() {
+    return files.size();
+  }
+
+  public long sizeInBytes() {
+    return files.values().stream().mapToLong(bytes -> bytes.length).sum();
+  }
+
+  public synchronized boolean isMaterialized() {
+    return materialized;
+  }
+
+  private String keyOf(final Path path) {
+    final Path normalized = path.toAbsolutePath().normalize();
+    if (!normalized.startsWith(root) || normalized.equals(root)) {
+      throw new IllegalArgumentException(path + " is not a file of " + root);
+    }
+    return root.relativize(normalized).toString().replace('\\', '/');
+  }
+
+  private void writeToDisk(final Path file, final byte[] bytes) {
+    try {
+      Files.createDirectories(file.getParent());
+      Files.write(file, bytes);
+    } catch (final IOException e) {
+      throw new ModelProcessingException(e);
+    }
+  }
+
+  private static class TrackedFile {
+
+    final Path path;
+    final byte[] bytes;
+
+    TrackedFile(final Path path, final byte[] bytes) {
+      this.path = path;
+      this.bytes = bytes;
+    }
+
+  }
+
+}
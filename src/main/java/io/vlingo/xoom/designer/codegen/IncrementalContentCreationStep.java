@@ -0,0 +1,50 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.codegen;
+
+import io.vlingo.xoom.codegen.CodeGenerationContext;
+import io.vlingo.xoom.codegen.CodeGenerationStep;
+import io.vlingo.xoom.codegen.content.Content;
+import io.vlingo.xoom.designer.infrastructure.metrics.Measurement;
+import io.vlingo.xoom.designer.infrastructure.metrics.MetricsRegistry;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+public class IncrementalContentCreationStep implements CodeGenerationStep {
+
+  @Override
+  public void process(final CodeGenerationContext context) {
+    final GenerationManifest manifest = GenerationManifest.of(context);
+    final Optional<InMemoryProjectTree> projectTree = InMemoryProjectTree.of(context);
+    final MetricsRegistry metrics = MetricsRegistry.instance();
+    final Measurement measurement = metrics.measure(MetricsRegistry.CONTENT_CREATION);
+
+    try {
+      final List<Content> changedContents =
+              context.contents().stream()
+                      .filter(Content::canWrite)
+                      .filter(content -> !manifest.isUnchanged(content))
+                      .collect(Collectors.toList());
+
+      changedContents.forEach(content -> {
+        if (projectTree.isPresent()) {
+          projectTree.get().create(content);
+        } else {
+          content.create();
+        }
+      });
+
+      manifest.save();
+      metrics.increment(MetricsRegistry.GENERATED_FILES, changedContents.size());
+    } finally {
+      measurement.stop();
+    }
+  }
+
+}
@@ -72,6 +72,9 @@ public enum Label implements ParameterLabel {
   XOOM_VERSION("xoomVersion"),
   DESIGNER_MODEL_JSON("designerModelJson"),
   TARGET_FOLDER("targetFolder"),
+  GENERATION_MANIFEST("generationManifest"),
+  PROJECT_TREE("projectTree"),
+  GENERATION_SETTINGS("generationSettings"),
   LOCAL_TYPE("localType"),
   EXCHANGE("exchange"),
   SCHEMA("schema"),
@@ -9,15 +9,9 @@ package io.vlingo.xoom.designer.codegen;
 import io.vlingo.xoom.codegen.CodeGenerationContext;
 import io.vlingo.xoom.codegen.CodeGenerationStep;
 import io.vlingo.xoom.designer.ModelProcessingException;
-import io.vlingo.xoom.designer.infrastructure.StagingFolder;
-import io.vlingo.xoom.turbo.ComponentRegistry;
-import org.apache.commons.io.FileUtils;
+import io.vlingo.xoom.designer.infrastructure.StagingWorkspaceManager;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-
-import static io.vlingo.xoom.designer.Configuration.MAVEN_WRAPPER_DIRECTORY;
 
 public class StagingFolderCleanUpStep implements CodeGenerationStep {
 
@@ -30,17 +24,7 @@ public class StagingFolderCleanUpStep implements CodeGenerationStep {
   @Override
   public void process(final CodeGenerationContext context) {
     try {
-      Files.list(StagingFolder.path()).filter(Files::isDirectory)
-              .filter(dir -> !dir.getFileName().toString().equals(MAVEN_WRAPPER_DIRECTORY))
-              .forEach(this::removeDirectory);
-    } catch (final IOException e) {
-      throw new ModelProcessingException(e);
-    }
-  }
-
-  private void removeDirectory(final Path directory) {
-    try {
-      FileUtils.deleteDirectory(directory.toFile());
+      StagingWorkspaceManager.instance().reclaim(context.generationId);
     } catch (final IOException e) {
       throw new ModelProcessingException(e);
     }
@@ -48,8 +32,7 @@ public class StagingFolderCleanUpStep implements CodeGenerationStep {
 
   @Override
   public boolean shouldProcess(final CodeGenerationContext context) {
-    final GenerationTarget generationTarget = ComponentRegistry.withType(GenerationTarget.class);
-    if(generationTarget.supportDownload()) {
+    if(GenerationSettings.of(context).target.supportDownload()) {
       return phase.equals(Phase.PRE_GENERATION);
     }
     return true;
@@ -60,4 +43,4 @@ public class StagingFolderCleanUpStep implements CodeGenerationStep {
     POST_GENERATION
   }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,141 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.codegen;
+
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import freemarker.template.TemplateException;
+import freemarker.template.TemplateExceptionHandler;
+import io.vlingo.xoom.codegen.dialect.Dialect;
+import io.vlingo.xoom.codegen.template.TemplateCustomFunctions;
+import io.vlingo.xoom.codegen.template.TemplateData;
+import io.vlingo.xoom.codegen.template.TemplateParameters;
+import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.ModelProcessingException;
+import io.vlingo.xoom.designer.codegen.reactjs.ReactJsTemplateStandard;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+public class TemplateCache {
+
+  private static final String TEMPLATE_PATH_PATTERN = "codegen/%s/%s.ftl";
+  private static final TemplateCache instance = new TemplateCache();
+
+  private final Configuration configuration;
+  private final Map<String, Template> templates = new ConcurrentHashMap<>();
+  private final Map<String, String> checksums = new ConcurrentHashMap<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  public static TemplateCache instance() {
+    return instance;
+  }
+
+  TemplateCache() {
+    this.configuration = new Configuration(Configuration.VERSION_2_3_23);
+    this.configuration.setClassLoaderForTemplateLoading(TemplateCache.class.getClassLoader(), "");
+    this.configuration.setDefaultEncoding("UTF-8");
+    this.configuration.setLocale(Locale.US);
+    this.configuration.setTemplateExceptionHandler(TemplateExceptionHandler.RETHROW_HANDLER);
+  }
+
+  public String process(final TemplateData templateData, final Dialect dialect) {
+    templateData.dependencies().forEach(dependency -> {
+      final String outcome = process(dependency, dialect);
+      templateData.handleDependencyOutcome(dependency.standard(), outcome);
+    });
+    return process(templateData.standard(), templateData.parameters(), dialect);
+  }
+
+  public String process(final TemplateStandard standard,
+                        final TemplateParameters parameters,
+                        final Dialect dialect) {
+    final Template template = templateOf(dialect, standard.retrieveTemplateFilename(parameters));
+
+    final Map<String, Object> dataModel = new HashMap<>(parameters.map());
+    dataModel.put("fns", TemplateCustomFunctions.instance());
+
+    try {
+      final StringWriter writer = new StringWriter();
+      template.process(dataModel, writer);
+      return writer.toString();
+    } catch (final IOException | TemplateException e) {
+      throw new ModelProcessingException(e);
+    }
+  }
+
+  public int warmUp() {
+    final Stream<String> codeTemplates =
+            Stream.of(io.vlingo.xoom.designer.codegen.java.Template.values()).map(template -> template.filename);
+
+    final Stream<String> reactTemplates =
+            Stream.of(ReactJsTemplateStandard.values()).map(standard -> standard.retrieveTemplateFilename(null));
+
+    codeTemplates.forEach(filename ->
+            Arrays.asList(Dialect.JAVA, Dialect.KOTLIN, Dialect.DOCKER).forEach(dialect -> preload(dialect, filename)));
+
+    reactTemplates.forEach(filename -> preload(Dialect.REACTJS, filename));
+
+    return templates.size();
+  }
+
+  public String checksumOf(final Dialect dialect, final String filename) {
+    return checksums.computeIfAbsent(pathOf(dialect, filename),
+            path -> TemplateFingerprint.digestOf(templates.computeIfAbsent(path, this::load).toString()));
+  }
+
+  public long hits() {
+    return hits.sum();
+  }
+
+  public long misses() {
+    return misses.sum();
+  }
+
+  public int size() {
+    return templates.size();
+  }
+
+  Template templateOf(final Dialect dialect, final String filename) {
+    final String path = pathOf(dialect, filename);
+    final Template cached = templates.get(path);
+    if (cached != null) {
+      hits.increment();
+      return cached;
+    }
+    misses.increment();
+    return templates.computeIfAbsent(path, this::load);
+  }
+
+  private void preload(final Dialect dialect, final String filename) {
+    final String path = pathOf(dialect, filename);
+    if (TemplateCache.class.getClassLoader().getResource(path) != null) {
+      templates.computeIfAbsent(path, this::load);
+    }
+  }
+
+  private Template load(final String path) {
+    try {
+      return configuration.getTemplate(path);
+    } catch (final IOException e) {
+      throw new ModelProcessingException(e);
+    }
+  }
+
+  private String pathOf(final Dialect dialect, final String filename) {
+    return String.format(TEMPLATE_PATH_PATTERN, dialect.name().toLowerCase(), filename);
+  }
+
+}
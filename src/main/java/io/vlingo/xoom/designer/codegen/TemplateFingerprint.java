@@ -0,0 +1,143 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.codegen;
+
+import io.vlingo.xoom.codegen.dialect.Dialect;
+import io.vlingo.xoom.codegen.template.TemplateData;
+import io.vlingo.xoom.codegen.template.TemplateParameters;
+import io.vlingo.xoom.codegen.template.TemplateStandard;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import static io.vlingo.xoom.designer.codegen.java.TemplateParameter.OFFSET;
+
+public class TemplateFingerprint {
+
+  private final MessageDigest digest;
+
+  public static Optional<String> of(final TemplateData templateData, final Dialect dialect) {
+    if (templateData.isPlaceholder() || templateData.parameters().find(OFFSET) != null) {
+      return Optional.empty();
+    }
+    final TemplateFingerprint fingerprint = new TemplateFingerprint();
+    return fingerprint.append(templateData, dialect) ? Optional.of(fingerprint.hex()) : Optional.empty();
+  }
+
+  public static Optional<String> of(final TemplateStandard standard,
+                                    final TemplateParameters parameters,
+                                    final Dialect dialect) {
+    final TemplateFingerprint fingerprint = new TemplateFingerprint();
+    return fingerprint.append(standard, parameters, dialect) ? Optional.of(fingerprint.hex()) : Optional.empty();
+  }
+
+  public static String digestOf(final String text) {
+    final TemplateFingerprint fingerprint = new TemplateFingerprint();
+    fingerprint.digest.update(text.getBytes(StandardCharsets.UTF_8));
+    return fingerprint.hex();
+  }
+
+  static Optional<String> keyOf(final Object value) {
+    if (value == null) {
+      return Optional.of("null");
+    }
+    if (value instanceof CharSequence || value instanceof Number || value instanceof Boolean
+            || value instanceof Character || value instanceof Enum) {
+      return Optional.of(value.getClass().getName() + ":" + value);
+    }
+    if (value instanceof Fingerprinted) {
+      return keyOf(((Fingerprinted) value).fingerprintKey()).map(key -> value.getClass().getName() + key);
+    }
+    if (value instanceof Optional) {
+      return keyOf(((Optional<?>) value).orElse(null));
+    }
+    if (value instanceof Iterable) {
+      return keyOf((Iterable<?>) value);
+    }
+    if (value instanceof Map) {
+      final List<Object> entries = new ArrayList<>();
+      ((Map<?, ?>) value).forEach((key, element) -> {
+        entries.add(key);
+        entries.add(element);
+      });
+      return keyOf(entries).map(key -> "{" + key + "}");
+    }
+    return Optional.empty();
+  }
+
+  private static Optional<String> keyOf(final Iterable<?> elements) {
+    final StringBuilder key = new StringBuilder("[");
+    for (final Object element : elements) {
+      final Optional<String> elementKey = keyOf(element);
+      if (!elementKey.isPresent()) {
+        return Optional.empty();
+      }
+      key.append(elementKey.get().length()).append(':').append(elementKey.get());
+    }
+    return Optional.of(key.append(']').toString());
+  }
+
+  private TemplateFingerprint() {
+    try {
+      this.digest = MessageDigest.getInstance("SHA-256");
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private boolean append(final TemplateData templateData, final Dialect dialect) {
+    if (!append(templateData.standard(), templateData.parameters(), dialect)) {
+      return false;
+    }
+    for (final TemplateData dependency : templateData.dependencies()) {
+      if (!append(dependency, dialect)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean append(final TemplateStandard standard,
+                         final TemplateParameters parameters,
+                         final Dialect dialect) {
+    final String templateFilename = standard.retrieveTemplateFilename(parameters);
+    token(TemplateFingerprint.class.getPackage().getImplementationVersion());
+    token(dialect.name());
+    token(standard.getClass().getName() + "#" + standard);
+    token(templateFilename);
+    token(TemplateCache.instance().checksumOf(dialect, templateFilename));
+    for (final Map.Entry<String, Object> parameter : new TreeMap<>(parameters.map()).entrySet()) {
+      final Optional<String> key = keyOf(parameter.getValue());
+      if (!key.isPresent()) {
+        return false;
+      }
+      token(parameter.getKey());
+      token(key.get());
+    }
+    return true;
+  }
+
+  private void token(final String token) {
+    digest.update(String.valueOf(token).getBytes(StandardCharsets.UTF_8));
+    digest.update((byte) 0);
+  }
+
+  private String hex() {
+    final StringBuilder hex = new StringBuilder();
+    for (final byte octet : digest.digest()) {
+      hex.append(String.format("%02x", octet));
+    }
+    return hex.toString();
+  }
+
+}
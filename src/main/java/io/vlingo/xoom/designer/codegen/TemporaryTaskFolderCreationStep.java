@@ -9,21 +9,22 @@ package io.vlingo.xoom.designer.codegen;
 import io.vlingo.xoom.cli.task.TaskExecutionException;
 import io.vlingo.xoom.codegen.CodeGenerationContext;
 import io.vlingo.xoom.codegen.CodeGenerationStep;
-import io.vlingo.xoom.designer.infrastructure.StagingFolder;
+import io.vlingo.xoom.designer.infrastructure.StagingWorkspaceManager;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.util.Optional;
 
 public class TemporaryTaskFolderCreationStep implements CodeGenerationStep {
 
   @Override
   public void process(final CodeGenerationContext context) {
     try {
-      final Path temporaryTaskFolder =
-              StagingFolder.path().resolve(context.generationId);
-
-      Files.createDirectory(temporaryTaskFolder);
+      final Optional<InMemoryProjectTree> projectTree = InMemoryProjectTree.of(context);
+      if (projectTree.isPresent()) {
+        StagingWorkspaceManager.instance().reserve(context.generationId, projectTree.get());
+      } else {
+        StagingWorkspaceManager.instance().reserve(context.generationId);
+      }
     } catch (final IOException e) {
       e.printStackTrace();
       throw new TaskExecutionException(e);
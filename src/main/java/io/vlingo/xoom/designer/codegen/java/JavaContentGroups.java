@@ -0,0 +1,44 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.codegen.java;
+
+import io.vlingo.xoom.codegen.template.TemplateStandard;
+
+import java.util.Set;
+
+import static io.vlingo.xoom.designer.codegen.ContentDependentStep.standards;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.*;
+
+public class JavaContentGroups {
+
+  public static final Set<TemplateStandard> MODEL =
+          standards(AGGREGATE_PROTOCOL, AGGREGATE, AGGREGATE_STATE, DOMAIN_EVENT, VALUE_OBJECT);
+
+  public static final Set<TemplateStandard> MODEL_METHODS =
+          standards(AGGREGATE_PROTOCOL_METHOD, AGGREGATE_METHOD, AGGREGATE_STATE_METHOD);
+
+  public static final Set<TemplateStandard> DATA_OBJECTS =
+          standards(DATA_OBJECT);
+
+  public static final Set<TemplateStandard> PROJECTIONS =
+          standards(PROJECTION, PROJECTION_DISPATCHER_PROVIDER, PROJECTION_SOURCE_TYPES);
+
+  public static final Set<TemplateStandard> STORAGE =
+          standards(ADAPTER, DATABASE_PROPERTIES, PERSISTENCE_SETUP, QUERIES, QUERIES_ACTOR, STORE_PROVIDER);
+
+  public static final Set<TemplateStandard> REST_RESOURCES =
+          standards(REST_RESOURCE, REST_UI_RESOURCE, ROUTE_METHOD);
+
+  public static final Set<TemplateStandard> AUTO_DISPATCH =
+          standards(AUTO_DISPATCH_MAPPING, AUTO_DISPATCH_HANDLERS_MAPPING, AUTO_DISPATCH_HANDLER_ENTRY,
+                  AUTO_DISPATCH_ROUTE, AUTO_DISPATCH_RESOURCE_HANDLER, AUTO_DISPATCH_RESOURCE_UI_HANDLER);
+
+  public static final Set<TemplateStandard> EXCHANGES =
+          standards(EXCHANGE_BOOTSTRAP, EXCHANGE_MAPPER, EXCHANGE_ADAPTER, EXCHANGE_RECEIVER_HOLDER,
+                  EXCHANGE_PROPERTIES, EXCHANGE_DISPATCHER);
+
+}
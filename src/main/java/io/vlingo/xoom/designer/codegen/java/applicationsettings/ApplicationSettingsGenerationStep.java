@@ -10,7 +10,9 @@ import io.vlingo.xoom.codegen.CodeGenerationContext;
 import io.vlingo.xoom.codegen.template.BasicTemplateData;
 import io.vlingo.xoom.codegen.template.TemplateData;
 import io.vlingo.xoom.codegen.template.TemplateParameters;
-import io.vlingo.xoom.codegen.template.TemplateProcessingStep;
+import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.CachedTemplateProcessingStep;
+import io.vlingo.xoom.designer.codegen.ContentDependentStep;
 import io.vlingo.xoom.designer.codegen.Label;
 import io.vlingo.xoom.designer.codegen.java.DeploymentSettings;
 import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
@@ -18,9 +20,17 @@ import io.vlingo.xoom.designer.codegen.java.TemplateParameter;
 import io.vlingo.xoom.designer.codegen.java.TurboSettings;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
-public class ApplicationSettingsGenerationStep extends TemplateProcessingStep {
+import static io.vlingo.xoom.designer.codegen.ContentDependentStep.standards;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.ACTOR_SETTINGS;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.LOGBACK_SETTINGS;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.MAVEN_SETTINGS;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.TURBO_SETTINGS;
+
+public class ApplicationSettingsGenerationStep extends CachedTemplateProcessingStep implements ContentDependentStep {
 
   @Override
   protected List<TemplateData> buildTemplatesData(final CodeGenerationContext context) {
@@ -62,4 +72,15 @@ public class ApplicationSettingsGenerationStep extends TemplateProcessingStep {
 
     return BasicTemplateData.of(JavaTemplateStandard.MAVEN_SETTINGS, parameters);
   }
+
+  @Override
+  public Set<TemplateStandard> consumes() {
+    return Collections.emptySet();
+  }
+
+  @Override
+  public Set<TemplateStandard> produces() {
+    return standards(ACTOR_SETTINGS, MAVEN_SETTINGS, TURBO_SETTINGS, LOGBACK_SETTINGS);
+  }
+
 }
@@ -9,12 +9,12 @@ package io.vlingo.xoom.designer.codegen.java.autodispatch;
 
 import io.vlingo.xoom.codegen.content.CodeElementFormatter;
 import io.vlingo.xoom.codegen.content.Content;
-import io.vlingo.xoom.codegen.content.ContentQuery;
 import io.vlingo.xoom.codegen.dialect.Dialect;
 import io.vlingo.xoom.codegen.parameter.CodeGenerationParameter;
 import io.vlingo.xoom.codegen.template.TemplateData;
 import io.vlingo.xoom.codegen.template.TemplateParameters;
 import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.ContentIndex;
 import io.vlingo.xoom.designer.codegen.Label;
 import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
 import io.vlingo.xoom.designer.codegen.java.model.aggregate.AggregateDetail;
@@ -62,7 +62,7 @@ public class AutoDispatchHandlersMappingTemplateData extends TemplateData {
                     .and(QUERY_ALL_METHOD_NAME, QueriesDetail.resolveQueryAllMethodName(aggregateName))
                     .andResolve(QUERY_ALL_INDEX_NAME, params -> codeElementFormatter.staticConstant(params.find(QUERY_ALL_METHOD_NAME)))
                     .andResolve(QUERY_BY_ID_INDEX_NAME, params -> codeElementFormatter.staticConstant(params.find(QUERY_BY_ID_METHOD_NAME)))
-                    .addImport(codeElementFormatter.importAllFrom(ContentQuery.findPackage(DATA_OBJECT, contents)))
+                    .addImport(codeElementFormatter.importAllFrom(ContentIndex.findPackage(DATA_OBJECT, contents)))
                     .and(AUTO_DISPATCH_HANDLERS_MAPPING_NAME, standard().resolveClassname(aggregateName))
                     .and(HANDLER_INDEXES, resolveHandlerIndexes(aggregate, useCQRS))
                     .and(HANDLER_ENTRIES, new ArrayList<String>())
@@ -101,9 +101,9 @@ public class AutoDispatchHandlersMappingTemplateData extends TemplateData {
                 final String className = entry.getValue();
                 final TemplateStandard standard = entry.getKey();
                 if(className.isEmpty()) {
-                  return codeElementFormatter.importAllFrom(ContentQuery.findPackage(standard, contents));
+                  return codeElementFormatter.importAllFrom(ContentIndex.findPackage(standard, contents));
                 }
-                return ContentQuery.findFullyQualifiedClassName(standard, className, contents);
+                return ContentIndex.findFullyQualifiedClassName(standard, className, contents);
               } catch (final IllegalArgumentException exception) {
                 return null;
               }
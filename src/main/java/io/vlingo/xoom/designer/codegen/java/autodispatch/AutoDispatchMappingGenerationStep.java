@@ -9,12 +9,22 @@ package io.vlingo.xoom.designer.codegen.java.autodispatch;
 
 import io.vlingo.xoom.codegen.CodeGenerationContext;
 import io.vlingo.xoom.codegen.template.TemplateData;
-import io.vlingo.xoom.codegen.template.TemplateProcessingStep;
+import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.CachedTemplateProcessingStep;
+import io.vlingo.xoom.designer.codegen.ContentDependentStep;
 import io.vlingo.xoom.designer.codegen.Label;
 
 import java.util.List;
+import java.util.Set;
 
-public class AutoDispatchMappingGenerationStep extends TemplateProcessingStep {
+import static io.vlingo.xoom.designer.codegen.ContentDependentStep.union;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.AUTO_DISPATCH;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.DATA_OBJECTS;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.MODEL;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.PROJECTIONS;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.STORAGE;
+
+public class AutoDispatchMappingGenerationStep extends CachedTemplateProcessingStep implements ContentDependentStep {
 
   @Override
   protected List<TemplateData> buildTemplatesData(final CodeGenerationContext context) {
@@ -27,4 +37,14 @@ public class AutoDispatchMappingGenerationStep extends TemplateProcessingStep {
             context.parameterOf(Label.USE_AUTO_DISPATCH, Boolean::valueOf);
   }
 
+  @Override
+  public Set<TemplateStandard> consumes() {
+    return union(MODEL, DATA_OBJECTS, PROJECTIONS, STORAGE);
+  }
+
+  @Override
+  public Set<TemplateStandard> produces() {
+    return AUTO_DISPATCH;
+  }
+
 }
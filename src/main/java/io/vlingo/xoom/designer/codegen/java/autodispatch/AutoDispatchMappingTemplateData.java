@@ -8,11 +8,11 @@
 package io.vlingo.xoom.designer.codegen.java.autodispatch;
 
 import io.vlingo.xoom.codegen.content.Content;
-import io.vlingo.xoom.codegen.content.ContentQuery;
 import io.vlingo.xoom.codegen.parameter.CodeGenerationParameter;
 import io.vlingo.xoom.codegen.template.TemplateData;
 import io.vlingo.xoom.codegen.template.TemplateParameters;
 import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.ContentIndex;
 import io.vlingo.xoom.designer.codegen.Label;
 import io.vlingo.xoom.designer.codegen.java.resource.RouteDetail;
 
@@ -54,7 +54,7 @@ public class AutoDispatchMappingTemplateData extends TemplateData {
   @SuppressWarnings("unchecked")
   private void loadDependencies(final CodeGenerationParameter aggregate, final boolean useCQRS) {
     if (useCQRS) {
-      aggregate.relate(RouteDetail.defaultQueryRoutes(aggregate));
+      RouteDetail.relateDefaultQueryRoutes(aggregate);
     }
     this.dependOn(AutoDispatchRouteTemplateData.from(aggregate.retrieveAllRelated(Label.ROUTE_SIGNATURE)));
   }
@@ -73,7 +73,7 @@ public class AutoDispatchMappingTemplateData extends TemplateData {
       try {
         final String className = entry.getValue();
         final TemplateStandard standard = entry.getKey();
-        return ContentQuery.findFullyQualifiedClassName(standard, className, contents);
+        return ContentIndex.findFullyQualifiedClassName(standard, className, contents);
       } catch (final IllegalArgumentException exception) {
         return null;
       }
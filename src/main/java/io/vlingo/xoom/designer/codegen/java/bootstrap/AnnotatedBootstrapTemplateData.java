@@ -7,7 +7,7 @@
 package io.vlingo.xoom.designer.codegen.java.bootstrap;
 
 import io.vlingo.xoom.codegen.CodeGenerationContext;
-import io.vlingo.xoom.codegen.content.ContentQuery;
+import io.vlingo.xoom.designer.codegen.ContentIndex;
 import io.vlingo.xoom.designer.codegen.Label;
 import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
 import io.vlingo.xoom.designer.codegen.java.TemplateParameter;
@@ -18,11 +18,11 @@ public class AnnotatedBootstrapTemplateData extends BootstrapTemplateData {
 
   @Override
   protected void enrichParameters(final CodeGenerationContext context) {
-    if (ContentQuery.exists(JavaTemplateStandard.REST_RESOURCE, context.contents())) {
+    if (ContentIndex.exists(JavaTemplateStandard.REST_RESOURCE, context.contents())) {
       parameters().addImport(RESOURCES_ANNOTATION_QUALIFIED_NAME);
     }
 
-    parameters().and(TemplateParameter.REST_RESOURCE_PACKAGE, ContentQuery.findPackage(JavaTemplateStandard.REST_RESOURCE, context.contents()));
+    parameters().and(TemplateParameter.REST_RESOURCE_PACKAGE, ContentIndex.findPackage(JavaTemplateStandard.REST_RESOURCE, context.contents()));
   }
 
   @Override
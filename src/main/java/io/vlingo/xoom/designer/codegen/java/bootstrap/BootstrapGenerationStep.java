@@ -9,16 +9,38 @@ package io.vlingo.xoom.designer.codegen.java.bootstrap;
 
 import io.vlingo.xoom.codegen.CodeGenerationContext;
 import io.vlingo.xoom.codegen.template.TemplateData;
-import io.vlingo.xoom.codegen.template.TemplateProcessingStep;
+import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.CachedTemplateProcessingStep;
+import io.vlingo.xoom.designer.codegen.ContentDependentStep;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
-public class BootstrapGenerationStep extends TemplateProcessingStep {
+import static io.vlingo.xoom.designer.codegen.ContentDependentStep.standards;
+import static io.vlingo.xoom.designer.codegen.ContentDependentStep.union;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.AUTO_DISPATCH;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.EXCHANGES;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.PROJECTIONS;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.REST_RESOURCES;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.STORAGE;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.BOOTSTRAP;
+
+public class BootstrapGenerationStep extends CachedTemplateProcessingStep implements ContentDependentStep {
 
   @Override
   protected List<TemplateData> buildTemplatesData(final CodeGenerationContext context) {
     return Arrays.asList(BootstrapTemplateData.from(context));
   }
 
-}
\ No newline at end of file
+  @Override
+  public Set<TemplateStandard> consumes() {
+    return union(PROJECTIONS, STORAGE, REST_RESOURCES, AUTO_DISPATCH, EXCHANGES);
+  }
+
+  @Override
+  public Set<TemplateStandard> produces() {
+    return standards(BOOTSTRAP);
+  }
+
+}
@@ -8,10 +8,10 @@
 package io.vlingo.xoom.designer.codegen.java.bootstrap;
 
 import io.vlingo.xoom.codegen.CodeGenerationContext;
-import io.vlingo.xoom.codegen.content.ContentQuery;
 import io.vlingo.xoom.codegen.template.TemplateData;
 import io.vlingo.xoom.codegen.template.TemplateParameters;
 import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.ContentIndex;
 import io.vlingo.xoom.designer.codegen.Label;
 import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
 import io.vlingo.xoom.designer.codegen.java.TemplateParameter;
@@ -56,7 +56,7 @@ public abstract class BootstrapTemplateData extends TemplateData {
     final String packageName = resolvePackage(context.parameterOf(Label.PACKAGE));
     final StorageType storageType = context.parameterOf(Label.STORAGE_TYPE, StorageType::valueOf);
     final ProjectionType projectionType = context.parameterOf(Label.PROJECTION_TYPE, ProjectionType::valueOf);
-    final Boolean hasExchange = ContentQuery.exists(JavaTemplateStandard.EXCHANGE_BOOTSTRAP, context.contents());
+    final Boolean hasExchange = ContentIndex.exists(JavaTemplateStandard.EXCHANGE_BOOTSTRAP, context.contents());
 
     final List<TypeRegistry> typeRegistries =
             TypeRegistry.from(storageType, useCQRS);
@@ -8,7 +8,7 @@
 package io.vlingo.xoom.designer.codegen.java.bootstrap;
 
 import io.vlingo.xoom.codegen.CodeGenerationContext;
-import io.vlingo.xoom.codegen.content.ContentQuery;
+import io.vlingo.xoom.designer.codegen.ContentIndex;
 import io.vlingo.xoom.designer.codegen.Label;
 import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
 import io.vlingo.xoom.designer.codegen.java.TemplateParameter;
@@ -24,13 +24,13 @@ public class DefaultBootstrapTemplateData extends BootstrapTemplateData {
     final StorageType storageType = context.parameterOf(Label.STORAGE_TYPE, StorageType::valueOf);
 
     final Set<String> qualifiedNames =
-            ContentQuery.findFullyQualifiedClassNames(context.contents(),
+            ContentIndex.findFullyQualifiedClassNames(context.contents(),
                     JavaTemplateStandard.STORE_PROVIDER, JavaTemplateStandard.PROJECTION_DISPATCHER_PROVIDER, JavaTemplateStandard.REST_RESOURCE, JavaTemplateStandard.REST_UI_RESOURCE,
                     JavaTemplateStandard.AUTO_DISPATCH_RESOURCE_HANDLER, JavaTemplateStandard.AUTO_DISPATCH_RESOURCE_UI_HANDLER, JavaTemplateStandard.EXCHANGE_BOOTSTRAP);
 
     parameters().and(TemplateParameter.REST_RESOURCES, RestResource.from(context.contents()))
             .and(TemplateParameter.EXCHANGE_BOOTSTRAP_NAME, JavaTemplateStandard.EXCHANGE_BOOTSTRAP.resolveClassname())
-            .and(TemplateParameter.HAS_EXCHANGE, ContentQuery.exists(JavaTemplateStandard.EXCHANGE_BOOTSTRAP, context.contents()))
+            .and(TemplateParameter.HAS_EXCHANGE, ContentIndex.exists(JavaTemplateStandard.EXCHANGE_BOOTSTRAP, context.contents()))
             .addImports(qualifiedNames).addImports(storageType.resolveTypeRegistryQualifiedNames(useCQRS));
   }
 
@@ -9,7 +9,7 @@ package io.vlingo.xoom.designer.codegen.java.bootstrap;
 
 import io.vlingo.xoom.codegen.content.CodeElementFormatter;
 import io.vlingo.xoom.codegen.content.Content;
-import io.vlingo.xoom.codegen.content.ContentQuery;
+import io.vlingo.xoom.designer.codegen.ContentIndex;
 import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
 import io.vlingo.xoom.turbo.ComponentRegistry;
 
@@ -29,7 +29,7 @@ public class RestResource {
   public static List<RestResource> from(final List<Content> contents) {
 
     final Set<String> classNames =
-            ContentQuery.findClassNames(contents, JavaTemplateStandard.REST_RESOURCE, JavaTemplateStandard.REST_UI_RESOURCE,
+            ContentIndex.findClassNames(contents, JavaTemplateStandard.REST_RESOURCE, JavaTemplateStandard.REST_UI_RESOURCE,
                     JavaTemplateStandard.AUTO_DISPATCH_RESOURCE_HANDLER, JavaTemplateStandard.AUTO_DISPATCH_RESOURCE_UI_HANDLER);
 
     final Iterator<String> iterator = classNames.iterator();
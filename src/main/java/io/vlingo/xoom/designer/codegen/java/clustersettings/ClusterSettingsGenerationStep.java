@@ -10,16 +10,23 @@ import io.vlingo.xoom.codegen.CodeGenerationContext;
 import io.vlingo.xoom.codegen.template.BasicTemplateData;
 import io.vlingo.xoom.codegen.template.TemplateData;
 import io.vlingo.xoom.codegen.template.TemplateParameters;
-import io.vlingo.xoom.codegen.template.TemplateProcessingStep;
+import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.CachedTemplateProcessingStep;
+import io.vlingo.xoom.designer.codegen.ContentDependentStep;
 import io.vlingo.xoom.designer.codegen.Label;
 import io.vlingo.xoom.designer.codegen.java.ClusterSettings;
 import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
 import io.vlingo.xoom.designer.codegen.java.TemplateParameter;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
-public class ClusterSettingsGenerationStep extends TemplateProcessingStep {
+import static io.vlingo.xoom.designer.codegen.ContentDependentStep.standards;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.CLUSTER_SETTINGS;
+
+public class ClusterSettingsGenerationStep extends CachedTemplateProcessingStep implements ContentDependentStep {
 
   @Override
   protected List<TemplateData> buildTemplatesData(final CodeGenerationContext context) {
@@ -36,4 +43,14 @@ public class ClusterSettingsGenerationStep extends TemplateProcessingStep {
     return Arrays.asList(clusterSettingsTemplateData);
   }
 
+  @Override
+  public Set<TemplateStandard> consumes() {
+    return Collections.emptySet();
+  }
+
+  @Override
+  public Set<TemplateStandard> produces() {
+    return standards(CLUSTER_SETTINGS);
+  }
+
 }
@@ -0,0 +1,40 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.codegen.java.compilation;
+
+import javax.tools.Diagnostic;
+import java.util.Locale;
+
+public class CompilationDiagnostic {
+
+  public final Diagnostic.Kind kind;
+  public final long line;
+  public final long column;
+  public final String message;
+
+  static CompilationDiagnostic from(final Diagnostic<?> diagnostic) {
+    return new CompilationDiagnostic(diagnostic.getKind(), diagnostic.getLineNumber(),
+            diagnostic.getColumnNumber(), diagnostic.getMessage(Locale.ENGLISH));
+  }
+
+  private CompilationDiagnostic(final Diagnostic.Kind kind, final long line, final long column, final String message) {
+    this.kind = kind;
+    this.line = line;
+    this.column = column;
+    this.message = message;
+  }
+
+  public boolean isError() {
+    return kind == Diagnostic.Kind.ERROR;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s [%d:%d] %s", kind, line, column, message);
+  }
+
+}
@@ -0,0 +1,95 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.codegen.java.compilation;
+
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+public class CompilationReport {
+
+  public static final String UNKNOWN_FILE = "<unknown>";
+
+  public final boolean succeeded;
+  public final int sourceFiles;
+  public final int compiledClasses;
+  public final long elapsedNanos;
+  private final SortedMap<String, List<CompilationDiagnostic>> diagnostics;
+
+  static CompilationReport from(final boolean succeeded,
+                                final int sourceFiles,
+                                final int compiledClasses,
+                                final long elapsedNanos,
+                                final Collection<Diagnostic<? extends JavaFileObject>> diagnostics) {
+    final SortedMap<String, List<CompilationDiagnostic>> diagnosticsByFile = new TreeMap<>();
+    diagnostics.forEach(diagnostic -> diagnosticsByFile.computeIfAbsent(fileOf(diagnostic), file -> new ArrayList<>())
+            .add(CompilationDiagnostic.from(diagnostic)));
+    return new CompilationReport(succeeded, sourceFiles, compiledClasses, elapsedNanos, diagnosticsByFile);
+  }
+
+  private static String fileOf(final Diagnostic<? extends JavaFileObject> diagnostic) {
+    final JavaFileObject source = diagnostic.getSource();
+    if (source == null) {
+      return UNKNOWN_FILE;
+    }
+    return source instanceof InMemoryJavaFile ? ((InMemoryJavaFile) source).path : source.getName();
+  }
+
+  private CompilationReport(final boolean succeeded,
+                            final int sourceFiles,
+                            final int compiledClasses,
+                            final long elapsedNanos,
+                            final SortedMap<String, List<CompilationDiagnostic>> diagnostics) {
+    this.succeeded = succeeded;
+    this.sourceFiles = sourceFiles;
+    this.compiledClasses = compiledClasses;
+    this.elapsedNanos = elapsedNanos;
+    this.diagnostics = Collections.unmodifiableSortedMap(diagnostics);
+  }
+
+  public Map<String, List<CompilationDiagnostic>> diagnostics() {
+    return diagnostics;
+  }
+
+  public List<CompilationDiagnostic> diagnosticsOf(final String file) {
+    return Collections.unmodifiableList(diagnostics.getOrDefault(file, Collections.emptyList()));
+  }
+
+  public Set<String> failedFiles() {
+    return diagnostics.entrySet().stream()
+            .filter(entry -> entry.getValue().stream().anyMatch(CompilationDiagnostic::isError))
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toCollection(TreeSet::new));
+  }
+
+  public long elapsedMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+  }
+
+  public String summary() {
+    final StringBuilder summary = new StringBuilder();
+    summary.append(String.format("%s: %d source files, %d classes in %d ms",
+            succeeded ? "Compiled" : "Compilation failed", sourceFiles, compiledClasses, elapsedMillis()));
+    failedFiles().forEach(file -> {
+      summary.append(System.lineSeparator()).append(file);
+      diagnosticsOf(file).stream().filter(CompilationDiagnostic::isError)
+              .forEach(diagnostic -> summary.append(System.lineSeparator()).append("  ").append(diagnostic));
+    });
+    return summary.toString();
+  }
+
+}
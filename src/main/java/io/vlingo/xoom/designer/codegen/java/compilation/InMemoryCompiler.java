@@ -0,0 +1,106 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.codegen.java.compilation;
+
+import io.vlingo.xoom.designer.codegen.InMemoryProjectTree;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class InMemoryCompiler {
+
+  private static final String SOURCE_FOLDER = "src/main/java/";
+  private static final String SOURCE_EXTENSION = ".java";
+
+  private final JavaCompiler compiler;
+  private final List<String> options;
+
+  public static InMemoryCompiler withDesignerClasspath() {
+    return withClasspath(System.getProperty("java.class.path"));
+  }
+
+  public static InMemoryCompiler withClasspath(final String classpath) {
+    final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    if (compiler == null) {
+      throw new IllegalStateException("Unable to verify generated sources without a JDK compiler");
+    }
+    return new InMemoryCompiler(compiler, Arrays.asList("-classpath", classpath, "-encoding", "UTF-8", "-g:none", "-nowarn"));
+  }
+
+  private InMemoryCompiler(final JavaCompiler compiler, final List<String> options) {
+    this.compiler = compiler;
+    this.options = Collections.unmodifiableList(options);
+  }
+
+  public CompilationReport compile(final InMemoryProjectTree projectTree) {
+    final SortedMap<String, String> sources = new TreeMap<>();
+    projectTree.files().forEach((path, bytes) -> {
+      if (isSource(path)) {
+        sources.put(path, new String(bytes, StandardCharsets.UTF_8));
+      }
+    });
+    return compile(sources);
+  }
+
+  public CompilationReport compile(final Path projectDirectory) {
+    final Path sourceFolder = projectDirectory.resolve(SOURCE_FOLDER);
+    final SortedMap<String, String> sources = new TreeMap<>();
+    if (Files.isDirectory(sourceFolder)) {
+      try (final Stream<Path> files = Files.walk(sourceFolder)) {
+        for (final Path file : files.filter(Files::isRegularFile).collect(Collectors.toList())) {
+          final String path = projectDirectory.relativize(file).toString().replace('\\', '/');
+          if (isSource(path)) {
+            sources.put(path, new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+          }
+        }
+      } catch (final IOException exception) {
+        throw new UncheckedIOException(exception);
+      }
+    }
+    return compile(sources);
+  }
+
+  public CompilationReport compile(final SortedMap<String, String> sources) {
+    final long startedOn = System.nanoTime();
+    final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    final List<InMemoryJavaFile> sourceFiles = sources.entrySet().stream()
+            .map(source -> InMemoryJavaFile.source(source.getKey(), source.getValue()))
+            .collect(Collectors.toList());
+
+    if (sourceFiles.isEmpty()) {
+      return CompilationReport.from(true, 0, 0, System.nanoTime() - startedOn, diagnostics.getDiagnostics());
+    }
+
+    try (final InMemoryFileManager fileManager =
+                 new InMemoryFileManager(compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8))) {
+      final boolean succeeded = compiler.getTask(null, fileManager, diagnostics, options, null, sourceFiles).call();
+      return CompilationReport.from(succeeded, sourceFiles.size(), fileManager.compiledClasses(),
+              System.nanoTime() - startedOn, diagnostics.getDiagnostics());
+    } catch (final IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  private boolean isSource(final String path) {
+    return path.startsWith(SOURCE_FOLDER) && path.endsWith(SOURCE_EXTENSION);
+  }
+
+}
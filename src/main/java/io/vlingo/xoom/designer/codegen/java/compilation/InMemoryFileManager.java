@@ -0,0 +1,52 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.codegen.java.compilation;
+
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+class InMemoryFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+  private final Map<String, InMemoryJavaFile> outputs = new ConcurrentHashMap<>();
+
+  InMemoryFileManager(final StandardJavaFileManager fileManager) {
+    super(fileManager);
+  }
+
+  @Override
+  public JavaFileObject getJavaFileForOutput(final JavaFileManager.Location location,
+                                             final String className,
+                                             final JavaFileObject.Kind kind,
+                                             final FileObject sibling) {
+    return track(location, className.replace('.', '/') + kind.extension, kind);
+  }
+
+  @Override
+  public FileObject getFileForOutput(final JavaFileManager.Location location,
+                                     final String packageName,
+                                     final String relativeName,
+                                     final FileObject sibling) {
+    final String path = packageName.isEmpty() ? relativeName : packageName.replace('.', '/') + "/" + relativeName;
+    return track(location, path, JavaFileObject.Kind.OTHER);
+  }
+
+  int compiledClasses() {
+    return (int) outputs.values().stream().filter(file -> file.getKind() == JavaFileObject.Kind.CLASS).count();
+  }
+
+  private InMemoryJavaFile track(final JavaFileManager.Location location, final String path, final JavaFileObject.Kind kind) {
+    final String prefix = location == StandardLocation.SOURCE_OUTPUT ? "generated-sources/" : "classes/";
+    return outputs.computeIfAbsent(prefix + path, key -> InMemoryJavaFile.output(path, kind));
+  }
+
+}
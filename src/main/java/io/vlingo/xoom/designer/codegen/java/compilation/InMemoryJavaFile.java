@@ -0,0 +1,64 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.codegen.java.compilation;
+
+import javax.tools.SimpleJavaFileObject;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+class InMemoryJavaFile extends SimpleJavaFileObject {
+
+  private static final String URI_SCHEME = "mem:///";
+
+  final String path;
+  private volatile byte[] bytes;
+
+  static InMemoryJavaFile source(final String path, final String code) {
+    final InMemoryJavaFile file = new InMemoryJavaFile(path, Kind.SOURCE);
+    file.bytes = code.getBytes(StandardCharsets.UTF_8);
+    return file;
+  }
+
+  static InMemoryJavaFile output(final String path, final Kind kind) {
+    return new InMemoryJavaFile(path, kind);
+  }
+
+  private InMemoryJavaFile(final String path, final Kind kind) {
+    super(URI.create(URI_SCHEME + path), kind);
+    this.path = path;
+    this.bytes = new byte[0];
+  }
+
+  @Override
+  public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  @Override
+  public InputStream openInputStream() {
+    return new ByteArrayInputStream(bytes);
+  }
+
+  @Override
+  public OutputStream openOutputStream() {
+    return new ByteArrayOutputStream() {
+      @Override
+      public void close() {
+        bytes = toByteArray();
+      }
+    };
+  }
+
+  int size() {
+    return bytes.length;
+  }
+
+}
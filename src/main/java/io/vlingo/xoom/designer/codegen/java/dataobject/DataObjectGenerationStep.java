@@ -11,15 +11,22 @@ import io.vlingo.xoom.codegen.CodeGenerationContext;
 import io.vlingo.xoom.codegen.dialect.Dialect;
 import io.vlingo.xoom.codegen.parameter.CodeGenerationParameter;
 import io.vlingo.xoom.codegen.template.TemplateData;
-import io.vlingo.xoom.codegen.template.TemplateProcessingStep;
+import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.CachedTemplateProcessingStep;
+import io.vlingo.xoom.designer.codegen.ContentDependentStep;
 import io.vlingo.xoom.designer.codegen.Label;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.DATA_OBJECTS;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.MODEL;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.AGGREGATE;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.VALUE_OBJECT;
 import static java.util.stream.Collectors.toList;
 
-public class DataObjectGenerationStep extends TemplateProcessingStep {
+public class DataObjectGenerationStep extends CachedTemplateProcessingStep implements ContentDependentStep {
 
   @Override
   protected List<TemplateData> buildTemplatesData(final CodeGenerationContext context) {
@@ -41,4 +48,14 @@ public class DataObjectGenerationStep extends TemplateProcessingStep {
             .flatMap(List::stream).collect(toList());
   }
 
+  @Override
+  public Set<TemplateStandard> consumes() {
+    return MODEL;
+  }
+
+  @Override
+  public Set<TemplateStandard> produces() {
+    return DATA_OBJECTS;
+  }
+
 }
@@ -9,12 +9,12 @@ package io.vlingo.xoom.designer.codegen.java.dataobject;
 
 import io.vlingo.xoom.codegen.content.CodeElementFormatter;
 import io.vlingo.xoom.codegen.content.Content;
-import io.vlingo.xoom.codegen.content.ContentQuery;
 import io.vlingo.xoom.codegen.dialect.Dialect;
 import io.vlingo.xoom.codegen.parameter.CodeGenerationParameter;
 import io.vlingo.xoom.codegen.template.TemplateData;
 import io.vlingo.xoom.codegen.template.TemplateParameters;
 import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.ContentIndex;
 import io.vlingo.xoom.designer.codegen.Label;
 import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
 import io.vlingo.xoom.designer.codegen.java.TemplateParameter;
@@ -90,7 +90,7 @@ public class StateDataObjectTemplateData extends TemplateData {
         .and(TemplateParameter.DATA_OBJECT_QUALIFIED_NAME, codeElementFormatter.qualifiedNameOf(packageName, dataName))
         .and(TemplateParameter.CONSTRUCTOR_PARAMETERS, Formatters.Arguments.DATA_OBJECT_CONSTRUCTOR.format(aggregate))
         .addImports(ValueObjectDetail.resolveImports(contents, aggregate.retrieveAllRelated(Label.STATE_FIELD)))
-        .addImport(ContentQuery.findFullyQualifiedClassName(JavaTemplateStandard.AGGREGATE_STATE, stateName, contents))
+        .addImport(ContentIndex.findFullyQualifiedClassName(JavaTemplateStandard.AGGREGATE_STATE, stateName, contents))
         .addImport(codeElementFormatter.importAllFrom("java.util"))
         .addImports(AggregateDetail.resolveImports(aggregate));
   }
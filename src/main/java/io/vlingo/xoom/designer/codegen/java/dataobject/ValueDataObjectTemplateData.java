@@ -8,12 +8,12 @@ package io.vlingo.xoom.designer.codegen.java.dataobject;
 
 import io.vlingo.xoom.codegen.content.CodeElementFormatter;
 import io.vlingo.xoom.codegen.content.Content;
-import io.vlingo.xoom.codegen.content.ContentQuery;
 import io.vlingo.xoom.codegen.dialect.Dialect;
 import io.vlingo.xoom.codegen.parameter.CodeGenerationParameter;
 import io.vlingo.xoom.codegen.template.TemplateData;
 import io.vlingo.xoom.codegen.template.TemplateParameters;
 import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.ContentIndex;
 import io.vlingo.xoom.designer.codegen.Label;
 import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
 import io.vlingo.xoom.designer.codegen.java.TemplateParameter;
@@ -69,7 +69,7 @@ public class ValueDataObjectTemplateData extends TemplateData {
                     .and(TemplateParameter.MEMBERS, Formatters.Fields.format(Formatters.Fields.Style.DATA_OBJECT_MEMBER_DECLARATION, dialect, valueObject))
                     .and(TemplateParameter.MEMBER_NAMES, valueObject.retrieveAllRelated(Label.VALUE_OBJECT_FIELD).map(p -> p.value).collect(Collectors.toList()))
                     .and(TemplateParameter.MEMBERS_ASSIGNMENT, Formatters.Fields.format(Formatters.Fields.Style.DATA_VALUE_OBJECT_ASSIGNMENT, dialect, valueObject))
-                    .addImport(codeElementFormatter.importAllFrom(ContentQuery.findPackage(JavaTemplateStandard.VALUE_OBJECT, contents)))
+                    .addImport(codeElementFormatter.importAllFrom(ContentIndex.findPackage(JavaTemplateStandard.VALUE_OBJECT, contents)))
                     .addImports(ValueObjectDetail.resolveFieldsImports(valueObject))
                     .and(TemplateParameter.VALUE_OBJECT_TRANSLATIONS, valueObjectTranslations)
                     .and(TemplateParameter.EMPTY_OBJECT_ARGUMENTS, emptyObjectArguments);
@@ -11,16 +11,23 @@ import io.vlingo.xoom.codegen.dialect.Dialect;
 import io.vlingo.xoom.codegen.template.BasicTemplateData;
 import io.vlingo.xoom.codegen.template.TemplateData;
 import io.vlingo.xoom.codegen.template.TemplateParameters;
-import io.vlingo.xoom.codegen.template.TemplateProcessingStep;
+import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.CachedTemplateProcessingStep;
+import io.vlingo.xoom.designer.codegen.ContentDependentStep;
 import io.vlingo.xoom.designer.codegen.Label;
 import io.vlingo.xoom.designer.codegen.java.DeploymentSettings;
 import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
 import io.vlingo.xoom.designer.codegen.java.TemplateParameter;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
-public class DockerfileGenerationStep extends TemplateProcessingStep {
+import static io.vlingo.xoom.designer.codegen.ContentDependentStep.standards;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.DOCKERFILE;
+
+public class DockerfileGenerationStep extends CachedTemplateProcessingStep implements ContentDependentStep {
 
   @Override
   protected List<TemplateData> buildTemplatesData(final CodeGenerationContext context) {
@@ -41,4 +48,14 @@ public class DockerfileGenerationStep extends TemplateProcessingStep {
     return ((DeploymentSettings) context.parameterObjectOf(Label.DEPLOYMENT_SETTINGS)).useDocker;
   }
 
+  @Override
+  public Set<TemplateStandard> consumes() {
+    return Collections.emptySet();
+  }
+
+  @Override
+  public Set<TemplateStandard> produces() {
+    return standards(DOCKERFILE);
+  }
+
 }
@@ -6,20 +6,31 @@
 // one at https://mozilla.org/MPL/2.0/.
 package io.vlingo.xoom.designer.codegen.java.designermodel;
 
+import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonParser;
-import io.vlingo.xoom.common.serialization.JsonSerialization;
 import io.vlingo.xoom.designer.infrastructure.restapi.data.DesignerModel;
 
+import java.io.Reader;
+
 public class DesignerModelFormatter {
 
+  private static final Gson prettyPrinter = new GsonBuilder().setPrettyPrinting().create();
+
   public static String format(final String designerModel) {
-    return new GsonBuilder().setPrettyPrinting().create().toJson(JsonParser.parseString(designerModel));
+    return prettyPrinter.toJson(JsonParser.parseString(designerModel));
   }
 
   public static String format(final DesignerModel designerModel) {
-    return format(JsonSerialization.serialized(designerModel));
+    return prettyPrinter.toJson(designerModel);
   }
 
-}
+  public static void write(final DesignerModel designerModel, final Appendable writer) {
+    prettyPrinter.toJson(designerModel, DesignerModel.class, writer);
+  }
 
+  public static DesignerModel read(final Reader reader) {
+    return prettyPrinter.fromJson(reader, DesignerModel.class);
+  }
+
+}
@@ -9,13 +9,20 @@ package io.vlingo.xoom.designer.codegen.java.designermodel;
 
 import io.vlingo.xoom.codegen.CodeGenerationContext;
 import io.vlingo.xoom.codegen.template.TemplateData;
-import io.vlingo.xoom.codegen.template.TemplateProcessingStep;
+import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.CachedTemplateProcessingStep;
+import io.vlingo.xoom.designer.codegen.ContentDependentStep;
 import io.vlingo.xoom.designer.codegen.Label;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
-public class DesignerModelGenerationStep extends TemplateProcessingStep {
+import static io.vlingo.xoom.designer.codegen.ContentDependentStep.standards;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.DESIGNER_MODEL;
+
+public class DesignerModelGenerationStep extends CachedTemplateProcessingStep implements ContentDependentStep {
 
   @Override
   protected List<TemplateData> buildTemplatesData(final CodeGenerationContext context) {
@@ -24,4 +31,15 @@ public class DesignerModelGenerationStep extends TemplateProcessingStep {
     return Arrays.asList(new DesignerModelTemplateData(appName, designerModel));
 
   }
+
+  @Override
+  public Set<TemplateStandard> consumes() {
+    return Collections.emptySet();
+  }
+
+  @Override
+  public Set<TemplateStandard> produces() {
+    return standards(DESIGNER_MODEL);
+  }
+
 }
@@ -8,11 +8,11 @@
 package io.vlingo.xoom.designer.codegen.java.exchange;
 
 import io.vlingo.xoom.codegen.content.Content;
-import io.vlingo.xoom.codegen.content.ContentQuery;
 import io.vlingo.xoom.codegen.parameter.CodeGenerationParameter;
 import io.vlingo.xoom.codegen.template.TemplateData;
 import io.vlingo.xoom.codegen.template.TemplateParameters;
 import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.ContentIndex;
 import io.vlingo.xoom.designer.codegen.Label;
 import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
 import io.vlingo.xoom.designer.codegen.java.TemplateParameter;
@@ -51,7 +51,7 @@ public class ExchangeDispatcherTemplateData extends TemplateData {
   private Set<String> resolveImports(final List<CodeGenerationParameter> producerExchanges,
                                      final List<Content> contents) {
     return producerExchanges.stream().flatMap(exchange -> exchange.retrieveAllRelated(Label.DOMAIN_EVENT))
-            .map(event -> ContentQuery.findFullyQualifiedClassName(JavaTemplateStandard.DOMAIN_EVENT, event.value, contents))
+            .map(event -> ContentIndex.findFullyQualifiedClassName(JavaTemplateStandard.DOMAIN_EVENT, event.value, contents))
             .collect(Collectors.toSet());
   }
 
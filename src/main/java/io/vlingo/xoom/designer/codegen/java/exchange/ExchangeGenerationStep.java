@@ -10,13 +10,22 @@ package io.vlingo.xoom.designer.codegen.java.exchange;
 import io.vlingo.xoom.codegen.CodeGenerationContext;
 import io.vlingo.xoom.codegen.parameter.CodeGenerationParameter;
 import io.vlingo.xoom.codegen.template.TemplateData;
-import io.vlingo.xoom.codegen.template.TemplateProcessingStep;
+import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.CachedTemplateProcessingStep;
+import io.vlingo.xoom.designer.codegen.ContentDependentStep;
 import io.vlingo.xoom.designer.codegen.Label;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-public class ExchangeGenerationStep extends TemplateProcessingStep {
+import static io.vlingo.xoom.designer.codegen.ContentDependentStep.union;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.DATA_OBJECTS;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.EXCHANGES;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.MODEL;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.AGGREGATE;
+
+public class ExchangeGenerationStep extends CachedTemplateProcessingStep implements ContentDependentStep {
 
   @Override
   protected List<TemplateData> buildTemplatesData(final CodeGenerationContext context) {
@@ -39,4 +48,14 @@ public class ExchangeGenerationStep extends TemplateProcessingStep {
     return context.parametersOf(Label.AGGREGATE).anyMatch(aggregate -> aggregate.hasAny(Label.EXCHANGE));
   }
 
+  @Override
+  public Set<TemplateStandard> consumes() {
+    return union(MODEL, DATA_OBJECTS);
+  }
+
+  @Override
+  public Set<TemplateStandard> produces() {
+    return EXCHANGES;
+  }
+
 }
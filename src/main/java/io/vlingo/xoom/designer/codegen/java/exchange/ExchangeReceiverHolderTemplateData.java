@@ -9,11 +9,11 @@ package io.vlingo.xoom.designer.codegen.java.exchange;
 
 import io.vlingo.xoom.actors.Definition;
 import io.vlingo.xoom.codegen.content.Content;
-import io.vlingo.xoom.codegen.content.ContentQuery;
 import io.vlingo.xoom.codegen.parameter.CodeGenerationParameter;
 import io.vlingo.xoom.codegen.template.TemplateData;
 import io.vlingo.xoom.codegen.template.TemplateParameters;
 import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.ContentIndex;
 import io.vlingo.xoom.designer.codegen.Label;
 import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
 import io.vlingo.xoom.designer.codegen.java.TemplateParameter;
@@ -59,11 +59,11 @@ public class ExchangeReceiverHolderTemplateData extends TemplateData {
 
     if (involvesActorLoad) {
       final String aggregateEntityName = JavaTemplateStandard.AGGREGATE.resolveClassname(aggregateName);
-      imports.add(ContentQuery.findFullyQualifiedClassName(JavaTemplateStandard.AGGREGATE, aggregateEntityName, contents));
+      imports.add(ContentIndex.findFullyQualifiedClassName(JavaTemplateStandard.AGGREGATE, aggregateEntityName, contents));
       imports.add(Definition.class.getCanonicalName());
     }
 
-    imports.add(ContentQuery.findFullyQualifiedClassName(JavaTemplateStandard.AGGREGATE_PROTOCOL, aggregateName, contents));
+    imports.add(ContentIndex.findFullyQualifiedClassName(JavaTemplateStandard.AGGREGATE_PROTOCOL, aggregateName, contents));
     imports.addAll(receiversParameters.stream().map(receiver -> receiver.localTypeQualifiedName).collect(Collectors.toSet()));
     return imports;
   }
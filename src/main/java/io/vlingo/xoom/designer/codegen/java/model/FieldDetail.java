@@ -8,6 +8,7 @@
 package io.vlingo.xoom.designer.codegen.java.model;
 
 import io.vlingo.xoom.codegen.parameter.CodeGenerationParameter;
+import io.vlingo.xoom.designer.codegen.CodeGenerationParameterIndex;
 import io.vlingo.xoom.designer.codegen.CodeGenerationProperties;
 import io.vlingo.xoom.designer.codegen.CollectionMutation;
 import io.vlingo.xoom.designer.codegen.Label;
@@ -25,14 +26,13 @@ public class FieldDetail {
 
   @SuppressWarnings("static-access")
   public static String typeOf(final CodeGenerationParameter parent, final String fieldName) {
-    return parent.retrieveAllRelated(resolveFieldTypeLabel(parent))
-            .filter(stateField -> stateField.value.equals(fieldName))
+    return CodeGenerationParameterIndex.findRelated(parent, resolveFieldTypeLabel(parent), fieldName)
             .map(stateField -> {
               final String fieldType = stateField.retrieveRelatedValue(Label.FIELD_TYPE);
               if(FieldDetail.isCompositeId(stateField))
                 return "String";
               return isCollection(stateField) ? resolveCollectionType(stateField) : fieldType;
-            }).findFirst()
+            })
             .orElseThrow(() -> new IllegalArgumentException(UNKNOWN_FIELD_MESSAGE.format(fieldName, parent.value)));
   }
 
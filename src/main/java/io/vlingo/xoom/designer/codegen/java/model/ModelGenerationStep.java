@@ -9,12 +9,22 @@ package io.vlingo.xoom.designer.codegen.java.model;
 
 import io.vlingo.xoom.codegen.CodeGenerationContext;
 import io.vlingo.xoom.codegen.template.TemplateData;
-import io.vlingo.xoom.codegen.template.TemplateProcessingStep;
+import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.CachedTemplateProcessingStep;
+import io.vlingo.xoom.designer.codegen.ContentDependentStep;
 import io.vlingo.xoom.designer.codegen.Label;
 
 import java.util.List;
+import java.util.Set;
 
-public class ModelGenerationStep extends TemplateProcessingStep {
+import static io.vlingo.xoom.designer.codegen.ContentDependentStep.standards;
+import static io.vlingo.xoom.designer.codegen.ContentDependentStep.union;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.MODEL;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.MODEL_METHODS;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.AGGREGATE;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.VALUE_OBJECT;
+
+public class ModelGenerationStep extends CachedTemplateProcessingStep implements ContentDependentStep {
 
   @Override
   protected List<TemplateData> buildTemplatesData(final CodeGenerationContext context) {
@@ -26,4 +36,14 @@ public class ModelGenerationStep extends TemplateProcessingStep {
     return context.hasParameter(Label.AGGREGATE);
   }
 
+  @Override
+  public Set<TemplateStandard> consumes() {
+    return standards(VALUE_OBJECT);
+  }
+
+  @Override
+  public Set<TemplateStandard> produces() {
+    return union(MODEL, MODEL_METHODS);
+  }
+
 }
@@ -10,14 +10,20 @@ import io.vlingo.xoom.codegen.CodeGenerationContext;
 import io.vlingo.xoom.codegen.dialect.Dialect;
 import io.vlingo.xoom.codegen.parameter.CodeGenerationParameter;
 import io.vlingo.xoom.codegen.template.TemplateData;
-import io.vlingo.xoom.codegen.template.TemplateProcessingStep;
+import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.CachedTemplateProcessingStep;
+import io.vlingo.xoom.designer.codegen.ContentDependentStep;
 import io.vlingo.xoom.designer.codegen.Label;
 import io.vlingo.xoom.designer.codegen.java.model.valueobject.ValueObjectTemplateData;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
-public class ValueObjectGenerationStep extends TemplateProcessingStep {
+import static io.vlingo.xoom.designer.codegen.ContentDependentStep.standards;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.VALUE_OBJECT;
+
+public class ValueObjectGenerationStep extends CachedTemplateProcessingStep implements ContentDependentStep {
 
   @Override
   protected List<TemplateData> buildTemplatesData(CodeGenerationContext context) {
@@ -32,4 +38,14 @@ public class ValueObjectGenerationStep extends TemplateProcessingStep {
     return context.hasParameter(Label.VALUE_OBJECT);
   }
 
+  @Override
+  public Set<TemplateStandard> consumes() {
+    return standards(VALUE_OBJECT);
+  }
+
+  @Override
+  public Set<TemplateStandard> produces() {
+    return standards(VALUE_OBJECT);
+  }
+
 }
@@ -8,6 +8,7 @@
 package io.vlingo.xoom.designer.codegen.java.model.aggregate;
 
 import io.vlingo.xoom.codegen.parameter.CodeGenerationParameter;
+import io.vlingo.xoom.designer.codegen.CodeGenerationParameterIndex;
 import io.vlingo.xoom.designer.codegen.Label;
 import io.vlingo.xoom.designer.codegen.java.model.FieldDetail;
 import io.vlingo.xoom.designer.codegen.java.model.valueobject.ValueObjectDetail;
@@ -31,8 +32,8 @@ public class AggregateDetail {
   }
 
   public static CodeGenerationParameter stateFieldWithName(final CodeGenerationParameter aggregate, final String fieldName) {
-    return aggregate.retrieveAllRelated(Label.STATE_FIELD).filter(field -> field.value.equals(fieldName))
-            .findFirst().orElseThrow(() -> new IllegalArgumentException("Field " + fieldName + " not found"));
+    return CodeGenerationParameterIndex.findRelated(aggregate, Label.STATE_FIELD, fieldName)
+            .orElseThrow(() -> new IllegalArgumentException("Field " + fieldName + " not found"));
   }
 
   public static CodeGenerationParameter methodWithName(final CodeGenerationParameter aggregate, final String methodName) {
@@ -43,8 +44,8 @@ public class AggregateDetail {
     if(eventName == null || eventName.isEmpty()) {
       return CodeGenerationParameter.of(Label.DOMAIN_EVENT, "");
     }
-    return aggregate.retrieveAllRelated(Label.DOMAIN_EVENT).filter(event -> event.value.equals(eventName))
-            .findFirst().orElseThrow(() -> new IllegalArgumentException("Event " + eventName + " not found"));
+    return CodeGenerationParameterIndex.findRelated(aggregate, Label.DOMAIN_EVENT, eventName)
+            .orElseThrow(() -> new IllegalArgumentException("Event " + eventName + " not found"));
   }
 
   public static String stateFieldType(final CodeGenerationParameter aggregate,
@@ -69,7 +70,7 @@ public class AggregateDetail {
     }
 
     final CodeGenerationParameter valueObject =
-            ValueObjectDetail.valueObjectOf(fieldType, valueObjects.stream());
+            ValueObjectDetail.valueObjectOf(fieldType, valueObjects);
 
     return stateFieldAtPath(pathIndex + 1, valueObject, fieldPathParts, valueObjects);
   }
@@ -130,9 +131,9 @@ public class AggregateDetail {
               field.retrieveRelatedValue(Label.FIELD_TYPE);
 
       final CodeGenerationParameter valueObject =
-              ValueObjectDetail.valueObjectOf(valueObjectType, valueObjects.stream());
+              ValueObjectDetail.valueObjectOf(valueObjectType, valueObjects);
 
-      valueObject.retrieveAllRelated(Label.VALUE_OBJECT_FIELD)
+      CodeGenerationParameterIndex.retrieveAllRelated(valueObject, Label.VALUE_OBJECT_FIELD)
               .forEach(voField -> resolveFieldPath(currentRelativePath, voField, valueObjects, paths));
     } else {
       paths.add(currentRelativePath);
@@ -150,8 +151,13 @@ public class AggregateDetail {
   }
 
   private static Optional<CodeGenerationParameter> findMethod(final CodeGenerationParameter aggregate, final String methodName) {
-    return aggregate.retrieveAllRelated(Label.AGGREGATE_METHOD)
-            .filter(method -> methodName.equals(method.value) || method.value.startsWith(methodName + "("))
+    final CodeGenerationParameterIndex index = CodeGenerationParameterIndex.of(aggregate);
+    final Optional<CodeGenerationParameter> method = index.find(Label.AGGREGATE_METHOD, methodName);
+    if (method.isPresent()) {
+      return method;
+    }
+    return index.related(Label.AGGREGATE_METHOD).stream()
+            .filter(candidate -> candidate.value.startsWith(methodName + "("))
             .findFirst();
   }
 }
@@ -8,15 +8,17 @@
 package io.vlingo.xoom.designer.codegen.java.model.aggregate;
 
 import io.vlingo.xoom.codegen.parameter.CodeGenerationParameter;
+import io.vlingo.xoom.designer.codegen.Fingerprinted;
 import io.vlingo.xoom.designer.codegen.Label;
 import io.vlingo.xoom.designer.codegen.java.formatting.Formatters;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
-public class EventHandler {
+public class EventHandler implements Fingerprinted {
 
   public final String methodName;
   public final String eventName;
@@ -50,4 +52,9 @@ public class EventHandler {
     return Objects.hash(eventName);
   }
 
+  @Override
+  public List<?> fingerprintKey() {
+    return Arrays.asList(methodName, eventName, methodInvocationParameters, missingFields);
+  }
+
 }
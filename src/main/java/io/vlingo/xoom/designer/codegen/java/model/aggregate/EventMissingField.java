@@ -7,14 +7,16 @@
 package io.vlingo.xoom.designer.codegen.java.model.aggregate;
 
 import io.vlingo.xoom.codegen.parameter.CodeGenerationParameter;
+import io.vlingo.xoom.designer.codegen.Fingerprinted;
 import io.vlingo.xoom.designer.codegen.Label;
 import io.vlingo.xoom.designer.codegen.java.model.FieldDetail;
 import io.vlingo.xoom.designer.codegen.java.model.domainevent.DomainEventDetail;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
-public class EventMissingField {
+public class EventMissingField implements Fingerprinted {
 
   private final String fieldName;
   private final String defaultValue;
@@ -43,4 +45,9 @@ public class EventMissingField {
     return defaultValue;
   }
 
+  @Override
+  public List<?> fingerprintKey() {
+    return Arrays.asList(fieldName, defaultValue);
+  }
+
 }
@@ -53,7 +53,7 @@ public class ValueObjectDependencyOrder {
     return valueObject.retrieveAllRelated(Label.VALUE_OBJECT_FIELD)
             .filter(field -> ValueObjectDetail.isValueObject(field) || FieldDetail.isValueObjectCollection(field))
             .map(field -> field.retrieveRelatedValue(Label.FIELD_TYPE))
-            .map(type -> ValueObjectDetail.valueObjectOf(type, valueObjects.stream()))
+            .map(type -> ValueObjectDetail.valueObjectOf(type, valueObjects))
             .collect(Collectors.toList());
   }
 
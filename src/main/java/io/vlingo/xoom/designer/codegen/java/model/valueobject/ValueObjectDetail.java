@@ -9,9 +9,10 @@ package io.vlingo.xoom.designer.codegen.java.model.valueobject;
 
 import io.vlingo.xoom.codegen.content.CodeElementFormatter;
 import io.vlingo.xoom.codegen.content.Content;
-import io.vlingo.xoom.codegen.content.ContentQuery;
 import io.vlingo.xoom.codegen.parameter.CodeGenerationParameter;
+import io.vlingo.xoom.designer.codegen.CodeGenerationParameterIndex;
 import io.vlingo.xoom.designer.codegen.CollectionMutation;
+import io.vlingo.xoom.designer.codegen.ContentIndex;
 import io.vlingo.xoom.designer.codegen.Label;
 import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
 import io.vlingo.xoom.designer.codegen.java.model.FieldDetail;
@@ -48,7 +49,7 @@ public class ValueObjectDetail {
 
   public static String resolveTypeImport(final String valueObjectName,
                                          final List<Content> contents) {
-    return ContentQuery.findFullyQualifiedClassName(JavaTemplateStandard.VALUE_OBJECT, valueObjectName, contents);
+    return ContentIndex.findFullyQualifiedClassName(JavaTemplateStandard.VALUE_OBJECT, valueObjectName, contents);
   }
 
   public static Stream<CodeGenerationParameter> orderByDependency(final Stream<CodeGenerationParameter> valueObjects) {
@@ -63,11 +64,11 @@ public class ValueObjectDetail {
             exchanges.stream().filter(exchange -> exchange.hasAny(Label.DOMAIN_EVENT))
                     .flatMap(event -> event.retrieveAllRelated(Label.DOMAIN_EVENT))
                     .map(event -> AggregateDetail.eventWithName(event.parent(Label.AGGREGATE), event.value))
-                    .flatMap(event -> event.retrieveAllRelated(Label.STATE_FIELD))
+                    .flatMap(event -> CodeGenerationParameterIndex.retrieveAllRelated(event, Label.STATE_FIELD))
                     .map(stateField -> AggregateDetail.stateFieldWithName(stateField.parent(Label.AGGREGATE), stateField.value))
                     .filter(stateField-> ValueObjectDetail.isValueObject(stateField) || FieldDetail.isValueObjectCollection(stateField))
                     .map(field -> field.retrieveRelatedValue(Label.FIELD_TYPE))
-                    .map(type -> valueObjectOf(type, valueObjects.stream()))
+                    .map(type -> valueObjectOf(type, valueObjects))
                     .collect(Collectors.toList());
 
     final List<CodeGenerationParameter> relatedValueObjects =
@@ -79,6 +80,12 @@ public class ValueObjectDetail {
     return publishedValueObjects.values().stream();
   }
 
+  public static CodeGenerationParameter valueObjectOf(final String valueObjectType,
+                                                      final List<CodeGenerationParameter> valueObjects) {
+    return CodeGenerationParameterIndex.findByValue(valueObjects, valueObjectType)
+            .orElseThrow(() -> new IllegalArgumentException("Unable to find " + valueObjectType));
+  }
+
   public static CodeGenerationParameter valueObjectOf(final String valueObjectType,
                                                       final Stream<CodeGenerationParameter> valueObjects) {
     return valueObjects.filter(valueObject -> valueObject.value.equals(valueObjectType)).findFirst()
@@ -103,14 +110,14 @@ public class ValueObjectDetail {
 
   private static Stream<CodeGenerationParameter> findRelatedValueObjects(final CodeGenerationParameter valueObject,
                                                                          final List<CodeGenerationParameter> valueObjects) {
-    return valueObject.retrieveAllRelated(Label.VALUE_OBJECT_FIELD)
+    return CodeGenerationParameterIndex.retrieveAllRelated(valueObject, Label.VALUE_OBJECT_FIELD)
             .filter(stateField-> ValueObjectDetail.isValueObject(stateField) || FieldDetail.isValueObjectCollection(stateField))
             .map(valueObjectField -> valueObjectField.retrieveRelatedValue(Label.FIELD_TYPE))
-            .map(valueObjectType -> valueObjectOf(valueObjectType, valueObjects.stream()));
+            .map(valueObjectType -> valueObjectOf(valueObjectType, valueObjects));
   }
 
   public static boolean useValueObject(final CodeGenerationParameter aggregate) {
-    return aggregate.retrieveAllRelated(Label.STATE_FIELD)
+    return CodeGenerationParameterIndex.retrieveAllRelated(aggregate, Label.STATE_FIELD)
             .anyMatch(field -> FieldDetail.isValueObjectCollection(field) || ValueObjectDetail.isValueObject(field));
   }
 
@@ -129,9 +136,8 @@ public class ValueObjectDetail {
 
   public static CodeGenerationParameter valueObjectFieldWithName(final CodeGenerationParameter parent,
                                                                  final String fieldName) {
-    return parent.retrieveAllRelated(Label.VALUE_OBJECT_FIELD)
-            .filter(field -> field.value.equals(fieldName))
-            .findFirst().orElseThrow(() -> new IllegalArgumentException("Unable to find " + fieldName));
+    return CodeGenerationParameterIndex.findRelated(parent, Label.VALUE_OBJECT_FIELD, fieldName)
+            .orElseThrow(() -> new IllegalArgumentException("Unable to find " + fieldName));
   }
 
   public static String translateDataObjectCollection(final String fieldPath,
@@ -61,7 +61,7 @@ public class ValueObjectInitializer extends Formatters.Variables<List<String>> {
                                final List<CodeGenerationParameter> valueObjects,
                                final List<String> expressions) {
     final CodeGenerationParameter valueObject =
-        ValueObjectDetail.valueObjectOf(field.retrieveRelatedValue(Label.FIELD_TYPE), valueObjects.stream());
+        ValueObjectDetail.valueObjectOf(field.retrieveRelatedValue(Label.FIELD_TYPE), valueObjects);
 
     final String fieldReferencePath =
         String.format("%s.%s", carrierReferencePath, field.value);
@@ -8,7 +8,7 @@
 package io.vlingo.xoom.designer.codegen.java.projections;
 
 import io.vlingo.xoom.codegen.content.Content;
-import io.vlingo.xoom.codegen.content.ContentQuery;
+import io.vlingo.xoom.designer.codegen.ContentIndex;
 import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
 
 import java.util.Iterator;
@@ -34,7 +34,7 @@ public class ProjectToDescription {
   public static List<ProjectToDescription> from(final ProjectionType projectionType,
                                                 final List<Content> contents) {
     final Set<String> aggregateProtocols =
-            ContentQuery.findClassNames(JavaTemplateStandard.AGGREGATE_PROTOCOL, contents);
+            ContentIndex.findClassNames(JavaTemplateStandard.AGGREGATE_PROTOCOL, contents);
 
     final Iterator<String> iterator = aggregateProtocols.iterator();
 
@@ -55,10 +55,10 @@ public class ProjectToDescription {
                                                   final ProjectionType projectionType,
                                                   final List<Content> contents) {
     final String protocolPackage =
-            ContentQuery.findPackage(JavaTemplateStandard.AGGREGATE_PROTOCOL, aggregateProtocol, contents);
+            ContentIndex.findPackage(JavaTemplateStandard.AGGREGATE_PROTOCOL, aggregateProtocol, contents);
 
     final Set<String> sourceNames =
-            ContentQuery.findClassNames(JavaTemplateStandard.DOMAIN_EVENT, protocolPackage, contents);
+            ContentIndex.findClassNames(JavaTemplateStandard.DOMAIN_EVENT, protocolPackage, contents);
 
     if (sourceNames.isEmpty()) {
       return String.format(FIRST_BECAUSE_OF_PLACEHOLDER, projectionType.sourceName) + ", " +
@@ -8,10 +8,10 @@ package io.vlingo.xoom.designer.codegen.java.projections;
 
 import io.vlingo.xoom.codegen.content.CodeElementFormatter;
 import io.vlingo.xoom.codegen.content.Content;
-import io.vlingo.xoom.codegen.content.ContentQuery;
 import io.vlingo.xoom.codegen.template.TemplateData;
 import io.vlingo.xoom.codegen.template.TemplateParameters;
 import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.ContentIndex;
 import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
 import io.vlingo.xoom.turbo.ComponentRegistry;
 
@@ -75,7 +75,7 @@ public class ProjectionDispatcherProviderTemplateData extends TemplateData {
       return Stream.of(allSourceTypes).collect(Collectors.toSet());
     }
 
-    return ContentQuery.findFullyQualifiedClassNames(JavaTemplateStandard.DOMAIN_EVENT, contents);
+    return ContentIndex.findFullyQualifiedClassNames(JavaTemplateStandard.DOMAIN_EVENT, contents);
   }
 
   @Override
@@ -8,15 +8,24 @@
 package io.vlingo.xoom.designer.codegen.java.projections;
 
 import io.vlingo.xoom.codegen.CodeGenerationContext;
-import io.vlingo.xoom.codegen.content.ContentQuery;
 import io.vlingo.xoom.codegen.template.TemplateData;
-import io.vlingo.xoom.codegen.template.TemplateProcessingStep;
+import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.CachedTemplateProcessingStep;
+import io.vlingo.xoom.designer.codegen.ContentDependentStep;
+import io.vlingo.xoom.designer.codegen.ContentIndex;
 import io.vlingo.xoom.designer.codegen.Label;
 import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
 
 import java.util.List;
+import java.util.Set;
 
-public class ProjectionGenerationStep extends TemplateProcessingStep {
+import static io.vlingo.xoom.designer.codegen.ContentDependentStep.union;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.DATA_OBJECTS;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.MODEL;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.PROJECTIONS;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.AGGREGATE_PROTOCOL;
+
+public class ProjectionGenerationStep extends CachedTemplateProcessingStep implements ContentDependentStep {
 
   @Override
   protected List<TemplateData> buildTemplatesData(final CodeGenerationContext context) {
@@ -26,7 +35,17 @@ public class ProjectionGenerationStep extends TemplateProcessingStep {
   @Override
   public boolean shouldProcess(final CodeGenerationContext context) {
     final ProjectionType projectionType = context.parameterOf(Label.PROJECTION_TYPE, ProjectionType::valueOf);
-    return ContentQuery.exists(JavaTemplateStandard.AGGREGATE_PROTOCOL, context.contents()) && projectionType.isProjectionEnabled();
+    return ContentIndex.exists(JavaTemplateStandard.AGGREGATE_PROTOCOL, context.contents()) && projectionType.isProjectionEnabled();
+  }
+
+  @Override
+  public Set<TemplateStandard> consumes() {
+    return union(MODEL, DATA_OBJECTS);
+  }
+
+  @Override
+  public Set<TemplateStandard> produces() {
+    return PROJECTIONS;
   }
 
 }
@@ -9,10 +9,10 @@ package io.vlingo.xoom.designer.codegen.java.projections;
 
 import io.vlingo.xoom.codegen.content.CodeElementFormatter;
 import io.vlingo.xoom.codegen.content.Content;
-import io.vlingo.xoom.codegen.content.ContentQuery;
 import io.vlingo.xoom.codegen.template.TemplateData;
 import io.vlingo.xoom.codegen.template.TemplateParameters;
 import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.ContentIndex;
 import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
 import io.vlingo.xoom.designer.codegen.java.TemplateParameter;
 import io.vlingo.xoom.turbo.ComponentRegistry;
@@ -40,7 +40,7 @@ public class ProjectionSourceTypesTemplateData extends TemplateData {
 
     this.parameters =
             TemplateParameters.with(TemplateParameter.PACKAGE_NAME, packageName).and(TemplateParameter.PROJECTION_TYPE, projectionType)
-                    .and(TemplateParameter.PROJECTION_SOURCES, ContentQuery.findClassNames(JavaTemplateStandard.DOMAIN_EVENT, contents))
+                    .and(TemplateParameter.PROJECTION_SOURCES, ContentIndex.findClassNames(JavaTemplateStandard.DOMAIN_EVENT, contents))
                     .and(TemplateParameter.PROJECTION_SOURCE_TYPES_NAME, resolveClassName(projectionType))
                     .andResolve(TemplateParameter.PROJECTION_SOURCE_TYPES_QUALIFIED_NAME, this::resolveQualifiedName);
   }
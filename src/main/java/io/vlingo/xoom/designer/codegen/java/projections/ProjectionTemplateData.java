@@ -8,12 +8,12 @@ package io.vlingo.xoom.designer.codegen.java.projections;
 
 import io.vlingo.xoom.codegen.content.CodeElementFormatter;
 import io.vlingo.xoom.codegen.content.Content;
-import io.vlingo.xoom.codegen.content.ContentQuery;
 import io.vlingo.xoom.codegen.parameter.CodeGenerationParameter;
 import io.vlingo.xoom.codegen.template.TemplateData;
 import io.vlingo.xoom.codegen.template.TemplateParameters;
 import io.vlingo.xoom.codegen.template.TemplateStandard;
 import io.vlingo.xoom.designer.codegen.CodeGenerationProperties;
+import io.vlingo.xoom.designer.codegen.ContentIndex;
 import io.vlingo.xoom.designer.codegen.Label;
 import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
 import io.vlingo.xoom.designer.codegen.java.TemplateParameter;
@@ -88,8 +88,8 @@ public class ProjectionTemplateData extends TemplateData {
             ComponentRegistry.withName("defaultCodeFormatter");
 
     final Stream<String> defaultImports =
-            Stream.of(ContentQuery.findPackage(JavaTemplateStandard.AGGREGATE_PROTOCOL, protocolName, contents),
-                    ContentQuery.findPackage(JavaTemplateStandard.DATA_OBJECT, dataObjectName, contents))
+            Stream.of(ContentIndex.findPackage(JavaTemplateStandard.AGGREGATE_PROTOCOL, protocolName, contents),
+                    ContentIndex.findPackage(JavaTemplateStandard.DATA_OBJECT, dataObjectName, contents))
                     .map(codeElementFormatter::importAllFrom);
 
     final Stream<String> specialTypesImports =
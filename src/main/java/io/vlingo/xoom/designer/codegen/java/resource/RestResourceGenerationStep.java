@@ -9,12 +9,22 @@ package io.vlingo.xoom.designer.codegen.java.resource;
 
 import io.vlingo.xoom.codegen.CodeGenerationContext;
 import io.vlingo.xoom.codegen.template.TemplateData;
-import io.vlingo.xoom.codegen.template.TemplateProcessingStep;
+import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.CachedTemplateProcessingStep;
+import io.vlingo.xoom.designer.codegen.ContentDependentStep;
 import io.vlingo.xoom.designer.codegen.Label;
 
 import java.util.List;
+import java.util.Set;
 
-public class RestResourceGenerationStep extends TemplateProcessingStep {
+import static io.vlingo.xoom.designer.codegen.ContentDependentStep.union;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.DATA_OBJECTS;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.MODEL;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.PROJECTIONS;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.REST_RESOURCES;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.STORAGE;
+
+public class RestResourceGenerationStep extends CachedTemplateProcessingStep implements ContentDependentStep {
 
   @Override
   protected List<TemplateData> buildTemplatesData(final CodeGenerationContext context) {
@@ -26,4 +36,14 @@ public class RestResourceGenerationStep extends TemplateProcessingStep {
     return !context.hasParameter(Label.USE_AUTO_DISPATCH) || !context.parameterOf(Label.USE_AUTO_DISPATCH, Boolean::valueOf);
   }
 
+  @Override
+  public Set<TemplateStandard> consumes() {
+    return union(MODEL, DATA_OBJECTS, PROJECTIONS, STORAGE);
+  }
+
+  @Override
+  public Set<TemplateStandard> produces() {
+    return REST_RESOURCES;
+  }
+
 }
@@ -30,8 +30,8 @@ import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
-import static io.vlingo.xoom.codegen.content.ContentQuery.findFullyQualifiedClassName;
-import static io.vlingo.xoom.codegen.content.ContentQuery.findPackage;
+import static io.vlingo.xoom.designer.codegen.ContentIndex.findFullyQualifiedClassName;
+import static io.vlingo.xoom.designer.codegen.ContentIndex.findPackage;
 import static io.vlingo.xoom.designer.codegen.java.TemplateParameter.*;
 import static java.util.stream.Collectors.toList;
 
@@ -67,7 +67,7 @@ public class RestResourceTemplateData extends TemplateData {
             params -> requireModelTypes(aggregateParameter) ? aggregateName : "";
 
     if (useCQRS) {
-      aggregateParameter.relate(RouteDetail.defaultQueryRoutes(aggregateParameter));
+      RouteDetail.relateDefaultQueryRoutes(aggregateParameter);
     }
 
     return TemplateParameters.with(REST_RESOURCE_NAME, JavaTemplateStandard.REST_RESOURCE.resolveClassname(aggregateName))
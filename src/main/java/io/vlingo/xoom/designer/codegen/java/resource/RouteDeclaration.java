@@ -8,17 +8,19 @@
 package io.vlingo.xoom.designer.codegen.java.resource;
 
 import io.vlingo.xoom.codegen.parameter.CodeGenerationParameter;
+import io.vlingo.xoom.designer.codegen.Fingerprinted;
 import io.vlingo.xoom.designer.codegen.Label;
 import io.vlingo.xoom.http.resource.ResourceBuilder;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
 
-public class RouteDeclaration {
+public class RouteDeclaration implements Fingerprinted {
 
   public final String path;
   public final String bodyType;
@@ -61,4 +63,9 @@ public class RouteDeclaration {
         .collect(toList());
   }
 
+  @Override
+  public List<?> fingerprintKey() {
+    return Arrays.asList(path, bodyType, handlerName, builderMethod, signature, parameterTypes);
+  }
+
 }
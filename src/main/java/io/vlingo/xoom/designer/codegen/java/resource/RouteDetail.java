@@ -8,6 +8,7 @@
 package io.vlingo.xoom.designer.codegen.java.resource;
 
 import io.vlingo.xoom.codegen.parameter.CodeGenerationParameter;
+import io.vlingo.xoom.designer.codegen.CodeGenerationParameterIndex;
 import io.vlingo.xoom.designer.codegen.Label;
 import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
 import io.vlingo.xoom.designer.codegen.java.formatting.Formatters;
@@ -64,13 +65,13 @@ public class RouteDetail {
   }
 
   public static boolean requireEntityLoad(final CodeGenerationParameter aggregate) {
-    return aggregate.retrieveAllRelated(Label.ROUTE_SIGNATURE)
+    return CodeGenerationParameterIndex.retrieveAllRelated(aggregate, Label.ROUTE_SIGNATURE)
             .filter(route -> route.hasAny(Label.REQUIRE_ENTITY_LOADING))
             .anyMatch(route -> route.retrieveRelatedValue(Label.REQUIRE_ENTITY_LOADING, Boolean::valueOf));
   }
 
   public static boolean requireModelFactory(final CodeGenerationParameter aggregate) {
-    return aggregate.retrieveAllRelated(Label.ROUTE_SIGNATURE)
+    return CodeGenerationParameterIndex.retrieveAllRelated(aggregate, Label.ROUTE_SIGNATURE)
             .map(methodSignature -> AggregateDetail.methodWithName(aggregate, methodSignature.value))
             .anyMatch(method -> method.retrieveRelatedValue(Label.FACTORY_METHOD, Boolean::valueOf));
   }
@@ -94,9 +95,9 @@ public class RouteDetail {
   }
 
   public static Stream<CodeGenerationParameter> findInvolvedStateFieldTypes(final CodeGenerationParameter aggregate) {
-    return aggregate.retrieveAllRelated(Label.ROUTE_SIGNATURE).filter(RouteDetail::hasBody)
+    return CodeGenerationParameterIndex.retrieveAllRelated(aggregate, Label.ROUTE_SIGNATURE).filter(RouteDetail::hasBody)
             .map(route -> AggregateDetail.methodWithName(aggregate, route.value))
-            .flatMap(method -> method.retrieveAllRelated(Label.METHOD_PARAMETER))
+            .flatMap(method -> CodeGenerationParameterIndex.retrieveAllRelated(method, Label.METHOD_PARAMETER))
             .map(parameter -> AggregateDetail.stateFieldWithName(aggregate, parameter.value));
   }
 
@@ -218,6 +219,13 @@ public class RouteDetail {
     return signature.contains("(") && signature.contains(")");
   }
 
+  public static void relateDefaultQueryRoutes(final CodeGenerationParameter aggregate) {
+    final String queryAllMethodName = QueriesDetail.resolveQueryAllMethodName(aggregate.value);
+    if (!CodeGenerationParameterIndex.findRelated(aggregate, Label.ROUTE_SIGNATURE, queryAllMethodName).isPresent()) {
+      CodeGenerationParameterIndex.relate(aggregate, defaultQueryRoutes(aggregate));
+    }
+  }
+
   public static CodeGenerationParameter[] defaultQueryRoutes(final CodeGenerationParameter aggregate) {
     final CodeGenerationParameter queryAll =
             CodeGenerationParameter.of(Label.ROUTE_SIGNATURE, QueriesDetail.resolveQueryAllMethodName(aggregate.value))
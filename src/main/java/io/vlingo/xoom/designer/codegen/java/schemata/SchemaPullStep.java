@@ -8,6 +8,7 @@ package io.vlingo.xoom.designer.codegen.java.schemata;
 
 import io.vlingo.xoom.codegen.CodeGenerationContext;
 import io.vlingo.xoom.codegen.CodeGenerationStep;
+import io.vlingo.xoom.designer.codegen.InMemoryProjectTree;
 import io.vlingo.xoom.designer.codegen.Label;
 import io.vlingo.xoom.designer.codegen.java.SchemataSettings;
 import io.vlingo.xoom.designer.codegen.java.exchange.ExchangeRole;
@@ -28,6 +29,7 @@ public class SchemaPullStep implements CodeGenerationStep {
 
   @Override
   public void process(final CodeGenerationContext context) {
+    InMemoryProjectTree.of(context).ifPresent(InMemoryProjectTree::materialize);
     new CommandExecutor(commandExecutionProcess) {
       @Override
       protected String formatCommands() {
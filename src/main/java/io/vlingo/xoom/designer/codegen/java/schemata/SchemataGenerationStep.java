@@ -9,17 +9,26 @@ package io.vlingo.xoom.designer.codegen.java.schemata;
 import io.vlingo.xoom.codegen.CodeGenerationContext;
 import io.vlingo.xoom.codegen.parameter.CodeGenerationParameter;
 import io.vlingo.xoom.codegen.template.TemplateData;
-import io.vlingo.xoom.codegen.template.TemplateProcessingStep;
+import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.CachedTemplateProcessingStep;
+import io.vlingo.xoom.designer.codegen.ContentDependentStep;
 import io.vlingo.xoom.designer.codegen.Label;
 import io.vlingo.xoom.designer.codegen.java.SchemataSettings;
 import io.vlingo.xoom.designer.codegen.java.model.valueobject.ValueObjectDetail;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-public class SchemataGenerationStep extends TemplateProcessingStep {
+import static io.vlingo.xoom.designer.codegen.ContentDependentStep.standards;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.SCHEMATA_DNS;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.SCHEMATA_PLUGIN;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.SCHEMATA_SPECIFICATION;
+
+public class SchemataGenerationStep extends CachedTemplateProcessingStep implements ContentDependentStep {
 
   @Override
   protected List<TemplateData> buildTemplatesData(final CodeGenerationContext context) {
@@ -63,4 +72,15 @@ public class SchemataGenerationStep extends TemplateProcessingStep {
   public boolean shouldProcess(final CodeGenerationContext context) {
     return context.parametersOf(Label.AGGREGATE).flatMap(aggregate -> aggregate.retrieveAllRelated(Label.EXCHANGE)).count() > 0;
   }
+
+  @Override
+  public Set<TemplateStandard> consumes() {
+    return Collections.emptySet();
+  }
+
+  @Override
+  public Set<TemplateStandard> produces() {
+    return standards(SCHEMATA_DNS, SCHEMATA_PLUGIN, SCHEMATA_SPECIFICATION);
+  }
+
 }
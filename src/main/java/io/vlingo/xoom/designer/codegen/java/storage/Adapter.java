@@ -9,15 +9,17 @@ package io.vlingo.xoom.designer.codegen.java.storage;
 
 import io.vlingo.xoom.codegen.template.TemplateData;
 import io.vlingo.xoom.codegen.template.TemplateParameters;
+import io.vlingo.xoom.designer.codegen.Fingerprinted;
 import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
 import io.vlingo.xoom.designer.codegen.java.TemplateParameter;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
-public class Adapter {
+public class Adapter implements Fingerprinted {
 
   private final String sourceClass;
   private final String adapterClass;
@@ -62,4 +64,9 @@ public class Adapter {
     return last;
   }
 
+  @Override
+  public List<?> fingerprintKey() {
+    return Arrays.asList(sourceClass, adapterClass, last);
+  }
+
 }
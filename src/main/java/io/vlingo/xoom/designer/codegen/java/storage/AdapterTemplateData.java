@@ -8,11 +8,11 @@
 package io.vlingo.xoom.designer.codegen.java.storage;
 
 import io.vlingo.xoom.codegen.content.Content;
-import io.vlingo.xoom.codegen.content.ContentQuery;
 import io.vlingo.xoom.codegen.parameter.ImportParameter;
 import io.vlingo.xoom.codegen.template.TemplateData;
 import io.vlingo.xoom.codegen.template.TemplateParameters;
 import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.ContentIndex;
 import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
 import io.vlingo.xoom.designer.codegen.java.TemplateParameter;
 
@@ -28,7 +28,7 @@ public class AdapterTemplateData extends TemplateData {
   public static List<TemplateData> from(final String persistencePackage,
                                         final StorageType storageType,
                                         final List<Content> contents) {
-    return ContentQuery.findClassNames(storageType.adapterSourceClassStandard, contents)
+    return ContentIndex.findClassNames(storageType.adapterSourceClassStandard, contents)
             .stream().map(sourceClassName ->
                     new AdapterTemplateData(sourceClassName,
                             storageType.adapterSourceClassStandard,
@@ -50,7 +50,7 @@ public class AdapterTemplateData extends TemplateData {
                                             final StorageType storageType,
                                             final List<Content> contents) {
     final String sourceQualifiedClassName =
-            ContentQuery.findFullyQualifiedClassName(sourceClassStandard, sourceClassName, contents);
+            ContentIndex.findFullyQualifiedClassName(sourceClassStandard, sourceClassName, contents);
 
     return TemplateParameters.with(TemplateParameter.PACKAGE_NAME, packageName)
             .and(TemplateParameter.IMPORTS, ImportParameter.of(sourceQualifiedClassName))
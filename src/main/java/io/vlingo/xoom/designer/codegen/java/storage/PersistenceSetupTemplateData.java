@@ -8,10 +8,10 @@
 package io.vlingo.xoom.designer.codegen.java.storage;
 
 import io.vlingo.xoom.codegen.content.Content;
-import io.vlingo.xoom.codegen.content.ContentQuery;
 import io.vlingo.xoom.codegen.template.TemplateData;
 import io.vlingo.xoom.codegen.template.TemplateParameters;
 import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.ContentIndex;
 import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
 import io.vlingo.xoom.designer.codegen.java.TemplateParameter;
 import io.vlingo.xoom.designer.codegen.java.projections.ProjectionType;
@@ -71,13 +71,13 @@ public class PersistenceSetupTemplateData extends TemplateData {
 
   private Set<String> resolveImports(final boolean useCQRS, final List<Content> contents) {
     if (useCQRS) {
-      return ContentQuery.findFullyQualifiedClassNames(contents, JavaTemplateStandard.AGGREGATE_STATE, JavaTemplateStandard.DATA_OBJECT, JavaTemplateStandard.DOMAIN_EVENT);
+      return ContentIndex.findFullyQualifiedClassNames(contents, JavaTemplateStandard.AGGREGATE_STATE, JavaTemplateStandard.DATA_OBJECT, JavaTemplateStandard.DOMAIN_EVENT);
     }
-    return ContentQuery.findFullyQualifiedClassNames(contents, JavaTemplateStandard.AGGREGATE_STATE, JavaTemplateStandard.DATA_OBJECT);
+    return ContentIndex.findFullyQualifiedClassNames(contents, JavaTemplateStandard.AGGREGATE_STATE, JavaTemplateStandard.DATA_OBJECT);
   }
 
   private String resolveDataObjectNames(final List<Content> contents) {
-    return ContentQuery.findClassNames(JavaTemplateStandard.DATA_OBJECT, contents).stream()
+    return ContentIndex.findClassNames(JavaTemplateStandard.DATA_OBJECT, contents).stream()
             .map(name -> name + ".class").collect(Collectors.joining(", "));
   }
 
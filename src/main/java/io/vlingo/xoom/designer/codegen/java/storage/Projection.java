@@ -8,7 +8,7 @@
 package io.vlingo.xoom.designer.codegen.java.storage;
 
 import io.vlingo.xoom.codegen.content.Content;
-import io.vlingo.xoom.codegen.content.ContentQuery;
+import io.vlingo.xoom.designer.codegen.ContentIndex;
 import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
 
 import java.util.List;
@@ -25,7 +25,7 @@ public class Projection {
 
   public static List<Projection> from(final List<Content> contents) {
     final List<Content> protocols =
-            ContentQuery.filterByStandard(JavaTemplateStandard.AGGREGATE_PROTOCOL, contents)
+            ContentIndex.filterByStandard(JavaTemplateStandard.AGGREGATE_PROTOCOL, contents)
                     .collect(Collectors.toList());
 
     final IntFunction<Projection> mapper =
@@ -47,7 +47,7 @@ public class Projection {
   private String joinEvents(final Content protocol,
                             final List<Content> contents) {
     final Set<String> eventNames =
-            ContentQuery.findClassNames(JavaTemplateStandard.DOMAIN_EVENT,
+            ContentIndex.findClassNames(JavaTemplateStandard.DOMAIN_EVENT,
                     protocol.retrievePackage(), contents);
 
     return eventNames.stream()
@@ -8,10 +8,11 @@ package io.vlingo.xoom.designer.codegen.java.storage;
 
 import io.vlingo.xoom.codegen.content.CodeElementFormatter;
 import io.vlingo.xoom.codegen.content.Content;
-import io.vlingo.xoom.codegen.content.ContentQuery;
 import io.vlingo.xoom.codegen.parameter.CodeGenerationParameter;
 import io.vlingo.xoom.codegen.template.TemplateData;
 import io.vlingo.xoom.codegen.template.TemplateParameters;
+import io.vlingo.xoom.designer.codegen.ContentIndex;
+import io.vlingo.xoom.designer.codegen.Fingerprinted;
 import io.vlingo.xoom.designer.codegen.Label;
 import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
 import io.vlingo.xoom.designer.codegen.java.TemplateParameter;
@@ -20,7 +21,7 @@ import io.vlingo.xoom.turbo.ComponentRegistry;
 import java.util.*;
 import java.util.stream.Collectors;
 
-public class Queries {
+public class Queries implements Fingerprinted {
 
   private static final String QUALIFIED_NAME_PATTERN = "%s.%s";
 
@@ -46,8 +47,8 @@ public class Queries {
       return Collections.emptyList();
     }
 
-    if (ContentQuery.exists(JavaTemplateStandard.QUERIES_ACTOR, contents)) {
-      return ContentQuery.filterByStandard(JavaTemplateStandard.QUERIES_ACTOR, contents)
+    if (ContentIndex.exists(JavaTemplateStandard.QUERIES_ACTOR, contents)) {
+      return ContentIndex.filterByStandard(JavaTemplateStandard.QUERIES_ACTOR, contents)
               .filter(Content::isProtocolBased)
               .map(content -> new Queries(content.retrieveProtocolQualifiedName(),
                       content.retrieveQualifiedName()))
@@ -75,8 +76,8 @@ public class Queries {
 
     final String queriesProtocol = JavaTemplateStandard.QUERIES.resolveClassname(aggregateParameter.value);
     final String queriesActor = JavaTemplateStandard.QUERIES_ACTOR.resolveClassname(aggregateParameter.value);
-    return new Queries(ContentQuery.findFullyQualifiedClassName(JavaTemplateStandard.QUERIES, queriesProtocol, contents),
-            ContentQuery.findFullyQualifiedClassName(JavaTemplateStandard.QUERIES_ACTOR, queriesActor, contents));
+    return new Queries(ContentIndex.findFullyQualifiedClassName(JavaTemplateStandard.QUERIES, queriesProtocol, contents),
+            ContentIndex.findFullyQualifiedClassName(JavaTemplateStandard.QUERIES_ACTOR, queriesActor, contents));
   }
 
   private static Queries empty() {
@@ -132,4 +133,10 @@ public class Queries {
   private static CodeElementFormatter codeElementFormatter() {
     return ComponentRegistry.withName("defaultCodeFormatter");
   }
+
+  @Override
+  public List<?> fingerprintKey() {
+    return Arrays.asList(protocolName, actorName, attributeName, qualifiedNames);
+  }
+
 }
@@ -8,11 +8,11 @@
 package io.vlingo.xoom.designer.codegen.java.storage;
 
 import io.vlingo.xoom.codegen.content.Content;
-import io.vlingo.xoom.codegen.content.ContentQuery;
 import io.vlingo.xoom.codegen.parameter.CodeGenerationParameter;
 import io.vlingo.xoom.codegen.parameter.ImportParameter;
 import io.vlingo.xoom.codegen.template.TemplateData;
 import io.vlingo.xoom.codegen.template.TemplateParameters;
+import io.vlingo.xoom.designer.codegen.ContentIndex;
 import io.vlingo.xoom.designer.codegen.Label;
 import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
 import io.vlingo.xoom.designer.codegen.java.TemplateParameter;
@@ -34,7 +34,7 @@ public class QueriesTemplateDataFactory {
     if (!useCQRS) {
       return Collections.emptyList();
     }
-    return ContentQuery.findClassNames(JavaTemplateStandard.AGGREGATE_PROTOCOL, contents)
+    return ContentIndex.findClassNames(JavaTemplateStandard.AGGREGATE_PROTOCOL, contents)
             .stream().map(protocol -> createTemplates(protocol, persistencePackage, contents))
             .flatMap(templateData -> templateData.stream()).collect(Collectors.toList());
   }
@@ -46,7 +46,7 @@ public class QueriesTemplateDataFactory {
     if (!useCQRS) {
       return Collections.emptyList();
     }
-    return ContentQuery.findClassNames(JavaTemplateStandard.AGGREGATE_PROTOCOL, contents)
+    return ContentIndex.findClassNames(JavaTemplateStandard.AGGREGATE_PROTOCOL, contents)
         .stream().map(protocol -> createTemplates(protocol, persistencePackage, contents,
             aggregates.stream().filter(aggregate -> aggregate.value.equals(protocol)).findFirst()))
         .flatMap(templateData -> templateData.stream()).collect(Collectors.toList());
@@ -95,7 +95,7 @@ public class QueriesTemplateDataFactory {
             JavaTemplateStandard.DATA_OBJECT.resolveClassname(aggregateProtocol);
 
     final String dataObjectQualifiedName =
-            ContentQuery.findFullyQualifiedClassName(JavaTemplateStandard.DATA_OBJECT, dataObjectName, contents);
+            ContentIndex.findFullyQualifiedClassName(JavaTemplateStandard.DATA_OBJECT, dataObjectName, contents);
 
     return TemplateParameters.with(TemplateParameter.PACKAGE_NAME, persistencePackage)
             .and(TemplateParameter.STATE_DATA_OBJECT_NAME, dataObjectName)
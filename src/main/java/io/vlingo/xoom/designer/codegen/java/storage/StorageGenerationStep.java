@@ -10,7 +10,9 @@ package io.vlingo.xoom.designer.codegen.java.storage;
 import io.vlingo.xoom.codegen.CodeGenerationContext;
 import io.vlingo.xoom.codegen.parameter.CodeGenerationParameter;
 import io.vlingo.xoom.codegen.template.TemplateData;
-import io.vlingo.xoom.codegen.template.TemplateProcessingStep;
+import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.CachedTemplateProcessingStep;
+import io.vlingo.xoom.designer.codegen.ContentDependentStep;
 import io.vlingo.xoom.designer.codegen.Label;
 import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
 import io.vlingo.xoom.designer.codegen.java.model.FieldDetail;
@@ -19,9 +21,18 @@ import io.vlingo.xoom.designer.codegen.java.projections.ProjectionType;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-public class StorageGenerationStep extends TemplateProcessingStep {
+import static io.vlingo.xoom.designer.codegen.ContentDependentStep.union;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.DATA_OBJECTS;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.MODEL;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.PROJECTIONS;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.STORAGE;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.ADAPTER;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.AGGREGATE;
+
+public class StorageGenerationStep extends CachedTemplateProcessingStep implements ContentDependentStep {
 
   @Override
   protected List<TemplateData> buildTemplatesData(final CodeGenerationContext context) {
@@ -77,4 +88,15 @@ public class StorageGenerationStep extends TemplateProcessingStep {
       put(Model.DOMAIN, context.parameterOf(Label.DATABASE, name -> DatabaseType.getOrDefault(name, DatabaseType.IN_MEMORY)));
     }};
   }
+
+  @Override
+  public Set<TemplateStandard> consumes() {
+    return union(MODEL, DATA_OBJECTS, PROJECTIONS);
+  }
+
+  @Override
+  public Set<TemplateStandard> produces() {
+    return STORAGE;
+  }
+
 }
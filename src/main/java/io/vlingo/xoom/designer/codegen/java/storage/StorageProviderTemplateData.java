@@ -9,10 +9,10 @@ package io.vlingo.xoom.designer.codegen.java.storage;
 
 import io.vlingo.xoom.codegen.content.CodeElementFormatter;
 import io.vlingo.xoom.codegen.content.Content;
-import io.vlingo.xoom.codegen.content.ContentQuery;
 import io.vlingo.xoom.codegen.template.TemplateData;
 import io.vlingo.xoom.codegen.template.TemplateParameters;
 import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.ContentIndex;
 import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
 import io.vlingo.xoom.designer.codegen.java.TemplateParameter;
 import io.vlingo.xoom.designer.codegen.java.projections.ProjectionType;
@@ -73,7 +73,7 @@ public class StorageProviderTemplateData extends TemplateData {
             .and(TemplateParameter.REQUIRE_ADAPTERS, storageType.requireAdapters(model))
             .and(TemplateParameter.USE_PROJECTIONS, projectionType.isProjectionEnabled())
             .and(TemplateParameter.ADAPTERS, adapters).and(TemplateParameter.QUERIES, queries)
-            .and(TemplateParameter.AGGREGATES, ContentQuery.findClassNames(JavaTemplateStandard.AGGREGATE, contents))
+            .and(TemplateParameter.AGGREGATES, ContentIndex.findClassNames(JavaTemplateStandard.AGGREGATE, contents))
             .and(TemplateParameter.PERSISTENT_TYPES, persistentTypes.map(codeElementFormatter::simpleNameOf).collect(toSet()))
             .andResolve(TemplateParameter.STORE_PROVIDER_NAME, JavaTemplateStandard.STORE_PROVIDER::resolveClassname)
             .and(TemplateParameter.USE_ANNOTATIONS, useAnnotation)
@@ -95,7 +95,7 @@ public class StorageProviderTemplateData extends TemplateData {
             .collect(toSet());
 
     final Set<String> aggregateActorQualifiedNames = storageType.isSourced() ?
-            ContentQuery.findFullyQualifiedClassNames(JavaTemplateStandard.AGGREGATE, contents) : new HashSet<>();
+            ContentIndex.findFullyQualifiedClassNames(JavaTemplateStandard.AGGREGATE, contents) : new HashSet<>();
 
     return Stream.of(sourceClassQualifiedNames, queriesQualifiedNames,
             aggregateActorQualifiedNames, persistentTypes).flatMap(s -> s.stream())
@@ -2,8 +2,8 @@ package io.vlingo.xoom.designer.codegen.java.storage;
 
 import io.vlingo.xoom.codegen.content.CodeElementFormatter;
 import io.vlingo.xoom.codegen.content.Content;
-import io.vlingo.xoom.codegen.content.ContentQuery;
 import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.ContentIndex;
 import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
 import io.vlingo.xoom.turbo.ComponentRegistry;
 
@@ -88,7 +88,7 @@ public enum StorageType {
 
   public Set<String> resolveAdaptersQualifiedName(final Model model, final List<Content> contents) {
     if (requireAdapters(model)) {
-      return ContentQuery.findFullyQualifiedClassNames(adapterSourceClassStandard, contents);
+      return ContentIndex.findFullyQualifiedClassNames(adapterSourceClassStandard, contents);
     }
     return Collections.emptySet();
   }
@@ -96,7 +96,7 @@ public enum StorageType {
   public Set<String> findPersistentQualifiedTypes(final Model model, final List<Content> contents) {
     if (model.isQueryModel() || isStateful()) {
       final TemplateStandard typeStandard = model.isQueryModel() ? JavaTemplateStandard.DATA_OBJECT : JavaTemplateStandard.AGGREGATE_STATE;
-      return ContentQuery.findFullyQualifiedClassNames(typeStandard, contents);
+      return ContentIndex.findFullyQualifiedClassNames(typeStandard, contents);
     }
     return new HashSet<>();
   }
@@ -0,0 +1,87 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.codegen.java.structure;
+
+import io.vlingo.xoom.designer.ModelProcessingException;
+import io.vlingo.xoom.designer.codegen.InMemoryProjectTree;
+import io.vlingo.xoom.designer.infrastructure.PrecompressedFiles;
+import io.vlingo.xoom.designer.infrastructure.StagingFolder;
+import io.vlingo.xoom.terminal.Terminal;
+import io.vlingo.xoom.turbo.ComponentRegistry;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.vlingo.xoom.designer.Configuration.MAVEN_WRAPPER_DIRECTORY;
+
+public class MavenWrapperPayload {
+
+  private static final List<String> MAVEN_WRAPPER_FILES = Arrays.asList("mvnw", "mvnw.cmd");
+
+  private final Map<String, byte[]> files;
+
+  public static synchronized MavenWrapperPayload instance() {
+    if (!ComponentRegistry.has(MavenWrapperPayload.class)) {
+      ComponentRegistry.register(MavenWrapperPayload.class, load(StagingFolder.path(), PrecompressedFiles.instance()));
+    }
+    return ComponentRegistry.withType(MavenWrapperPayload.class);
+  }
+
+  static MavenWrapperPayload load(final Path stagingFolder, final PrecompressedFiles precompressedFiles) {
+    try {
+      final Map<String, byte[]> files = new TreeMap<>();
+      for (final String filename : MAVEN_WRAPPER_FILES) {
+        files.put(filename, Files.readAllBytes(stagingFolder.resolve(filename)));
+      }
+      try (final Stream<Path> paths = Files.walk(stagingFolder.resolve(MAVEN_WRAPPER_DIRECTORY))) {
+        for (final Path file : paths.filter(Files::isRegularFile).collect(Collectors.toList())) {
+          files.put(stagingFolder.relativize(file).toString().replace('\\', '/'), Files.readAllBytes(file));
+        }
+      }
+      files.forEach(precompressedFiles::register);
+      return new MavenWrapperPayload(files);
+    } catch (final IOException e) {
+      throw new ModelProcessingException(e);
+    }
+  }
+
+  private MavenWrapperPayload(final Map<String, byte[]> files) {
+    this.files = Collections.unmodifiableMap(files);
+  }
+
+  public void installOn(final Path projectPath) {
+    try {
+      for (final Map.Entry<String, byte[]> file : files.entrySet()) {
+        final Path destination = projectPath.resolve(file.getKey());
+        Files.createDirectories(destination.getParent());
+        Files.write(destination, file.getValue());
+        if (MAVEN_WRAPPER_FILES.contains(file.getKey())) {
+          Terminal.grantAllPermissions(destination.toFile());
+        }
+      }
+    } catch (final IOException e) {
+      throw new ModelProcessingException(e);
+    }
+  }
+
+  public void installOn(final InMemoryProjectTree projectTree, final Path projectPath) {
+    files.forEach((filename, bytes) -> projectTree.write(projectPath.resolve(filename), bytes));
+  }
+
+  public Map<String, byte[]> files() {
+    return files;
+  }
+
+}
@@ -10,16 +10,31 @@ import io.vlingo.xoom.codegen.CodeGenerationContext;
 import io.vlingo.xoom.codegen.content.Content;
 import io.vlingo.xoom.codegen.parameter.CodeGenerationParameter;
 import io.vlingo.xoom.codegen.template.TemplateData;
-import io.vlingo.xoom.codegen.template.TemplateProcessingStep;
+import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.CachedTemplateProcessingStep;
+import io.vlingo.xoom.designer.codegen.ContentDependentStep;
 import io.vlingo.xoom.designer.codegen.Label;
 import io.vlingo.xoom.designer.codegen.java.projections.ProjectionType;
 import io.vlingo.xoom.designer.codegen.java.storage.StorageType;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-public class EntityUnitTestGenerationStep extends TemplateProcessingStep {
+import static io.vlingo.xoom.designer.codegen.ContentDependentStep.standards;
+import static io.vlingo.xoom.designer.codegen.ContentDependentStep.union;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.DATA_OBJECTS;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.MODEL;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.PROJECTIONS;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.REST_RESOURCES;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.STORAGE;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.AGGREGATE;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.ENTITY_UNIT_TEST;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.MOCK_DISPATCHER;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.VALUE_OBJECT;
+
+public class EntityUnitTestGenerationStep extends CachedTemplateProcessingStep implements ContentDependentStep {
 
   @Override
   protected List<TemplateData> buildTemplatesData(final CodeGenerationContext context) {
@@ -46,4 +61,14 @@ public class EntityUnitTestGenerationStep extends TemplateProcessingStep {
     return templatesData;
   }
 
-}
\ No newline at end of file
+  @Override
+  public Set<TemplateStandard> consumes() {
+    return union(MODEL, DATA_OBJECTS, PROJECTIONS, STORAGE, REST_RESOURCES);
+  }
+
+  @Override
+  public Set<TemplateStandard> produces() {
+    return standards(ENTITY_UNIT_TEST, MOCK_DISPATCHER);
+  }
+
+}
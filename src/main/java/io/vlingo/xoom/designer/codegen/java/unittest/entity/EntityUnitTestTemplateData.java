@@ -9,12 +9,12 @@ package io.vlingo.xoom.designer.codegen.java.unittest.entity;
 
 import io.vlingo.xoom.codegen.content.CodeElementFormatter;
 import io.vlingo.xoom.codegen.content.Content;
-import io.vlingo.xoom.codegen.content.ContentQuery;
 import io.vlingo.xoom.codegen.parameter.CodeGenerationParameter;
 import io.vlingo.xoom.codegen.template.TemplateData;
 import io.vlingo.xoom.codegen.template.TemplateParameters;
 import io.vlingo.xoom.codegen.template.TemplateStandard;
 import io.vlingo.xoom.designer.codegen.CodeGenerationProperties;
+import io.vlingo.xoom.designer.codegen.ContentIndex;
 import io.vlingo.xoom.designer.codegen.Label;
 import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
 import io.vlingo.xoom.designer.codegen.java.TemplateParameter;
@@ -66,7 +66,7 @@ public class EntityUnitTestTemplateData extends TemplateData {
             JavaTemplateStandard.AGGREGATE_STATE.resolveClassname(aggregate.value);
 
     final String packageName =
-            ContentQuery.findPackage(JavaTemplateStandard.AGGREGATE_PROTOCOL, aggregate.value, contents);
+            ContentIndex.findPackage(JavaTemplateStandard.AGGREGATE_PROTOCOL, aggregate.value, contents);
 
     final TestDataValueGenerator.TestDataValues initialTestDataValues =
             TestDataValueGenerator.with(aggregate, valueObjects).generate();
@@ -126,7 +126,7 @@ public class EntityUnitTestTemplateData extends TemplateData {
       return "";
     }
     final CodeElementFormatter codeElementFormatter = ComponentRegistry.withName("defaultCodeFormatter");
-    return codeElementFormatter.importAllFrom(ContentQuery.findPackage(JavaTemplateStandard.VALUE_OBJECT, contents));
+    return codeElementFormatter.importAllFrom(ContentIndex.findPackage(JavaTemplateStandard.VALUE_OBJECT, contents));
   }
 
   private Set<String> resolveTestCaseImports(final List<TestCase> testCases) {
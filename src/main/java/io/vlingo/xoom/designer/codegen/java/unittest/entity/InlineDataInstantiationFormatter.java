@@ -62,7 +62,7 @@ public class InlineDataInstantiationFormatter {
             stateField.retrieveRelatedValue(Label.FIELD_TYPE);
 
     final CodeGenerationParameter valueObject =
-            ValueObjectDetail.valueObjectOf(valueObjectType, valueObjects.stream());
+            ValueObjectDetail.valueObjectOf(valueObjectType, valueObjects);
 
     valueObject.retrieveAllRelated(Label.VALUE_OBJECT_FIELD).forEach(field -> generateValueObjectFieldAssignment(stateField.value, field));
 
@@ -89,7 +89,7 @@ public class InlineDataInstantiationFormatter {
             field.retrieveRelatedValue(Label.FIELD_TYPE);
 
     final CodeGenerationParameter valueObject =
-            ValueObjectDetail.valueObjectOf(fieldType, valueObjects.stream());
+            ValueObjectDetail.valueObjectOf(fieldType, valueObjects);
 
     final Consumer<CodeGenerationParameter> valueObjectFieldAssignment =
             valueObjectField -> generateValueObjectFieldAssignment(fieldPath, valueObjectField);
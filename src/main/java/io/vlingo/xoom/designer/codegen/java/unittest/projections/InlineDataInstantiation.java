@@ -75,7 +75,7 @@ public class InlineDataInstantiation {
   private void generateValueObjectAssignment(final String fieldPath, final CodeGenerationParameter field) {
     final String fieldType = field.retrieveRelatedValue(Label.FIELD_TYPE);
 
-    final CodeGenerationParameter valueObject = ValueObjectDetail.valueObjectOf(fieldType, valueObjects.stream());
+    final CodeGenerationParameter valueObject = ValueObjectDetail.valueObjectOf(fieldType, valueObjects);
 
     final Consumer<CodeGenerationParameter> valueObjectFieldAssignment =
         valueObjectField -> generateFieldAssignment(fieldPath, valueObjectField);
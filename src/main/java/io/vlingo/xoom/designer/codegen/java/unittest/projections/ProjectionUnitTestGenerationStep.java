@@ -1,24 +1,41 @@
 package io.vlingo.xoom.designer.codegen.java.unittest.projections;
 
 import io.vlingo.xoom.codegen.CodeGenerationContext;
-import io.vlingo.xoom.codegen.content.ContentQuery;
 import io.vlingo.xoom.codegen.parameter.CodeGenerationParameter;
 import io.vlingo.xoom.codegen.template.TemplateData;
-import io.vlingo.xoom.codegen.template.TemplateProcessingStep;
+import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.CachedTemplateProcessingStep;
+import io.vlingo.xoom.designer.codegen.ContentDependentStep;
+import io.vlingo.xoom.designer.codegen.ContentIndex;
 import io.vlingo.xoom.designer.codegen.Label;
 import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
 import io.vlingo.xoom.designer.codegen.java.projections.ProjectionType;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-public class ProjectionUnitTestGenerationStep extends TemplateProcessingStep {
+import static io.vlingo.xoom.designer.codegen.ContentDependentStep.standards;
+import static io.vlingo.xoom.designer.codegen.ContentDependentStep.union;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.DATA_OBJECTS;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.MODEL;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.PROJECTIONS;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.REST_RESOURCES;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.STORAGE;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.AGGREGATE;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.COUNTING_PROJECTION_CTL;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.COUNTING_READ_RESULT;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.PROJECTION;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.PROJECTION_UNIT_TEST;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.VALUE_OBJECT;
+
+public class ProjectionUnitTestGenerationStep extends CachedTemplateProcessingStep implements ContentDependentStep {
 
   @Override
   protected List<TemplateData> buildTemplatesData(final CodeGenerationContext context) {
     final String packageName =
-        ContentQuery.findPackage(JavaTemplateStandard.PROJECTION, context.contents());
+        ContentIndex.findPackage(JavaTemplateStandard.PROJECTION, context.contents());
     final List<CodeGenerationParameter> aggregates =
         context.parametersOf(Label.AGGREGATE).collect(Collectors.toList());
 
@@ -40,4 +57,14 @@ public class ProjectionUnitTestGenerationStep extends TemplateProcessingStep {
     return context.parameterOf(Label.PROJECTION_TYPE, ProjectionType::valueOf).isProjectionEnabled();
   }
 
+  @Override
+  public Set<TemplateStandard> consumes() {
+    return union(MODEL, DATA_OBJECTS, PROJECTIONS, STORAGE, REST_RESOURCES);
+  }
+
+  @Override
+  public Set<TemplateStandard> produces() {
+    return standards(PROJECTION_UNIT_TEST, COUNTING_PROJECTION_CTL, COUNTING_READ_RESULT);
+  }
+
 }
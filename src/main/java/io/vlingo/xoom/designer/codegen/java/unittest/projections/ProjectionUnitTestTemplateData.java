@@ -9,11 +9,11 @@ package io.vlingo.xoom.designer.codegen.java.unittest.projections;
 
 import io.vlingo.xoom.codegen.content.CodeElementFormatter;
 import io.vlingo.xoom.codegen.content.Content;
-import io.vlingo.xoom.codegen.content.ContentQuery;
 import io.vlingo.xoom.codegen.parameter.CodeGenerationParameter;
 import io.vlingo.xoom.codegen.template.TemplateData;
 import io.vlingo.xoom.codegen.template.TemplateParameters;
 import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.ContentIndex;
 import io.vlingo.xoom.designer.codegen.Label;
 import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
 import io.vlingo.xoom.designer.codegen.java.TemplateParameter;
@@ -84,7 +84,7 @@ public class ProjectionUnitTestTemplateData extends TemplateData {
 
 	private String resolveImport(final String dataObjectName, JavaTemplateStandard dataObject, final List<Content> contents) {
 		final String dataObjectPackage =
-				ContentQuery.findPackage(dataObject, dataObjectName, contents);
+				ContentIndex.findPackage(dataObject, dataObjectName, contents);
 
 		final CodeElementFormatter codeElementFormatter =
 						ComponentRegistry.withName("defaultCodeFormatter");
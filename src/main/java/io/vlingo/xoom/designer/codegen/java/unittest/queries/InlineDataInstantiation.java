@@ -76,7 +76,7 @@ public class InlineDataInstantiation {
             field.retrieveRelatedValue(Label.FIELD_TYPE);
 
     final CodeGenerationParameter valueObject =
-            ValueObjectDetail.valueObjectOf(fieldType, valueObjects.stream());
+            ValueObjectDetail.valueObjectOf(fieldType, valueObjects);
 
     final Consumer<CodeGenerationParameter> valueObjectFieldAssignment =
             valueObjectField -> generateFieldAssignment(fieldPath, valueObjectField);
@@ -9,13 +9,27 @@ package io.vlingo.xoom.designer.codegen.java.unittest.queries;
 import io.vlingo.xoom.codegen.CodeGenerationContext;
 import io.vlingo.xoom.codegen.parameter.CodeGenerationParameter;
 import io.vlingo.xoom.codegen.template.TemplateData;
-import io.vlingo.xoom.codegen.template.TemplateProcessingStep;
+import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.CachedTemplateProcessingStep;
+import io.vlingo.xoom.designer.codegen.ContentDependentStep;
 import io.vlingo.xoom.designer.codegen.Label;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-public class QueriesUnitTestGenerationStep extends TemplateProcessingStep {
+import static io.vlingo.xoom.designer.codegen.ContentDependentStep.standards;
+import static io.vlingo.xoom.designer.codegen.ContentDependentStep.union;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.DATA_OBJECTS;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.MODEL;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.PROJECTIONS;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.REST_RESOURCES;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.STORAGE;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.AGGREGATE;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.QUERIES_UNIT_TEST;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.VALUE_OBJECT;
+
+public class QueriesUnitTestGenerationStep extends CachedTemplateProcessingStep implements ContentDependentStep {
 
   @Override
   protected List<TemplateData> buildTemplatesData(final CodeGenerationContext context) {
@@ -32,4 +46,15 @@ public class QueriesUnitTestGenerationStep extends TemplateProcessingStep {
   public boolean shouldProcess(final CodeGenerationContext context) {
     return context.parameterOf(Label.CQRS, Boolean::valueOf);
   }
+
+  @Override
+  public Set<TemplateStandard> consumes() {
+    return union(MODEL, DATA_OBJECTS, PROJECTIONS, STORAGE, REST_RESOURCES);
+  }
+
+  @Override
+  public Set<TemplateStandard> produces() {
+    return standards(QUERIES_UNIT_TEST);
+  }
+
 }
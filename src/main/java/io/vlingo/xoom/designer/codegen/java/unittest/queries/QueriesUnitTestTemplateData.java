@@ -9,11 +9,11 @@ package io.vlingo.xoom.designer.codegen.java.unittest.queries;
 
 import io.vlingo.xoom.codegen.content.CodeElementFormatter;
 import io.vlingo.xoom.codegen.content.Content;
-import io.vlingo.xoom.codegen.content.ContentQuery;
 import io.vlingo.xoom.codegen.parameter.CodeGenerationParameter;
 import io.vlingo.xoom.codegen.template.TemplateData;
 import io.vlingo.xoom.codegen.template.TemplateParameters;
 import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.ContentIndex;
 import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
 import io.vlingo.xoom.designer.codegen.java.TemplateParameter;
 import io.vlingo.xoom.designer.codegen.java.model.aggregate.AggregateDetail;
@@ -33,7 +33,7 @@ public class QueriesUnitTestTemplateData extends TemplateData {
                                         final List<CodeGenerationParameter> aggregates,
                                         final List<CodeGenerationParameter> valueObjects) {
     final String packageName =
-            ContentQuery.findPackage(JavaTemplateStandard.QUERIES, contents);
+            ContentIndex.findPackage(JavaTemplateStandard.QUERIES, contents);
 
     final Function<CodeGenerationParameter, TemplateData> mapper =
             aggregate -> new QueriesUnitTestTemplateData(packageName, aggregate, contents, valueObjects);
@@ -68,7 +68,7 @@ public class QueriesUnitTestTemplateData extends TemplateData {
   private String resolveImport(final String dataObjectName,
                                final List<Content> contents) {
     final String dataObjectPackage =
-            ContentQuery.findPackage(JavaTemplateStandard.DATA_OBJECT, dataObjectName, contents);
+            ContentIndex.findPackage(JavaTemplateStandard.DATA_OBJECT, dataObjectName, contents);
 
     final CodeElementFormatter codeElementFormatter =
             ComponentRegistry.withName("defaultCodeFormatter");
@@ -8,13 +8,25 @@ package io.vlingo.xoom.designer.codegen.java.unittest.resource;
 
 import io.vlingo.xoom.codegen.CodeGenerationContext;
 import io.vlingo.xoom.codegen.template.TemplateData;
-import io.vlingo.xoom.codegen.template.TemplateProcessingStep;
+import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.CachedTemplateProcessingStep;
+import io.vlingo.xoom.designer.codegen.ContentDependentStep;
 import io.vlingo.xoom.designer.codegen.Label;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
-public class RestResourceAbstractUnitTestGenerationStep extends TemplateProcessingStep {
+import static io.vlingo.xoom.designer.codegen.ContentDependentStep.standards;
+import static io.vlingo.xoom.designer.codegen.ContentDependentStep.union;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.DATA_OBJECTS;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.MODEL;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.PROJECTIONS;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.REST_RESOURCES;
+import static io.vlingo.xoom.designer.codegen.java.JavaContentGroups.STORAGE;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.ABSTRACT_REST_RESOURCE_UNIT_TEST;
+
+public class RestResourceAbstractUnitTestGenerationStep extends CachedTemplateProcessingStep implements ContentDependentStep {
 
   @Override
   protected List<TemplateData> buildTemplatesData(final CodeGenerationContext context) {
@@ -25,4 +37,15 @@ public class RestResourceAbstractUnitTestGenerationStep extends TemplateProcessi
   public boolean shouldProcess(final CodeGenerationContext context) {
     return context.parameterOf(Label.USE_ANNOTATIONS, Boolean::valueOf);
   }
-}
\ No newline at end of file
+
+  @Override
+  public Set<TemplateStandard> consumes() {
+    return union(MODEL, DATA_OBJECTS, PROJECTIONS, STORAGE, REST_RESOURCES);
+  }
+
+  @Override
+  public Set<TemplateStandard> produces() {
+    return standards(ABSTRACT_REST_RESOURCE_UNIT_TEST);
+  }
+
+}
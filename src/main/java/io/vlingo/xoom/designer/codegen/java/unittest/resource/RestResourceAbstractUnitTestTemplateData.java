@@ -2,11 +2,11 @@ package io.vlingo.xoom.designer.codegen.java.unittest.resource;
 
 import io.vlingo.xoom.codegen.content.CodeElementFormatter;
 import io.vlingo.xoom.codegen.content.Content;
-import io.vlingo.xoom.codegen.content.ContentQuery;
 import io.vlingo.xoom.codegen.parameter.CodeGenerationParameter;
 import io.vlingo.xoom.codegen.template.TemplateData;
 import io.vlingo.xoom.codegen.template.TemplateParameters;
 import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.ContentIndex;
 import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
 import io.vlingo.xoom.designer.codegen.java.TemplateParameter;
 import io.vlingo.xoom.turbo.ComponentRegistry;
@@ -34,7 +34,7 @@ public class RestResourceAbstractUnitTestTemplateData extends TemplateData {
 
   private String resolveImports(final String dataObjectName, final List<Content> contents) {
     final String dataObjectPackage =
-        ContentQuery.findPackage(JavaTemplateStandard.DATA_OBJECT, dataObjectName, contents);
+        ContentIndex.findPackage(JavaTemplateStandard.DATA_OBJECT, dataObjectName, contents);
 
     final CodeElementFormatter codeElementFormatter =
             ComponentRegistry.withName("defaultCodeFormatter");
@@ -10,13 +10,17 @@ package io.vlingo.xoom.designer.codegen.reactjs;
 import io.vlingo.xoom.codegen.CodeGenerationContext;
 import io.vlingo.xoom.codegen.dialect.Dialect;
 import io.vlingo.xoom.codegen.parameter.CodeGenerationParameter;
-import io.vlingo.xoom.codegen.template.TemplateProcessingStep;
+import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.CachedTemplateProcessingStep;
+import io.vlingo.xoom.designer.codegen.ContentDependentStep;
 import io.vlingo.xoom.designer.codegen.Label;
 import io.vlingo.xoom.designer.codegen.java.resource.RouteDetail;
 
+import java.util.Collections;
+import java.util.Set;
 import java.util.stream.Stream;
 
-public abstract class ReactJsTemplateProcessingStep extends TemplateProcessingStep {
+public abstract class ReactJsTemplateProcessingStep extends CachedTemplateProcessingStep implements ContentDependentStep {
 
   @Override
   public boolean shouldProcess(final CodeGenerationContext context) {
@@ -30,4 +34,14 @@ public abstract class ReactJsTemplateProcessingStep extends TemplateProcessingSt
     return Dialect.REACTJS;
   }
 
+  @Override
+  public Set<TemplateStandard> consumes() {
+    return Collections.emptySet();
+  }
+
+  @Override
+  public Set<TemplateStandard> produces() {
+    return ContentDependentStep.standards(ReactJsTemplateStandard.values());
+  }
+
 }
@@ -0,0 +1,219 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure;
+
+import io.vlingo.xoom.designer.Configuration;
+import io.vlingo.xoom.designer.ModelProcessingInformation;
+import io.vlingo.xoom.designer.codegen.TemplateFingerprint;
+import io.vlingo.xoom.designer.codegen.java.designermodel.DesignerModelFormatter;
+import io.vlingo.xoom.designer.infrastructure.restapi.data.DesignerModel;
+import io.vlingo.xoom.turbo.ComponentRegistry;
+import org.apache.commons.io.FileUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+public class GenerationResultCache {
+
+  private static final String CACHE_FOLDER = "result-cache";
+  private static final String PARTIAL_ARCHIVE_EXTENSION = ".partial";
+
+  private final Path root;
+  private final long capacity;
+  private final Map<String, Path> archives = new LinkedHashMap<>(16, 0.75f, true);
+  private final Map<String, Integer> pins = new HashMap<>();
+  private final Set<String> pendingDeletions = new HashSet<>();
+  private long sizeInBytes;
+  private long hits;
+  private long misses;
+  private long evictions;
+
+  static void resolve(final HomeDirectory homeDirectory) {
+    if (!ComponentRegistry.has(GenerationResultCache.class)) {
+      final Path root = Paths.get(homeDirectory.path, CACHE_FOLDER);
+      ComponentRegistry.register(GenerationResultCache.class,
+              new GenerationResultCache(root, Configuration.resolveGenerationResultCacheCapacity()));
+    }
+  }
+
+  public static GenerationResultCache instance() {
+    if (!ComponentRegistry.has(GenerationResultCache.class)) {
+      throw new IllegalStateException("Unresolved Generation Result Cache");
+    }
+    return ComponentRegistry.withType(GenerationResultCache.class);
+  }
+
+  public static GenerationResultCache disabled() {
+    return new GenerationResultCache(Paths.get(CACHE_FOLDER), 0);
+  }
+
+  public static String keyOf(final DesignerModel designerModel, final ModelProcessingInformation information) {
+    return TemplateFingerprint.digestOf(String.join("\n", information.xoomDesignerVersion,
+            information.xoomDesignerFileVersion, information.generationTargetKey, DesignerModelFormatter.format(designerModel)));
+  }
+
+  public GenerationResultCache(final Path root, final long capacity) {
+    this.root = root;
+    this.capacity = capacity;
+    if (isEnabled()) {
+      restore();
+    }
+  }
+
+  public boolean isEnabled() {
+    return capacity > 0;
+  }
+
+  public synchronized boolean lookup(final String key) {
+    if (archives.get(key) != null) {
+      hits++;
+      return true;
+    }
+    misses++;
+    return false;
+  }
+
+  public synchronized Optional<Path> find(final String key) {
+    return Optional.ofNullable(archives.get(key));
+  }
+
+  public synchronized Optional<Path> acquire(final String key) {
+    final Optional<Path> archive = find(key);
+    archive.ifPresent(path -> pins.merge(key, 1, Integer::sum));
+    return archive;
+  }
+
+  public synchronized void release(final String key) throws IOException {
+    final Integer remaining = pins.computeIfPresent(key, (pinned, count) -> count > 1 ? count - 1 : null);
+    if (remaining == null && pendingDeletions.remove(key)) {
+      FileUtils.deleteDirectory(root.resolve(key).toFile());
+    }
+  }
+
+  public boolean store(final String key, final ProjectArchive archive) throws IOException {
+    final long archiveSize = archive.size();
+    if (!isEnabled() || archiveSize > capacity) {
+      return false;
+    }
+
+    final Path folder = root.resolve(key);
+    Files.createDirectories(folder);
+    final Path partialArchive = Files.createTempFile(folder, archive.filename, PARTIAL_ARCHIVE_EXTENSION);
+    try (final InputStream archiveStream = archive.open()) {
+      Files.copy(archiveStream, partialArchive, REPLACE_EXISTING);
+    }
+
+    synchronized (this) {
+      if (archives.containsKey(key)) {
+        Files.delete(partialArchive);
+        return true;
+      }
+      final Path path = folder.resolve(archive.filename);
+      Files.move(partialArchive, path, REPLACE_EXISTING, ATOMIC_MOVE);
+      archives.put(key, path);
+      pendingDeletions.remove(key);
+      sizeInBytes += archiveSize;
+      evictBeyondCapacity();
+      return true;
+    }
+  }
+
+  public synchronized long hits() {
+    return hits;
+  }
+
+  public synchronized long misses() {
+    return misses;
+  }
+
+  public synchronized long evictions() {
+    return evictions;
+  }
+
+  public synchronized double hitRatio() {
+    final long lookups = hits + misses;
+    return lookups == 0 ? 0 : (double) hits / lookups;
+  }
+
+  public synchronized int size() {
+    return archives.size();
+  }
+
+  public synchronized long sizeInBytes() {
+    return sizeInBytes;
+  }
+
+  private void evictBeyondCapacity() throws IOException {
+    final Iterator<Map.Entry<String, Path>> leastRecentlyUsed = archives.entrySet().iterator();
+    while (sizeInBytes > capacity && leastRecentlyUsed.hasNext()) {
+      final Map.Entry<String, Path> archive = leastRecentlyUsed.next();
+      sizeInBytes -= Files.size(archive.getValue());
+      leastRecentlyUsed.remove();
+      if (pins.containsKey(archive.getKey())) {
+        pendingDeletions.add(archive.getKey());
+      } else {
+        FileUtils.deleteDirectory(archive.getValue().getParent().toFile());
+      }
+      evictions++;
+    }
+  }
+
+  private void restore() {
+    if (!Files.isDirectory(root)) {
+      return;
+    }
+    try (final Stream<Path> folders = Files.list(root)) {
+      final List<Path> restored = new ArrayList<>();
+      for (final Path folder : folders.filter(Files::isDirectory).collect(Collectors.toList())) {
+        try (final Stream<Path> files = Files.list(folder)) {
+          final Optional<Path> archive = files.filter(file -> !file.toString().endsWith(PARTIAL_ARCHIVE_EXTENSION)).findFirst();
+          if (archive.isPresent()) {
+            restored.add(archive.get());
+          } else {
+            FileUtils.deleteDirectory(folder.toFile());
+          }
+        }
+      }
+      restored.sort(Comparator.comparingLong(this::lastModifiedOf));
+      for (final Path archive : restored) {
+        archives.put(archive.getParent().getFileName().toString(), archive);
+        sizeInBytes += Files.size(archive);
+      }
+      evictBeyondCapacity();
+    } catch (final IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  private long lastModifiedOf(final Path archive) {
+    try {
+      return Files.getLastModifiedTime(archive).toMillis();
+    } catch (final IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+}
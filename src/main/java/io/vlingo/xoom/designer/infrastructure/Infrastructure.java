@@ -7,6 +7,8 @@
 
 package io.vlingo.xoom.designer.infrastructure;
 
+import io.vlingo.xoom.designer.ModelProcessingJobs;
+import io.vlingo.xoom.designer.codegen.GenerationSettings;
 import io.vlingo.xoom.designer.codegen.InvalidResourcesPathException;
 import io.vlingo.xoom.turbo.ComponentRegistry;
 
@@ -18,11 +20,21 @@ public class Infrastructure {
       throw new InvalidResourcesPathException();
     }
     StagingFolder.resolve(homeDirectory);
+    StagingWorkspaceManager.resolve(StagingFolder.path());
+    GenerationResultCache.resolve(homeDirectory);
     DesignerServerConfiguration.on(designerServerPort);
   }
 
   public static void clear() {
-    ComponentRegistry.unregister(StagingFolder.class, DesignerServerConfiguration.class);
+    if (ComponentRegistry.has(StagingWorkspaceManager.class)) {
+      StagingWorkspaceManager.instance().stop();
+    }
+    if (ComponentRegistry.has(ModelProcessingJobs.class)) {
+      ModelProcessingJobs.instance().stop();
+    }
+    ComponentRegistry.unregister(StagingFolder.class, StagingWorkspaceManager.class,
+            GenerationResultCache.class, DesignerServerConfiguration.class, ModelProcessingJobs.class,
+            GenerationSettings.class);
   }
 
 }
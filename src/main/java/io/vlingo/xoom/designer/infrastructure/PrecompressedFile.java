@@ -0,0 +1,68 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure;
+
+import java.io.ByteArrayOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+
+public class PrecompressedFile {
+
+  private static final int BUFFER_SIZE = 8192;
+
+  public final byte[] compressed;
+  public final long crc;
+  public final long size;
+  public final int method;
+
+  public static PrecompressedFile of(final byte[] bytes) {
+    return of(bytes, Deflater.DEFAULT_COMPRESSION);
+  }
+
+  public static PrecompressedFile of(final byte[] bytes, final int level) {
+    return new PrecompressedFile(deflate(bytes, level), checksumOf(bytes), bytes.length, ZipEntry.DEFLATED);
+  }
+
+  public static PrecompressedFile stored(final byte[] bytes) {
+    return new PrecompressedFile(bytes, checksumOf(bytes), bytes.length, ZipEntry.STORED);
+  }
+
+  static PrecompressedFile from(final byte[] compressed, final long crc, final long size, final int method) {
+    return new PrecompressedFile(compressed, crc, size, method);
+  }
+
+  public static long checksumOf(final byte[] bytes) {
+    final CRC32 checksum = new CRC32();
+    checksum.update(bytes, 0, bytes.length);
+    return checksum.getValue();
+  }
+
+  private static byte[] deflate(final byte[] bytes, final int level) {
+    final Deflater deflater = new Deflater(level, true);
+    try {
+      deflater.setInput(bytes);
+      deflater.finish();
+      final ByteArrayOutputStream deflated = new ByteArrayOutputStream(bytes.length / 2 + 64);
+      final byte[] buffer = new byte[BUFFER_SIZE];
+      while (!deflater.finished()) {
+        deflated.write(buffer, 0, deflater.deflate(buffer));
+      }
+      return deflated.toByteArray();
+    } finally {
+      deflater.end();
+    }
+  }
+
+  private PrecompressedFile(final byte[] compressed, final long crc, final long size, final int method) {
+    this.compressed = compressed;
+    this.crc = crc;
+    this.size = size;
+    this.method = method;
+  }
+
+}
@@ -0,0 +1,63 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure;
+
+import io.vlingo.xoom.turbo.ComponentRegistry;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class PrecompressedFiles {
+
+  private final Map<Long, RegisteredFile> files = new ConcurrentHashMap<>();
+
+  public static synchronized PrecompressedFiles instance() {
+    if (!ComponentRegistry.has(PrecompressedFiles.class)) {
+      ComponentRegistry.register(PrecompressedFiles.class, new PrecompressedFiles());
+    }
+    return ComponentRegistry.withType(PrecompressedFiles.class);
+  }
+
+  public PrecompressedFile register(final byte[] bytes) {
+    return register(bytes, PrecompressedFile.of(bytes));
+  }
+
+  public PrecompressedFile register(final String name, final byte[] bytes) {
+    return register(bytes, ZipArchiveWriter.isCompressed(name) ? PrecompressedFile.stored(bytes) : PrecompressedFile.of(bytes));
+  }
+
+  private PrecompressedFile register(final byte[] bytes, final PrecompressedFile file) {
+    return files.merge(file.crc, new RegisteredFile(bytes, file), (existing, candidate) -> existing).file;
+  }
+
+  public Optional<PrecompressedFile> find(final byte[] bytes, final long crc) {
+    final RegisteredFile registered = files.get(crc);
+    if (registered == null || !Arrays.equals(registered.bytes, bytes)) {
+      return Optional.empty();
+    }
+    return Optional.of(registered.file);
+  }
+
+  public int size() {
+    return files.size();
+  }
+
+  private static class RegisteredFile {
+
+    private final byte[] bytes;
+    private final PrecompressedFile file;
+
+    private RegisteredFile(final byte[] bytes, final PrecompressedFile file) {
+      this.bytes = bytes;
+      this.file = file;
+    }
+
+  }
+
+}
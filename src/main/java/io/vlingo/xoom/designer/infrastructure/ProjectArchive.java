@@ -0,0 +1,188 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure;
+
+import io.vlingo.xoom.designer.codegen.InMemoryProjectTree;
+import io.vlingo.xoom.turbo.ComponentRegistry;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+public class ProjectArchive implements Closeable {
+
+  private static final String ARCHIVE_EXTENSION = ".zip";
+  private static final String PARTIAL_ARCHIVE_EXTENSION = ".partial";
+  private static final String URI_PATTERN = "/api/model-processing/%s/archive";
+  private static final String BATCH_URI_PATTERN = "/api/model-processing/batch/%s/archive";
+  private static final String BATCH_SEPARATOR = ",";
+
+  public final String filename;
+  private final Path path;
+  private final byte[] bytes;
+  private final String resultKey;
+
+  public static String uriFor(final String generationId) {
+    return String.format(URI_PATTERN, generationId);
+  }
+
+  public static String batchUriFor(final List<String> generationIds) {
+    return String.format(BATCH_URI_PATTERN, String.join(BATCH_SEPARATOR, generationIds));
+  }
+
+  public static List<String> generationIdsOf(final String batchId) {
+    return Arrays.asList(batchId.split(BATCH_SEPARATOR));
+  }
+
+  public static Optional<ProjectArchive> of(final String generationId) throws IOException {
+    final Optional<InMemoryProjectTree> projectTree = StagingWorkspaceManager.instance().findProjectTree(generationId);
+    if (projectTree.isPresent() && !projectTree.get().isMaterialized()) {
+      return Optional.of(compress(projectTree.get()));
+    }
+    final Optional<Path> workspace = StagingWorkspaceManager.instance().find(generationId);
+    if (!workspace.isPresent()) {
+      return findCachedArchive(generationId);
+    }
+    final Optional<Path> project = findProject(workspace.get());
+    if (!project.isPresent()) {
+      return Optional.empty();
+    }
+    return Optional.of(new ProjectArchive(compress(workspace.get(), project.get())));
+  }
+
+  public static ProjectArchive combine(final String name, final List<String> generationIds) throws IOException {
+    final String batchId = UUID.nameUUIDFromBytes(String.join(BATCH_SEPARATOR, generationIds).getBytes(StandardCharsets.UTF_8)).toString();
+    final Path workspace = StagingWorkspaceManager.instance().reserve(batchId);
+    try {
+      final Path archive = workspace.resolve(name + ARCHIVE_EXTENSION);
+      if (!Files.exists(archive)) {
+        final Path partialArchive = Files.createTempFile(workspace, name, PARTIAL_ARCHIVE_EXTENSION);
+        try {
+          combine(generationIds, partialArchive);
+        } catch (final IOException exception) {
+          Files.deleteIfExists(partialArchive);
+          throw exception;
+        }
+        Files.move(partialArchive, archive, REPLACE_EXISTING, ATOMIC_MOVE);
+      }
+      return new ProjectArchive(archive);
+    } finally {
+      StagingWorkspaceManager.instance().release(batchId);
+    }
+  }
+
+  private static void combine(final List<String> generationIds, final Path archive) throws IOException {
+    final Set<String> entries = new HashSet<>();
+    try (final ZipArchiveWriter archiveWriter = ZipArchiveWriter.on(new BufferedOutputStream(Files.newOutputStream(archive)))) {
+      for (final String generationId : generationIds) {
+        final ProjectArchive generationArchive = of(generationId)
+                .orElseThrow(() -> new IOException("Missing archive of generation " + generationId));
+        try (final ProjectArchive source = generationArchive;
+             final ZipArchiveReader archiveReader = ZipArchiveReader.on(source.open())) {
+          Optional<ZipArchiveReader.Entry> entry;
+          while ((entry = archiveReader.next()).isPresent()) {
+            if (entry.get().isDirectory()) {
+              continue;
+            }
+            if (!entries.add(entry.get().name)) {
+              throw new IOException("Duplicate archive entry " + entry.get().name);
+            }
+            archiveWriter.write(entry.get().name, entry.get().file);
+          }
+        }
+      }
+    }
+  }
+
+  private static Optional<ProjectArchive> findCachedArchive(final String resultKey) {
+    if (!ComponentRegistry.has(GenerationResultCache.class)) {
+      return Optional.empty();
+    }
+    return GenerationResultCache.instance().acquire(resultKey).map(path -> new ProjectArchive(path, resultKey));
+  }
+
+  private static Optional<Path> findProject(final Path workspace) throws IOException {
+    try (final Stream<Path> files = Files.list(workspace)) {
+      return files.filter(Files::isDirectory).findFirst();
+    }
+  }
+
+  private static Path compress(final Path workspace, final Path project) throws IOException {
+    final String projectName = project.getFileName().toString();
+    final Path archive = workspace.resolve(projectName + ARCHIVE_EXTENSION);
+    if (!Files.exists(archive)) {
+      final Path partialArchive = Files.createTempFile(workspace, projectName, PARTIAL_ARCHIVE_EXTENSION);
+      ProjectCompressor.compress(project, partialArchive);
+      Files.move(partialArchive, archive, REPLACE_EXISTING, ATOMIC_MOVE);
+    }
+    return archive;
+  }
+
+  private static ProjectArchive compress(final InMemoryProjectTree projectTree) throws IOException {
+    return new ProjectArchive(projectTree.projectName() + ARCHIVE_EXTENSION, projectTree.archive());
+  }
+
+  private ProjectArchive(final Path path) {
+    this(path, null);
+  }
+
+  private ProjectArchive(final Path path, final String resultKey) {
+    this.path = path;
+    this.bytes = null;
+    this.resultKey = resultKey;
+    this.filename = path.getFileName().toString();
+  }
+
+  ProjectArchive(final String filename, final byte[] bytes) {
+    this.path = null;
+    this.bytes = bytes;
+    this.resultKey = null;
+    this.filename = filename;
+  }
+
+  public long size() throws IOException {
+    return bytes != null ? bytes.length : Files.size(path);
+  }
+
+  public InputStream open() throws IOException {
+    return bytes != null ? new ByteArrayInputStream(bytes) : Files.newInputStream(path);
+  }
+
+  public void transferTo(final int chunkSize, final ObjIntConsumer<byte[]> chunkConsumer) throws IOException {
+    try (final InputStream archive = open()) {
+      final byte[] chunk = new byte[chunkSize];
+      int length;
+      while ((length = archive.read(chunk)) != -1) {
+        chunkConsumer.accept(chunk, length);
+      }
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (resultKey != null) {
+      GenerationResultCache.instance().release(resultKey);
+    }
+  }
+
+}
@@ -6,51 +6,120 @@
 // one at https://mozilla.org/MPL/2.0/.
 package io.vlingo.xoom.designer.infrastructure;
 
+import io.vlingo.xoom.designer.Configuration;
+import io.vlingo.xoom.designer.codegen.InMemoryProjectTree;
+import io.vlingo.xoom.designer.infrastructure.metrics.Measurement;
+import io.vlingo.xoom.designer.infrastructure.metrics.MetricsRegistry;
+
 import java.io.*;
-import java.util.Base64;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 public class ProjectCompressor {
 
-  private static final int BUFFER_SIZE = 4096;
+  private static final ForkJoinPool POOL = new ForkJoinPool(Configuration.resolveProjectCompressionParallelism());
+  private static final int COMPRESSION_WINDOW = 2 * POOL.getParallelism();
+
+  public static Path compress(final Path projectPath, final Path archive) throws IOException {
+    final MetricsRegistry metrics = MetricsRegistry.instance();
+    final Measurement measurement = metrics.measure(MetricsRegistry.PROJECT_COMPRESSION);
+    try (final OutputStream archiveStream = new BufferedOutputStream(Files.newOutputStream(archive))) {
+      compress(projectPath, archiveStream);
+    } finally {
+      measurement.stop();
+    }
+    metrics.increment(MetricsRegistry.ARCHIVED_BYTES, Files.size(archive));
+    return archive;
+  }
+
+  public static byte[] compress(final InMemoryProjectTree projectTree) throws IOException {
+    return compress(filesOf(projectTree));
+  }
+
+  public static SortedMap<String, byte[]> filesOf(final InMemoryProjectTree projectTree) {
+    final SortedMap<String, byte[]> files = new TreeMap<>();
+    projectTree.files().forEach((relativePath, bytes) -> files.put(projectTree.projectName() + "/" + relativePath, bytes));
+    return files;
+  }
 
-  public static String compress(final String projectPath) throws IOException {
-    final File projectDirectory = new File(projectPath);
-    final ByteArraySupplier byteArraySupplier = ByteArraySupplier.empty();
-    try (final ByteArrayOutputStream byteArrayStream = new ByteArrayOutputStream();
-         final ZipOutputStream zipStream = new ZipOutputStream(byteArrayStream)) {
-      byteArraySupplier.stream(byteArrayStream);
-      compressFiles(projectDirectory, projectDirectory.getName(), zipStream);
+  public static byte[] compress(final SortedMap<String, byte[]> files) throws IOException {
+    final MetricsRegistry metrics = MetricsRegistry.instance();
+    final Measurement measurement = metrics.measure(MetricsRegistry.PROJECT_COMPRESSION);
+
+    final ByteArrayOutputStream archiveStream = new ByteArrayOutputStream();
+    try (final ZipArchiveWriter archiveWriter = ZipArchiveWriter.on(archiveStream, Configuration.resolveProjectCompressionLevel())) {
+      compressFiles(files, bytes -> bytes, archiveWriter);
+    } finally {
+      measurement.stop();
     }
-    return Base64.getEncoder().encodeToString(byteArraySupplier.get());
+    metrics.increment(MetricsRegistry.ARCHIVED_BYTES, archiveStream.size());
+    return archiveStream.toByteArray();
   }
 
-  private static void compressFiles(final File folder,
-                                    final String parentFolder,
-                                    final ZipOutputStream zipStream) throws IOException {
-    for (File file : folder.listFiles()) {
-      if (file.isDirectory()) {
-        compressFiles(file, parentFolder + "/" + file.getName(), zipStream);
-        continue;
+  public static void compress(final Path projectPath, final OutputStream outputStream) throws IOException {
+    final Path projectDirectory = projectPath.toAbsolutePath().normalize();
+    final String projectName = projectDirectory.getFileName().toString();
+    final SortedMap<String, Path> files = new TreeMap<>();
+    try (final Stream<Path> paths = Files.walk(projectDirectory)) {
+      paths.filter(Files::isRegularFile).forEach(file ->
+              files.put(projectName + "/" + projectDirectory.relativize(file).toString().replace('\\', '/'), file));
+    }
+    try (final ZipArchiveWriter archiveWriter = ZipArchiveWriter.on(outputStream, Configuration.resolveProjectCompressionLevel())) {
+      compressFiles(files, Files::readAllBytes, archiveWriter);
+    }
+  }
+
+  private static <T> void compressFiles(final SortedMap<String, T> files,
+                                        final FileReader<T> reader,
+                                        final ZipArchiveWriter archiveWriter) throws IOException {
+    final List<Map.Entry<String, T>> pendingFiles = new ArrayList<>(files.entrySet());
+    final Deque<CompletableFuture<PrecompressedFile>> window = new ArrayDeque<>(COMPRESSION_WINDOW);
+
+    int submitted = 0;
+    for (final Map.Entry<String, T> file : pendingFiles) {
+      while (submitted < pendingFiles.size() && window.size() < COMPRESSION_WINDOW) {
+        final Map.Entry<String, T> nextFile = pendingFiles.get(submitted++);
+        window.add(CompletableFuture.supplyAsync(() -> compressFile(nextFile.getKey(), nextFile.getValue(), reader, archiveWriter), POOL));
       }
-      compressFile(zipStream, parentFolder, file);
+      archiveWriter.write(file.getKey(), await(window.poll()));
     }
   }
 
-  private static void compressFile(final ZipOutputStream zipStream,
-                                   final String parentFolder,
-                                   final File file) throws IOException {
-    zipStream.putNextEntry(new ZipEntry(parentFolder + "/" + file.getName()));
-    try (final FileInputStream fileStream = new FileInputStream(file);
-         final BufferedInputStream bufferedStream = new BufferedInputStream(fileStream)) {
-      int read;
-      byte[] bytesIn = new byte[BUFFER_SIZE];
-      while ((read = bufferedStream.read(bytesIn)) != -1) {
-        zipStream.write(bytesIn, 0, read);
+  private static <T> PrecompressedFile compressFile(final String name,
+                                                    final T source,
+                                                    final FileReader<T> reader,
+                                                    final ZipArchiveWriter archiveWriter) {
+    try {
+      return archiveWriter.compress(name, reader.read(source));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static PrecompressedFile await(final CompletableFuture<PrecompressedFile> entry) throws IOException {
+    try {
+      return entry.join();
+    } catch (final CompletionException exception) {
+      if (exception.getCause() instanceof UncheckedIOException) {
+        throw ((UncheckedIOException) exception.getCause()).getCause();
       }
-      zipStream.closeEntry();
+      throw exception;
     }
   }
 
+  private interface FileReader<T> {
+    byte[] read(final T source) throws IOException;
+  }
+
 }
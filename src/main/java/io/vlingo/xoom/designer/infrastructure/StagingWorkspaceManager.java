@@ -0,0 +1,175 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure;
+
+import io.vlingo.xoom.designer.Configuration;
+import io.vlingo.xoom.designer.codegen.InMemoryProjectTree;
+import io.vlingo.xoom.turbo.ComponentRegistry;
+import org.apache.commons.io.FileUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+public class StagingWorkspaceManager {
+
+  private final Path root;
+  private final int capacity;
+  private final long timeToLiveNanos;
+  private final Map<String, Workspace> workspaces = new ConcurrentHashMap<>();
+  private StagingWorkspaceSweep sweep;
+
+  static void resolve(final Path root) {
+    if (!ComponentRegistry.has(StagingWorkspaceManager.class)) {
+      final Duration timeToLive = Configuration.resolveStagingWorkspaceTimeToLive();
+      final StagingWorkspaceManager manager =
+              new StagingWorkspaceManager(root, timeToLive, Configuration.resolveStagingWorkspaceCapacity());
+      manager.sweep = StagingWorkspaceSweep.scheduleFor(manager, timeToLive);
+      ComponentRegistry.register(StagingWorkspaceManager.class, manager);
+    }
+  }
+
+  public static StagingWorkspaceManager instance() {
+    if (!ComponentRegistry.has(StagingWorkspaceManager.class)) {
+      throw new IllegalStateException("Unresolved Staging Workspace Manager");
+    }
+    return ComponentRegistry.withType(StagingWorkspaceManager.class);
+  }
+
+  StagingWorkspaceManager(final Path root, final Duration timeToLive, final int capacity) {
+    this.root = root;
+    this.capacity = capacity;
+    this.timeToLiveNanos = timeToLive.toNanos();
+  }
+
+  public Path reserve(final String generationId) throws IOException {
+    final Workspace workspace =
+            workspaces.computeIfAbsent(generationId, id -> new Workspace(root.resolve(id)));
+
+    reclaimReleased(false);
+    Files.createDirectories(workspace.path);
+    return workspace.path;
+  }
+
+  public void reserve(final String generationId, final InMemoryProjectTree projectTree) {
+    workspaces.computeIfAbsent(generationId, id -> new Workspace(root.resolve(id), projectTree));
+    reclaimReleased(false);
+  }
+
+  public Optional<Path> find(final String generationId) {
+    final Workspace workspace = workspaces.get(generationId);
+    if (workspace == null) {
+      return Optional.empty();
+    }
+    workspace.touch();
+    return Optional.of(workspace.path);
+  }
+
+  public Optional<InMemoryProjectTree> findProjectTree(final String generationId) {
+    final Workspace workspace = workspaces.get(generationId);
+    if (workspace == null || workspace.projectTree == null) {
+      return Optional.empty();
+    }
+    workspace.touch();
+    return Optional.of(workspace.projectTree);
+  }
+
+  public void release(final String generationId) {
+    final Workspace workspace = workspaces.get(generationId);
+    if (workspace != null) {
+      workspace.release();
+    }
+  }
+
+  public void reclaim(final String generationId) throws IOException {
+    final Workspace workspace = workspaces.remove(generationId);
+    final Path path = workspace == null ? root.resolve(generationId) : workspace.path;
+    FileUtils.deleteDirectory(path.toFile());
+  }
+
+  public int size() {
+    return workspaces.size();
+  }
+
+  void sweep() {
+    reclaimReleased(true);
+  }
+
+  void stop() {
+    if (sweep != null) {
+      sweep.stop();
+    }
+  }
+
+  private void reclaimReleased(final boolean includingExpired) {
+    final long now = System.nanoTime();
+
+    final List<String> released =
+            workspaces.entrySet().stream()
+                    .filter(entry -> entry.getValue().released)
+                    .sorted(Comparator.comparingLong(entry -> entry.getValue().lastAccess))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+
+    final int overflow = workspaces.size() - capacity;
+
+    for (int index = 0; index < released.size(); ++index) {
+      final String generationId = released.get(index);
+      final Workspace workspace = workspaces.get(generationId);
+      if (workspace != null && (index < overflow || (includingExpired && workspace.isExpired(now, timeToLiveNanos)))) {
+        reclaimQuietly(generationId);
+      }
+    }
+  }
+
+  private void reclaimQuietly(final String generationId) {
+    try {
+      reclaim(generationId);
+    } catch (final IOException e) {
+      e.printStackTrace();
+    }
+  }
+
+  private static class Workspace {
+
+    private final Path path;
+    private final InMemoryProjectTree projectTree;
+    private volatile long lastAccess;
+    private volatile boolean released;
+
+    private Workspace(final Path path) {
+      this(path, null);
+    }
+
+    private Workspace(final Path path, final InMemoryProjectTree projectTree) {
+      this.path = path;
+      this.projectTree = projectTree;
+      this.lastAccess = System.nanoTime();
+    }
+
+    private void touch() {
+      this.lastAccess = System.nanoTime();
+    }
+
+    private void release() {
+      touch();
+      this.released = true;
+    }
+
+    private boolean isExpired(final long now, final long timeToLiveNanos) {
+      return now - lastAccess > timeToLiveNanos;
+    }
+  }
+
+}
@@ -0,0 +1,37 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure;
+
+import io.vlingo.xoom.common.Cancellable;
+import io.vlingo.xoom.common.Scheduled;
+import io.vlingo.xoom.common.Scheduler;
+
+import java.time.Duration;
+
+class StagingWorkspaceSweep implements Scheduled<StagingWorkspaceManager> {
+
+  private final Scheduler scheduler = new Scheduler();
+  private final Cancellable scheduled;
+
+  static StagingWorkspaceSweep scheduleFor(final StagingWorkspaceManager manager, final Duration interval) {
+    return new StagingWorkspaceSweep(manager, interval);
+  }
+
+  private StagingWorkspaceSweep(final StagingWorkspaceManager manager, final Duration interval) {
+    this.scheduled = scheduler.schedule(this, manager, interval, interval);
+  }
+
+  @Override
+  public void intervalSignal(final Scheduled<StagingWorkspaceManager> scheduled, final StagingWorkspaceManager manager) {
+    manager.sweep();
+  }
+
+  void stop() {
+    scheduled.cancel();
+    scheduler.close();
+  }
+}
@@ -0,0 +1,89 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure;
+
+import org.apache.commons.io.IOUtils;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+public class ZipArchiveReader implements Closeable {
+
+  private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+  private static final int LOCAL_HEADER_SIZE = 30;
+  private static final int DATA_DESCRIPTOR_FLAG = 0x0008;
+
+  private final InputStream inputStream;
+
+  public static ZipArchiveReader on(final InputStream inputStream) {
+    return new ZipArchiveReader(new BufferedInputStream(inputStream));
+  }
+
+  private ZipArchiveReader(final InputStream inputStream) {
+    this.inputStream = inputStream;
+  }
+
+  public Optional<Entry> next() throws IOException {
+    final byte[] header = new byte[LOCAL_HEADER_SIZE];
+    final int headerLength = IOUtils.read(inputStream, header);
+    if (headerLength < 4 || readInt(header, 0) != LOCAL_HEADER_SIGNATURE) {
+      return Optional.empty();
+    }
+    if (headerLength < LOCAL_HEADER_SIZE) {
+      throw new IOException("Truncated ZIP entry header");
+    }
+    if ((readShort(header, 6) & DATA_DESCRIPTOR_FLAG) != 0) {
+      throw new IOException("ZIP entries with data descriptors are not supported");
+    }
+
+    final int method = readShort(header, 8);
+    final long crc = readInt(header, 14);
+    final long compressedSize = readInt(header, 18);
+    final long size = readInt(header, 22);
+    final byte[] name = IOUtils.readFully(inputStream, readShort(header, 26));
+    IOUtils.skipFully(inputStream, readShort(header, 28));
+
+    final byte[] compressed = IOUtils.readFully(inputStream, (int) compressedSize);
+
+    return Optional.of(new Entry(new String(name, StandardCharsets.UTF_8),
+            PrecompressedFile.from(compressed, crc, size, method)));
+  }
+
+  @Override
+  public void close() throws IOException {
+    inputStream.close();
+  }
+
+  private static int readShort(final byte[] bytes, final int index) {
+    return (bytes[index] & 0xFF) | ((bytes[index + 1] & 0xFF) << 8);
+  }
+
+  private static long readInt(final byte[] bytes, final int index) {
+    return ((long) readShort(bytes, index)) | ((long) readShort(bytes, index + 2) << 16);
+  }
+
+  public static class Entry {
+
+    public final String name;
+    public final PrecompressedFile file;
+
+    private Entry(final String name, final PrecompressedFile file) {
+      this.name = name;
+      this.file = file;
+    }
+
+    public boolean isDirectory() {
+      return name.endsWith("/");
+    }
+
+  }
+
+}
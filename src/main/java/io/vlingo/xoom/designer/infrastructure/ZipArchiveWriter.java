@@ -0,0 +1,197 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.Deflater;
+
+public class ZipArchiveWriter implements Closeable {
+
+  public static final int STORED = -2;
+
+  private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+  private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+  private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+  private static final int VERSION = 20;
+  private static final int UTF8_NAMES_FLAG = 0x0800;
+  private static final int MAX_ENTRIES = 0xFFFF;
+  private static final long MAX_SIZE = 0xFFFFFFFFL;
+  private static final Set<String> COMPRESSED_EXTENSIONS =
+          new HashSet<>(Arrays.asList("jar", "zip", "gz", "png", "jpg", "jpeg", "gif", "ico", "woff", "woff2"));
+
+  private final OutputStream outputStream;
+  private final PrecompressedFiles precompressedFiles;
+  private final int level;
+  private final int modificationTime;
+  private final int modificationDate;
+  private final List<CentralRecord> records = new ArrayList<>();
+  private long offset;
+  private boolean closed;
+
+  public static ZipArchiveWriter on(final OutputStream outputStream) {
+    return on(outputStream, Deflater.DEFAULT_COMPRESSION);
+  }
+
+  public static ZipArchiveWriter on(final OutputStream outputStream, final int level) {
+    return new ZipArchiveWriter(outputStream, PrecompressedFiles.instance(), level, LocalDateTime.now());
+  }
+
+  ZipArchiveWriter(final OutputStream outputStream,
+                   final PrecompressedFiles precompressedFiles,
+                   final int level,
+                   final LocalDateTime modifiedOn) {
+    this.outputStream = outputStream;
+    this.precompressedFiles = precompressedFiles;
+    this.level = level;
+    this.modificationTime = (modifiedOn.getHour() << 11) | (modifiedOn.getMinute() << 5) | (modifiedOn.getSecond() / 2);
+    this.modificationDate = ((Math.max(modifiedOn.getYear(), 1980) - 1980) << 9) | (modifiedOn.getMonthValue() << 5) | modifiedOn.getDayOfMonth();
+  }
+
+  public void write(final String name, final byte[] bytes) throws IOException {
+    write(name, compress(name, bytes));
+  }
+
+  public PrecompressedFile compress(final String name, final byte[] bytes) {
+    final Optional<PrecompressedFile> precompressed = precompressedFiles.find(bytes, PrecompressedFile.checksumOf(bytes));
+    if (precompressed.isPresent()) {
+      return precompressed.get();
+    }
+    if (level == STORED || isCompressed(name)) {
+      return PrecompressedFile.stored(bytes);
+    }
+    return PrecompressedFile.of(bytes, level);
+  }
+
+  public void write(final String name, final PrecompressedFile file) throws IOException {
+    if (records.size() == MAX_ENTRIES || offset > MAX_SIZE || file.size > MAX_SIZE) {
+      throw new IOException("ZIP64 archives are not supported: " + name);
+    }
+
+    final CentralRecord record = new CentralRecord(name.getBytes(StandardCharsets.UTF_8), file, offset);
+
+    final ByteArrayOutputStream header = new ByteArrayOutputStream(30 + record.name.length);
+    writeInt(header, LOCAL_HEADER_SIGNATURE);
+    writeShort(header, VERSION);
+    writeEntryDescription(header, record);
+    writeShort(header, 0);
+    header.write(record.name);
+
+    header.writeTo(outputStream);
+    outputStream.write(file.compressed);
+
+    offset += header.size() + file.compressed.length;
+    records.add(record);
+  }
+
+  public int entries() {
+    return records.size();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+
+    final ByteArrayOutputStream centralDirectory = new ByteArrayOutputStream();
+    for (final CentralRecord record : records) {
+      writeInt(centralDirectory, CENTRAL_HEADER_SIGNATURE);
+      writeShort(centralDirectory, VERSION);
+      writeShort(centralDirectory, VERSION);
+      writeEntryDescription(centralDirectory, record);
+      writeShort(centralDirectory, 0);
+      writeShort(centralDirectory, 0);
+      writeShort(centralDirectory, 0);
+      writeShort(centralDirectory, 0);
+      writeInt(centralDirectory, 0);
+      writeInt(centralDirectory, record.offset);
+      centralDirectory.write(record.name);
+    }
+
+    final int centralDirectorySize = centralDirectory.size();
+    if (offset + centralDirectorySize > MAX_SIZE) {
+      throw new IOException("ZIP64 archives are not supported");
+    }
+
+    writeInt(centralDirectory, END_OF_CENTRAL_DIRECTORY_SIGNATURE);
+    writeShort(centralDirectory, 0);
+    writeShort(centralDirectory, 0);
+    writeShort(centralDirectory, records.size());
+    writeShort(centralDirectory, records.size());
+    writeInt(centralDirectory, centralDirectorySize);
+    writeInt(centralDirectory, offset);
+    writeShort(centralDirectory, 0);
+
+    centralDirectory.writeTo(outputStream);
+    outputStream.close();
+  }
+
+  private void writeEntryDescription(final ByteArrayOutputStream stream, final CentralRecord record) {
+    writeShort(stream, UTF8_NAMES_FLAG);
+    writeShort(stream, record.method);
+    writeShort(stream, modificationTime);
+    writeShort(stream, modificationDate);
+    writeInt(stream, record.crc);
+    writeInt(stream, record.compressedSize);
+    writeInt(stream, record.size);
+    writeShort(stream, record.name.length);
+  }
+
+  static boolean isCompressed(final String name) {
+    return COMPRESSED_EXTENSIONS.contains(extensionOf(name));
+  }
+
+  private static String extensionOf(final String name) {
+    final int extensionIndex = name.lastIndexOf('.');
+    return extensionIndex < name.lastIndexOf('/') + 1 ? "" : name.substring(extensionIndex + 1).toLowerCase();
+  }
+
+  private static void writeShort(final ByteArrayOutputStream stream, final int value) {
+    stream.write(value & 0xFF);
+    stream.write((value >>> 8) & 0xFF);
+  }
+
+  private static void writeInt(final ByteArrayOutputStream stream, final long value) {
+    stream.write((int) (value & 0xFF));
+    stream.write((int) ((value >>> 8) & 0xFF));
+    stream.write((int) ((value >>> 16) & 0xFF));
+    stream.write((int) ((value >>> 24) & 0xFF));
+  }
+
+  private static class CentralRecord {
+
+    final byte[] name;
+    final long crc;
+    final long compressedSize;
+    final long size;
+    final int method;
+    final long offset;
+
+    CentralRecord(final byte[] name, final PrecompressedFile file, final long offset) {
+      this.name = name;
+      this.crc = file.crc;
+      this.compressedSize = file.compressed.length;
+      this.size = file.size;
+      this.method = file.method;
+      this.offset = offset;
+    }
+
+  }
+
+}
@@ -0,0 +1,52 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+public class AllocationMeter {
+
+  public static final long UNSUPPORTED = -1;
+
+  private static final com.sun.management.ThreadMXBean threadBean = resolveThreadBean();
+
+  public static boolean isSupported() {
+    return threadBean != null;
+  }
+
+  public static long currentThreadAllocatedBytes() {
+    if (threadBean == null) {
+      return UNSUPPORTED;
+    }
+    return threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+  }
+
+  public static long allocatedSince(final long allocatedBytes) {
+    if (allocatedBytes == UNSUPPORTED) {
+      return UNSUPPORTED;
+    }
+    return Math.max(0, currentThreadAllocatedBytes() - allocatedBytes);
+  }
+
+  private static com.sun.management.ThreadMXBean resolveThreadBean() {
+    try {
+      final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+      if (threadBean instanceof com.sun.management.ThreadMXBean) {
+        final com.sun.management.ThreadMXBean allocationAwareBean = (com.sun.management.ThreadMXBean) threadBean;
+        if (allocationAwareBean.isThreadAllocatedMemorySupported()) {
+          allocationAwareBean.setThreadAllocatedMemoryEnabled(true);
+          return allocationAwareBean;
+        }
+      }
+    } catch (final LinkageError | UnsupportedOperationException | SecurityException exception) {
+      return null;
+    }
+    return null;
+  }
+
+}
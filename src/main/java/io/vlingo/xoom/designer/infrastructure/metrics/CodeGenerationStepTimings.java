@@ -0,0 +1,79 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure.metrics;
+
+import io.vlingo.xoom.codegen.CodeGenerationStep;
+import io.vlingo.xoom.designer.codegen.CodeGenerationProgress;
+import io.vlingo.xoom.turbo.ComponentRegistry;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class CodeGenerationStepTimings implements CodeGenerationProgress {
+
+  private final Map<String, LatencyHistogram> processed = new ConcurrentHashMap<>();
+  private final Map<String, LatencyHistogram> skipped = new ConcurrentHashMap<>();
+  private final Map<String, LongAdder> producedContents = new ConcurrentHashMap<>();
+  private final Map<String, LongAdder> allocatedBytes = new ConcurrentHashMap<>();
+
+  public static synchronized CodeGenerationStepTimings instance() {
+    if (!ComponentRegistry.has(CodeGenerationStepTimings.class)) {
+      ComponentRegistry.register(CodeGenerationStepTimings.class, new CodeGenerationStepTimings());
+    }
+    return ComponentRegistry.withType(CodeGenerationStepTimings.class);
+  }
+
+  public CodeGenerationStepTimings() {
+  }
+
+  @Override
+  public void stepCompleted(final CodeGenerationStep step, final long elapsedNanos, final int producedContents) {
+    final String stepName = nameOf(step);
+    histogramOf(processed, stepName).record(elapsedNanos);
+    this.producedContents.computeIfAbsent(stepName, name -> new LongAdder()).add(producedContents);
+  }
+
+  @Override
+  public void stepSkipped(final CodeGenerationStep step, final long elapsedNanos) {
+    histogramOf(skipped, nameOf(step)).record(elapsedNanos);
+  }
+
+  @Override
+  public void stepAllocated(final CodeGenerationStep step, final long allocatedBytes) {
+    this.allocatedBytes.computeIfAbsent(nameOf(step), name -> new LongAdder()).add(allocatedBytes);
+  }
+
+  public Map<String, LatencyHistogram> processedSteps() {
+    return Collections.unmodifiableMap(new TreeMap<>(processed));
+  }
+
+  public Map<String, LatencyHistogram> skippedSteps() {
+    return Collections.unmodifiableMap(new TreeMap<>(skipped));
+  }
+
+  public long producedContentsOf(final String stepName) {
+    final LongAdder produced = producedContents.get(stepName);
+    return produced == null ? 0 : produced.sum();
+  }
+
+  public long allocatedBytesOf(final String stepName) {
+    final LongAdder allocated = allocatedBytes.get(stepName);
+    return allocated == null ? 0 : allocated.sum();
+  }
+
+  public static String nameOf(final CodeGenerationStep step) {
+    return step.getClass().getSimpleName();
+  }
+
+  private LatencyHistogram histogramOf(final Map<String, LatencyHistogram> histograms, final String stepName) {
+    return histograms.computeIfAbsent(stepName, name -> LatencyHistogram.withDefaultBuckets());
+  }
+
+}
@@ -0,0 +1,69 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure.metrics;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyHistogram {
+
+  private static final long[] DEFAULT_BOUNDS_MILLIS = {1, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+  private final long[] boundsNanos;
+  private final LongAdder[] buckets;
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sumNanos = new LongAdder();
+
+  public static LatencyHistogram withDefaultBuckets() {
+    return withBucketsInMillis(DEFAULT_BOUNDS_MILLIS);
+  }
+
+  public static LatencyHistogram withBucketsInMillis(final long... boundsMillis) {
+    final long[] sortedBounds = Arrays.copyOf(boundsMillis, boundsMillis.length);
+    Arrays.sort(sortedBounds);
+    return new LatencyHistogram(Arrays.stream(sortedBounds).map(TimeUnit.MILLISECONDS::toNanos).toArray());
+  }
+
+  private LatencyHistogram(final long[] boundsNanos) {
+    this.boundsNanos = boundsNanos;
+    this.buckets = new LongAdder[boundsNanos.length + 1];
+    for (int index = 0; index < buckets.length; ++index) {
+      this.buckets[index] = new LongAdder();
+    }
+  }
+
+  public void record(final long elapsedNanos) {
+    final int position = Arrays.binarySearch(boundsNanos, elapsedNanos);
+    buckets[position >= 0 ? position : -position - 1].increment();
+    sumNanos.add(elapsedNanos);
+    count.increment();
+  }
+
+  public long count() {
+    return count.sum();
+  }
+
+  public long sumNanos() {
+    return sumNanos.sum();
+  }
+
+  public Map<Long, Long> cumulativeCountsByBoundNanos() {
+    final Map<Long, Long> counts = new LinkedHashMap<>();
+    long cumulativeCount = 0;
+    for (int index = 0; index < boundsNanos.length; ++index) {
+      cumulativeCount += buckets[index].sum();
+      counts.put(boundsNanos[index], cumulativeCount);
+    }
+    counts.put(Long.MAX_VALUE, cumulativeCount + buckets[boundsNanos.length].sum());
+    return Collections.unmodifiableMap(counts);
+  }
+
+}
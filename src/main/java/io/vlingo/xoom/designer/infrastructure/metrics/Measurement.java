@@ -0,0 +1,29 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure.metrics;
+
+public class Measurement {
+
+  private final String operation;
+  private final MetricsRegistry registry;
+  private final long startedOn;
+  private final long allocatedBytes;
+
+  Measurement(final String operation, final MetricsRegistry registry) {
+    this.operation = operation;
+    this.registry = registry;
+    this.allocatedBytes = AllocationMeter.currentThreadAllocatedBytes();
+    this.startedOn = System.nanoTime();
+  }
+
+  public long stop() {
+    final long elapsedNanos = System.nanoTime() - startedOn;
+    registry.record(operation, elapsedNanos, AllocationMeter.allocatedSince(allocatedBytes));
+    return elapsedNanos;
+  }
+
+}
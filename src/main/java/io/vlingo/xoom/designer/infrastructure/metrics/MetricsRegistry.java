@@ -0,0 +1,73 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure.metrics;
+
+import io.vlingo.xoom.turbo.ComponentRegistry;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class MetricsRegistry {
+
+  public static final String CONTEXT_MAPPING = "context_mapping";
+  public static final String CONTENT_CREATION = "content_creation";
+  public static final String PROJECT_COMPRESSION = "project_compression";
+  public static final String GENERATED_FILES = "generated_files";
+  public static final String RENDERED_BYTES = "rendered_bytes";
+  public static final String ARCHIVED_BYTES = "archived_bytes";
+
+  private final Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+  private final Map<String, LongAdder> allocations = new ConcurrentHashMap<>();
+  private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+  public static synchronized MetricsRegistry instance() {
+    if (!ComponentRegistry.has(MetricsRegistry.class)) {
+      ComponentRegistry.register(MetricsRegistry.class, new MetricsRegistry());
+    }
+    return ComponentRegistry.withType(MetricsRegistry.class);
+  }
+
+  public MetricsRegistry() {
+  }
+
+  public Measurement measure(final String operation) {
+    return new Measurement(operation, this);
+  }
+
+  public void increment(final String counter, final long amount) {
+    counters.computeIfAbsent(counter, name -> new LongAdder()).add(amount);
+  }
+
+  public Map<String, LatencyHistogram> latencies() {
+    return Collections.unmodifiableMap(new TreeMap<>(latencies));
+  }
+
+  public Map<String, Long> allocations() {
+    return sumsOf(allocations);
+  }
+
+  public Map<String, Long> counters() {
+    return sumsOf(counters);
+  }
+
+  void record(final String operation, final long elapsedNanos, final long allocatedBytes) {
+    latencies.computeIfAbsent(operation, name -> LatencyHistogram.withDefaultBuckets()).record(elapsedNanos);
+    if (allocatedBytes != AllocationMeter.UNSUPPORTED) {
+      allocations.computeIfAbsent(operation, name -> new LongAdder()).add(allocatedBytes);
+    }
+  }
+
+  private Map<String, Long> sumsOf(final Map<String, LongAdder> adders) {
+    final Map<String, Long> sums = new TreeMap<>();
+    adders.forEach((name, adder) -> sums.put(name, adder.sum()));
+    return Collections.unmodifiableMap(sums);
+  }
+
+}
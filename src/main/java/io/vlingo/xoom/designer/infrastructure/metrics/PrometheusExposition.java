@@ -0,0 +1,143 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure.metrics;
+
+import io.vlingo.xoom.designer.codegen.TemplateCache;
+import io.vlingo.xoom.designer.infrastructure.GenerationResultCache;
+
+import java.util.Map;
+
+public class PrometheusExposition {
+
+  public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+  private static final String PREFIX = "xoom_designer_";
+  private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+  private final StringBuilder output = new StringBuilder();
+
+  public static String format(final MetricsRegistry registry,
+                              final CodeGenerationStepTimings stepTimings,
+                              final TemplateCache templateCache,
+                              final GenerationResultCache resultCache) {
+    return new PrometheusExposition().appendOperations(registry).appendSteps(stepTimings)
+            .appendTemplateCache(templateCache).appendResultCache(resultCache).output.toString();
+  }
+
+  private PrometheusExposition() {
+  }
+
+  private PrometheusExposition appendOperations(final MetricsRegistry registry) {
+    final String duration = PREFIX + "operation_duration_seconds";
+    header(duration, "histogram", "Latency of designer operations");
+    registry.latencies().forEach((operation, histogram) -> histogram(duration, "operation=\"" + escape(operation) + "\"", histogram));
+
+    final String allocations = PREFIX + "operation_allocated_bytes_total";
+    header(allocations, "counter", "Bytes allocated by the thread running designer operations");
+    registry.allocations().forEach((operation, bytes) -> sample(allocations, "operation=\"" + escape(operation) + "\"", bytes));
+
+    registry.counters().forEach((counter, value) -> {
+      final String name = PREFIX + counter + "_total";
+      header(name, "counter", "Total of " + counter.replace('_', ' '));
+      sample(name, "", value);
+    });
+    return this;
+  }
+
+  private PrometheusExposition appendSteps(final CodeGenerationStepTimings stepTimings) {
+    final String duration = PREFIX + "step_duration_seconds";
+    header(duration, "histogram", "Latency of code generation steps");
+    stepTimings.processedSteps().forEach((step, histogram) -> histogram(duration, stepLabels(step, "processed"), histogram));
+    stepTimings.skippedSteps().forEach((step, histogram) -> histogram(duration, stepLabels(step, "skipped"), histogram));
+
+    final String contents = PREFIX + "step_produced_contents_total";
+    header(contents, "counter", "Contents produced by code generation steps");
+    stepTimings.processedSteps().keySet().forEach(step ->
+            sample(contents, "step=\"" + escape(step) + "\"", stepTimings.producedContentsOf(step)));
+
+    if (AllocationMeter.isSupported()) {
+      final String allocations = PREFIX + "step_allocated_bytes_total";
+      header(allocations, "counter", "Bytes allocated by the thread running code generation steps");
+      stepTimings.processedSteps().keySet().forEach(step ->
+              sample(allocations, "step=\"" + escape(step) + "\"", stepTimings.allocatedBytesOf(step)));
+    }
+    return this;
+  }
+
+  private PrometheusExposition appendTemplateCache(final TemplateCache templateCache) {
+    final String hits = PREFIX + "template_cache_hits_total";
+    header(hits, "counter", "Template lookups served from the cache");
+    sample(hits, "", templateCache.hits());
+
+    final String misses = PREFIX + "template_cache_misses_total";
+    header(misses, "counter", "Template lookups that required compilation");
+    sample(misses, "", templateCache.misses());
+
+    final String size = PREFIX + "template_cache_size";
+    header(size, "gauge", "Compiled templates held by the cache");
+    sample(size, "", templateCache.size());
+    return this;
+  }
+
+  private PrometheusExposition appendResultCache(final GenerationResultCache resultCache) {
+    final String hits = PREFIX + "result_cache_hits_total";
+    header(hits, "counter", "Generation requests served from cached archives");
+    sample(hits, "", resultCache.hits());
+
+    final String misses = PREFIX + "result_cache_misses_total";
+    header(misses, "counter", "Generation requests that required running the pipeline");
+    sample(misses, "", resultCache.misses());
+
+    final String evictions = PREFIX + "result_cache_evictions_total";
+    header(evictions, "counter", "Cached archives evicted to stay within capacity");
+    sample(evictions, "", resultCache.evictions());
+
+    final String hitRatio = PREFIX + "result_cache_hit_ratio";
+    header(hitRatio, "gauge", "Share of generation requests served from cached archives");
+    output.append(hitRatio).append(' ').append(resultCache.hitRatio()).append('\n');
+
+    final String size = PREFIX + "result_cache_size_bytes";
+    header(size, "gauge", "Bytes of archives held by the result cache");
+    sample(size, "", resultCache.sizeInBytes());
+    return this;
+  }
+
+  private void histogram(final String name, final String labels, final LatencyHistogram histogram) {
+    final String separator = labels.isEmpty() ? "" : ",";
+    for (final Map.Entry<Long, Long> bucket : histogram.cumulativeCountsByBoundNanos().entrySet()) {
+      final String bound = bucket.getKey() == Long.MAX_VALUE ? "+Inf" : Double.toString(bucket.getKey() / NANOS_PER_SECOND);
+      output.append(name).append("_bucket{").append(labels).append(separator)
+              .append("le=\"").append(bound).append("\"} ").append(bucket.getValue()).append('\n');
+    }
+    output.append(name).append("_sum").append(braces(labels)).append(' ')
+            .append(histogram.sumNanos() / NANOS_PER_SECOND).append('\n');
+    output.append(name).append("_count").append(braces(labels)).append(' ')
+            .append(histogram.count()).append('\n');
+  }
+
+  private void sample(final String name, final String labels, final long value) {
+    output.append(name).append(braces(labels)).append(' ').append(value).append('\n');
+  }
+
+  private void header(final String name, final String type, final String help) {
+    output.append("# HELP ").append(name).append(' ').append(help).append('\n')
+            .append("# TYPE ").append(name).append(' ').append(type).append('\n');
+  }
+
+  private String stepLabels(final String step, final String outcome) {
+    return "step=\"" + escape(step) + "\",outcome=\"" + outcome + "\"";
+  }
+
+  private String braces(final String labels) {
+    return labels.isEmpty() ? "" : "{" + labels + "}";
+  }
+
+  private String escape(final String labelValue) {
+    return labelValue.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+  }
+
+}
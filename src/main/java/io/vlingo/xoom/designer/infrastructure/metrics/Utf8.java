@@ -0,0 +1,29 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure.metrics;
+
+public class Utf8 {
+
+  public static long lengthOf(final CharSequence text) {
+    long length = 0;
+    for (int index = 0; index < text.length(); ++index) {
+      final char character = text.charAt(index);
+      if (character < 0x80) {
+        length += 1;
+      } else if (character < 0x800) {
+        length += 2;
+      } else if (Character.isHighSurrogate(character) && index + 1 < text.length() && Character.isLowSurrogate(text.charAt(index + 1))) {
+        length += 4;
+        ++index;
+      } else {
+        length += 3;
+      }
+    }
+    return length;
+  }
+
+}
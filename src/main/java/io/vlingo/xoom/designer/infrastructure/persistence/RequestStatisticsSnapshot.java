@@ -0,0 +1,187 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure.persistence;
+
+import io.vlingo.xoom.common.Cancellable;
+import io.vlingo.xoom.common.Outcome;
+import io.vlingo.xoom.common.Scheduled;
+import io.vlingo.xoom.common.Scheduler;
+import io.vlingo.xoom.designer.infrastructure.requesthistory.RequestStatistics;
+import io.vlingo.xoom.designer.infrastructure.requesthistory.RequestStatistics.PendingRequests;
+import io.vlingo.xoom.reactivestreams.sink.ConsumerSink;
+import io.vlingo.xoom.symbio.Metadata;
+import io.vlingo.xoom.symbio.Source;
+import io.vlingo.xoom.symbio.StateBundle;
+import io.vlingo.xoom.symbio.store.Result;
+import io.vlingo.xoom.symbio.store.StorageException;
+import io.vlingo.xoom.symbio.store.state.StateStore;
+import io.vlingo.xoom.symbio.store.state.StateStore.ReadResultInterest;
+import io.vlingo.xoom.symbio.store.state.StateStore.WriteResultInterest;
+import io.vlingo.xoom.turbo.ComponentRegistry;
+
+import java.time.Duration;
+import java.util.List;
+
+public class RequestStatisticsSnapshot implements Scheduled<RequestStatistics>, ReadResultInterest, WriteResultInterest {
+
+  private final RequestStatistics statistics;
+  private Cancellable scheduled;
+  private StateStore store;
+
+  public static void resolve(final RequestStatistics statistics, final Scheduler scheduler, final Duration interval) {
+    if (!ComponentRegistry.has(RequestStatisticsSnapshot.class)) {
+      final RequestStatisticsSnapshot snapshot =
+              new RequestStatisticsSnapshot(statistics);
+      snapshot.seed();
+      snapshot.scheduled = scheduler.schedule(snapshot, statistics, interval, interval);
+      ComponentRegistry.register(RequestStatisticsSnapshot.class, snapshot);
+    }
+  }
+
+  public static void stopIfResolved() {
+    if (ComponentRegistry.has(RequestStatisticsSnapshot.class)) {
+      ComponentRegistry.withType(RequestStatisticsSnapshot.class).stop();
+    }
+  }
+
+  RequestStatisticsSnapshot(final RequestStatistics statistics) {
+    this.statistics = statistics;
+  }
+
+  RequestStatisticsSnapshot(final StateStore store, final RequestStatistics statistics) {
+    this.store = store;
+    this.statistics = statistics;
+  }
+
+  public void seed() {
+    store().streamAllOf(TotalRequestsByIPData.class).andThenConsume(stream ->
+            stream.flowInto(new ConsumerSink<>((StateBundle bundle) -> {
+              final TotalRequestsByIPData data = (TotalRequestsByIPData) bundle.object;
+              statistics.seedByIp(data.ipAddress, data.totalRequests, data.lastOccurredOn);
+            })));
+
+    store().streamAllOf(TotalRequestsByMonthData.class).andThenConsume(stream ->
+            stream.flowInto(new ConsumerSink<>((StateBundle bundle) -> {
+              final TotalRequestsByMonthData data = (TotalRequestsByMonthData) bundle.object;
+              statistics.seedByMonth(data.monthOfYear, data.totalRequests);
+            })));
+  }
+
+  public void flush() {
+    statistics.drainPendingByIp().forEach(pending ->
+            store().read(pending.key, TotalRequestsByIPData.class, this, new ByIP(pending)));
+
+    statistics.drainPendingByMonth().forEach(pending ->
+            store().read(pending.key, TotalRequestsByMonthData.class, this, new ByMonth(pending)));
+  }
+
+  public void stop() {
+    if (scheduled != null) {
+      scheduled.cancel();
+    }
+    flush();
+  }
+
+  @Override
+  public void intervalSignal(final Scheduled<RequestStatistics> scheduled, final RequestStatistics statistics) {
+    flush();
+  }
+
+  @Override
+  public <S> void readResultedIn(final Outcome<StorageException, Result> outcome,
+                                 final String id,
+                                 final S state,
+                                 final int stateVersion,
+                                 final Metadata metadata,
+                                 final Object object) {
+    final Update update = (Update) object;
+    outcome.andThen(result -> {
+      store().write(id, update.mergeWith(state), stateVersion + 1, this, update);
+      return result;
+    }).otherwise(cause -> {
+      if (cause.result == Result.NotFound) {
+        store().write(id, update.mergeWith(null), 1, this, update);
+      } else {
+        update.restoreTo(statistics);
+      }
+      return cause.result;
+    });
+  }
+
+  @Override
+  public <S, C> void writeResultedIn(final Outcome<StorageException, Result> outcome,
+                                     final String id,
+                                     final S state,
+                                     final int stateVersion,
+                                     final List<Source<C>> sources,
+                                     final Object object) {
+    outcome.otherwise(cause -> {
+      ((Update) object).restoreTo(statistics);
+      return cause.result;
+    });
+  }
+
+  private synchronized StateStore store() {
+    if (store == null) {
+      store = ComponentRegistry.withType(QueryModelStateStoreProvider.class).store;
+    }
+    return store;
+  }
+
+  private static abstract class Update {
+
+    protected final PendingRequests pending;
+
+    private Update(final PendingRequests pending) {
+      this.pending = pending;
+    }
+
+    abstract Object mergeWith(final Object previousData);
+
+    abstract void restoreTo(final RequestStatistics statistics);
+
+  }
+
+  private static class ByIP extends Update {
+
+    private ByIP(final PendingRequests pending) {
+      super(pending);
+    }
+
+    @Override
+    Object mergeWith(final Object previousData) {
+      final long previousTotal = previousData == null ? 0 : ((TotalRequestsByIPData) previousData).totalRequests;
+      return TotalRequestsByIPData.from(pending.key, previousTotal + pending.requests, pending.lastOccurredOn);
+    }
+
+    @Override
+    void restoreTo(final RequestStatistics statistics) {
+      statistics.restorePendingByIp(pending);
+    }
+
+  }
+
+  private static class ByMonth extends Update {
+
+    private ByMonth(final PendingRequests pending) {
+      super(pending);
+    }
+
+    @Override
+    Object mergeWith(final Object previousData) {
+      final long previousTotal = previousData == null ? 0 : ((TotalRequestsByMonthData) previousData).totalRequests;
+      return TotalRequestsByMonthData.from(pending.key, previousTotal + pending.requests);
+    }
+
+    @Override
+    void restoreTo(final RequestStatistics statistics) {
+      statistics.restorePendingByMonth(pending);
+    }
+
+  }
+
+}
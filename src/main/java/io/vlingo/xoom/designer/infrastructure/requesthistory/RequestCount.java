@@ -6,45 +6,56 @@
 // one at https://mozilla.org/MPL/2.0/.
 package io.vlingo.xoom.designer.infrastructure.requesthistory;
 
-import java.time.Duration;
-import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 
 class RequestCount {
 
-  private int counter;
+  static final int COUNTER_BITS = 20;
+  static final int MAX_LIMIT = (1 << COUNTER_BITS) - 1;
+
+  private static final long COUNTER_MASK = MAX_LIMIT;
+  private static final long RETIRED = -1L;
+  private static final AtomicLongFieldUpdater<RequestCount> STATE =
+          AtomicLongFieldUpdater.newUpdater(RequestCount.class, "state");
+
   private final int limit;
-  private final Duration requestCountExpiration;
-  private LocalDateTime expiredOn;
+  private final long expirationMillis;
+  private volatile long state;
 
-  RequestCount(final int limit, final Duration requestCountExpiration) {
-    this.counter = 0;
+  RequestCount(final int limit, final long expirationMillis, final long nowMillis) {
     this.limit = limit;
-    this.requestCountExpiration = requestCountExpiration;
-    this.expiredOn = calculateExpirationTime();
+    this.expirationMillis = expirationMillis;
+    this.state = nowMillis << COUNTER_BITS;
   }
 
-  public boolean increment() {
-    if(counter == limit) {
-      return false;
+  public boolean increment(final long nowMillis) {
+    while (true) {
+      final long current = state;
+      if (current == RETIRED || limit == 0) {
+        return false;
+      }
+      if (isExpired(current, nowMillis)) {
+        if (STATE.compareAndSet(this, current, (nowMillis << COUNTER_BITS) | 1)) {
+          return true;
+        }
+      } else if ((current & COUNTER_MASK) >= limit) {
+        return false;
+      } else if (STATE.compareAndSet(this, current, current + 1)) {
+        return true;
+      }
     }
-    counter++;
-    return true;
-  }
-
-  public void reset() {
-    counter = 0;
-    expiredOn = calculateExpirationTime();
   }
 
-  public boolean isNew() {
-    return counter == 0;
+  public boolean retireIfExpired(final long nowMillis) {
+    final long current = state;
+    return current != RETIRED && isExpired(current, nowMillis) && STATE.compareAndSet(this, current, RETIRED);
   }
 
-  public boolean isExpired() {
-    return expiredOn.isBefore(LocalDateTime.now());
+  public boolean isRetired() {
+    return state == RETIRED;
   }
 
-  private LocalDateTime calculateExpirationTime() {
-    return LocalDateTime.now().plusSeconds(requestCountExpiration.getSeconds());
+  private boolean isExpired(final long state, final long nowMillis) {
+    return nowMillis - (state >>> COUNTER_BITS) >= expirationMillis;
   }
 }
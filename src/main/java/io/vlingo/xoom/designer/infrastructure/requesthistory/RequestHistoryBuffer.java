@@ -0,0 +1,59 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure.requesthistory;
+
+import java.util.Collection;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+public class RequestHistoryBuffer {
+
+  private final int batchSize;
+  private final BlockingQueue<RequestRecord> records;
+  private final AtomicBoolean flushRequested = new AtomicBoolean();
+  private final LongAdder dropped = new LongAdder();
+
+  public static RequestHistoryBuffer with(final int capacity, final int batchSize) {
+    if(batchSize < 1 || batchSize > capacity) {
+      throw new IllegalArgumentException("Request history batch size must be between 1 and " + capacity + ".");
+    }
+    return new RequestHistoryBuffer(capacity, batchSize);
+  }
+
+  private RequestHistoryBuffer(final int capacity, final int batchSize) {
+    this.batchSize = batchSize;
+    this.records = new ArrayBlockingQueue<>(capacity);
+  }
+
+  public boolean add(final RequestRecord record) {
+    if(!records.offer(record)) {
+      dropped.increment();
+      return false;
+    }
+    return records.size() >= batchSize && flushRequested.compareAndSet(false, true);
+  }
+
+  public int drainTo(final Collection<RequestRecord> batch) {
+    flushRequested.set(false);
+    return records.drainTo(batch, batchSize);
+  }
+
+  public int batchSize() {
+    return batchSize;
+  }
+
+  public int pending() {
+    return records.size();
+  }
+
+  public long dropped() {
+    return dropped.sum();
+  }
+
+}
@@ -0,0 +1,27 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure.requesthistory;
+
+import io.vlingo.xoom.actors.Definition;
+import io.vlingo.xoom.actors.Stage;
+
+import java.time.Duration;
+
+public interface RequestHistoryRecorder {
+
+  static RequestHistoryRecorder using(final Stage stage,
+                                      final RequestHistoryBuffer buffer,
+                                      final Duration flushInterval) {
+    final Definition definition =
+            Definition.has(RequestHistoryRecorderActor.class, Definition.parameters(buffer, flushInterval));
+
+    return stage.actorFor(RequestHistoryRecorder.class, definition);
+  }
+
+  void flush();
+
+}
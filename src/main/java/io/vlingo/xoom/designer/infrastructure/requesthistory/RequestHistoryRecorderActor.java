@@ -0,0 +1,88 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure.requesthistory;
+
+import io.vlingo.xoom.actors.Actor;
+import io.vlingo.xoom.common.Cancellable;
+import io.vlingo.xoom.common.Outcome;
+import io.vlingo.xoom.common.Scheduled;
+import io.vlingo.xoom.lattice.model.stateful.StatefulTypeRegistry;
+import io.vlingo.xoom.symbio.Metadata;
+import io.vlingo.xoom.symbio.Source;
+import io.vlingo.xoom.symbio.store.Result;
+import io.vlingo.xoom.symbio.store.StorageException;
+import io.vlingo.xoom.symbio.store.state.StateStore;
+import io.vlingo.xoom.symbio.store.state.StateStore.WriteResultInterest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+public class RequestHistoryRecorderActor extends Actor implements RequestHistoryRecorder, Scheduled<Object>, WriteResultInterest {
+
+  private static final int INITIAL_VERSION = 1;
+
+  private final RequestHistoryBuffer buffer;
+  private final List<RequestRecord> batch;
+  private final Cancellable scheduledFlush;
+  private final WriteResultInterest writeInterest;
+  private StateStore store;
+
+  @SuppressWarnings("unchecked")
+  public RequestHistoryRecorderActor(final RequestHistoryBuffer buffer, final Duration flushInterval) {
+    this.buffer = buffer;
+    this.batch = new ArrayList<>(buffer.batchSize());
+    this.writeInterest = selfAs(WriteResultInterest.class);
+    this.scheduledFlush = scheduler().schedule(selfAs(Scheduled.class), null, flushInterval, flushInterval);
+  }
+
+  @Override
+  public void flush() {
+    while(buffer.drainTo(batch) > 0) {
+      batch.forEach(this::preserve);
+      batch.clear();
+    }
+  }
+
+  @Override
+  public void intervalSignal(final Scheduled<Object> scheduled, final Object data) {
+    flush();
+  }
+
+  @Override
+  public <S, C> void writeResultedIn(final Outcome<StorageException, Result> outcome,
+                                     final String id,
+                                     final S state,
+                                     final int stateVersion,
+                                     final List<Source<C>> sources,
+                                     final Object object) {
+    outcome.otherwise(cause -> {
+      logger().warn("Unable to preserve request history " + id + ": " + cause.getMessage());
+      return cause.result;
+    });
+  }
+
+  @Override
+  protected void afterStop() {
+    scheduledFlush.cancel();
+    super.afterStop();
+  }
+
+  private void preserve(final RequestRecord record) {
+    final RequestHistoryState state = record.toState(stage().addressFactory().unique().idString());
+    final Metadata metadata = Metadata.with(state, "", RequestHistoryPreserved.name());
+    store().write(state.id, state, INITIAL_VERSION, metadata, writeInterest);
+  }
+
+  private StateStore store() {
+    if(store == null) {
+      store = StatefulTypeRegistry.instance(stage().world()).info(RequestHistoryState.class).store;
+    }
+    return store;
+  }
+
+}
@@ -24,6 +24,13 @@ public class RequestHistoryState extends StateObject {
     return new RequestHistoryState(id);
   }
 
+  public static RequestHistoryState from(final String id,
+                                         final String uri,
+                                         final String ipAddress,
+                                         final LocalDateTime occurredOn) {
+    return new RequestHistoryState(id, uri, ipAddress, occurredOn);
+  }
+
   private RequestHistoryState(final String id) {
     this(id, null, null);
   }
@@ -31,10 +38,17 @@ public class RequestHistoryState extends StateObject {
   private RequestHistoryState(final String id,
                               final String uri,
                               final String ipAddress) {
+    this(id, uri, ipAddress, LocalDateTime.now(UTC));
+  }
+
+  private RequestHistoryState(final String id,
+                              final String uri,
+                              final String ipAddress,
+                              final LocalDateTime occurredOn) {
     this.id = id;
     this.uri = uri;
     this.ipAddress = ipAddress;
-    this.occurredOn = LocalDateTime.now(UTC);
+    this.occurredOn = occurredOn;
   }
 
   public RequestHistoryState preserve(final String uri,
@@ -4,56 +4,72 @@
 // Mozilla Public License, v. 2.0. If a copy of the MPL
 // was not distributed with this file, You can obtain
 // one at https://mozilla.org/MPL/2.0/.
-
 package io.vlingo.xoom.designer.infrastructure.requesthistory;
 
 import java.time.Duration;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 public class RequestLimiter {
 
   private final int limit;
-  private final Duration countExpiration;
-  private final Map<String, RequestCount> counters = new HashMap<>();
+  private final long expirationMillis;
+  private final long origin = System.nanoTime();
+  private final ConcurrentMap<String, RequestCount> counters = new ConcurrentHashMap<>();
 
   public static RequestLimiter of(final int limit, final Duration expiration) {
     if(expiration.compareTo(Duration.ofSeconds(60)) > 0) {
       throw new IllegalArgumentException("Expiration interval cannot be longer than 60 seconds.");
     }
+    if(limit < 0 || limit > RequestCount.MAX_LIMIT) {
+      throw new IllegalArgumentException("Request limit must be between 0 and " + RequestCount.MAX_LIMIT + ".");
+    }
     return new RequestLimiter(limit, expiration);
   }
 
   private RequestLimiter(final int limit,
                          final Duration countExpiration) {
     this.limit = limit;
-    this.countExpiration = countExpiration;
+    this.expirationMillis = countExpiration.toMillis();
     RequestCountReset.scheduleFor(this, countExpiration);
   }
 
   public boolean checkLimit(final String ipAddress) {
-    final RequestCount requestCount = retrieveCount(ipAddress);
-    if(requestCount.isNew()) {
-      counters.put(ipAddress, requestCount);
-    }else if(requestCount.isExpired()) {
-      requestCount.reset();
+    final long now = elapsedMillis();
+    while (true) {
+      final RequestCount requestCount = retrieveCount(ipAddress, now);
+      if(requestCount.increment(now)) {
+        return true;
+      }
+      if(!requestCount.isRetired()) {
+        return false;
+      }
+      counters.remove(ipAddress, requestCount);
     }
-    return requestCount.increment();
   }
 
-  private RequestCount retrieveCount(final String ipAddress) {
-    return counters.getOrDefault(ipAddress, new RequestCount(limit, countExpiration));
+  private RequestCount retrieveCount(final String ipAddress, final long now) {
+    final RequestCount requestCount = counters.get(ipAddress);
+    if(requestCount != null) {
+      return requestCount;
+    }
+    final RequestCount newCount = new RequestCount(limit, expirationMillis, now);
+    final RequestCount existingCount = counters.putIfAbsent(ipAddress, newCount);
+    return existingCount == null ? newCount : existingCount;
   }
 
   protected void removeAllExpired() {
-    final List<String> ips =
-            counters.entrySet().stream()
-                    .filter(entry -> entry.getValue().isExpired())
-                    .map(entry -> entry.getKey()).collect(Collectors.toList());
+    final long now = elapsedMillis();
+    counters.entrySet().removeIf(entry -> entry.getValue().retireIfExpired(now));
+  }
+
+  int trackedClients() {
+    return counters.size();
+  }
 
-    ips.forEach(ip -> counters.remove(ip));
+  private long elapsedMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - origin);
   }
 
 }
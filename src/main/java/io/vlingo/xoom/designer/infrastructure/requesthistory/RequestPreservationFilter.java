@@ -8,32 +8,56 @@ package io.vlingo.xoom.designer.infrastructure.requesthistory;
 
 import io.vlingo.xoom.actors.Stage;
 import io.vlingo.xoom.common.Tuple2;
+import io.vlingo.xoom.designer.infrastructure.persistence.RequestStatisticsSnapshot;
 import io.vlingo.xoom.http.Request;
 import io.vlingo.xoom.http.RequestFilter;
 
+import static io.vlingo.xoom.designer.Configuration.resolveRequestHistoryBatchSize;
+import static io.vlingo.xoom.designer.Configuration.resolveRequestHistoryCapacity;
+import static io.vlingo.xoom.designer.Configuration.resolveRequestHistoryFlushInterval;
 import static io.vlingo.xoom.http.RequestHeader.XForwardedFor;
 
 public class RequestPreservationFilter extends RequestFilter {
 
-  private final Stage stage;
+  private final RequestHistoryBuffer buffer;
+  private final RequestHistoryRecorder recorder;
+  private final RequestStatistics statistics;
 
   public static RequestPreservationFilter with(final Stage stage) {
-    return new RequestPreservationFilter(stage);
+    final RequestHistoryBuffer buffer =
+            RequestHistoryBuffer.with(resolveRequestHistoryCapacity(), resolveRequestHistoryBatchSize());
+
+    return new RequestPreservationFilter(buffer, RequestHistoryRecorder.using(stage, buffer, resolveRequestHistoryFlushInterval()),
+            RequestStatistics.instance());
   }
 
-  private RequestPreservationFilter(final Stage stage) {
-    this.stage = stage;
+  private RequestPreservationFilter(final RequestHistoryBuffer buffer,
+                                    final RequestHistoryRecorder recorder,
+                                    final RequestStatistics statistics) {
+    this.buffer = buffer;
+    this.recorder = recorder;
+    this.statistics = statistics;
   }
 
   @Override
   public Tuple2<Request, Boolean> filter(final Request request) {
     final String uri = request.uri.toString();
     final String ipAddress = request.headers.headerOf(XForwardedFor).value;
-    RequestHistory.preserve(stage, uri, ipAddress);
+    final RequestRecord record = RequestRecord.of(uri, ipAddress);
+    statistics.record(record);
+    if(buffer.add(record)) {
+      recorder.flush();
+    }
     return Tuple2.from(request, true);
   }
 
+  public long droppedRequests() {
+    return buffer.dropped();
+  }
+
   @Override
   public void stop() {
+    recorder.flush();
+    RequestStatisticsSnapshot.stopIfResolved();
   }
 }
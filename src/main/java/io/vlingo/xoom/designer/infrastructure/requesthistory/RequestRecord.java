@@ -0,0 +1,35 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure.requesthistory;
+
+import java.time.LocalDateTime;
+
+import static java.time.ZoneOffset.UTC;
+
+public class RequestRecord {
+
+  public final String uri;
+  public final String ipAddress;
+  public final LocalDateTime occurredOn;
+
+  public static RequestRecord of(final String uri, final String ipAddress) {
+    return new RequestRecord(uri, ipAddress, LocalDateTime.now(UTC));
+  }
+
+  private RequestRecord(final String uri,
+                        final String ipAddress,
+                        final LocalDateTime occurredOn) {
+    this.uri = uri;
+    this.ipAddress = ipAddress;
+    this.occurredOn = occurredOn;
+  }
+
+  public RequestHistoryState toState(final String id) {
+    return RequestHistoryState.from(id, uri, ipAddress, occurredOn);
+  }
+
+}
@@ -0,0 +1,153 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure.requesthistory;
+
+import io.vlingo.xoom.turbo.ComponentRegistry;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class RequestStatistics {
+
+  private final Map<String, Counter> byIp = new ConcurrentHashMap<>();
+  private final Map<String, Counter> byMonth = new ConcurrentHashMap<>();
+  private volatile MonthOfYear currentMonth;
+
+  public static synchronized RequestStatistics instance() {
+    if (!ComponentRegistry.has(RequestStatistics.class)) {
+      ComponentRegistry.register(RequestStatistics.class, new RequestStatistics());
+    }
+    return ComponentRegistry.withType(RequestStatistics.class);
+  }
+
+  public RequestStatistics() {
+  }
+
+  public void record(final RequestRecord record) {
+    counterOf(byIp, record.ipAddress).increment(record.occurredOn);
+    counterOf(byMonth, monthOfYear(record.occurredOn)).increment(record.occurredOn);
+  }
+
+  public Map<String, Long> totalRequestsByIp() {
+    return totalsOf(byIp);
+  }
+
+  public Map<String, Long> totalRequestsByMonth() {
+    return totalsOf(byMonth);
+  }
+
+  public List<PendingRequests> drainPendingByIp() {
+    return drainPendingOf(byIp);
+  }
+
+  public List<PendingRequests> drainPendingByMonth() {
+    return drainPendingOf(byMonth);
+  }
+
+  public void restorePendingByIp(final PendingRequests pendingRequests) {
+    counterOf(byIp, pendingRequests.key).pending.addAndGet(pendingRequests.requests);
+  }
+
+  public void restorePendingByMonth(final PendingRequests pendingRequests) {
+    counterOf(byMonth, pendingRequests.key).pending.addAndGet(pendingRequests.requests);
+  }
+
+  public void seedByIp(final String key, final long requests, final LocalDateTime lastOccurredOn) {
+    counterOf(byIp, key).seed(requests, lastOccurredOn);
+  }
+
+  public void seedByMonth(final String key, final long requests) {
+    counterOf(byMonth, key).seed(requests, null);
+  }
+
+  private Counter counterOf(final Map<String, Counter> counters, final String key) {
+    final Counter counter = counters.get(key);
+    return counter != null ? counter : counters.computeIfAbsent(key, ignored -> new Counter());
+  }
+
+  private Map<String, Long> totalsOf(final Map<String, Counter> counters) {
+    final Map<String, Long> totals = new TreeMap<>();
+    counters.forEach((key, counter) -> totals.put(key, counter.total.sum()));
+    return totals;
+  }
+
+  private List<PendingRequests> drainPendingOf(final Map<String, Counter> counters) {
+    final List<PendingRequests> pendingRequests = new ArrayList<>();
+    counters.forEach((key, counter) -> {
+      final long requests = counter.pending.getAndSet(0);
+      if (requests > 0) {
+        pendingRequests.add(new PendingRequests(key, requests, counter.lastOccurredOn));
+      }
+    });
+    return pendingRequests;
+  }
+
+  private String monthOfYear(final LocalDateTime occurredOn) {
+    final int value = occurredOn.getYear() * 100 + occurredOn.getMonthValue();
+    final MonthOfYear month = currentMonth;
+    if (month != null && month.value == value) {
+      return month.key;
+    }
+    final MonthOfYear resolved = new MonthOfYear(value);
+    currentMonth = resolved;
+    return resolved.key;
+  }
+
+  public static class PendingRequests {
+
+    public final String key;
+    public final long requests;
+    public final LocalDateTime lastOccurredOn;
+
+    private PendingRequests(final String key, final long requests, final LocalDateTime lastOccurredOn) {
+      this.key = key;
+      this.requests = requests;
+      this.lastOccurredOn = lastOccurredOn;
+    }
+
+  }
+
+  private static class Counter {
+
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong pending = new AtomicLong();
+    private volatile LocalDateTime lastOccurredOn;
+
+    private void increment(final LocalDateTime occurredOn) {
+      total.increment();
+      lastOccurredOn = occurredOn;
+      pending.incrementAndGet();
+    }
+
+    private void seed(final long requests, final LocalDateTime occurredOn) {
+      total.add(requests);
+      if (lastOccurredOn == null) {
+        lastOccurredOn = occurredOn;
+      }
+    }
+
+  }
+
+  private static class MonthOfYear {
+
+    private final int value;
+    private final String key;
+
+    private MonthOfYear(final int value) {
+      this.value = value;
+      this.key = String.valueOf(value);
+    }
+
+  }
+
+}
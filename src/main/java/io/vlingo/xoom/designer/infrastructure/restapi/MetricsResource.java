@@ -0,0 +1,48 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure.restapi;
+
+import io.vlingo.xoom.actors.Stage;
+import io.vlingo.xoom.common.Completes;
+import io.vlingo.xoom.designer.codegen.TemplateCache;
+import io.vlingo.xoom.designer.infrastructure.GenerationResultCache;
+import io.vlingo.xoom.designer.infrastructure.metrics.CodeGenerationStepTimings;
+import io.vlingo.xoom.designer.infrastructure.metrics.MetricsRegistry;
+import io.vlingo.xoom.designer.infrastructure.metrics.PrometheusExposition;
+import io.vlingo.xoom.http.Response;
+import io.vlingo.xoom.http.resource.DynamicResourceHandler;
+import io.vlingo.xoom.http.resource.Resource;
+
+import static io.vlingo.xoom.http.Response.Status.Ok;
+import static io.vlingo.xoom.http.ResponseHeader.ContentType;
+import static io.vlingo.xoom.http.ResponseHeader.headers;
+import static io.vlingo.xoom.http.ResponseHeader.of;
+import static io.vlingo.xoom.http.resource.ResourceBuilder.get;
+import static io.vlingo.xoom.http.resource.ResourceBuilder.resource;
+
+public class MetricsResource extends DynamicResourceHandler {
+
+  public MetricsResource(final Stage stage) {
+    super(stage);
+  }
+
+  public Completes<Response> queryMetrics() {
+    final String metrics =
+            PrometheusExposition.format(MetricsRegistry.instance(), CodeGenerationStepTimings.instance(),
+                    TemplateCache.instance(), GenerationResultCache.instance());
+
+    return Completes.withSuccess(Response.of(Ok, headers(of(ContentType, PrometheusExposition.CONTENT_TYPE)), metrics));
+  }
+
+  @Override
+  public Resource<?> routes() {
+    return resource("Metrics Resource", this,
+            get("/api/metrics")
+                    .handle(this::queryMetrics));
+  }
+
+}
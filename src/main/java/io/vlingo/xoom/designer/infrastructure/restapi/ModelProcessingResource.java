@@ -11,21 +11,40 @@ import io.vlingo.xoom.actors.Logger;
 import io.vlingo.xoom.actors.Stage;
 import io.vlingo.xoom.common.Completes;
 import io.vlingo.xoom.designer.ModelProcessingInformation;
+import io.vlingo.xoom.designer.ModelProcessingJob;
+import io.vlingo.xoom.designer.ModelProcessingJobs;
 import io.vlingo.xoom.designer.ModelProcessingManager;
+import io.vlingo.xoom.designer.ModelProcessingScene;
 import io.vlingo.xoom.designer.codegen.GenerationPathAlreadyExistsException;
 import io.vlingo.xoom.designer.codegen.GenerationPathCreationException;
+import io.vlingo.xoom.designer.codegen.GenerationSettings;
 import io.vlingo.xoom.designer.codegen.GenerationTarget;
+import io.vlingo.xoom.designer.infrastructure.ProjectArchive;
+import io.vlingo.xoom.designer.infrastructure.metrics.CodeGenerationStepTimings;
+import io.vlingo.xoom.designer.infrastructure.restapi.data.CodeGenerationStepTimingsData;
 import io.vlingo.xoom.designer.infrastructure.restapi.data.DesignerModel;
+import io.vlingo.xoom.designer.infrastructure.restapi.data.DesignerModelBatch;
 import io.vlingo.xoom.designer.infrastructure.restapi.data.DesignerModelFile;
 import io.vlingo.xoom.designer.infrastructure.restapi.data.DesignerModelFileException;
 import io.vlingo.xoom.designer.infrastructure.restapi.data.GenerationPath;
+import io.vlingo.xoom.designer.infrastructure.restapi.data.ModelProcessingEventStream;
+import io.vlingo.xoom.designer.infrastructure.restapi.data.ModelProcessingJobData;
 import io.vlingo.xoom.designer.infrastructure.restapi.report.ModelFileHandlingReport;
+import io.vlingo.xoom.designer.infrastructure.restapi.report.ModelProcessingReport;
+import io.vlingo.xoom.http.RequestHeader;
 import io.vlingo.xoom.http.Response;
 import io.vlingo.xoom.http.resource.DynamicResourceHandler;
 import io.vlingo.xoom.http.resource.Resource;
+import io.vlingo.xoom.http.resource.sse.SseClient;
 import io.vlingo.xoom.turbo.ComponentRegistry;
+import io.vlingo.xoom.wire.channel.RequestResponseContext;
+import io.vlingo.xoom.wire.message.BasicConsumerByteBuffer;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 
 import static io.vlingo.xoom.common.serialization.JsonSerialization.serialized;
 import static io.vlingo.xoom.http.Response.Status.*;
@@ -39,13 +58,19 @@ public class ModelProcessingResource extends DynamicResourceHandler {
   private final ModelProcessingManager modelProcessingManager;
   private final ModelProcessingInformation modelProcessingInformation;
   public static final String REFUSE_REQUEST_URI = "/api/model-processing/request-refusal";
+  private static final String JOB_URI_PATTERN = "/api/model-processing/jobs/%s";
+  private static final String LAST_EVENT_ID = "Last-Event-ID";
+  private static final String BATCH_ARCHIVE_NAME = "xoom-designer-batch";
+  private static final int ARCHIVE_HEAD_SIZE = 1024;
+  private static final int ARCHIVE_CHUNK_SIZE = 64 * 1024;
 
   public ModelProcessingResource(final Stage stage) {
     super(stage);
     this.logger = stage().world().defaultLogger();
-    this.generationTarget = ComponentRegistry.withType(GenerationTarget.class);
+    final GenerationSettings settings = GenerationSettings.instance();
+    this.generationTarget = settings.target;
     this.modelProcessingInformation = ModelProcessingInformation.from(generationTarget);
-    this.modelProcessingManager = new ModelProcessingManager(ComponentRegistry.withName("codeGenerationSteps"));
+    this.modelProcessingManager = new ModelProcessingManager(ComponentRegistry.withName("codeGenerationSteps"), settings);
   }
 
   public Completes<Response> startGeneration(final DesignerModel model) {
@@ -55,6 +80,106 @@ public class ModelProcessingResource extends DynamicResourceHandler {
             });
   }
 
+  public Completes<Response> startBatchGeneration(final DesignerModelBatch batch) {
+    final ModelProcessingInformation batchProcessingInformation = ModelProcessingInformation.from(GenerationTarget.IN_MEMORY_ZIP);
+    final String validationErrors = String.join(", ", batch.validate());
+    if (!validationErrors.isEmpty()) {
+      final ModelProcessingReport report = ModelProcessingReport.onValidationFail(validationErrors, GenerationTarget.IN_MEMORY_ZIP);
+      return Completes.withSuccess(Response.of(BadRequest, serialized(report)));
+    }
+
+    return jobResponse(ModelProcessingJobs.instance().submit(progress ->
+            processBatch(batch, batchProcessingInformation)));
+  }
+
+  public Completes<Response> submitGeneration(final DesignerModel model) {
+    return jobResponse(ModelProcessingJobs.instance().submit(progress ->
+            modelProcessingManager.process(model, modelProcessingInformation, logger, progress).report));
+  }
+
+  private ModelProcessingReport processBatch(final DesignerModelBatch batch,
+                                             final ModelProcessingInformation batchProcessingInformation) {
+    final List<ModelProcessingScene> scenes = modelProcessingManager.processAll(batch.models(), batchProcessingInformation, logger);
+
+    final Optional<ModelProcessingScene> failedScene = scenes.stream().filter(ModelProcessingScene::isFailed).findFirst();
+    if (failedScene.isPresent()) {
+      return failedScene.get().report;
+    }
+
+    final List<String> archiveIds = scenes.stream().map(scene -> scene.archiveId).collect(Collectors.toList());
+    return ModelProcessingReport.onBatchGenerationSucceed(archiveIds, batchProcessingInformation);
+  }
+
+  private Completes<Response> jobResponse(final Optional<ModelProcessingJob> job) {
+    if (!job.isPresent()) {
+      return Completes.withSuccess(Response.of(ServiceUnavailable, headers(of("Retry-After", "1"))));
+    }
+
+    final String jobUri = String.format(JOB_URI_PATTERN, job.get().id);
+    return Completes.withSuccess(Response.of(Accepted, headers(of(Location, jobUri)), serialized(ModelProcessingJobData.from(job.get()))));
+  }
+
+  public Completes<Response> queryGenerationJob(final String jobId) {
+    return ModelProcessingJobs.instance().find(jobId)
+            .map(job -> Completes.withSuccess(Response.of(Ok, serialized(ModelProcessingJobData.from(job)))))
+            .orElseGet(() -> Completes.withSuccess(Response.of(NotFound)));
+  }
+
+  public Completes<Response> streamGenerationEvents(final String jobId) {
+    final Optional<ModelProcessingJob> job = ModelProcessingJobs.instance().find(jobId);
+    if (!job.isPresent()) {
+      return Completes.withSuccess(Response.of(NotFound));
+    }
+    final RequestHeader lastEventIdHeader = context().request.headers.headerOf(LAST_EVENT_ID);
+    final String lastEventId = lastEventIdHeader == null ? null : lastEventIdHeader.value;
+    if (ModelProcessingEventStream.isExhausted(job.get(), lastEventId)) {
+      return Completes.withSuccess(Response.of(NoContent));
+    }
+    ModelProcessingEventStream.open(job.get(), lastEventId, new SseClient(context().clientContext()));
+    return Completes.using(stage().scheduler());
+  }
+
+  public Completes<Response> queryStepTimings() {
+    return Completes.withSuccess(Response.of(Ok, serialized(CodeGenerationStepTimingsData.from(CodeGenerationStepTimings.instance()))));
+  }
+
+  public Completes<Response> downloadArchive(final String generationId) {
+    try {
+      final Optional<ProjectArchive> archive = ProjectArchive.of(generationId);
+      if (!archive.isPresent()) {
+        return Completes.withSuccess(Response.of(NotFound));
+      }
+      try (final ProjectArchive downloadedArchive = archive.get()) {
+        return archiveResponse(downloadedArchive);
+      }
+    } catch (final IOException exception) {
+      exception.printStackTrace();
+      return Completes.withSuccess(Response.of(InternalServerError));
+    }
+  }
+
+  public Completes<Response> downloadBatchArchive(final String batchId) {
+    try (final ProjectArchive archive = ProjectArchive.combine(BATCH_ARCHIVE_NAME, ProjectArchive.generationIdsOf(batchId))) {
+      return archiveResponse(archive);
+    } catch (final IOException exception) {
+      exception.printStackTrace();
+      return Completes.withSuccess(Response.of(NotFound));
+    }
+  }
+
+  private Completes<Response> archiveResponse(final ProjectArchive archive) throws IOException {
+    final String contentDisposition = String.format("attachment; filename=\"%s\"", archive.filename);
+    final Response head =
+            Response.of(Ok, headers(of(ContentType, "application/zip")).and(of("Content-Disposition", contentDisposition))
+                    .and(of(ContentLength, String.valueOf(archive.size()))));
+
+    final RequestResponseContext<?> client = context().clientContext();
+    client.respondWith(head.into(BasicConsumerByteBuffer.allocate(0, ARCHIVE_HEAD_SIZE)));
+    archive.transferTo(ARCHIVE_CHUNK_SIZE, (chunk, length) ->
+            client.respondWith(BasicConsumerByteBuffer.allocate(0, length).put(chunk, 0, length).flip()));
+    return Completes.using(stage().scheduler());
+  }
+
   public Completes<Response> makeGenerationPath(final GenerationPath path) {
     try {
       modelProcessingManager.createGenerationPath(new File(path.path));
@@ -100,6 +225,26 @@ public class ModelProcessingResource extends DynamicResourceHandler {
             post("/api/model-processing")
                     .body(DesignerModel.class)
                     .handle(this::startGeneration),
+            post("/api/model-processing/batch")
+                    .body(DesignerModelBatch.class)
+                    .handle(this::startBatchGeneration),
+            post("/api/model-processing/jobs")
+                    .body(DesignerModel.class)
+                    .handle(this::submitGeneration),
+            get("/api/model-processing/jobs/{jobId}")
+                    .param(String.class)
+                    .handle(this::queryGenerationJob),
+            get("/api/model-processing/jobs/{jobId}/events")
+                    .param(String.class)
+                    .handle(this::streamGenerationEvents),
+            get("/api/model-processing/step-timings")
+                    .handle(this::queryStepTimings),
+            get("/api/model-processing/{generationId}/archive")
+                    .param(String.class)
+                    .handle(this::downloadArchive),
+            get("/api/model-processing/batch/{batchId}/archive")
+                    .param(String.class)
+                    .handle(this::downloadBatchArchive),
             post("/api/model-processing/exportation-file")
                     .body(DesignerModel.class)
                     .handle(this::processModelExportationFile),
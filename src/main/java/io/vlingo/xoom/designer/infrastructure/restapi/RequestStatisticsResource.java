@@ -0,0 +1,42 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure.restapi;
+
+import io.vlingo.xoom.actors.Stage;
+import io.vlingo.xoom.common.Completes;
+import io.vlingo.xoom.designer.infrastructure.requesthistory.RequestStatistics;
+import io.vlingo.xoom.designer.infrastructure.restapi.data.RequestStatisticsData;
+import io.vlingo.xoom.http.Response;
+import io.vlingo.xoom.http.resource.DynamicResourceHandler;
+import io.vlingo.xoom.http.resource.Resource;
+
+import static io.vlingo.xoom.common.serialization.JsonSerialization.serialized;
+import static io.vlingo.xoom.http.Response.Status.Ok;
+import static io.vlingo.xoom.http.resource.ResourceBuilder.get;
+import static io.vlingo.xoom.http.resource.ResourceBuilder.resource;
+
+public class RequestStatisticsResource extends DynamicResourceHandler {
+
+  private final RequestStatistics statistics;
+
+  public RequestStatisticsResource(final Stage stage) {
+    super(stage);
+    this.statistics = RequestStatistics.instance();
+  }
+
+  public Completes<Response> queryRequestStatistics() {
+    return Completes.withSuccess(Response.of(Ok, serialized(RequestStatisticsData.from(statistics))));
+  }
+
+  @Override
+  public Resource<?> routes() {
+    return resource("Request Statistics Resource", this,
+            get("/api/request-statistics")
+                    .handle(this::queryRequestStatistics));
+  }
+
+}
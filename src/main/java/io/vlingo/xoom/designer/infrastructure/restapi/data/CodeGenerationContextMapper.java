@@ -21,8 +21,8 @@ import io.vlingo.xoom.designer.codegen.java.SchemataSettings;
 import io.vlingo.xoom.designer.codegen.java.TurboSettings;
 import io.vlingo.xoom.designer.codegen.java.designermodel.DesignerModelFormatter;
 import io.vlingo.xoom.designer.codegen.java.exchange.ExchangeRole;
+import io.vlingo.xoom.designer.codegen.java.resource.RouteDetail;
 import io.vlingo.xoom.designer.codegen.java.schemata.Schema;
-import io.vlingo.xoom.turbo.ComponentRegistry;
 
 import java.nio.file.Path;
 import java.util.Optional;
@@ -34,25 +34,25 @@ public class CodeGenerationContextMapper {
 
   private final DesignerModel data;
   private final CodeGenerationContext context;
-  private final GenerationTarget generationTarget;
+  private final GenerationSettings settings;
   private final CodeGenerationParameters parameters;
   private final CodeElementFormatter formatter;
   private final Logger logger;
 
   public static CodeGenerationContext map(final DesignerModel data,
-                                         final GenerationTarget generationTarget,
+                                         final GenerationSettings settings,
                                          final Logger logger) {
-    return new CodeGenerationContextMapper(data, generationTarget, logger).map();
+    return new CodeGenerationContextMapper(data, settings, logger).map();
   }
 
   private CodeGenerationContextMapper(final DesignerModel data,
-                                      final GenerationTarget generationTarget,
+                                      final GenerationSettings settings,
                                       final Logger logger) {
     this.data = data;
-    this.generationTarget = generationTarget;
+    this.settings = settings;
     this.parameters = CodeGenerationParameters.from(DIALECT, Dialect.JAVA);
     this.context = CodeGenerationContextFactory.build(logger, parameters);
-    this.formatter = ComponentRegistry.withName("defaultCodeFormatter");
+    this.formatter = settings.codeFormatter;
     this.logger = logger;
 
     mapAggregates();
@@ -63,6 +63,7 @@ public class CodeGenerationContextMapper {
 
   private CodeGenerationContext map() {
     context.logger(logger).parameters().addAll(parameters);
+    CodeGenerationParameterIndex.seal(context);
     return context;
   }
 
@@ -135,20 +136,20 @@ public class CodeGenerationContextMapper {
 
   private void mapDomainEvents(final AggregateData aggregateData,
                                final CodeGenerationParameter aggregateParameter) {
+    final CodeGenerationParameterIndex aggregateIndex = CodeGenerationParameterIndex.of(aggregateParameter);
+
     aggregateData.events.forEach(event -> {
       final CodeGenerationParameter eventCodeGenParam =
               CodeGenerationParameter.of(DOMAIN_EVENT, formatter.rectifySyntax(event.name));
 
-      final Optional<CodeGenerationParameter> emitterMethod =
-              aggregateParameter.retrieveAllRelated(AGGREGATE_METHOD)
+      final Optional<CodeGenerationParameterIndex> emitterMethod =
+              aggregateIndex.related(AGGREGATE_METHOD).stream()
                       .filter(method -> method.hasAny(DOMAIN_EVENT) && method.retrieveRelatedValue(DOMAIN_EVENT).equals(event.name))
-                      .findFirst();
+                      .findFirst().map(CodeGenerationParameterIndex::of);
 
       event.fields.stream().map(formatter::rectifySyntax).forEach(field -> {
         final CodeGenerationParameter correspondingStateField =
-                aggregateParameter.retrieveAllRelated(STATE_FIELD)
-                        .filter(stateField -> stateField.value.equals(field))
-                        .findFirst().get();
+                aggregateIndex.find(STATE_FIELD, field).get();
 
         final CodeGenerationParameter eventField =
                 CodeGenerationParameter.of(STATE_FIELD, field)
@@ -161,9 +162,7 @@ public class CodeGenerationContextMapper {
                           .relate(COLLECTION_MUTATION, CollectionMutation.NONE);
 
           final CodeGenerationParameter correspondingMethodParam =
-                  emitterMethod.get().retrieveAllRelated(METHOD_PARAMETER)
-                          .filter(methodParameter -> methodParameter.value.equals(field))
-                          .findFirst().orElse(placeholderMethodParam);
+                  emitterMethod.get().find(METHOD_PARAMETER, field).orElse(placeholderMethodParam);
 
           eventField.relate(correspondingMethodParam.retrieveOneRelated(ALIAS))
                   .relate(correspondingMethodParam.retrieveOneRelated(COLLECTION_MUTATION));
@@ -187,6 +186,14 @@ public class CodeGenerationContextMapper {
 
       aggregateParameter.relate(routeParameter);
     });
+
+    if (requiresDefaultQueryRoutes(aggregateData)) {
+      aggregateParameter.relate(RouteDetail.defaultQueryRoutes(aggregateParameter));
+    }
+  }
+
+  private boolean requiresDefaultQueryRoutes(final AggregateData aggregateData) {
+    return data.model.persistenceSettings.useCQRS && (data.useAutoDispatch || !aggregateData.api.routes.isEmpty());
   }
 
   private void mapExchanges(final AggregateData aggregate,
@@ -232,10 +239,10 @@ public class CodeGenerationContextMapper {
             ClusterSettings.with(data.deployment.clusterPort, data.deployment.clusterTotalNodes);
 
     final SchemataSettings schemataSettings =
-            SchemataSettings.with(data.schemata.host, data.schemata.port, Configuration.resolveSchemataServiceDNS());
+            SchemataSettings.with(data.schemata.host, data.schemata.port, settings.schemataServiceDNS);
 
     final Path definitiveFolder =
-            generationTarget.definitiveFolderFor(context.generationId, data.context.artifactId, data.projectDirectory);
+            settings.definitiveFolderFor(context.generationId, data.context.artifactId, data.projectDirectory);
 
     final DeploymentSettings deploymentSettings =
             DeploymentSettings.with(DeploymentType.of(data.deployment.type),
@@ -255,8 +262,14 @@ public class CodeGenerationContextMapper {
             .add(TURBO_SETTINGS, turboSettings)
             .add(SCHEMATA_SETTINGS, schemataSettings)
             .add(TARGET_FOLDER, definitiveFolder.toString())
+            .add(GENERATION_MANIFEST, GenerationManifest.resolve(settings.target, definitiveFolder, data.context.artifactId))
+            .add(GENERATION_SETTINGS, settings)
             .add(DESIGNER_MODEL_JSON, DesignerModelFormatter.format(data))
             .add(WEB_UI_DIALECT, data.generateUI != null && data.generateUI ? data.generateUIWith : "");
+
+    if (settings.target.inMemory()) {
+      parameters.add(PROJECT_TREE, InMemoryProjectTree.rootedAt(definitiveFolder));
+    }
   }
 
 }
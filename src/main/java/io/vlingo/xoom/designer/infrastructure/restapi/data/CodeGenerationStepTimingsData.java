@@ -0,0 +1,49 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure.restapi.data;
+
+import io.vlingo.xoom.designer.infrastructure.metrics.CodeGenerationStepTimings;
+import io.vlingo.xoom.designer.infrastructure.metrics.LatencyHistogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class CodeGenerationStepTimingsData {
+
+  public final Map<String, Histogram> processedSteps = new LinkedHashMap<>();
+  public final Map<String, Histogram> skippedSteps = new LinkedHashMap<>();
+
+  public static CodeGenerationStepTimingsData from(final CodeGenerationStepTimings timings) {
+    return new CodeGenerationStepTimingsData(timings);
+  }
+
+  private CodeGenerationStepTimingsData(final CodeGenerationStepTimings timings) {
+    timings.processedSteps().forEach((step, histogram) ->
+            processedSteps.put(step, new Histogram(histogram, timings.producedContentsOf(step))));
+
+    timings.skippedSteps().forEach((step, histogram) -> skippedSteps.put(step, new Histogram(histogram, 0)));
+  }
+
+  public static class Histogram {
+
+    public final long count;
+    public final long sumNanos;
+    public final long producedContents;
+    public final Map<String, Long> bucketsInMillis = new LinkedHashMap<>();
+
+    private Histogram(final LatencyHistogram histogram, final long producedContents) {
+      this.count = histogram.count();
+      this.sumNanos = histogram.sumNanos();
+      this.producedContents = producedContents;
+      histogram.cumulativeCountsByBoundNanos().forEach((bound, count) ->
+              bucketsInMillis.put(bound == Long.MAX_VALUE ? "+Inf" : String.valueOf(TimeUnit.NANOSECONDS.toMillis(bound)), count));
+    }
+
+  }
+
+}
@@ -69,6 +69,16 @@ public class DesignerModel {
     return errorStrings;
   }
 
+  public DesignerModel withProjectDirectory(final String projectDirectory) {
+    return new DesignerModel(context, model, deployment, schemata, projectDirectory,
+            useAnnotations, useAutoDispatch, generateUI, generateUIWith);
+  }
+
+  public boolean hasExchanges() {
+    return model != null && model.aggregateSettings.stream()
+            .anyMatch(aggregate -> aggregate.hasConsumerExchange() || aggregate.hasProducerExchange());
+  }
+
   public String defaultExchangeName() {
     return context.artifactId + "-exchange";
   }
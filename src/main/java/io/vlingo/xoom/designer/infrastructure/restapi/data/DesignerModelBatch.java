@@ -0,0 +1,46 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+
+package io.vlingo.xoom.designer.infrastructure.restapi.data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class DesignerModelBatch {
+
+  public final List<DesignerModel> models;
+
+  public DesignerModelBatch(final List<DesignerModel> models) {
+    this.models = models;
+  }
+
+  public List<DesignerModel> models() {
+    return models == null ? Collections.emptyList() : Collections.unmodifiableList(models);
+  }
+
+  public List<String> validate() {
+    final List<String> errorStrings = new ArrayList<>();
+    if (models == null || models.isEmpty()) {
+      errorStrings.add("DesignerModelBatch.models is empty");
+      return errorStrings;
+    }
+    final Set<String> artifactIds = new HashSet<>();
+    models.stream().filter(model -> model != null && model.context != null && model.context.artifactId != null)
+            .map(model -> model.context.artifactId)
+            .filter(artifactId -> !artifactIds.add(artifactId))
+            .distinct()
+            .forEach(artifactId -> errorStrings.add("DesignerModelBatch.models has duplicated artifactId " + artifactId));
+    if (models.contains(null)) {
+      errorStrings.add("DesignerModelBatch.models has null entries");
+    }
+    return errorStrings;
+  }
+
+}
@@ -6,19 +6,18 @@
 // one at https://mozilla.org/MPL/2.0/.
 package io.vlingo.xoom.designer.infrastructure.restapi.data;
 
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParser;
-import io.vlingo.xoom.common.serialization.JsonSerialization;
-import io.vlingo.xoom.designer.infrastructure.ByteArraySupplier;
+import io.vlingo.xoom.designer.codegen.java.designermodel.DesignerModelFormatter;
+import org.apache.commons.io.input.CharSequenceInputStream;
 
 import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
 import java.util.Base64;
-import java.util.UUID;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 public class DesignerModelFile {
 
@@ -26,40 +25,28 @@ public class DesignerModelFile {
 
   public static DesignerModelFile from(final DesignerModel data) {
     try {
-      return new DesignerModelFile(JsonSerialization.serialized(data));
-    } catch (final IOException exception) {
+      return new DesignerModelFile(encode(data));
+    } catch (final Exception exception) {
       exception.printStackTrace();
       throw new DesignerModelFileException("Unable to create GenerationSettingsFile", exception);
     }
   }
 
-  private DesignerModelFile(final String serializedSettingsJson) throws IOException {
-    this.encoded = encode(createFile(serializedSettingsJson));
-  }
-
-  private Path createFile(final String serializedSettingsJson) throws IOException {
-    final Path file = Paths.get(UUID.randomUUID() + ".json");
-    Files.write(file, format(serializedSettingsJson).getBytes());
-    return file;
-  }
-
-  private String encode(final Path file) throws IOException {
-    return Base64.getEncoder().encodeToString(Files.readAllBytes(file));
+  private static String encode(final DesignerModel data) throws Exception {
+    final ByteArrayOutputStream encodedStream = new ByteArrayOutputStream();
+    try (final Writer writer = new OutputStreamWriter(Base64.getEncoder().wrap(encodedStream), UTF_8)) {
+      DesignerModelFormatter.write(data, writer);
+    }
+    return encodedStream.toString(US_ASCII.name());
   }
 
-  private String format(final String generationSettings) {
-    final JsonElement parsed = JsonParser.parseString(generationSettings);
-    return new GsonBuilder().setPrettyPrinting().create().toJson(parsed);
+  DesignerModelFile(final String encoded) {
+    this.encoded = encoded;
   }
 
   public DesignerModel mapData() {
-    try {
-      final ByteArraySupplier byteArraySupplier = ByteArraySupplier.empty();
-      try (final ByteArrayOutputStream byteArrayStream = new ByteArrayOutputStream(); ) {
-        byteArraySupplier.stream(byteArrayStream);
-        byteArrayStream.write(Base64.getDecoder().decode(encoded));
-      }
-      return JsonSerialization.deserialized(new String(byteArraySupplier.get()), DesignerModel.class);
+    try (final Reader reader = new InputStreamReader(Base64.getDecoder().wrap(new CharSequenceInputStream(encoded, US_ASCII)), UTF_8)) {
+      return DesignerModelFormatter.read(reader);
     } catch (final Exception exception) {
       throw new DesignerModelFileException("Unable to map data from encoded file", exception);
     }
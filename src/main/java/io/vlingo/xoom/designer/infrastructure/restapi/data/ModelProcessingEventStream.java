@@ -0,0 +1,69 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure.restapi.data;
+
+import io.vlingo.xoom.designer.ModelProcessingEvent;
+import io.vlingo.xoom.designer.ModelProcessingEventListener;
+import io.vlingo.xoom.designer.ModelProcessingJob;
+import io.vlingo.xoom.http.resource.sse.SseClient;
+import io.vlingo.xoom.http.resource.sse.SseEvent;
+
+import static io.vlingo.xoom.common.serialization.JsonSerialization.serialized;
+
+public class ModelProcessingEventStream implements ModelProcessingEventListener {
+
+  public static final String JOB_FINISHED = "job-finished";
+
+  private final SseClient client;
+
+  public static void open(final ModelProcessingJob job, final String lastEventId, final SseClient client) {
+    job.subscribe(parseEventId(lastEventId), new ModelProcessingEventStream(client));
+  }
+
+  public static boolean isExhausted(final ModelProcessingJob job, final String lastEventId) {
+    return job.status().isFinished() && parseEventId(lastEventId) >= job.finishedEventId();
+  }
+
+  public static SseEvent eventOf(final ModelProcessingEvent event) {
+    return eventOf(event.id, event.type, serialized(event));
+  }
+
+  public static SseEvent finishedEventOf(final ModelProcessingJob job, final long finishedEventId) {
+    return eventOf(finishedEventId, JOB_FINISHED, serialized(ModelProcessingJobData.from(job)));
+  }
+
+  private ModelProcessingEventStream(final SseClient client) {
+    this.client = client;
+  }
+
+  @Override
+  public void onEvent(final ModelProcessingEvent event) {
+    client.send(eventOf(event));
+  }
+
+  @Override
+  public void onJobFinished(final ModelProcessingJob job, final long finishedEventId) {
+    client.send(finishedEventOf(job, finishedEventId));
+    client.close();
+  }
+
+  private static SseEvent eventOf(final long id, final String type, final String data) {
+    return SseEvent.Builder.instance().clear().id(String.valueOf(id)).event(type).data(data).toEvent();
+  }
+
+  private static long parseEventId(final String lastEventId) {
+    if (lastEventId == null || lastEventId.trim().isEmpty()) {
+      return 0;
+    }
+    try {
+      return Math.max(0, Long.parseLong(lastEventId.trim()));
+    } catch (final NumberFormatException exception) {
+      return 0;
+    }
+  }
+
+}
@@ -0,0 +1,38 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure.restapi.data;
+
+import io.vlingo.xoom.designer.ModelProcessingJob;
+import io.vlingo.xoom.designer.infrastructure.restapi.report.ModelProcessingReport;
+
+import java.util.List;
+
+public class ModelProcessingJobData {
+
+  public final String id;
+  public final String status;
+  public final int completedSteps;
+  public final int totalSteps;
+  public final List<String> runningSteps;
+  public final ModelProcessingReport report;
+  public final String error;
+
+  public static ModelProcessingJobData from(final ModelProcessingJob job) {
+    return new ModelProcessingJobData(job);
+  }
+
+  private ModelProcessingJobData(final ModelProcessingJob job) {
+    this.id = job.id;
+    this.status = job.status().name();
+    this.completedSteps = job.completedSteps();
+    this.totalSteps = job.totalSteps();
+    this.runningSteps = job.runningSteps();
+    this.report = job.report();
+    this.error = job.error();
+  }
+
+}
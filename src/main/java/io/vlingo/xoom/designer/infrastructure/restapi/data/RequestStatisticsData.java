@@ -0,0 +1,28 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure.restapi.data;
+
+import io.vlingo.xoom.designer.infrastructure.requesthistory.RequestStatistics;
+
+import java.util.Map;
+
+public class RequestStatisticsData {
+
+  public final Map<String, Long> totalRequestsByIP;
+  public final Map<String, Long> totalRequestsByMonth;
+
+  public static RequestStatisticsData from(final RequestStatistics statistics) {
+    return new RequestStatisticsData(statistics.totalRequestsByIp(), statistics.totalRequestsByMonth());
+  }
+
+  private RequestStatisticsData(final Map<String, Long> totalRequestsByIP,
+                                final Map<String, Long> totalRequestsByMonth) {
+    this.totalRequestsByIP = totalRequestsByIP;
+    this.totalRequestsByMonth = totalRequestsByMonth;
+  }
+
+}
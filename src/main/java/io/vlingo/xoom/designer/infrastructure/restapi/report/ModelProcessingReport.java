@@ -12,10 +12,10 @@ import io.vlingo.xoom.designer.ModelProcessingInformation;
 import io.vlingo.xoom.designer.ModelProcessingStatus;
 import io.vlingo.xoom.designer.codegen.GenerationTarget;
 import io.vlingo.xoom.designer.codegen.Label;
-import io.vlingo.xoom.designer.infrastructure.ProjectCompressor;
+import io.vlingo.xoom.designer.infrastructure.ProjectArchive;
 import io.vlingo.xoom.designer.infrastructure.restapi.data.DesignerModel;
 
-import java.io.IOException;
+import java.util.List;
 
 public class ModelProcessingReport {
 
@@ -29,13 +29,23 @@ public class ModelProcessingReport {
   public final String errorType;
   public final ModelProcessingStatus status;
   public final String details;
-  public final String compressedProject; //Base 64
+  public final String archiveUri;
 
   public static ModelProcessingReport onCodeGenerationSucceed(final CodeGenerationContext context,
-                                                              final ModelProcessingInformation information) throws IOException {
-    final String targetFolder = context.parameterOf(Label.TARGET_FOLDER);
-    final String compressedProject = ProjectCompressor.compress(targetFolder);
-    return new ModelProcessingReport(information.generationTarget, compressedProject);
+                                                              final ModelProcessingInformation information) {
+    return onCodeGenerationSucceed(context.generationId, information);
+  }
+
+  public static ModelProcessingReport onCodeGenerationSucceed(final String archiveId,
+                                                              final ModelProcessingInformation information) {
+    final GenerationTarget target = information.generationTarget;
+    final String archiveUri = target.supportDownload() ? ProjectArchive.uriFor(archiveId) : null;
+    return new ModelProcessingReport(target, archiveUri);
+  }
+
+  public static ModelProcessingReport onBatchGenerationSucceed(final List<String> archiveIds,
+                                                               final ModelProcessingInformation information) {
+    return new ModelProcessingReport(information.generationTarget, ProjectArchive.batchUriFor(archiveIds));
   }
 
   public static ModelProcessingReport onCodeGenerationFail(final CodeGenerationContext context,
@@ -78,8 +88,8 @@ public class ModelProcessingReport {
   }
 
   private ModelProcessingReport(final GenerationTarget target,
-                                final String compressedProject) {
-    this(ModelProcessingStatus.SUCCESSFUL, target, compressedProject, null, null);
+                                final String archiveUri) {
+    this(ModelProcessingStatus.SUCCESSFUL, target, archiveUri, null, null);
   }
 
   private ModelProcessingReport(final GenerationTarget target, final String errorType, final String details) {
@@ -88,12 +98,12 @@ public class ModelProcessingReport {
 
   private ModelProcessingReport(final ModelProcessingStatus status,
                                 final GenerationTarget target,
-                                final String compressedProject,
+                                final String archiveUri,
                                 final String errorType,
                                 final String details) {
     this.status = status;
     this.target = target.value();
-    this.compressedProject = compressedProject;
+    this.archiveUri = archiveUri;
     this.errorType = errorType;
     this.details = details;
   }
@@ -9,14 +9,26 @@ package io.vlingo.xoom.terminal;
 import io.vlingo.xoom.actors.Logger;
 
 import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
-import java.util.stream.Stream;
 
 public class CommandOutputConsumer {
 
+  private static final long PUMP_IDLE_SECONDS = 30L;
+  private static final int MAX_BATCH_LINES = 100;
+  private static final ThreadPoolExecutor PUMPS = pumps();
+
   private final Logger logger;
   private final Process process;
 
@@ -33,22 +45,64 @@ public class CommandOutputConsumer {
     this.process = process;
   }
 
-  public void tail() {
-    consumeWith(logger::info);
+  public CompletableFuture<Void> tail() {
+    return consumeBatchesWith(lines -> logger.info(String.join(System.lineSeparator(), lines)));
+  }
+
+  public CompletableFuture<Void> consumeWith(final Consumer<String> consumer) {
+    return consumeBatchesWith(lines -> lines.forEach(consumer));
+  }
+
+  static int activePumps() {
+    return PUMPS.getPoolSize();
+  }
+
+  private CompletableFuture<Void> consumeBatchesWith(final Consumer<List<String>> consumer) {
+    final Consumer<List<String>> serializedConsumer = lines -> {
+      synchronized (this) {
+        consumer.accept(lines);
+      }
+    };
+    return CompletableFuture.allOf(
+            CompletableFuture.runAsync(() -> pump(process.getInputStream(), serializedConsumer), PUMPS),
+            CompletableFuture.runAsync(() -> pump(process.getErrorStream(), serializedConsumer), PUMPS));
+  }
+
+  private void pump(final InputStream stream, final Consumer<List<String>> consumer) {
+    try (final BufferedReader reader = new BufferedReader(new InputStreamReader(stream))) {
+      final List<String> lines = new ArrayList<>();
+      String line;
+      while ((line = reader.readLine()) != null) {
+        lines.add(line);
+        if (lines.size() >= MAX_BATCH_LINES || !reader.ready()) {
+          consumer.accept(new ArrayList<>(lines));
+          lines.clear();
+        }
+      }
+      if (!lines.isEmpty()) {
+        consumer.accept(lines);
+      }
+    } catch (final IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  private static ThreadPoolExecutor pumps() {
+    return new ThreadPoolExecutor(0, Integer.MAX_VALUE, PUMP_IDLE_SECONDS, TimeUnit.SECONDS,
+            new SynchronousQueue<>(), new PumpFactory());
   }
 
-  public void consumeWith(final Consumer<String> consumer) {
-    final ExecutorService executor =
-            Executors.newSingleThreadExecutor();
+  private static class PumpFactory implements ThreadFactory {
 
-    final Stream<BufferedReader> processReaders =
-            Stream.of(process.getInputStream(), process.getErrorStream())
-                    .map(inputStream -> new BufferedReader(new InputStreamReader(inputStream)));
+    private final AtomicInteger pumps = new AtomicInteger();
 
-    final Consumer<BufferedReader> readerConsumer =
-            reader -> executor.submit(() -> reader.lines().forEach(consumer));
+    @Override
+    public Thread newThread(final Runnable runnable) {
+      final Thread pump = new Thread(runnable, "xoom-terminal-output-" + pumps.incrementAndGet());
+      pump.setDaemon(true);
+      return pump;
+    }
 
-    processReaders.forEach(readerConsumer);
   }
 
 }
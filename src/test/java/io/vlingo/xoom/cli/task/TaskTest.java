@@ -6,6 +6,7 @@ import io.vlingo.xoom.cli.UnknownCommandException;
 import io.vlingo.xoom.cli.XoomTurboProperties;
 import io.vlingo.xoom.cli.XoomTurboProperties.ProjectPath;
 import io.vlingo.xoom.cli.task.designer.DesignerTask;
+import io.vlingo.xoom.cli.task.designer.ModelGenerationTask;
 import io.vlingo.xoom.cli.task.docker.DockerPackageTask;
 import io.vlingo.xoom.cli.task.docker.DockerPushTask;
 import io.vlingo.xoom.cli.task.docker.DockerStatusTask;
@@ -43,6 +44,7 @@ public class TaskTest {
     Assertions.assertEquals(GlooRouteTask.class, Task.triggeredBy("gloo route").getClass());
     Assertions.assertEquals(GlooSuspendTask.class, Task.triggeredBy("gloo suspend").getClass());
     Assertions.assertEquals(KubernetesPushTask.class, Task.triggeredBy("k8s push").getClass());
+    Assertions.assertEquals(ModelGenerationTask.class, Task.triggeredBy("generate").getClass());
     Assertions.assertEquals(VersionDisplayTask.class, Task.triggeredBy("-version").getClass());
     Assertions.assertThrows(UnknownCommandException.class, () -> Task.triggeredBy("start"));
   }
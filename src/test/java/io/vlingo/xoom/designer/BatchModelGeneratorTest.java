@@ -0,0 +1,66 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer;
+
+import io.vlingo.xoom.actors.Logger;
+import io.vlingo.xoom.designer.BatchModelGenerator.Outcome;
+import io.vlingo.xoom.designer.codegen.GenerationTarget;
+import io.vlingo.xoom.turbo.ComponentRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+public class BatchModelGeneratorTest {
+
+  @TempDir
+  Path modelsFolder;
+
+  @Test
+  public void testThatModelFilesAreResolvedFromFilesAndFolders() throws IOException {
+    final Path orders = Files.createFile(modelsFolder.resolve("orders-designer-model.json"));
+    final Path billing = Files.createFile(modelsFolder.resolve("billing-designer-model.json"));
+    Files.createFile(modelsFolder.resolve("README.md"));
+    final Path single = Files.createDirectories(modelsFolder.resolve("single")).resolve("model.json");
+
+    final List<Path> modelFiles = BatchModelGenerator.resolveModelFiles(modelsFolder + ", " + single);
+
+    Assertions.assertEquals(Arrays.asList(billing, orders, single), modelFiles);
+  }
+
+  @Test
+  public void testThatUnreadableModelsAreReportedAsFailures() throws IOException {
+    ComponentRegistry.register(GenerationTarget.class, GenerationTarget.FILESYSTEM);
+    ComponentRegistry.register("codeGenerationSteps", Collections.emptyList());
+
+    final Path malformed = Files.write(modelsFolder.resolve("malformed-designer-model.json"), "{\"context\":".getBytes());
+    final Path missing = modelsFolder.resolve("missing-designer-model.json");
+
+    final List<Outcome> outcomes =
+            new BatchModelGenerator(Logger.noOpLogger(), 2).start(Arrays.asList(malformed, missing), Optional.empty());
+
+    Assertions.assertEquals(2, outcomes.size());
+    Assertions.assertEquals(malformed, outcomes.get(0).modelFile);
+    Assertions.assertEquals(missing, outcomes.get(1).modelFile);
+    Assertions.assertFalse(outcomes.get(0).succeeded);
+    Assertions.assertFalse(outcomes.get(1).succeeded);
+  }
+
+  @AfterEach
+  public void tearDown() {
+    ComponentRegistry.unregister(GenerationTarget.class);
+  }
+
+}
@@ -0,0 +1,177 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer;
+
+import io.vlingo.xoom.codegen.CodeGenerationContext;
+import io.vlingo.xoom.codegen.CodeGenerationStep;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class ModelProcessingJobsTest {
+
+  private ModelProcessingJobs jobs;
+
+  @Test
+  public void testThatJobReportsStepProgress() throws InterruptedException {
+    jobs = new ModelProcessingJobs(1, 1, Duration.ofMinutes(1));
+
+    final CountDownLatch release = new CountDownLatch(1);
+    final CodeGenerationStep step = new SampleStep();
+
+    final ModelProcessingJob job = jobs.submit(progress -> {
+      progress.generationStarted(2);
+      progress.stepStarted(step);
+      await(release);
+      progress.stepCompleted(step, 1000, 3);
+      return null;
+    }).get();
+
+    awaitStatus(job, ModelProcessingJobStatus.RUNNING);
+
+    Assertions.assertEquals(2, job.totalSteps());
+    Assertions.assertEquals(Collections.singletonList("SampleStep"), job.runningSteps());
+
+    release.countDown();
+
+    awaitStatus(job, ModelProcessingJobStatus.COMPLETED);
+
+    Assertions.assertEquals(1, job.completedSteps());
+    Assertions.assertTrue(job.runningSteps().isEmpty());
+    Assertions.assertSame(job, jobs.find(job.id).get());
+  }
+
+  @Test
+  public void testThatSubscribersReceiveLiveEventsAndTheFinishOnce() throws InterruptedException {
+    jobs = new ModelProcessingJobs(1, 1, Duration.ofMinutes(1));
+
+    final CountDownLatch release = new CountDownLatch(1);
+    final CodeGenerationStep step = new SampleStep();
+    final RecordingListener listener = new RecordingListener();
+
+    final ModelProcessingJob job = jobs.submit(progress -> {
+      progress.stepStarted(step);
+      await(release);
+      progress.stepCompleted(step, 1000, 3);
+      return null;
+    }).get();
+
+    awaitStatus(job, ModelProcessingJobStatus.RUNNING);
+    job.subscribe(0, listener);
+    release.countDown();
+    awaitStatus(job, ModelProcessingJobStatus.COMPLETED);
+
+    Assertions.assertEquals(Arrays.asList(1L, 2L), listener.eventIds);
+    Assertions.assertEquals(Collections.singletonList(3L), listener.finishedEventIds);
+
+    final RecordingListener reconnected = new RecordingListener();
+    job.subscribe(2, reconnected);
+
+    Assertions.assertTrue(reconnected.eventIds.isEmpty());
+    Assertions.assertEquals(Collections.singletonList(3L), reconnected.finishedEventIds);
+  }
+
+  @Test
+  public void testThatJobsBeyondQueueDepthAreRefused() {
+    jobs = new ModelProcessingJobs(1, 1, Duration.ofMinutes(1));
+
+    final CountDownLatch release = new CountDownLatch(1);
+
+    final Optional<ModelProcessingJob> running = jobs.submit(progress -> await(release));
+    final Optional<ModelProcessingJob> queued = jobs.submit(progress -> await(release));
+    final Optional<ModelProcessingJob> refused = jobs.submit(progress -> await(release));
+
+    Assertions.assertTrue(running.isPresent());
+    Assertions.assertTrue(queued.isPresent());
+    Assertions.assertFalse(refused.isPresent());
+
+    release.countDown();
+  }
+
+  @Test
+  public void testThatUnexpectedFailureIsReported() throws InterruptedException {
+    jobs = new ModelProcessingJobs(1, 1, Duration.ofMinutes(1));
+
+    final ModelProcessingJob job = jobs.submit(progress -> {
+      throw new IllegalStateException("Unable to generate");
+    }).get();
+
+    awaitStatus(job, ModelProcessingJobStatus.FAILED);
+
+    Assertions.assertEquals("IllegalStateException: Unable to generate", job.error());
+    Assertions.assertNull(job.report());
+  }
+
+  @Test
+  public void testThatFinishedJobsExpire() throws InterruptedException {
+    jobs = new ModelProcessingJobs(1, 1, Duration.ZERO);
+
+    final ModelProcessingJob job = jobs.submit(progress -> null).get();
+
+    awaitStatus(job, ModelProcessingJobStatus.COMPLETED);
+    TimeUnit.MILLISECONDS.sleep(1);
+
+    Assertions.assertFalse(jobs.find(job.id).isPresent());
+  }
+
+  @AfterEach
+  public void tearDown() {
+    jobs.stop();
+  }
+
+  private void awaitStatus(final ModelProcessingJob job, final ModelProcessingJobStatus status) throws InterruptedException {
+    final long deadline = System.currentTimeMillis() + 5000;
+    while (job.status() != status && System.currentTimeMillis() < deadline) {
+      TimeUnit.MILLISECONDS.sleep(10);
+    }
+    Assertions.assertEquals(status, job.status());
+  }
+
+  private <T> T await(final CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (final InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    }
+    return null;
+  }
+
+  private static class RecordingListener implements ModelProcessingEventListener {
+
+    final List<Long> eventIds = new CopyOnWriteArrayList<>();
+    final List<Long> finishedEventIds = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void onEvent(final ModelProcessingEvent event) {
+      eventIds.add(event.id);
+    }
+
+    @Override
+    public void onJobFinished(final ModelProcessingJob job, final long finishedEventId) {
+      finishedEventIds.add(finishedEventId);
+    }
+
+  }
+
+  private static class SampleStep implements CodeGenerationStep {
+
+    @Override
+    public void process(final CodeGenerationContext context) {
+    }
+
+  }
+
+}
@@ -0,0 +1,131 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.codegen;
+
+import io.vlingo.xoom.codegen.CodeGenerationContext;
+import io.vlingo.xoom.codegen.parameter.CodeGenerationParameter;
+import io.vlingo.xoom.codegen.parameter.CodeGenerationParameters;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class CodeGenerationParameterIndexTest {
+
+  private CodeGenerationParameter aggregate;
+
+  @BeforeEach
+  public void setUp() {
+    aggregate = aggregate();
+  }
+
+  @Test
+  public void testThatRelatedParametersAreFoundByLabelAndValue() {
+    CodeGenerationParameterIndex.seal(aggregate);
+
+    final CodeGenerationParameterIndex index = CodeGenerationParameterIndex.of(aggregate);
+
+    Assertions.assertSame(index, CodeGenerationParameterIndex.of(aggregate));
+    Assertions.assertEquals(Arrays.asList("id", "name", "rank"), values(index.related(Label.STATE_FIELD)));
+    Assertions.assertEquals("int", index.find(Label.STATE_FIELD, "rank").get().retrieveRelatedValue(Label.FIELD_TYPE));
+    Assertions.assertFalse(index.find(Label.STATE_FIELD, "unknown").isPresent());
+    Assertions.assertEquals("name", CodeGenerationParameterIndex.findRelated(aggregate, Label.AGGREGATE_METHOD, "changeName")
+            .map(method -> method.retrieveOneRelated(Label.METHOD_PARAMETER).value).get());
+  }
+
+  @Test
+  public void testThatChildrenOfSealedParametersAreIndexed() {
+    CodeGenerationParameterIndex.seal(aggregate);
+
+    final CodeGenerationParameter method =
+            CodeGenerationParameterIndex.findRelated(aggregate, Label.AGGREGATE_METHOD, "changeName").get();
+
+    Assertions.assertSame(CodeGenerationParameterIndex.of(method), CodeGenerationParameterIndex.of(method));
+  }
+
+  @Test
+  public void testThatUnsealedParametersAreNotCached() {
+    Assertions.assertNotSame(CodeGenerationParameterIndex.of(aggregate), CodeGenerationParameterIndex.of(aggregate));
+
+    aggregate.relate(CodeGenerationParameter.of(Label.STATE_FIELD, "description").relate(Label.FIELD_TYPE, "String"));
+
+    Assertions.assertTrue(CodeGenerationParameterIndex.findRelated(aggregate, Label.STATE_FIELD, "description").isPresent());
+  }
+
+  @Test
+  public void testThatRelatingThroughIndexRefreshesSealedParameters() {
+    CodeGenerationParameterIndex.seal(aggregate);
+
+    Assertions.assertEquals(0, CodeGenerationParameterIndex.retrieveAllRelated(aggregate, Label.ROUTE_SIGNATURE).count());
+
+    CodeGenerationParameterIndex.relate(aggregate, CodeGenerationParameter.of(Label.ROUTE_SIGNATURE, "queryAll"));
+
+    Assertions.assertEquals(1, CodeGenerationParameterIndex.retrieveAllRelated(aggregate, Label.ROUTE_SIGNATURE).count());
+    Assertions.assertTrue(CodeGenerationParameterIndex.findRelated(aggregate, Label.ROUTE_SIGNATURE, "queryAll").isPresent());
+  }
+
+  @Test
+  public void testThatSealedIndexesAreDroppedWhenGenerationEnds() {
+    final CodeGenerationContext context =
+            CodeGenerationContext.with(CodeGenerationParameters.from(aggregate));
+
+    CodeGenerationParameterIndex.seal(context);
+
+    final CodeGenerationParameter method =
+            CodeGenerationParameterIndex.findRelated(aggregate, Label.AGGREGATE_METHOD, "changeName").get();
+    final CodeGenerationParameterIndex aggregateIndex = CodeGenerationParameterIndex.of(aggregate);
+    final CodeGenerationParameterIndex methodIndex = CodeGenerationParameterIndex.of(method);
+
+    Assertions.assertSame(aggregateIndex, CodeGenerationParameterIndex.of(aggregate));
+    Assertions.assertSame(methodIndex, CodeGenerationParameterIndex.of(method));
+
+    CodeGenerationParameterIndex.unseal(context);
+
+    Assertions.assertNotSame(aggregateIndex, CodeGenerationParameterIndex.of(aggregate));
+    Assertions.assertNotSame(methodIndex, CodeGenerationParameterIndex.of(method));
+    Assertions.assertNotSame(CodeGenerationParameterIndex.of(aggregate), CodeGenerationParameterIndex.of(aggregate));
+  }
+
+  @Test
+  public void testThatParametersAreFoundByValueInList() {
+    final CodeGenerationParameter address = CodeGenerationParameter.of(Label.VALUE_OBJECT, "Address");
+    final CodeGenerationParameter rank = CodeGenerationParameter.of(Label.VALUE_OBJECT, "Rank");
+    final List<CodeGenerationParameter> valueObjects = new ArrayList<>(Arrays.asList(address));
+
+    Assertions.assertSame(address, CodeGenerationParameterIndex.findByValue(valueObjects, "Address").get());
+    Assertions.assertFalse(CodeGenerationParameterIndex.findByValue(valueObjects, "Rank").isPresent());
+
+    valueObjects.add(rank);
+
+    Assertions.assertSame(rank, CodeGenerationParameterIndex.findByValue(valueObjects, "Rank").get());
+  }
+
+  @AfterEach
+  public void tearDown() {
+    CodeGenerationParameterIndex.unseal(aggregate);
+    CodeGenerationParameterIndex.release();
+  }
+
+  private CodeGenerationParameter aggregate() {
+    return CodeGenerationParameter.of(Label.AGGREGATE, "Author")
+            .relate(CodeGenerationParameter.of(Label.STATE_FIELD, "id").relate(Label.FIELD_TYPE, "String"))
+            .relate(CodeGenerationParameter.of(Label.STATE_FIELD, "name").relate(Label.FIELD_TYPE, "String"))
+            .relate(CodeGenerationParameter.of(Label.STATE_FIELD, "rank").relate(Label.FIELD_TYPE, "int"))
+            .relate(CodeGenerationParameter.of(Label.AGGREGATE_METHOD, "changeName")
+                    .relate(CodeGenerationParameter.of(Label.METHOD_PARAMETER, "name")));
+  }
+
+  private List<String> values(final List<CodeGenerationParameter> parameters) {
+    return parameters.stream().map(parameter -> parameter.value).collect(Collectors.toList());
+  }
+
+}
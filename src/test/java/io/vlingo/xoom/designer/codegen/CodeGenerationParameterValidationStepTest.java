@@ -9,9 +9,11 @@ import io.vlingo.xoom.designer.infrastructure.restapi.data.*;
 import io.vlingo.xoom.turbo.ComponentRegistry;
 import org.junit.jupiter.api.Test;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 
@@ -24,13 +26,16 @@ public class CodeGenerationParameterValidationStepTest {
 
     ComponentRegistry.register("defaultCodeFormatter", codeElementFormatter);
 
+    final GenerationSettings settings =
+            GenerationSettings.with(GenerationTarget.FILESYSTEM, Paths.get("staging"), codeElementFormatter, Optional.empty());
+
     final DesignerModel data =
             new DesignerModel(contextSettingsData(), modelSettingsData(),
                     deploymentSettingsData(), schemataSettingsData(),
                     "/home/projects", true, false, false, "");
 
     final CodeGenerationContext context =
-            CodeGenerationContextMapper.map(data, GenerationTarget.FILESYSTEM, Logger.noOpLogger());
+            CodeGenerationContextMapper.map(data, settings, Logger.noOpLogger());
 
     assertDoesNotThrow(() -> new CodeGenerationParameterValidationStep().process(context));
   }
@@ -0,0 +1,190 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.codegen;
+
+import io.vlingo.xoom.actors.Logger;
+import io.vlingo.xoom.codegen.CodeGenerationContext;
+import io.vlingo.xoom.codegen.CodeGenerationStep;
+import io.vlingo.xoom.codegen.content.Content;
+import io.vlingo.xoom.codegen.content.ContentQuery;
+import io.vlingo.xoom.codegen.dialect.Dialect;
+import io.vlingo.xoom.codegen.parameter.CodeGenerationParameter;
+import io.vlingo.xoom.codegen.parameter.CodeGenerationParameters;
+import io.vlingo.xoom.codegen.template.OutputFile;
+import io.vlingo.xoom.codegen.template.TemplateStandard;
+import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static io.vlingo.xoom.designer.codegen.ContentDependentStep.standards;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.AGGREGATE_PROTOCOL;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.DOCKERFILE;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.README;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.VALUE_OBJECT;
+
+public class CodeGenerationStepSchedulerTest {
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  public void setUp() {
+    executor = Executors.newFixedThreadPool(4);
+  }
+
+  @Test
+  public void testThatDependenciesAreResolvedFromDeclaredContent() {
+    final List<CodeGenerationStep> steps =
+            Arrays.asList(new BarrierStep(), new FakeStep(Collections.emptySet(), standards(VALUE_OBJECT)),
+                    new FakeStep(standards(VALUE_OBJECT), standards(AGGREGATE_PROTOCOL)),
+                    new FakeStep(Collections.emptySet(), standards(README)), new BarrierStep());
+
+    final CodeGenerationStepScheduler scheduler = new CodeGenerationStepScheduler(steps, executor);
+
+    Assertions.assertEquals(Collections.emptyList(), scheduler.dependenciesOf(0));
+    Assertions.assertEquals(Collections.singletonList(0), scheduler.dependenciesOf(1));
+    Assertions.assertEquals(Arrays.asList(0, 1), scheduler.dependenciesOf(2));
+    Assertions.assertEquals(Collections.singletonList(0), scheduler.dependenciesOf(3));
+    Assertions.assertEquals(Collections.singletonList(3), scheduler.dependenciesOf(4));
+  }
+
+  @Test
+  public void testThatIndependentStepsRunConcurrentlyAndContentsKeepTheConfiguredOrder() {
+    final CyclicBarrier rendezvous = new CyclicBarrier(2);
+
+    final FakeStep valueObjects =
+            new FakeStep(Collections.emptySet(), standards(VALUE_OBJECT), context -> {
+              await(rendezvous);
+              context.contents(content(VALUE_OBJECT, "Name"));
+            });
+
+    final FakeStep readme =
+            new FakeStep(Collections.emptySet(), standards(README), context -> {
+              await(rendezvous);
+              context.contents(content(README, "README"));
+            });
+
+    final FakeStep model =
+            new FakeStep(standards(VALUE_OBJECT), standards(AGGREGATE_PROTOCOL), context -> {
+              Assertions.assertTrue(ContentQuery.exists(VALUE_OBJECT, context.contents()));
+              context.contents(content(AGGREGATE_PROTOCOL, "Author"));
+            });
+
+    final FakeStep dockerfile =
+            new FakeStep(Collections.emptySet(), standards(DOCKERFILE), context -> context.contents(content(DOCKERFILE, "Dockerfile")));
+
+    final CodeGenerationContext context = CodeGenerationContext.with(parameters());
+
+    new CodeGenerationStepScheduler(Arrays.asList(valueObjects, readme, model, dockerfile), executor)
+            .run(context, Logger.noOpLogger());
+
+    final List<TemplateStandard> standards =
+            context.contents().stream().map(content -> content.standard).collect(Collectors.toList());
+
+    Assertions.assertEquals(Arrays.asList(VALUE_OBJECT, README, AGGREGATE_PROTOCOL, DOCKERFILE), standards);
+  }
+
+  @Test
+  public void testThatStepFailureIsPropagated() {
+    final FakeStep failing =
+            new FakeStep(Collections.emptySet(), standards(README), context -> {
+              throw new IllegalArgumentException("Unable to generate README");
+            });
+
+    final CodeGenerationStepScheduler scheduler =
+            new CodeGenerationStepScheduler(Arrays.asList(failing, new BarrierStep()), executor);
+
+    Assertions.assertThrows(IllegalArgumentException.class, () -> scheduler.run(CodeGenerationContext.with(parameters()), Logger.noOpLogger()));
+  }
+
+  @Test
+  public void testThatUndeclaredContentIsRejected() {
+    final FakeStep undeclared =
+            new FakeStep(Collections.emptySet(), standards(README), context -> context.contents(content(DOCKERFILE, "Dockerfile")));
+
+    final CodeGenerationStepScheduler scheduler =
+            new CodeGenerationStepScheduler(Collections.singletonList(undeclared), executor);
+
+    Assertions.assertThrows(IllegalStateException.class, () -> scheduler.run(CodeGenerationContext.with(parameters()), Logger.noOpLogger()));
+  }
+
+  @AfterEach
+  public void tearDown() throws InterruptedException {
+    executor.shutdown();
+    executor.awaitTermination(5, TimeUnit.SECONDS);
+  }
+
+  private CodeGenerationParameters parameters() {
+    return CodeGenerationParameters.from(CodeGenerationParameter.of(Label.DIALECT, Dialect.JAVA));
+  }
+
+  private Content content(final JavaTemplateStandard standard, final String filename) {
+    return Content.with(standard, new OutputFile("/tmp", filename), null, null, filename);
+  }
+
+  private void await(final CyclicBarrier rendezvous) {
+    try {
+      rendezvous.await(5, TimeUnit.SECONDS);
+    } catch (final Exception e) {
+      throw new IllegalStateException("Independent steps did not run concurrently", e);
+    }
+  }
+
+  private static class FakeStep implements ContentDependentStep {
+
+    private final Set<TemplateStandard> consumes;
+    private final Set<TemplateStandard> produces;
+    private final Consumer<CodeGenerationContext> action;
+
+    private FakeStep(final Set<TemplateStandard> consumes, final Set<TemplateStandard> produces) {
+      this(consumes, produces, context -> {});
+    }
+
+    private FakeStep(final Set<TemplateStandard> consumes,
+                     final Set<TemplateStandard> produces,
+                     final Consumer<CodeGenerationContext> action) {
+      this.consumes = consumes;
+      this.produces = produces;
+      this.action = action;
+    }
+
+    @Override
+    public void process(final CodeGenerationContext context) {
+      action.accept(context);
+    }
+
+    @Override
+    public Set<TemplateStandard> consumes() {
+      return consumes;
+    }
+
+    @Override
+    public Set<TemplateStandard> produces() {
+      return produces;
+    }
+  }
+
+  private static class BarrierStep implements CodeGenerationStep {
+
+    @Override
+    public void process(final CodeGenerationContext context) {
+    }
+  }
+
+}
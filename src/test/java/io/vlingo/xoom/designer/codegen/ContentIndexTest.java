@@ -0,0 +1,77 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.codegen;
+
+import io.vlingo.xoom.codegen.content.Content;
+import io.vlingo.xoom.codegen.template.OutputFile;
+import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.AGGREGATE_PROTOCOL;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.DATA_OBJECT;
+import static io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard.DOMAIN_EVENT;
+
+public class ContentIndexTest {
+
+  @Test
+  public void testThatContentIsFoundByStandardAndClassName() {
+    final List<Content> contents =
+            new ArrayList<>(Arrays.asList(content(AGGREGATE_PROTOCOL, "model.author", "Author"),
+                    content(AGGREGATE_PROTOCOL, "model.book", "Book"),
+                    content(DOMAIN_EVENT, "model.book", "BookSold")));
+
+    Assertions.assertTrue(ContentIndex.exists(AGGREGATE_PROTOCOL, contents));
+    Assertions.assertFalse(ContentIndex.exists(DATA_OBJECT, contents));
+    Assertions.assertEquals(2, ContentIndex.filterByStandard(AGGREGATE_PROTOCOL, contents).count());
+    Assertions.assertEquals("io.vlingo.xoomapp.model.book", ContentIndex.findPackage(AGGREGATE_PROTOCOL, "Book", contents));
+    Assertions.assertEquals("io.vlingo.xoomapp.model.author.Author",
+            ContentIndex.findFullyQualifiedClassName(AGGREGATE_PROTOCOL, "Author", contents));
+  }
+
+  @Test
+  public void testThatIndexFollowsAppendedContent() {
+    final List<Content> contents =
+            new ArrayList<>(Arrays.asList(content(AGGREGATE_PROTOCOL, "model.author", "Author")));
+
+    Assertions.assertFalse(ContentIndex.exists(DATA_OBJECT, contents));
+
+    contents.add(content(DATA_OBJECT, "infrastructure", "AuthorData"));
+
+    Assertions.assertSame(ContentIndex.of(contents), ContentIndex.of(contents));
+    Assertions.assertEquals("io.vlingo.xoomapp.infrastructure", ContentIndex.findPackage(DATA_OBJECT, "AuthorData", contents));
+  }
+
+  @Test
+  public void testThatMultipleStandardsKeepContentOrder() {
+    final Content authorData = content(DATA_OBJECT, "infrastructure", "AuthorData");
+    final Content author = content(AGGREGATE_PROTOCOL, "model.author", "Author");
+    final Content bookData = content(DATA_OBJECT, "infrastructure", "BookData");
+
+    final List<Content> contents = Arrays.asList(authorData, author, bookData);
+
+    Assertions.assertEquals(contents, ContentIndex.of(contents).contentsOf(DATA_OBJECT, AGGREGATE_PROTOCOL));
+  }
+
+  @AfterEach
+  public void tearDown() {
+    ContentIndex.release();
+  }
+
+  private Content content(final JavaTemplateStandard standard, final String packageName, final String className) {
+    final String text = "package io.vlingo.xoomapp." + packageName + ";\n\npublic class " + className + " {}";
+    final String path = Paths.get("xoom-app", "src", "main", "java", "io", "vlingo", "xoomapp").resolve(packageName.replace(".", "/")).toString();
+    return Content.with(standard, new OutputFile(path, className + ".java"), null, null, text);
+  }
+
+}
@@ -0,0 +1,88 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.codegen;
+
+import io.vlingo.xoom.codegen.content.Content;
+import io.vlingo.xoom.codegen.template.OutputFile;
+import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+public class GenerationManifestTest {
+
+  private static final String README = "# xoom-app";
+
+  @TempDir
+  Path targetFolder;
+
+  @Test
+  public void testThatUnchangedOutputIsReused() throws IOException {
+    final Path readme = targetFolder.resolve("README.md");
+    final Optional<String> fingerprint = Optional.of("fingerprint");
+
+    generate(readme, fingerprint, README);
+
+    final GenerationManifest manifest = GenerationManifest.load(targetFolder, "xoom-app");
+    final Content content = contentOf(README);
+
+    Assertions.assertEquals(Optional.of(README), manifest.reusableOutput(readme, fingerprint));
+    Assertions.assertFalse(manifest.reusableOutput(readme, Optional.of("other-fingerprint")).isPresent());
+
+    manifest.track(content, readme, fingerprint, README);
+
+    Assertions.assertTrue(manifest.isUnchanged(content));
+    Assertions.assertEquals(1, manifest.unchangedFiles());
+  }
+
+  @Test
+  public void testThatModifiedFileIsRegenerated() throws IOException {
+    final Path readme = targetFolder.resolve("README.md");
+    final Optional<String> fingerprint = Optional.of("fingerprint");
+
+    generate(readme, fingerprint, README);
+    Files.write(readme, "# edited".getBytes(StandardCharsets.UTF_8));
+
+    final GenerationManifest manifest = GenerationManifest.load(targetFolder, "xoom-app");
+    final Content content = contentOf(README);
+
+    manifest.track(content, readme, fingerprint, README);
+
+    Assertions.assertFalse(manifest.reusableOutput(readme, fingerprint).isPresent());
+    Assertions.assertFalse(manifest.isUnchanged(content));
+  }
+
+  @Test
+  public void testThatDisabledManifestIsNotSaved() {
+    final GenerationManifest manifest = GenerationManifest.disabled();
+
+    manifest.track(contentOf(README), targetFolder.resolve("README.md"), Optional.of("fingerprint"), README);
+    manifest.save();
+
+    Assertions.assertFalse(manifest.isEnabled());
+    Assertions.assertFalse(Files.exists(targetFolder.resolve("xoom-app-designer-manifest.json")));
+  }
+
+  private void generate(final Path file, final Optional<String> fingerprint, final String text) throws IOException {
+    final GenerationManifest manifest = GenerationManifest.load(targetFolder, "xoom-app");
+    manifest.track(contentOf(text), file, fingerprint, text);
+    Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+    manifest.save();
+    Assertions.assertTrue(Files.exists(targetFolder.resolve("xoom-app-designer-manifest.json")));
+  }
+
+  private Content contentOf(final String text) {
+    return Content.with(JavaTemplateStandard.README, new OutputFile(targetFolder.toString(), "README.md"), null, null, text);
+  }
+
+}
@@ -0,0 +1,75 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.codegen;
+
+import io.vlingo.xoom.actors.Logger;
+import io.vlingo.xoom.codegen.CodeGenerationContext;
+import io.vlingo.xoom.codegen.content.CodeElementFormatter;
+import io.vlingo.xoom.codegen.dialect.Dialect;
+import io.vlingo.xoom.codegen.dialect.ReservedWordsHandler;
+import io.vlingo.xoom.codegen.parameter.CodeGenerationParameters;
+import io.vlingo.xoom.common.Tuple2;
+import io.vlingo.xoom.designer.codegen.StagingFolderCleanUpStep.Phase;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+
+public class GenerationSettingsTest {
+
+  private static final Path STAGING_FOLDER = Paths.get("/home/designer/staging");
+
+  private final GenerationSettings settings =
+          GenerationSettings.with(GenerationTarget.FILESYSTEM, STAGING_FOLDER,
+                  CodeElementFormatter.with(Dialect.findDefault(), ReservedWordsHandler.usingSuffix("_")),
+                  Optional.of(Tuple2.tuple("xoom-schemata", 9019)));
+
+  @Test
+  public void testThatTargetIsReplacedWithoutChangingOtherSettings() {
+    final GenerationSettings zip = settings.with(GenerationTarget.ZIP);
+
+    Assertions.assertSame(settings, settings.with(GenerationTarget.FILESYSTEM));
+    Assertions.assertEquals(GenerationTarget.ZIP, zip.target);
+    Assertions.assertEquals(GenerationTarget.FILESYSTEM, settings.target);
+    Assertions.assertSame(settings.codeFormatter, zip.codeFormatter);
+    Assertions.assertSame(settings.schemataServiceDNS, zip.schemataServiceDNS);
+    Assertions.assertEquals(STAGING_FOLDER, zip.stagingFolder);
+  }
+
+  @Test
+  public void testThatDefinitiveFolderIsResolvedFromOwnStagingFolder() {
+    Assertions.assertEquals(Paths.get("/home/projects"), settings.definitiveFolderFor("1", "xoom-app", "/home/projects"));
+    Assertions.assertEquals(STAGING_FOLDER.resolve("1").resolve("xoom-app"),
+            settings.with(GenerationTarget.IN_MEMORY_ZIP).definitiveFolderFor("1", "xoom-app", "/home/projects"));
+  }
+
+  @Test
+  public void testThatStagingCleanUpFollowsContextSettings() {
+    final CodeGenerationContext context =
+            CodeGenerationContextFactory.build(Logger.noOpLogger(),
+                    CodeGenerationParameters.from(Label.GENERATION_SETTINGS, settings));
+
+    final CodeGenerationContext zipContext =
+            CodeGenerationContextFactory.build(Logger.noOpLogger(),
+                    CodeGenerationParameters.from(Label.GENERATION_SETTINGS, settings.with(GenerationTarget.ZIP)));
+
+    Assertions.assertSame(settings, GenerationSettings.of(context));
+    Assertions.assertTrue(new StagingFolderCleanUpStep(Phase.POST_GENERATION).shouldProcess(context));
+    Assertions.assertFalse(new StagingFolderCleanUpStep(Phase.POST_GENERATION).shouldProcess(zipContext));
+  }
+
+  @Test
+  public void testThatSettingsAreRequiredOnContext() {
+    final CodeGenerationContext context =
+            CodeGenerationContextFactory.build(Logger.noOpLogger(), CodeGenerationParameters.empty());
+
+    Assertions.assertThrows(IllegalStateException.class, () -> GenerationSettings.of(context));
+  }
+
+}
@@ -0,0 +1,98 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.codegen;
+
+import io.vlingo.xoom.codegen.content.Content;
+import io.vlingo.xoom.codegen.template.OutputFile;
+import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class InMemoryProjectTreeTest {
+
+  @TempDir
+  Path stagingFolder;
+
+  @Test
+  public void testThatTrackedContentIsCreatedWithoutTouchingDisk() {
+    final Path project = stagingFolder.resolve("generation").resolve("xoom-app");
+    final Path readme = project.resolve("README.md");
+    final InMemoryProjectTree tree = InMemoryProjectTree.rootedAt(project);
+    final Content content =
+            Content.with(JavaTemplateStandard.README, new OutputFile(project.toString(), "README.md"), null, null, "# xoom-app");
+
+    tree.track(content, readme, "# xoom-app");
+    tree.create(content);
+
+    Assertions.assertEquals("# xoom-app", new String(tree.read("README.md").get(), StandardCharsets.UTF_8));
+    Assertions.assertEquals(1, tree.size());
+    Assertions.assertEquals("xoom-app", tree.projectName());
+    Assertions.assertFalse(Files.exists(readme));
+  }
+
+  @Test
+  public void testThatFilesAreKeptInPathOrder() {
+    final Path project = stagingFolder.resolve("xoom-app");
+    final InMemoryProjectTree tree = InMemoryProjectTree.rootedAt(project);
+
+    tree.write(project.resolve("src").resolve("Main.java"), "class Main {}".getBytes());
+    tree.write(project.resolve("pom.xml"), "<project/>".getBytes());
+    tree.write(project.resolve(".mvn").resolve("wrapper").resolve("maven-wrapper.properties"), "".getBytes());
+
+    Assertions.assertEquals(Arrays.asList(".mvn/wrapper/maven-wrapper.properties", "pom.xml", "src/Main.java"),
+            new ArrayList<>(tree.files().keySet()));
+    Assertions.assertEquals(23, tree.sizeInBytes());
+  }
+
+  @Test
+  public void testThatArchiveIsCompressedOnceUntilTheTreeChanges() throws IOException {
+    final Path project = stagingFolder.resolve("xoom-app");
+    final InMemoryProjectTree tree = InMemoryProjectTree.rootedAt(project);
+    tree.write(project.resolve("pom.xml"), "<project/>".getBytes());
+
+    final byte[] archive = tree.archive();
+
+    Assertions.assertSame(archive, tree.archive());
+
+    tree.write(project.resolve("README.md"), "# xoom-app".getBytes());
+
+    Assertions.assertNotSame(archive, tree.archive());
+  }
+
+  @Test
+  public void testThatMaterializationWritesFilesToDisk() throws IOException {
+    final Path project = stagingFolder.resolve("xoom-app");
+    final InMemoryProjectTree tree = InMemoryProjectTree.rootedAt(project);
+
+    tree.write(project.resolve("pom.xml"), "<project/>".getBytes());
+    tree.materialize();
+    tree.write(project.resolve("src").resolve("Main.java"), "class Main {}".getBytes());
+
+    Assertions.assertTrue(tree.isMaterialized());
+    Assertions.assertEquals(0, tree.size());
+    Assertions.assertEquals("<project/>", new String(Files.readAllBytes(project.resolve("pom.xml"))));
+    Assertions.assertTrue(Files.exists(project.resolve("src").resolve("Main.java")));
+  }
+
+  @Test
+  public void testThatFilesOutsideTheProjectAreRejected() {
+    final Path project = stagingFolder.resolve("xoom-app");
+    final InMemoryProjectTree tree = InMemoryProjectTree.rootedAt(project);
+
+    Assertions.assertThrows(IllegalArgumentException.class,
+            () -> tree.write(stagingFolder.resolve("other-app").resolve("pom.xml"), new byte[0]));
+  }
+
+}
@@ -0,0 +1,53 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.codegen;
+
+import io.vlingo.xoom.codegen.dialect.Dialect;
+import io.vlingo.xoom.codegen.template.TemplateParameters;
+import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
+import io.vlingo.xoom.designer.codegen.java.TemplateParameter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TemplateCacheTest {
+
+  @Test
+  public void testThatTemplatesAreCompiledOnWarmUp() {
+    final TemplateCache cache = new TemplateCache();
+
+    final int compiledTemplates = cache.warmUp();
+
+    Assertions.assertTrue(compiledTemplates > 100);
+    Assertions.assertEquals(compiledTemplates, cache.size());
+    Assertions.assertEquals(0, cache.misses());
+
+    cache.templateOf(Dialect.JAVA, "Readme");
+    cache.templateOf(Dialect.REACTJS, "App");
+
+    Assertions.assertEquals(2, cache.hits());
+    Assertions.assertEquals(0, cache.misses());
+  }
+
+  @Test
+  public void testThatTemplateIsCompiledOnceAndRendered() {
+    final TemplateCache cache = new TemplateCache();
+
+    final TemplateParameters parameters =
+            TemplateParameters.with(TemplateParameter.README_FILE, true)
+                    .and(TemplateParameter.PACKAGE_NAME, "io.vlingo.xoomapp");
+
+    final String firstOutcome = cache.process(JavaTemplateStandard.README, parameters, Dialect.JAVA);
+    final String secondOutcome = cache.process(JavaTemplateStandard.README, parameters, Dialect.JAVA);
+
+    Assertions.assertTrue(firstOutcome.contains("io.vlingo.xoomapp"));
+    Assertions.assertEquals(firstOutcome, secondOutcome);
+    Assertions.assertEquals(1, cache.misses());
+    Assertions.assertEquals(1, cache.hits());
+    Assertions.assertEquals(1, cache.size());
+  }
+
+}
@@ -0,0 +1,84 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.codegen;
+
+import io.vlingo.xoom.codegen.dialect.Dialect;
+import io.vlingo.xoom.codegen.template.TemplateParameters;
+import io.vlingo.xoom.designer.codegen.java.JavaTemplateStandard;
+import io.vlingo.xoom.designer.codegen.java.TemplateParameter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+public class TemplateFingerprintTest {
+
+  @Test
+  public void testThatEqualParametersHaveEqualFingerprints() {
+    final Optional<String> first = TemplateFingerprint.of(JavaTemplateStandard.README, readmeParameters("io.vlingo.xoomapp"), Dialect.JAVA);
+    final Optional<String> second = TemplateFingerprint.of(JavaTemplateStandard.README, readmeParameters("io.vlingo.xoomapp"), Dialect.JAVA);
+    final Optional<String> changed = TemplateFingerprint.of(JavaTemplateStandard.README, readmeParameters("io.vlingo.otherapp"), Dialect.JAVA);
+
+    Assertions.assertTrue(first.isPresent());
+    Assertions.assertEquals(first, second);
+    Assertions.assertNotEquals(first, changed);
+  }
+
+  @Test
+  public void testThatNestedObjectsAreFingerprintedByValue() {
+    final Optional<String> first = TemplateFingerprint.of(JavaTemplateStandard.README,
+            readmeParameters("io.vlingo.xoomapp").and(TemplateParameter.STATE_FIELDS, Arrays.asList(new Node("name"))), Dialect.JAVA);
+
+    final Optional<String> second = TemplateFingerprint.of(JavaTemplateStandard.README,
+            readmeParameters("io.vlingo.xoomapp").and(TemplateParameter.STATE_FIELDS, Arrays.asList(new Node("name"))), Dialect.JAVA);
+
+    final Optional<String> changed = TemplateFingerprint.of(JavaTemplateStandard.README,
+            readmeParameters("io.vlingo.xoomapp").and(TemplateParameter.STATE_FIELDS, Arrays.asList(new Node("title"))), Dialect.JAVA);
+
+    Assertions.assertEquals(first, second);
+    Assertions.assertNotEquals(first, changed);
+  }
+
+  @Test
+  public void testThatParametersWithoutKeyAreNotFingerprinted() {
+    final Optional<String> fingerprint = TemplateFingerprint.of(JavaTemplateStandard.README,
+            readmeParameters("io.vlingo.xoomapp").and(TemplateParameter.STATE_FIELDS, new Object()), Dialect.JAVA);
+
+    Assertions.assertFalse(fingerprint.isPresent());
+  }
+
+  @Test
+  public void testThatCollectionKeysAreUnambiguous() {
+    Assertions.assertNotEquals(TemplateFingerprint.keyOf(Arrays.asList("a", "b")), TemplateFingerprint.keyOf(Arrays.asList("a,b")));
+    Assertions.assertNotEquals(TemplateFingerprint.keyOf(Arrays.asList("1")), TemplateFingerprint.keyOf(Arrays.asList(1)));
+    Assertions.assertFalse(TemplateFingerprint.keyOf(Arrays.asList("a", new Object())).isPresent());
+  }
+
+  private TemplateParameters readmeParameters(final String packageName) {
+    return TemplateParameters.with(TemplateParameter.README_FILE, true).and(TemplateParameter.PACKAGE_NAME, packageName);
+  }
+
+  private static class Node implements Fingerprinted {
+
+    private final String value;
+    private final List<Node> children = new ArrayList<>();
+
+    private Node(final String value) {
+      this.value = value;
+    }
+
+    @Override
+    public List<?> fingerprintKey() {
+      return Arrays.asList(value, children);
+    }
+
+  }
+
+}
@@ -0,0 +1,81 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.codegen.java.compilation;
+
+import io.vlingo.xoom.designer.codegen.InMemoryProjectTree;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+public class InMemoryCompilerTest {
+
+  @TempDir
+  Path generationFolder;
+
+  @Test
+  public void testThatGeneratedSourcesAreCompiledInMemory() {
+    final SortedMap<String, String> sources = new TreeMap<>();
+    sources.put("src/main/java/io/vlingo/xoomapp/model/Book.java",
+            "package io.vlingo.xoomapp.model;\n\npublic class Book { public final String title = \"DDD\"; }");
+    sources.put("src/main/java/io/vlingo/xoomapp/infrastructure/BookData.java",
+            "package io.vlingo.xoomapp.infrastructure;\n\nimport io.vlingo.xoomapp.model.Book;\n\n" +
+                    "public class BookData { public final String title = new Book().title; }");
+
+    final CompilationReport report = InMemoryCompiler.withDesignerClasspath().compile(sources);
+
+    Assertions.assertTrue(report.succeeded, report.summary());
+    Assertions.assertEquals(2, report.sourceFiles);
+    Assertions.assertEquals(2, report.compiledClasses);
+    Assertions.assertTrue(report.failedFiles().isEmpty());
+  }
+
+  @Test
+  public void testThatDiagnosticsAreReportedPerFile() {
+    final SortedMap<String, String> sources = new TreeMap<>();
+    sources.put("src/main/java/io/vlingo/xoomapp/model/Author.java",
+            "package io.vlingo.xoomapp.model;\n\npublic class Author { }");
+    sources.put("src/main/java/io/vlingo/xoomapp/model/Book.java",
+            "package io.vlingo.xoomapp.model;\n\npublic class Book {\n  private final Publisher publisher = null;\n}");
+
+    final CompilationReport report = InMemoryCompiler.withDesignerClasspath().compile(sources);
+
+    Assertions.assertFalse(report.succeeded);
+    Assertions.assertEquals(Collections.singleton("src/main/java/io/vlingo/xoomapp/model/Book.java"), report.failedFiles());
+
+    final List<CompilationDiagnostic> diagnostics = report.diagnosticsOf("src/main/java/io/vlingo/xoomapp/model/Book.java");
+
+    Assertions.assertEquals(1, diagnostics.size());
+    Assertions.assertTrue(diagnostics.get(0).isError());
+    Assertions.assertEquals(4, diagnostics.get(0).line);
+    Assertions.assertTrue(diagnostics.get(0).message.contains("Publisher"));
+    Assertions.assertTrue(report.diagnosticsOf("src/main/java/io/vlingo/xoomapp/model/Author.java").isEmpty());
+  }
+
+  @Test
+  public void testThatOnlyMainSourcesOfTheProjectTreeAreCompiled() {
+    final Path project = generationFolder.resolve("xoom-app");
+    final InMemoryProjectTree tree = InMemoryProjectTree.rootedAt(project);
+    tree.write(project.resolve("pom.xml"), "<project/>".getBytes());
+    tree.write(project.resolve("src/main/java/io/vlingo/xoomapp/Bootstrap.java"),
+            "package io.vlingo.xoomapp;\n\npublic class Bootstrap { }".getBytes());
+    tree.write(project.resolve("src/test/java/io/vlingo/xoomapp/BootstrapTest.java"),
+            "package io.vlingo.xoomapp;\n\npublic class BootstrapTest extends Unknown { }".getBytes());
+
+    final CompilationReport report = InMemoryCompiler.withDesignerClasspath().compile(tree);
+
+    Assertions.assertTrue(report.succeeded, report.summary());
+    Assertions.assertEquals(1, report.sourceFiles);
+    Assertions.assertEquals(1, report.compiledClasses);
+  }
+
+}
@@ -0,0 +1,90 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.codegen.java.structure;
+
+import io.vlingo.xoom.designer.codegen.InMemoryProjectTree;
+import io.vlingo.xoom.designer.infrastructure.PrecompressedFile;
+import io.vlingo.xoom.designer.infrastructure.PrecompressedFiles;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.zip.ZipEntry;
+
+public class MavenWrapperPayloadTest {
+
+  @TempDir
+  Path stagingFolder;
+
+  @BeforeEach
+  public void setUp() throws IOException {
+    Files.createDirectories(stagingFolder.resolve(".mvn").resolve("wrapper"));
+    Files.write(stagingFolder.resolve("mvnw"), "#!/bin/sh".getBytes());
+    Files.write(stagingFolder.resolve("mvnw.cmd"), "@REM mvnw".getBytes());
+    Files.write(stagingFolder.resolve(".mvn").resolve("wrapper").resolve("maven-wrapper.properties"), "distributionUrl=".getBytes());
+  }
+
+  @Test
+  public void testThatPayloadIsLoadedAndPrecompressedOnce() {
+    final PrecompressedFiles precompressedFiles = new PrecompressedFiles();
+
+    final MavenWrapperPayload payload = MavenWrapperPayload.load(stagingFolder, precompressedFiles);
+
+    Assertions.assertEquals(Arrays.asList(".mvn/wrapper/maven-wrapper.properties", "mvnw", "mvnw.cmd"),
+            new ArrayList<>(payload.files().keySet()));
+    Assertions.assertEquals(3, precompressedFiles.size());
+
+    final byte[] mavenWrapper = "#!/bin/sh".getBytes();
+    Assertions.assertTrue(precompressedFiles.find(mavenWrapper, PrecompressedFile.checksumOf(mavenWrapper)).isPresent());
+  }
+
+  @Test
+  public void testThatWrapperJarIsRegisteredAsStored() throws IOException {
+    final byte[] wrapperJar = new byte[] {0x50, 0x4b, 0x03, 0x04, 0x14, 0x00};
+    Files.write(stagingFolder.resolve(".mvn").resolve("wrapper").resolve("maven-wrapper.jar"), wrapperJar);
+    final PrecompressedFiles precompressedFiles = new PrecompressedFiles();
+
+    MavenWrapperPayload.load(stagingFolder, precompressedFiles);
+
+    final PrecompressedFile registered = precompressedFiles.find(wrapperJar, PrecompressedFile.checksumOf(wrapperJar)).get();
+    Assertions.assertEquals(ZipEntry.STORED, registered.method);
+    Assertions.assertArrayEquals(wrapperJar, registered.compressed);
+
+    final byte[] mavenWrapper = "#!/bin/sh".getBytes();
+    Assertions.assertEquals(ZipEntry.DEFLATED, precompressedFiles.find(mavenWrapper, PrecompressedFile.checksumOf(mavenWrapper)).get().method);
+  }
+
+  @Test
+  public void testThatPayloadIsInstalledOnDisk() throws IOException {
+    final Path project = stagingFolder.resolve("generation").resolve("xoom-app");
+
+    MavenWrapperPayload.load(stagingFolder, new PrecompressedFiles()).installOn(project);
+
+    Assertions.assertEquals("#!/bin/sh", new String(Files.readAllBytes(project.resolve("mvnw"))));
+    Assertions.assertTrue(Files.isExecutable(project.resolve("mvnw")));
+    Assertions.assertTrue(Files.exists(project.resolve(".mvn").resolve("wrapper").resolve("maven-wrapper.properties")));
+  }
+
+  @Test
+  public void testThatPayloadIsInstalledOnProjectTree() {
+    final Path project = stagingFolder.resolve("generation").resolve("xoom-app");
+    final InMemoryProjectTree projectTree = InMemoryProjectTree.rootedAt(project);
+
+    MavenWrapperPayload.load(stagingFolder, new PrecompressedFiles()).installOn(projectTree, project);
+
+    Assertions.assertEquals(3, projectTree.size());
+    Assertions.assertTrue(projectTree.read("mvnw.cmd").isPresent());
+    Assertions.assertFalse(Files.exists(project));
+  }
+
+}
@@ -0,0 +1,126 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure;
+
+import io.vlingo.xoom.designer.ModelProcessingInformation;
+import io.vlingo.xoom.designer.codegen.GenerationTarget;
+import io.vlingo.xoom.designer.infrastructure.restapi.data.DesignerModel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class GenerationResultCacheTest {
+
+  @TempDir
+  Path cacheFolder;
+
+  @Test
+  public void testThatStoredArchivesAreServedOnLookup() throws IOException {
+    final GenerationResultCache cache = new GenerationResultCache(cacheFolder, 1024);
+
+    Assertions.assertFalse(cache.lookup("first-model"));
+    Assertions.assertTrue(cache.store("first-model", archiveOf("xoom-app.zip", 10)));
+    Assertions.assertTrue(cache.lookup("first-model"));
+
+    final Path archive = cache.find("first-model").get();
+    Assertions.assertEquals("xoom-app.zip", archive.getFileName().toString());
+    Assertions.assertEquals(10, Files.size(archive));
+    Assertions.assertEquals(1, cache.hits());
+    Assertions.assertEquals(1, cache.misses());
+    Assertions.assertEquals(0.5, cache.hitRatio());
+  }
+
+  @Test
+  public void testThatLeastRecentlyUsedArchivesAreEvictedBeyondCapacity() throws IOException {
+    final GenerationResultCache cache = new GenerationResultCache(cacheFolder, 25);
+
+    cache.store("oldest-model", archiveOf("oldest.zip", 10));
+    cache.store("recent-model", archiveOf("recent.zip", 10));
+    cache.lookup("oldest-model");
+    cache.store("newest-model", archiveOf("newest.zip", 10));
+
+    Assertions.assertTrue(cache.find("oldest-model").isPresent());
+    Assertions.assertFalse(cache.find("recent-model").isPresent());
+    Assertions.assertTrue(cache.find("newest-model").isPresent());
+    Assertions.assertFalse(Files.exists(cacheFolder.resolve("recent-model")));
+    Assertions.assertEquals(1, cache.evictions());
+    Assertions.assertEquals(20, cache.sizeInBytes());
+    Assertions.assertFalse(cache.store("oversized-model", archiveOf("oversized.zip", 26)));
+  }
+
+  @Test
+  public void testThatPinnedArchivesAreDeletedOnlyAfterRelease() throws IOException {
+    final GenerationResultCache cache = new GenerationResultCache(cacheFolder, 15);
+
+    cache.store("downloaded-model", archiveOf("downloaded.zip", 10));
+    final Path downloaded = cache.acquire("downloaded-model").get();
+    cache.store("newest-model", archiveOf("newest.zip", 10));
+
+    Assertions.assertFalse(cache.find("downloaded-model").isPresent());
+    Assertions.assertTrue(Files.exists(downloaded));
+    Assertions.assertEquals(10, cache.sizeInBytes());
+
+    cache.release("downloaded-model");
+
+    Assertions.assertFalse(Files.exists(cacheFolder.resolve("downloaded-model")));
+  }
+
+  @Test
+  public void testThatArchiveStoredAgainIsKeptOnRelease() throws IOException {
+    final GenerationResultCache cache = new GenerationResultCache(cacheFolder, 15);
+
+    cache.store("downloaded-model", archiveOf("downloaded.zip", 10));
+    cache.acquire("downloaded-model");
+    cache.store("newest-model", archiveOf("newest.zip", 10));
+    cache.store("downloaded-model", archiveOf("downloaded.zip", 10));
+    cache.release("downloaded-model");
+
+    Assertions.assertTrue(Files.exists(cache.find("downloaded-model").get()));
+  }
+
+  @Test
+  public void testThatArchivesAreRestoredFromDisk() throws IOException {
+    new GenerationResultCache(cacheFolder, 1024).store("first-model", archiveOf("xoom-app.zip", 10));
+
+    final GenerationResultCache cache = new GenerationResultCache(cacheFolder, 1024);
+
+    Assertions.assertTrue(cache.lookup("first-model"));
+    Assertions.assertEquals(1, cache.size());
+    Assertions.assertEquals(10, cache.sizeInBytes());
+  }
+
+  @Test
+  public void testThatKeyDependsOnModelAndTarget() {
+    final DesignerModel model = new DesignerModel(null, null, null, null, "/xoom-app", true, false, false, null);
+    final DesignerModel sameModel = new DesignerModel(null, null, null, null, "/xoom-app", true, false, false, null);
+    final DesignerModel otherModel = new DesignerModel(null, null, null, null, "/xoom-app", false, false, false, null);
+    final ModelProcessingInformation zip = ModelProcessingInformation.from(GenerationTarget.ZIP);
+
+    Assertions.assertEquals(GenerationResultCache.keyOf(model, zip), GenerationResultCache.keyOf(sameModel, zip));
+    Assertions.assertNotEquals(GenerationResultCache.keyOf(model, zip), GenerationResultCache.keyOf(otherModel, zip));
+    Assertions.assertNotEquals(GenerationResultCache.keyOf(model, zip),
+            GenerationResultCache.keyOf(model, ModelProcessingInformation.from(GenerationTarget.IN_MEMORY_ZIP)));
+  }
+
+  @Test
+  public void testThatDisabledCacheStoresNothing() throws IOException {
+    final GenerationResultCache cache = new GenerationResultCache(cacheFolder, 0);
+
+    Assertions.assertFalse(cache.isEnabled());
+    Assertions.assertFalse(cache.store("first-model", archiveOf("xoom-app.zip", 10)));
+    Assertions.assertFalse(cache.find("first-model").isPresent());
+  }
+
+  private ProjectArchive archiveOf(final String filename, final int size) {
+    return new ProjectArchive(filename, new byte[size]);
+  }
+
+}
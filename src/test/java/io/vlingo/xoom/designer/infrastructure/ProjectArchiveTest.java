@@ -0,0 +1,170 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure;
+
+import io.vlingo.xoom.designer.codegen.InMemoryProjectTree;
+import io.vlingo.xoom.turbo.ComponentRegistry;
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+public class ProjectArchiveTest {
+
+  @TempDir
+  Path stagingFolder;
+
+  private StagingWorkspaceManager manager;
+
+  @BeforeEach
+  public void setUp() {
+    manager = new StagingWorkspaceManager(stagingFolder, Duration.ofMinutes(10), 10);
+    ComponentRegistry.register(StagingWorkspaceManager.class, manager);
+  }
+
+  @Test
+  public void testThatArchiveIsCompressedFromTheGenerationWorkspace() throws IOException {
+    final Path project = manager.reserve("generation").resolve("xoom-app");
+    Files.createDirectories(project.resolve("src"));
+    Files.write(project.resolve("pom.xml"), "<project/>".getBytes());
+    Files.write(project.resolve("src").resolve("Main.java"), "class Main {}".getBytes());
+
+    final ProjectArchive archive = ProjectArchive.of("generation").get();
+
+    Assertions.assertEquals("xoom-app.zip", archive.filename);
+    Assertions.assertEquals("/api/model-processing/generation/archive", ProjectArchive.uriFor("generation"));
+
+    final List<String> entries = entriesOf(archive);
+
+    Assertions.assertEquals(2, entries.size());
+    Assertions.assertTrue(entries.contains("xoom-app/pom.xml"));
+    Assertions.assertTrue(entries.contains("xoom-app/src/Main.java"));
+  }
+
+  @Test
+  public void testThatArchiveIsCompressedFromTheInMemoryProjectTree() throws IOException {
+    final Path project = stagingFolder.resolve("generation").resolve("xoom-app");
+    final InMemoryProjectTree tree = InMemoryProjectTree.rootedAt(project);
+    manager.reserve("generation", tree);
+    tree.write(project.resolve("src").resolve("Main.java"), "class Main {}".getBytes());
+    tree.write(project.resolve("pom.xml"), "<project/>".getBytes());
+
+    final ProjectArchive archive = ProjectArchive.of("generation").get();
+
+    Assertions.assertEquals("xoom-app.zip", archive.filename);
+    Assertions.assertEquals(Arrays.asList("xoom-app/pom.xml", "xoom-app/src/Main.java"), entriesOf(archive));
+    Assertions.assertFalse(Files.exists(stagingFolder.resolve("generation")));
+  }
+
+  @Test
+  public void testThatArchiveIsTransferredInFixedSizeChunks() throws IOException {
+    final Path project = manager.reserve("generation").resolve("xoom-app");
+    Files.createDirectories(project);
+    Files.write(project.resolve("pom.xml"), "<project/>".getBytes());
+
+    final ProjectArchive archive = ProjectArchive.of("generation").get();
+    final ByteArrayOutputStream transferred = new ByteArrayOutputStream();
+
+    archive.transferTo(16, (chunk, length) -> {
+      Assertions.assertTrue(length <= 16);
+      transferred.write(chunk, 0, length);
+    });
+
+    Assertions.assertEquals(archive.size(), transferred.size());
+    Assertions.assertEquals(Files.size(manager.find("generation").get().resolve("xoom-app.zip")), transferred.size());
+  }
+
+  @Test
+  public void testThatArchivesOfSeveralGenerationsAreCombined() throws IOException {
+    final Path bookProject = stagingFolder.resolve("book-generation").resolve("book-app");
+    final InMemoryProjectTree bookTree = InMemoryProjectTree.rootedAt(bookProject);
+    manager.reserve("book-generation", bookTree);
+    bookTree.write(bookProject.resolve("pom.xml"), "<project/>".getBytes());
+
+    final Path authorProject = manager.reserve("author-generation").resolve("author-app");
+    Files.createDirectories(authorProject.resolve("src"));
+    Files.write(authorProject.resolve("src").resolve("Main.java"), "class Main {}".getBytes());
+
+    final ProjectArchive archive = ProjectArchive.combine("batch", Arrays.asList("book-generation", "author-generation"));
+
+    Assertions.assertEquals("batch.zip", archive.filename);
+    Assertions.assertEquals(Arrays.asList("book-app/pom.xml", "author-app/src/Main.java"), entriesOf(archive));
+    Assertions.assertEquals(Arrays.asList("<project/>", "class Main {}"), textsOf(archive));
+    Assertions.assertEquals(3, manager.size());
+    Assertions.assertEquals(archive.size(), ProjectArchive.combine("batch", Arrays.asList("book-generation", "author-generation")).size());
+  }
+
+  @Test
+  public void testThatCombiningRejectsDuplicateEntries() throws IOException {
+    for (final String generationId : Arrays.asList("first-generation", "second-generation")) {
+      final Path project = manager.reserve(generationId).resolve("xoom-app");
+      Files.createDirectories(project);
+      Files.write(project.resolve("pom.xml"), "<project/>".getBytes());
+    }
+
+    Assertions.assertThrows(IOException.class, () -> ProjectArchive.combine("batch", Arrays.asList("first-generation", "second-generation")));
+  }
+
+  @Test
+  public void testThatCombiningRequiresEveryArchive() {
+    Assertions.assertThrows(IOException.class, () -> ProjectArchive.combine("batch", Arrays.asList("unknown")));
+  }
+
+  @Test
+  public void testThatBatchUriCarriesEveryGeneration() {
+    final String batchUri = ProjectArchive.batchUriFor(Arrays.asList("book-generation", "author-generation"));
+
+    Assertions.assertEquals("/api/model-processing/batch/book-generation,author-generation/archive", batchUri);
+    Assertions.assertEquals(Arrays.asList("book-generation", "author-generation"),
+            ProjectArchive.generationIdsOf("book-generation,author-generation"));
+  }
+
+  @Test
+  public void testThatUnknownGenerationHasNoArchive() throws IOException {
+    Assertions.assertFalse(ProjectArchive.of("unknown").isPresent());
+  }
+
+  @AfterEach
+  public void tearDown() {
+    ComponentRegistry.unregister(StagingWorkspaceManager.class);
+  }
+
+  private List<String> entriesOf(final ProjectArchive archive) throws IOException {
+    final List<String> entries = new ArrayList<>();
+    try (final ZipInputStream zipStream = new ZipInputStream(archive.open())) {
+      ZipEntry entry;
+      while ((entry = zipStream.getNextEntry()) != null) {
+        entries.add(entry.getName());
+      }
+    }
+    return entries;
+  }
+
+  private List<String> textsOf(final ProjectArchive archive) throws IOException {
+    final List<String> texts = new ArrayList<>();
+    try (final ZipInputStream zipStream = new ZipInputStream(archive.open())) {
+      while (zipStream.getNextEntry() != null) {
+        texts.add(new String(IOUtils.toByteArray(zipStream)));
+      }
+    }
+    return texts;
+  }
+
+}
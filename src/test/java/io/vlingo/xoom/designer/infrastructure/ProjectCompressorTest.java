@@ -0,0 +1,82 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+public class ProjectCompressorTest {
+
+  @Test
+  public void testThatProjectFilesAreArchivedInSortedOrder(@TempDir final Path temporaryFolder) throws IOException {
+    final Path projectPath = temporaryFolder.resolve("xoom-app");
+    write(projectPath.resolve("src/main/java/Main.java"), "class Main {}");
+    write(projectPath.resolve("pom.xml"), "<project/>");
+    write(projectPath.resolve(".mvn/wrapper/maven-wrapper.jar"), "jar");
+    write(projectPath.resolve("README.md"), "# xoom-app");
+
+    final ByteArrayOutputStream archive = new ByteArrayOutputStream();
+    ProjectCompressor.compress(projectPath, archive);
+
+    final List<String> names = new ArrayList<>();
+    final List<Integer> methods = new ArrayList<>();
+    try (final ZipInputStream zipStream = new ZipInputStream(new ByteArrayInputStream(archive.toByteArray()))) {
+      ZipEntry entry;
+      while ((entry = zipStream.getNextEntry()) != null) {
+        names.add(entry.getName());
+        methods.add(entry.getMethod());
+      }
+    }
+
+    Assertions.assertEquals(Arrays.asList("xoom-app/.mvn/wrapper/maven-wrapper.jar", "xoom-app/README.md",
+            "xoom-app/pom.xml", "xoom-app/src/main/java/Main.java"), names);
+    Assertions.assertEquals(Arrays.asList(ZipEntry.STORED, ZipEntry.DEFLATED, ZipEntry.DEFLATED, ZipEntry.DEFLATED), methods);
+  }
+
+  @Test
+  public void testThatFilesBeyondTheCompressionWindowAreArchivedInOrder() throws IOException {
+    final SortedMap<String, byte[]> files = new TreeMap<>();
+    for (int index = 0; index < 100; ++index) {
+      files.put(String.format("xoom-app/src/Type%03d.java", index), ("class Type" + index + " {}").getBytes());
+    }
+
+    final List<String> names = new ArrayList<>();
+    final List<String> texts = new ArrayList<>();
+    try (final ZipInputStream zipStream = new ZipInputStream(new ByteArrayInputStream(ProjectCompressor.compress(files)))) {
+      ZipEntry entry;
+      while ((entry = zipStream.getNextEntry()) != null) {
+        names.add(entry.getName());
+        texts.add(new String(IOUtils.toByteArray(zipStream)));
+      }
+    }
+
+    Assertions.assertEquals(new ArrayList<>(files.keySet()), names);
+    Assertions.assertEquals("class Type0 {}", texts.get(0));
+    Assertions.assertEquals("class Type99 {}", texts.get(99));
+  }
+
+  private void write(final Path file, final String text) throws IOException {
+    Files.createDirectories(file.getParent());
+    Files.write(file, text.getBytes());
+  }
+
+}
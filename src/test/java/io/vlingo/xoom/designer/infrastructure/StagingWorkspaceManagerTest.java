@@ -0,0 +1,89 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+public class StagingWorkspaceManagerTest {
+
+  @TempDir
+  Path stagingFolder;
+
+  @Test
+  public void testThatReclaimTouchesOnlyTheOwningWorkspace() throws IOException {
+    final StagingWorkspaceManager manager =
+            new StagingWorkspaceManager(stagingFolder, Duration.ofMinutes(10), 10);
+
+    final Path first = manager.reserve("first-generation");
+    final Path second = manager.reserve("second-generation");
+    Files.createFile(second.resolve("pom.xml"));
+
+    manager.reclaim("first-generation");
+
+    Assertions.assertFalse(Files.exists(first));
+    Assertions.assertTrue(Files.exists(second.resolve("pom.xml")));
+    Assertions.assertFalse(manager.find("first-generation").isPresent());
+    Assertions.assertEquals(second, manager.find("second-generation").get());
+  }
+
+  @Test
+  public void testThatSweepReclaimsOnlyExpiredReleasedWorkspaces() throws IOException {
+    final StagingWorkspaceManager manager =
+            new StagingWorkspaceManager(stagingFolder, Duration.ZERO, 10);
+
+    final Path released = manager.reserve("released-generation");
+    final Path running = manager.reserve("running-generation");
+
+    manager.release("released-generation");
+    manager.sweep();
+
+    Assertions.assertFalse(Files.exists(released));
+    Assertions.assertTrue(Files.exists(running));
+    Assertions.assertEquals(1, manager.size());
+  }
+
+  @Test
+  public void testThatSweepEvictsLeastRecentlyUsedWorkspacesBeyondCapacity() throws IOException {
+    final StagingWorkspaceManager manager =
+            new StagingWorkspaceManager(stagingFolder, Duration.ofMinutes(10), 1);
+
+    final Path oldest = manager.reserve("oldest-generation");
+    final Path newest = manager.reserve("newest-generation");
+
+    manager.release("oldest-generation");
+    manager.release("newest-generation");
+    manager.sweep();
+
+    Assertions.assertFalse(Files.exists(oldest));
+    Assertions.assertTrue(Files.exists(newest));
+  }
+
+  @Test
+  public void testThatReserveEvictsReleasedWorkspacesBeyondCapacity() throws IOException {
+    final StagingWorkspaceManager manager =
+            new StagingWorkspaceManager(stagingFolder, Duration.ofMinutes(10), 2);
+
+    final Path released = manager.reserve("released-generation");
+    final Path running = manager.reserve("running-generation");
+
+    manager.release("released-generation");
+    final Path newest = manager.reserve("newest-generation");
+
+    Assertions.assertFalse(Files.exists(released));
+    Assertions.assertTrue(Files.exists(running));
+    Assertions.assertTrue(Files.exists(newest));
+    Assertions.assertEquals(2, manager.size());
+  }
+
+}
@@ -0,0 +1,132 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+public class ZipArchiveWriterTest {
+
+  @Test
+  public void testThatEntriesAreReadableByStandardZipStreams() throws IOException {
+    final ByteArrayOutputStream archive = new ByteArrayOutputStream();
+
+    try (final ZipArchiveWriter writer = writerOn(archive, new PrecompressedFiles())) {
+      writer.write("xoom-app/pom.xml", "<project/>".getBytes());
+      writer.write("xoom-app/.gitignore", new byte[0]);
+      writer.write("xoom-app/src/Main.java", "class Main {}".getBytes());
+    }
+
+    final List<String> names = new ArrayList<>();
+    final List<String> texts = new ArrayList<>();
+    try (final ZipInputStream zipStream = new ZipInputStream(new ByteArrayInputStream(archive.toByteArray()))) {
+      ZipEntry entry;
+      while ((entry = zipStream.getNextEntry()) != null) {
+        names.add(entry.getName());
+        texts.add(new String(readAll(zipStream)));
+      }
+    }
+
+    Assertions.assertEquals(Arrays.asList("xoom-app/pom.xml", "xoom-app/.gitignore", "xoom-app/src/Main.java"), names);
+    Assertions.assertEquals(Arrays.asList("<project/>", "", "class Main {}"), texts);
+  }
+
+  @Test
+  public void testThatRegisteredFilesAreSplicedWithoutRecompression() throws IOException {
+    final byte[] mavenWrapper = "#!/bin/sh\necho mvnw\necho mvnw\necho mvnw\n".getBytes();
+    final PrecompressedFiles precompressedFiles = new PrecompressedFiles();
+    final PrecompressedFile registered = precompressedFiles.register(mavenWrapper);
+
+    final ByteArrayOutputStream archive = new ByteArrayOutputStream();
+    try (final ZipArchiveWriter writer = writerOn(archive, precompressedFiles, Deflater.NO_COMPRESSION)) {
+      writer.write("xoom-app/mvnw", Arrays.copyOf(mavenWrapper, mavenWrapper.length));
+    }
+
+    Assertions.assertTrue(indexOf(archive.toByteArray(), registered.compressed) > 0);
+    Assertions.assertTrue(indexOf(archive.toByteArray(), PrecompressedFile.of(mavenWrapper, Deflater.NO_COMPRESSION).compressed) < 0);
+    Assertions.assertSame(registered, precompressedFiles.find(mavenWrapper, PrecompressedFile.checksumOf(mavenWrapper)).get());
+    Assertions.assertFalse(precompressedFiles.find("#!/bin/sh\n".getBytes(), PrecompressedFile.checksumOf(mavenWrapper)).isPresent());
+  }
+
+  @Test
+  public void testThatArchivesAreByteIdenticalForTheSameEntries() throws IOException {
+    final ByteArrayOutputStream first = new ByteArrayOutputStream();
+    final ByteArrayOutputStream second = new ByteArrayOutputStream();
+
+    for (final ByteArrayOutputStream archive : Arrays.asList(first, second)) {
+      try (final ZipArchiveWriter writer = writerOn(archive, new PrecompressedFiles())) {
+        writer.write("xoom-app/README.md", "# xoom-app".getBytes());
+      }
+    }
+
+    Assertions.assertArrayEquals(first.toByteArray(), second.toByteArray());
+  }
+
+  @Test
+  public void testThatAlreadyCompressedAssetsAreStored() throws IOException {
+    final ByteArrayOutputStream archive = new ByteArrayOutputStream();
+    final byte[] text = "xoom xoom xoom xoom xoom xoom xoom xoom".getBytes();
+
+    try (final ZipArchiveWriter writer = writerOn(archive, new PrecompressedFiles())) {
+      Assertions.assertEquals(ZipEntry.STORED, writer.compress("xoom-app/.mvn/wrapper/maven-wrapper.jar", text).method);
+      Assertions.assertEquals(ZipEntry.STORED, writer.compress("xoom-app/public/logo.PNG", text).method);
+      Assertions.assertEquals(ZipEntry.DEFLATED, writer.compress("xoom-app/README.md", text).method);
+      writer.write("xoom-app/logo.png", text);
+    }
+
+    try (final ZipArchiveWriter writer = writerOn(new ByteArrayOutputStream(), new PrecompressedFiles(), ZipArchiveWriter.STORED)) {
+      Assertions.assertEquals(ZipEntry.STORED, writer.compress("xoom-app/README.md", text).method);
+    }
+
+    try (final ZipInputStream zipStream = new ZipInputStream(new ByteArrayInputStream(archive.toByteArray()))) {
+      final ZipEntry entry = zipStream.getNextEntry();
+      Assertions.assertEquals(ZipEntry.STORED, entry.getMethod());
+      Assertions.assertArrayEquals(text, readAll(zipStream));
+    }
+  }
+
+  private ZipArchiveWriter writerOn(final ByteArrayOutputStream archive, final PrecompressedFiles precompressedFiles) {
+    return writerOn(archive, precompressedFiles, Deflater.DEFAULT_COMPRESSION);
+  }
+
+  private ZipArchiveWriter writerOn(final ByteArrayOutputStream archive,
+                                    final PrecompressedFiles precompressedFiles,
+                                    final int level) {
+    return new ZipArchiveWriter(archive, precompressedFiles, level, LocalDateTime.of(2022, 4, 19, 10, 30));
+  }
+
+  private byte[] readAll(final ZipInputStream zipStream) throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    final byte[] buffer = new byte[1024];
+    int read;
+    while ((read = zipStream.read(buffer)) != -1) {
+      bytes.write(buffer, 0, read);
+    }
+    return bytes.toByteArray();
+  }
+
+  private int indexOf(final byte[] source, final byte[] target) {
+    for (int index = 0; index <= source.length - target.length; ++index) {
+      if (Arrays.equals(Arrays.copyOfRange(source, index, index + target.length), target)) {
+        return index;
+      }
+    }
+    return -1;
+  }
+
+}
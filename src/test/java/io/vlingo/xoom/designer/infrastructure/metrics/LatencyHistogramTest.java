@@ -0,0 +1,48 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class LatencyHistogramTest {
+
+  @Test
+  public void testThatLatenciesAreCountedInCumulativeBuckets() {
+    final LatencyHistogram histogram = LatencyHistogram.withBucketsInMillis(10, 1, 100);
+
+    histogram.record(TimeUnit.MICROSECONDS.toNanos(500));
+    histogram.record(TimeUnit.MILLISECONDS.toNanos(1));
+    histogram.record(TimeUnit.MILLISECONDS.toNanos(50));
+    histogram.record(TimeUnit.SECONDS.toNanos(2));
+
+    final Map<Long, Long> counts = histogram.cumulativeCountsByBoundNanos();
+
+    Assertions.assertEquals(2, (long) counts.get(TimeUnit.MILLISECONDS.toNanos(1)));
+    Assertions.assertEquals(2, (long) counts.get(TimeUnit.MILLISECONDS.toNanos(10)));
+    Assertions.assertEquals(3, (long) counts.get(TimeUnit.MILLISECONDS.toNanos(100)));
+    Assertions.assertEquals(4, (long) counts.get(Long.MAX_VALUE));
+    Assertions.assertEquals(4, histogram.count());
+    Assertions.assertEquals(TimeUnit.MICROSECONDS.toNanos(2051500), histogram.sumNanos());
+  }
+
+  @Test
+  public void testThatStepTimingsAreRecordedByOutcome() {
+    final CodeGenerationStepTimings timings = new CodeGenerationStepTimings();
+
+    timings.stepCompleted(context -> { }, 1000, 3);
+    timings.stepSkipped(context -> { }, 100);
+
+    Assertions.assertEquals(1, timings.processedSteps().size());
+    Assertions.assertEquals(1, timings.skippedSteps().size());
+    Assertions.assertEquals(1, timings.processedSteps().values().iterator().next().count());
+  }
+
+}
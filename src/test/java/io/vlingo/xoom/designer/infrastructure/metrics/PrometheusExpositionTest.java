@@ -0,0 +1,60 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure.metrics;
+
+import io.vlingo.xoom.codegen.CodeGenerationContext;
+import io.vlingo.xoom.codegen.CodeGenerationStep;
+import io.vlingo.xoom.designer.codegen.TemplateCache;
+import io.vlingo.xoom.designer.infrastructure.GenerationResultCache;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class PrometheusExpositionTest {
+
+  @Test
+  public void testThatMetricsAreFormattedInPrometheusText() {
+    final MetricsRegistry registry = new MetricsRegistry();
+    final CodeGenerationStepTimings stepTimings = new CodeGenerationStepTimings();
+
+    registry.measure(MetricsRegistry.CONTEXT_MAPPING).stop();
+    registry.increment(MetricsRegistry.GENERATED_FILES, 12);
+    stepTimings.stepCompleted(new ReadmeStep(), TimeUnit.MILLISECONDS.toNanos(3), 2);
+
+    final String exposition = PrometheusExposition.format(registry, stepTimings, new TemplateCache(), GenerationResultCache.disabled());
+
+    Assertions.assertTrue(exposition.contains("# TYPE xoom_designer_operation_duration_seconds histogram\n"));
+    Assertions.assertTrue(exposition.contains("xoom_designer_operation_duration_seconds_bucket{operation=\"context_mapping\",le=\"+Inf\"} 1\n"));
+    Assertions.assertTrue(exposition.contains("xoom_designer_operation_duration_seconds_count{operation=\"context_mapping\"} 1\n"));
+    Assertions.assertTrue(exposition.contains("xoom_designer_generated_files_total 12\n"));
+    Assertions.assertTrue(exposition.contains("xoom_designer_step_duration_seconds_bucket{step=\"ReadmeStep\",outcome=\"processed\",le=\"0.001\"} 0\n"));
+    Assertions.assertTrue(exposition.contains("xoom_designer_step_duration_seconds_bucket{step=\"ReadmeStep\",outcome=\"processed\",le=\"0.005\"} 1\n"));
+    Assertions.assertTrue(exposition.contains("xoom_designer_step_duration_seconds_sum{step=\"ReadmeStep\",outcome=\"processed\"} 0.003\n"));
+    Assertions.assertTrue(exposition.contains("xoom_designer_step_produced_contents_total{step=\"ReadmeStep\"} 2\n"));
+    Assertions.assertTrue(exposition.contains("xoom_designer_template_cache_misses_total 0\n"));
+    Assertions.assertTrue(exposition.contains("# TYPE xoom_designer_result_cache_hit_ratio gauge\n"));
+    Assertions.assertTrue(exposition.contains("xoom_designer_result_cache_evictions_total 0\n"));
+  }
+
+  @Test
+  public void testThatUtf8LengthIsCounted() {
+    Assertions.assertEquals(5, Utf8.lengthOf("xoom!"));
+    Assertions.assertEquals(2, Utf8.lengthOf("é"));
+    Assertions.assertEquals(3, Utf8.lengthOf("€"));
+    Assertions.assertEquals(4, Utf8.lengthOf("🚀"));
+  }
+
+  private static class ReadmeStep implements CodeGenerationStep {
+
+    @Override
+    public void process(final CodeGenerationContext context) {
+    }
+
+  }
+
+}
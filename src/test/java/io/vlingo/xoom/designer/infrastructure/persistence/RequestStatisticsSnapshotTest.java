@@ -0,0 +1,123 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure.persistence;
+
+import io.vlingo.xoom.actors.World;
+import io.vlingo.xoom.common.Outcome;
+import io.vlingo.xoom.designer.infrastructure.requesthistory.RequestRecord;
+import io.vlingo.xoom.designer.infrastructure.requesthistory.RequestStatistics;
+import io.vlingo.xoom.lattice.model.stateful.StatefulTypeRegistry;
+import io.vlingo.xoom.symbio.Metadata;
+import io.vlingo.xoom.symbio.store.Result;
+import io.vlingo.xoom.symbio.store.StorageException;
+import io.vlingo.xoom.symbio.store.dispatch.NoOpDispatcher;
+import io.vlingo.xoom.symbio.store.state.StateStore;
+import io.vlingo.xoom.symbio.store.state.inmemory.InMemoryStateStoreActor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RequestStatisticsSnapshotTest {
+
+  private World world;
+  private StateStore stateStore;
+
+  @BeforeEach
+  public void setUp() {
+    world = World.startWithDefaults("request-statistics-snapshot-test");
+    stateStore = world.actorFor(StateStore.class, InMemoryStateStoreActor.class, Collections.singletonList(new NoOpDispatcher()));
+    StatefulTypeRegistry.registerAll(world, stateStore, TotalRequestsByIPData.class, TotalRequestsByMonthData.class);
+  }
+
+  @Test
+  public void testThatPendingRequestsAreAddedToStoredTotals() throws Exception {
+    final String anIpAddress = "177.0.0.2";
+    final String otherIpAddress = "177.134.231.171";
+    final RequestStatistics statistics = new RequestStatistics();
+    final RequestStatisticsSnapshot snapshot = new RequestStatisticsSnapshot(stateStore, statistics);
+
+    statistics.record(RequestRecord.of("/resources", anIpAddress));
+    statistics.record(RequestRecord.of("/resources", otherIpAddress));
+    statistics.record(RequestRecord.of("/resources/sub", otherIpAddress));
+
+    snapshot.flush();
+
+    assertEquals(2, awaitTotalRequests(otherIpAddress, 2));
+
+    statistics.record(RequestRecord.of("/resources", otherIpAddress));
+
+    snapshot.flush();
+
+    assertEquals(3, awaitTotalRequests(otherIpAddress, 3));
+    assertEquals(1, awaitTotalRequests(anIpAddress, 1));
+  }
+
+  @Test
+  public void testThatStoredTotalsAreSeeded() throws Exception {
+    final String ipAddress = "177.0.0.2";
+    final RequestStatistics statistics = new RequestStatistics();
+    final RequestStatisticsSnapshot snapshot = new RequestStatisticsSnapshot(stateStore, statistics);
+
+    statistics.record(RequestRecord.of("/resources", ipAddress));
+    statistics.record(RequestRecord.of("/resources", ipAddress));
+
+    snapshot.flush();
+
+    assertEquals(2, awaitTotalRequests(ipAddress, 2));
+
+    final RequestStatistics restartedStatistics = new RequestStatistics();
+
+    new RequestStatisticsSnapshot(stateStore, restartedStatistics).seed();
+
+    for (int attempt = 0; attempt < 50 && !restartedStatistics.totalRequestsByIp().containsKey(ipAddress); ++attempt) {
+      Thread.sleep(20);
+    }
+
+    assertEquals(2, (long) restartedStatistics.totalRequestsByIp().get(ipAddress));
+    assertTrue(restartedStatistics.drainPendingByIp().isEmpty());
+  }
+
+  @AfterEach
+  public void tearDown() {
+    world.terminate();
+  }
+
+  private long awaitTotalRequests(final String ipAddress, final long expected) throws Exception {
+    long totalRequests = 0;
+    for (int attempt = 0; attempt < 50 && totalRequests != expected; ++attempt) {
+      totalRequests = readTotalRequests(ipAddress);
+      if (totalRequests != expected) {
+        Thread.sleep(20);
+      }
+    }
+    return totalRequests;
+  }
+
+  private long readTotalRequests(final String ipAddress) throws Exception {
+    final CompletableFuture<Long> totalRequests = new CompletableFuture<>();
+    stateStore.read(ipAddress, TotalRequestsByIPData.class, new StateStore.ReadResultInterest() {
+      @Override
+      public <S> void readResultedIn(final Outcome<StorageException, Result> outcome,
+                                     final String id,
+                                     final S state,
+                                     final int stateVersion,
+                                     final Metadata metadata,
+                                     final Object object) {
+        totalRequests.complete(state == null ? 0 : ((TotalRequestsByIPData) state).totalRequests);
+      }
+    });
+    return totalRequests.get(5, TimeUnit.SECONDS);
+  }
+
+}
@@ -0,0 +1,49 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure.requesthistory;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class RequestHistoryBufferTest {
+
+  @Test
+  public void testThatFlushIsRequestedOncePerBatch() {
+    final RequestHistoryBuffer buffer = RequestHistoryBuffer.with(10, 2);
+
+    Assertions.assertFalse(buffer.add(RequestRecord.of("/resources", "127.0.0.1")));
+    Assertions.assertTrue(buffer.add(RequestRecord.of("/resources", "127.0.0.1")));
+    Assertions.assertFalse(buffer.add(RequestRecord.of("/resources", "127.0.0.1")));
+
+    final List<RequestRecord> batch = new ArrayList<>();
+
+    Assertions.assertEquals(2, buffer.drainTo(batch));
+    Assertions.assertEquals(1, buffer.pending());
+    Assertions.assertTrue(buffer.add(RequestRecord.of("/resources", "127.0.0.1")));
+  }
+
+  @Test
+  public void testThatRecordsAreDroppedWhenFull() {
+    final RequestHistoryBuffer buffer = RequestHistoryBuffer.with(2, 2);
+
+    buffer.add(RequestRecord.of("/resources", "127.0.0.1"));
+    buffer.add(RequestRecord.of("/resources", "127.0.0.1"));
+
+    Assertions.assertFalse(buffer.add(RequestRecord.of("/resources", "127.0.0.1")));
+    Assertions.assertEquals(2, buffer.pending());
+    Assertions.assertEquals(1, buffer.dropped());
+  }
+
+  @Test
+  public void testThatBatchSizeCannotExceedCapacity() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> RequestHistoryBuffer.with(2, 3));
+  }
+
+}
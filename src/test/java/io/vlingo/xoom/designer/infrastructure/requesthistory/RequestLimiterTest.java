@@ -0,0 +1,87 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure.requesthistory;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class RequestLimiterTest {
+
+  @Test
+  public void testThatConcurrentRequestsDoNotExceedLimit() throws Exception {
+    final int threads = 8;
+    final RequestLimiter requestLimiter = RequestLimiter.of(100, Duration.ofSeconds(30));
+    final ExecutorService executor = Executors.newFixedThreadPool(threads);
+    final CountDownLatch start = new CountDownLatch(1);
+    final List<Future<Integer>> results = new ArrayList<>();
+
+    for (int thread = 0; thread < threads; ++thread) {
+      results.add(executor.submit(() -> {
+        start.await();
+        int granted = 0;
+        for (int request = 0; request < 1000; ++request) {
+          if (requestLimiter.checkLimit("127.0.0.1")) {
+            granted++;
+          }
+        }
+        return granted;
+      }));
+    }
+
+    start.countDown();
+
+    int granted = 0;
+    for (final Future<Integer> result : results) {
+      granted += result.get(10, TimeUnit.SECONDS);
+    }
+
+    executor.shutdown();
+
+    Assertions.assertEquals(100, granted);
+  }
+
+  @Test
+  public void testThatClientsAreLimitedIndependently() {
+    final RequestLimiter requestLimiter = RequestLimiter.of(1, Duration.ofSeconds(30));
+
+    Assertions.assertTrue(requestLimiter.checkLimit("10.0.0.1"));
+    Assertions.assertTrue(requestLimiter.checkLimit("10.0.0.2"));
+    Assertions.assertFalse(requestLimiter.checkLimit("10.0.0.1"));
+    Assertions.assertFalse(requestLimiter.checkLimit("10.0.0.2"));
+    Assertions.assertEquals(2, requestLimiter.trackedClients());
+  }
+
+  @Test
+  public void testThatExpiredCountsAreRemoved() throws Exception {
+    final RequestLimiter requestLimiter = RequestLimiter.of(1, Duration.ofSeconds(1));
+
+    Assertions.assertTrue(requestLimiter.checkLimit("127.0.0.1"));
+    Assertions.assertFalse(requestLimiter.checkLimit("127.0.0.1"));
+
+    Thread.sleep(1001);
+    requestLimiter.removeAllExpired();
+
+    Assertions.assertEquals(0, requestLimiter.trackedClients());
+    Assertions.assertTrue(requestLimiter.checkLimit("127.0.0.1"));
+  }
+
+  @Test
+  public void testThatInvalidLimitIsRejected() {
+    Assertions.assertThrows(IllegalArgumentException.class,
+            () -> RequestLimiter.of(RequestCount.MAX_LIMIT + 1, Duration.ofSeconds(1)));
+  }
+
+}
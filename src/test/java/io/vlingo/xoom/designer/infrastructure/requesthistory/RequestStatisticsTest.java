@@ -0,0 +1,70 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure.requesthistory;
+
+import io.vlingo.xoom.designer.infrastructure.requesthistory.RequestStatistics.PendingRequests;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class RequestStatisticsTest {
+
+  @Test
+  public void testThatRequestsAreCountedByIPAndMonth() {
+    final RequestStatistics statistics = new RequestStatistics();
+    final RequestRecord firstRecord = RequestRecord.of("/resources", "177.0.0.2");
+
+    statistics.record(firstRecord);
+    statistics.record(RequestRecord.of("/resources", "177.134.231.171"));
+    statistics.record(RequestRecord.of("/resources/sub", "177.134.231.171"));
+
+    final String monthOfYear = String.format("%d%02d", firstRecord.occurredOn.getYear(), firstRecord.occurredOn.getMonthValue());
+
+    Assertions.assertEquals(1, (long) statistics.totalRequestsByIp().get("177.0.0.2"));
+    Assertions.assertEquals(2, (long) statistics.totalRequestsByIp().get("177.134.231.171"));
+    Assertions.assertEquals(3, (long) statistics.totalRequestsByMonth().get(monthOfYear));
+  }
+
+  @Test
+  public void testThatPendingRequestsAreDrainedAndRestored() {
+    final RequestStatistics statistics = new RequestStatistics();
+
+    statistics.record(RequestRecord.of("/resources", "177.0.0.2"));
+    statistics.record(RequestRecord.of("/resources", "177.0.0.2"));
+
+    final List<PendingRequests> pending = statistics.drainPendingByIp();
+
+    Assertions.assertEquals(1, pending.size());
+    Assertions.assertEquals("177.0.0.2", pending.get(0).key);
+    Assertions.assertEquals(2, pending.get(0).requests);
+    Assertions.assertTrue(statistics.drainPendingByIp().isEmpty());
+
+    statistics.restorePendingByIp(pending.get(0));
+
+    Assertions.assertEquals(2, statistics.drainPendingByIp().get(0).requests);
+    Assertions.assertEquals(2, (long) statistics.totalRequestsByIp().get("177.0.0.2"));
+  }
+
+  @Test
+  public void testThatSeededTotalsAreNotPending() {
+    final RequestStatistics statistics = new RequestStatistics();
+
+    statistics.seedByIp("177.0.0.2", 5, LocalDateTime.now());
+    statistics.seedByMonth("202201", 7);
+    statistics.record(RequestRecord.of("/resources", "177.0.0.2"));
+
+    final List<PendingRequests> pending = statistics.drainPendingByIp();
+
+    Assertions.assertEquals(6, (long) statistics.totalRequestsByIp().get("177.0.0.2"));
+    Assertions.assertEquals(7, (long) statistics.totalRequestsByMonth().get("202201"));
+    Assertions.assertEquals(1, pending.size());
+    Assertions.assertEquals(1, pending.get(0).requests);
+  }
+
+}
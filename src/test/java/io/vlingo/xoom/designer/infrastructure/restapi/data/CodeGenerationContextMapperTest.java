@@ -13,6 +13,7 @@ import io.vlingo.xoom.codegen.dialect.Dialect;
 import io.vlingo.xoom.codegen.dialect.ReservedWordsHandler;
 import io.vlingo.xoom.codegen.parameter.CodeGenerationParameter;
 import io.vlingo.xoom.codegen.parameter.CodeGenerationParameters;
+import io.vlingo.xoom.designer.codegen.GenerationSettings;
 import io.vlingo.xoom.designer.codegen.GenerationTarget;
 import io.vlingo.xoom.designer.codegen.java.DeploymentSettings;
 import io.vlingo.xoom.designer.codegen.java.exchange.ExchangeRole;
@@ -21,8 +22,10 @@ import io.vlingo.xoom.turbo.ComponentRegistry;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static io.vlingo.xoom.designer.codegen.Label.*;
 
@@ -35,12 +38,15 @@ public class CodeGenerationContextMapperTest {
 
     ComponentRegistry.register("defaultCodeFormatter", codeElementFormatter);
 
+    final GenerationSettings settings =
+            GenerationSettings.with(GenerationTarget.FILESYSTEM, Paths.get("staging"), codeElementFormatter, Optional.empty());
+
     final DesignerModel data =
             new DesignerModel(contextSettingsData(), modelSettingsData(),
                     deploymentSettingsData(), schemataSettingsData(), "/home/projects", true, false, false, "");
 
     final CodeGenerationParameters codeGenerationParameters =
-            CodeGenerationContextMapper.map(data, GenerationTarget.FILESYSTEM, Logger.noOpLogger()).parameters();
+            CodeGenerationContextMapper.map(data, settings, Logger.noOpLogger()).parameters();
 
     assertStructuralOptions(codeGenerationParameters);
     assertPersistenceParameters(codeGenerationParameters);
@@ -123,6 +129,11 @@ public class CodeGenerationContextMapperTest {
                     routeSignature.retrieveRelatedValue(ROUTE_PATH).equals("/persons/") &&
                     routeSignature.retrieveRelatedValue(REQUIRE_ENTITY_LOADING).equals("false")));
 
+    Assertions.assertTrue(personAggregateParameter.retrieveAllRelated(ROUTE_SIGNATURE)
+            .anyMatch(routeSignature -> routeSignature.value.equals("persons") &&
+                    routeSignature.retrieveRelatedValue(ROUTE_METHOD).equals("GET") &&
+                    routeSignature.retrieveRelatedValue(READ_ONLY).equals("true")));
+
     Assertions.assertEquals("/persons/", personAggregateParameter.retrieveRelatedValue(URI_ROOT));
   }
 
@@ -0,0 +1,56 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure.restapi.data;
+
+import io.vlingo.xoom.designer.codegen.java.designermodel.DesignerModelFormatter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public class DesignerModelFileTest {
+
+  @Test
+  public void testThatModelIsEncodedAsFormattedJson() {
+    final File workingDirectory = new File(System.getProperty("user.dir"));
+    final int workingDirectoryFiles = workingDirectory.list().length;
+    final DesignerModel model = designerModel();
+
+    final DesignerModelFile file = DesignerModelFile.from(model);
+
+    final String decoded = new String(Base64.getDecoder().decode(file.encoded), StandardCharsets.UTF_8);
+    Assertions.assertEquals(DesignerModelFormatter.format(model), decoded);
+    Assertions.assertTrue(decoded.contains("\n  \"projectDirectory\": \"/home/projects/xoom-app\""));
+    Assertions.assertEquals(workingDirectoryFiles, workingDirectory.list().length);
+  }
+
+  @Test
+  public void testThatEncodedModelIsMappedBack() {
+    final DesignerModel model = designerModel();
+
+    final DesignerModel mapped = DesignerModelFile.from(model).mapData();
+
+    Assertions.assertEquals(DesignerModelFormatter.format(model), DesignerModelFormatter.format(mapped));
+    Assertions.assertEquals("café", mapped.context.packageName.substring(mapped.context.packageName.length() - 4));
+  }
+
+  @Test
+  public void testThatInvalidEncodingIsRejected() {
+    final DesignerModelFile file = DesignerModelFile.from(designerModel());
+    final DesignerModelFile corrupted = new DesignerModelFile(file.encoded.substring(1));
+
+    Assertions.assertThrows(DesignerModelFileException.class, corrupted::mapData);
+  }
+
+  private DesignerModel designerModel() {
+    return new DesignerModel(new ContextSettingsData("io.vlingo", "xoomapp", "1.0.0", "io.vlingo.café"),
+            null, null, new SchemataSettingsData("localhost", 18787), "/home/projects/xoom-app", true, false, false, "");
+  }
+
+}
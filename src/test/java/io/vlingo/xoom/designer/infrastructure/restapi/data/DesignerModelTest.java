@@ -36,6 +36,20 @@ public class DesignerModelTest {
     Assertions.assertEquals("Recursive Value Object relationship", errors.get(0));
   }
 
+  @Test
+  public void testThatModelsExchangingEventsAreDetected() {
+    final ModelSettingsData modelSettings = modelSettingsData();
+    final DesignerModel data =
+            new DesignerModel(contextSettingsData(), modelSettings,
+                    deploymentSettingsData(), schemataSettingsData(), "/home/projects", true, false, false, "");
+
+    Assertions.assertFalse(data.hasExchanges());
+
+    modelSettings.aggregateSettings.get(0).producerExchange.outgoingEvents.add("PersonDefined");
+
+    Assertions.assertTrue(data.hasExchanges());
+  }
+
   private ContextSettingsData contextSettingsData() {
     return new ContextSettingsData("io.vlingo", "xoomapp",
             "1.0.0", "io.vlingo.xoomapp");
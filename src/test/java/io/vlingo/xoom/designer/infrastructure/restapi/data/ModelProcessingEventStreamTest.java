@@ -0,0 +1,94 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.designer.infrastructure.restapi.data;
+
+import io.vlingo.xoom.codegen.CodeGenerationStep;
+import io.vlingo.xoom.designer.ModelProcessingEvent;
+import io.vlingo.xoom.designer.ModelProcessingEventListener;
+import io.vlingo.xoom.designer.ModelProcessingJob;
+import io.vlingo.xoom.designer.ModelProcessingJobStatus;
+import io.vlingo.xoom.designer.ModelProcessingJobs;
+import io.vlingo.xoom.http.resource.sse.SseEvent;
+import io.vlingo.xoom.turbo.ComponentRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class ModelProcessingEventStreamTest {
+
+  @Test
+  public void testThatStepEventsAreTranslatedToServerSentEvents() throws InterruptedException {
+    final ModelProcessingJob job = completedJob();
+    final List<SseEvent> events = new ArrayList<>();
+
+    job.subscribe(3, new ModelProcessingEventListener() {
+      @Override
+      public void onEvent(final ModelProcessingEvent event) {
+        events.add(ModelProcessingEventStream.eventOf(event));
+      }
+
+      @Override
+      public void onJobFinished(final ModelProcessingJob job, final long finishedEventId) {
+        events.add(ModelProcessingEventStream.finishedEventOf(job, finishedEventId));
+      }
+    });
+
+    Assertions.assertEquals(2, events.size());
+    Assertions.assertEquals("4", events.get(0).id);
+    Assertions.assertEquals("step-skipped", events.get(0).event);
+    Assertions.assertTrue(events.get(0).data.contains("\"elapsedNanos\":20"));
+    Assertions.assertEquals("5", events.get(1).id);
+    Assertions.assertEquals(ModelProcessingEventStream.JOB_FINISHED, events.get(1).event);
+  }
+
+  @Test
+  public void testThatStreamIsExhaustedOnceTheFinishIsDelivered() throws InterruptedException {
+    final ModelProcessingJob job = completedJob();
+
+    Assertions.assertEquals(5, job.finishedEventId());
+    Assertions.assertFalse(ModelProcessingEventStream.isExhausted(job, null));
+    Assertions.assertFalse(ModelProcessingEventStream.isExhausted(job, "4"));
+    Assertions.assertTrue(ModelProcessingEventStream.isExhausted(job, "5"));
+    Assertions.assertEquals(5, job.finishedEventId());
+  }
+
+  @AfterEach
+  public void tearDown() {
+    ModelProcessingJobs.instance().stop();
+    ComponentRegistry.unregister(ModelProcessingJobs.class);
+  }
+
+  private ModelProcessingJob completedJob() throws InterruptedException {
+    final CodeGenerationStep processedStep = context -> { };
+    final CodeGenerationStep skippedStep = context -> { };
+
+    final ModelProcessingJob job = ModelProcessingJobs.instance().submit(progress -> {
+      progress.generationStarted(2);
+      progress.stepStarted(processedStep);
+      progress.stepCompleted(processedStep, 1500, 4);
+      progress.stepStarted(skippedStep);
+      progress.stepSkipped(skippedStep, 20);
+      return null;
+    }).get();
+
+    awaitCompletion(job);
+    return job;
+  }
+
+  private void awaitCompletion(final ModelProcessingJob job) throws InterruptedException {
+    final long deadline = System.currentTimeMillis() + 5000;
+    while (!job.status().isFinished() && System.currentTimeMillis() < deadline) {
+      TimeUnit.MILLISECONDS.sleep(10);
+    }
+    Assertions.assertEquals(ModelProcessingJobStatus.COMPLETED, job.status());
+  }
+
+}
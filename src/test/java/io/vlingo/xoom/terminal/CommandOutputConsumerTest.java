@@ -0,0 +1,153 @@
+// Copyright © 2012-2022 VLINGO LABS. All rights reserved.
+//
+// This Source Code Form is subject to the terms of the
+// Mozilla Public License, v. 2.0. If a copy of the MPL
+// was not distributed with this file, You can obtain
+// one at https://mozilla.org/MPL/2.0/.
+package io.vlingo.xoom.terminal;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class CommandOutputConsumerTest {
+
+  @Test
+  public void testThatBothStreamsAreDrained() {
+    final List<String> lines = new ArrayList<>();
+    final String output = IntStream.rangeClosed(1, 250).mapToObj(index -> "out-" + index).collect(Collectors.joining("\n"));
+
+    CommandOutputConsumer.of(new FakeProcess(output, "err-1\nerr-2")).consumeWith(lines::add).join();
+
+    Assertions.assertEquals(252, lines.size());
+    Assertions.assertTrue(lines.containsAll(Arrays.asList("out-1", "out-250", "err-1", "err-2")));
+    Assertions.assertTrue(lines.indexOf("out-1") < lines.indexOf("out-250"));
+  }
+
+  @Test
+  public void testThatPumpsAreSharedDaemonThreads() {
+    for (int index = 0; index < 50; ++index) {
+      CommandOutputConsumer.of(new FakeProcess("out", "err")).consumeWith(line -> {}).join();
+    }
+
+    Assertions.assertTrue(CommandOutputConsumer.activePumps() > 0);
+    Thread.getAllStackTraces().keySet().stream()
+            .filter(thread -> thread.getName().startsWith("xoom-terminal-output-"))
+            .forEach(thread -> Assertions.assertTrue(thread.isDaemon()));
+  }
+
+  @Test
+  public void testThatLongRunningProcessesAreDrainedConcurrently() throws InterruptedException {
+    final int processes = 20;
+    final CountDownLatch exit = new CountDownLatch(1);
+    final CountDownLatch drained = new CountDownLatch(processes * 2);
+
+    final List<CompletableFuture<Void>> consumers =
+            IntStream.range(0, processes).mapToObj(index ->
+                    CommandOutputConsumer.of(new FakeProcess(new RunningOutput("out-" + index, exit), new RunningOutput("err-" + index, exit)))
+                            .consumeWith(line -> drained.countDown())).collect(Collectors.toList());
+
+    try {
+      Assertions.assertTrue(drained.await(10, TimeUnit.SECONDS));
+    } finally {
+      exit.countDown();
+    }
+
+    consumers.forEach(CompletableFuture::join);
+  }
+
+  private static class FakeProcess extends Process {
+
+    private final InputStream output;
+    private final InputStream error;
+
+    private FakeProcess(final String output, final String error) {
+      this(new ByteArrayInputStream(output.getBytes()), new ByteArrayInputStream(error.getBytes()));
+    }
+
+    private FakeProcess(final InputStream output, final InputStream error) {
+      this.output = output;
+      this.error = error;
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+      return new ByteArrayOutputStream();
+    }
+
+    @Override
+    public InputStream getInputStream() {
+      return output;
+    }
+
+    @Override
+    public InputStream getErrorStream() {
+      return error;
+    }
+
+    @Override
+    public int waitFor() {
+      return 0;
+    }
+
+    @Override
+    public int exitValue() {
+      return 0;
+    }
+
+    @Override
+    public void destroy() {
+    }
+
+  }
+
+  private static class RunningOutput extends InputStream {
+
+    private final ByteArrayInputStream line;
+    private final CountDownLatch exit;
+
+    private RunningOutput(final String line, final CountDownLatch exit) {
+      this.line = new ByteArrayInputStream((line + "\n").getBytes());
+      this.exit = exit;
+    }
+
+    @Override
+    public int read() {
+      final int next = line.read();
+      return next >= 0 ? next : awaitExit();
+    }
+
+    @Override
+    public int read(final byte[] buffer, final int offset, final int length) {
+      return line.available() > 0 ? line.read(buffer, offset, length) : awaitExit();
+    }
+
+    @Override
+    public int available() {
+      return line.available();
+    }
+
+    private int awaitExit() {
+      try {
+        exit.await();
+      } catch (final InterruptedException exception) {
+        Thread.currentThread().interrupt();
+      }
+      return -1;
+    }
+
+  }
+
+}